@@ -0,0 +1,82 @@
+package soccerfriend.authentication;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import soccerfriend.controller.AddressController;
+import soccerfriend.controller.MemberController;
+import soccerfriend.service.LoginService;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static soccerfriend.utility.InputForm.LoginRequest;
+
+/**
+ * 요청마다 handler method의 annotation을 조회하는 AuthInterceptor.preHandle의 비용을 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AuthInterceptorBenchmark {
+
+    private AuthInterceptor authInterceptor;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private HandlerMethod notAnnotatedHandler;
+    private HandlerMethod loginCheckHandler;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        authInterceptor = new AuthInterceptor(new FixedLoginService(), null, null);
+        request = new MockHttpServletRequest();
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("city", "seoul"));
+        response = new MockHttpServletResponse();
+
+        notAnnotatedHandler = new HandlerMethod(new Object(),
+                AddressController.class.getMethod("getAddressByCity", String.class, WebRequest.class));
+        loginCheckHandler = new HandlerMethod(new Object(),
+                MemberController.class.getMethod("updateNickname", String.class));
+    }
+
+    @Benchmark
+    public boolean notAnnotated() {
+        return authInterceptor.preHandle(request, response, notAnnotatedHandler);
+    }
+
+    @Benchmark
+    public boolean memberLoginCheck() {
+        return authInterceptor.preHandle(request, response, loginCheckHandler);
+    }
+
+    private static class FixedLoginService implements LoginService {
+
+        @Override
+        public int getMemberId() {
+            return 1;
+        }
+
+        @Override
+        public int getStadiumOwnerId() {
+            return 1;
+        }
+
+        @Override
+        public void memberLogin(LoginRequest loginForm) {
+        }
+
+        @Override
+        public void stadiumOwnerLogin(LoginRequest loginRequest) {
+        }
+
+        @Override
+        public void logout() {
+        }
+    }
+}
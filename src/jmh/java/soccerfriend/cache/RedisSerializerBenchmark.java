@@ -0,0 +1,82 @@
+package soccerfriend.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import soccerfriend.dto.Bulletin;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * redis cache에 사용하는 serializer들의 직렬화, 역직렬화 비용을 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RedisSerializerBenchmark {
+
+    @Param({"1", "100"})
+    private int size;
+
+    private final GenericJackson2JsonRedisSerializer genericSerializer = new GenericJackson2JsonRedisSerializer();
+    private final Jackson2JsonRedisSerializer<Bulletin[]> typedSerializer = new Jackson2JsonRedisSerializer<>(Bulletin[].class);
+    private final StringRedisSerializer keySerializer = new StringRedisSerializer();
+
+    private List<Bulletin> bulletins;
+    private Bulletin[] bulletinArray;
+    private byte[] genericBytes;
+    private byte[] typedBytes;
+    private byte[] responseBytes;
+
+    @Setup
+    public void setUp() throws Exception {
+        bulletins = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            bulletins.add(new Bulletin(i, 1, "bulletin" + i, Bulletin.Category.GENERAL));
+        }
+        bulletinArray = bulletins.toArray(new Bulletin[0]);
+        genericBytes = genericSerializer.serialize(bulletins);
+        typedBytes = typedSerializer.serialize(bulletinArray);
+        responseBytes = new ObjectMapper().writeValueAsBytes(bulletins);
+    }
+
+    @Benchmark
+    public byte[] key() {
+        return keySerializer.serialize("BULLETIN::BULLETIN CLUB" + size);
+    }
+
+    @Benchmark
+    public byte[] genericSerialize() {
+        return genericSerializer.serialize(bulletins);
+    }
+
+    @Benchmark
+    public Object genericDeserialize() {
+        return genericSerializer.deserialize(genericBytes);
+    }
+
+    @Benchmark
+    public byte[] typedSerialize() {
+        return typedSerializer.serialize(bulletinArray);
+    }
+
+    @Benchmark
+    public Bulletin[] typedDeserialize() {
+        return typedSerializer.deserialize(typedBytes);
+    }
+
+    /**
+     * ResponseCache는 직렬화된 응답 body를 그대로 저장하므로 역직렬화 비용이 없습니다.
+     */
+    @Benchmark
+    public byte[] responseBody() {
+        return responseBytes.clone();
+    }
+}
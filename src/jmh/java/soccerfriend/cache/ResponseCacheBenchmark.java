@@ -0,0 +1,72 @@
+package soccerfriend.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import soccerfriend.dto.Bulletin;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ResponseCache의 세 응답 경로를 비교합니다: 캐시가 없어 직렬화하는 200, 캐시된 body를 읽는 200, body를 읽지 않는 304.
+ * redis는 map으로 대신하므로 실제 서버에서는 304가 줄이는 redis 왕복과 전송량만큼 차이가 더 커집니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ResponseCacheBenchmark {
+
+    private static final String KEY = "BULLETIN CLUB1";
+    private static final Duration TTL = Duration.ofDays(1);
+
+    @Param({"8", "100"})
+    private int size;
+
+    private ResponseCache responseCache;
+    private List<Bulletin> bulletins;
+    private String eTag;
+
+    @Setup
+    public void setUp() {
+        InMemoryRedis redis = new InMemoryRedis();
+        responseCache = new ResponseCache(redis.byteTemplate(), redis.stringTemplate(), new ObjectMapper());
+        bulletins = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            bulletins.add(new Bulletin(i, 1, "bulletin" + i, Bulletin.Category.GENERAL));
+        }
+        eTag = responseCache.get(KEY, TTL, () -> bulletins).getETag();
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> miss() {
+        responseCache.evict(KEY);
+        return responseCache.respond(KEY, TTL, request(null), () -> bulletins);
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> hit() {
+        return responseCache.respond(KEY, TTL, request(null), () -> bulletins);
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> notModified() {
+        return responseCache.respond(KEY, TTL, request(eTag), () -> bulletins);
+    }
+
+    private static ServletWebRequest request(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/bulletins/club/1");
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+}
@@ -0,0 +1,65 @@
+package soccerfriend.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * controller 응답으로 나가는 DTO들의 Jackson 직렬화, 역직렬화 비용을 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DtoSerializationBenchmark {
+
+    @Param({"1", "100"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<Bulletin> bulletins;
+    private List<SoccerMatch> soccerMatches;
+    private Member member;
+    private String bulletinsJson;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        bulletins = new ArrayList<>();
+        soccerMatches = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            bulletins.add(new Bulletin(i, 1, "bulletin" + i, Bulletin.Category.GENERAL));
+            soccerMatches.add(new SoccerMatch(i, i % 4, i % 3, i, true, LocalDateTime.now(), LocalDateTime.now()));
+        }
+        member = new Member(1, "member01", "$2a$10$abcdefghijklmnopqrstuv", "member01@soccer.com", "nickname", 100, 1, 1);
+        bulletinsJson = objectMapper.writeValueAsString(bulletins);
+    }
+
+    @Benchmark
+    public byte[] writeBulletins() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(bulletins);
+    }
+
+    @Benchmark
+    public byte[] writeSoccerMatches() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(soccerMatches);
+    }
+
+    @Benchmark
+    public byte[] writeMember() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(member);
+    }
+
+    @Benchmark
+    public Bulletin[] readBulletins() throws JsonProcessingException {
+        return objectMapper.readValue(bulletinsJson, Bulletin[].class);
+    }
+}
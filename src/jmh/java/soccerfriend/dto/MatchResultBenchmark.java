@@ -0,0 +1,72 @@
+package soccerfriend.dto;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경기 점수로 승, 무, 패를 판정하고 club별 전적을 집계하는 비용을 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MatchResultBenchmark {
+
+    private static final int CLUB_COUNT = 100;
+
+    @Param({"10000"})
+    private int matchCount;
+
+    private int[] hostClubIds;
+    private int[] participationClubIds;
+    private int[] hostClubScores;
+    private int[] participationClubScores;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        hostClubIds = new int[matchCount];
+        participationClubIds = new int[matchCount];
+        hostClubScores = new int[matchCount];
+        participationClubScores = new int[matchCount];
+        for (int i = 0; i < matchCount; i++) {
+            hostClubIds[i] = random.nextInt(CLUB_COUNT);
+            participationClubIds[i] = (hostClubIds[i] + 1 + random.nextInt(CLUB_COUNT - 1)) % CLUB_COUNT;
+            hostClubScores[i] = random.nextInt(6);
+            participationClubScores[i] = random.nextInt(6);
+        }
+    }
+
+    @Benchmark
+    public void aggregateRecords(Blackhole blackhole) {
+        int[] win = new int[CLUB_COUNT];
+        int[] draw = new int[CLUB_COUNT];
+        int[] lose = new int[CLUB_COUNT];
+
+        for (int i = 0; i < matchCount; i++) {
+            switch (MatchResult.of(hostClubScores[i], participationClubScores[i])) {
+                case HOST_WIN:
+                    win[hostClubIds[i]]++;
+                    lose[participationClubIds[i]]++;
+                    break;
+                case DRAW:
+                    draw[hostClubIds[i]]++;
+                    draw[participationClubIds[i]]++;
+                    break;
+                case PARTICIPATION_WIN:
+                    lose[hostClubIds[i]]++;
+                    win[participationClubIds[i]]++;
+                    break;
+            }
+        }
+
+        blackhole.consume(win);
+        blackhole.consume(draw);
+        blackhole.consume(lose);
+    }
+}
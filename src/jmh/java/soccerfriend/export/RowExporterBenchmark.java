@@ -0,0 +1,85 @@
+package soccerfriend.export;
+
+import org.openjdk.jmh.annotations.*;
+import soccerfriend.dto.ClubDues;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 회비 장부 내려받기에서 서버가 row를 쓰는 처리시간을 측정합니다.
+ * cursor처럼 row를 하나씩 만들어 응답과 같은 buffer, gzip 구성으로 버려지는 stream에 쓰므로 DB를 제외한 비용만 측정되며,
+ * 1000만 row에서도 heap 사용량이 일정한지 함께 확인할 수 있습니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = "-Xmx256m")
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class RowExporterBenchmark {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final LocalDateTime PAID_AT = LocalDateTime.of(2023, 1, 3, 10, 0);
+
+    private static final RowExporter<ClubDues> DUES = new RowExporter<ClubDues>()
+            .column("id", ClubDues::getId)
+            .column("year", ClubDues::getYear)
+            .column("month", ClubDues::getMonth)
+            .column("clubMemberId", ClubDues::getClubMemberId)
+            .column("memberId", ClubDues::getMemberId)
+            .column("nickname", ClubDues::getNickname)
+            .column("price", ClubDues::getPrice)
+            .column("paidAt", ClubDues::getPaidAt);
+
+    @Param({"10000000"})
+    public int rows;
+
+    @Param({"CSV", "NDJSON"})
+    public ExportFormat format;
+
+    @Param({"false", "true"})
+    public boolean gzip;
+
+    @Benchmark
+    public long export() throws IOException {
+        OutputStream out = OutputStream.nullOutputStream();
+        GZIPOutputStream compressed = gzip ? new GZIPOutputStream(out, BUFFER_SIZE) : null;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(gzip ? compressed : out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        long count = DUES.write(this::generate, format, writer);
+        if (compressed != null) {
+            compressed.finish();
+        }
+        return count;
+    }
+
+    private Iterator<ClubDues> generate() {
+        return new Iterator<>() {
+            private int id;
+
+            @Override
+            public boolean hasNext() {
+                return id < rows;
+            }
+
+            @Override
+            public ClubDues next() {
+                id++;
+                return ClubDues.builder()
+                               .id(id)
+                               .year(2000 + id % 24)
+                               .month(1 + id % 12)
+                               .clubMemberId(id % 300)
+                               .memberId(id % 300 + 1000)
+                               .nickname("member" + id % 300)
+                               .price(30000)
+                               .paidAt(PAID_AT)
+                               .build();
+            }
+        };
+    }
+}
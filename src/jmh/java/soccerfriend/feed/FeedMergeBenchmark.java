@@ -0,0 +1,80 @@
+package soccerfriend.feed;
+
+import org.openjdk.jmh.annotations.*;
+import soccerfriend.dto.FeedEvent;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * feed 조회시 서버에서 수행하는 작업의 처리량을 측정합니다.
+ * timeline 수(member timeline 1개 + fan-out-on-read club timeline)에 따른 merge 비용과
+ * redis에서 읽은 timeline 하나를 decode하는 비용을 비교합니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FeedMergeBenchmark {
+
+    private static final int CAPACITY = 300;
+    private static final FeedEvent.Type[] TYPES = FeedEvent.Type.values();
+
+    @Param({"1", "4", "16"})
+    public int timelineCount;
+
+    private List<List<FeedEvent>> timelines;
+    private Set<Integer> clubIds;
+    private List<String> encodedTimeline;
+    private long cursor;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDateTime now = LocalDateTime.now();
+        long id = (long) CAPACITY * timelineCount * 2;
+
+        timelines = new ArrayList<>();
+        clubIds = new HashSet<>();
+        for (int i = 0; i < timelineCount; i++) {
+            timelines.add(new ArrayList<>());
+            clubIds.add(i);
+        }
+        while (timelines.stream().anyMatch(timeline -> timeline.size() < CAPACITY)) {
+            int clubId = random.nextInt(timelineCount);
+            List<FeedEvent> timeline = timelines.get(clubId);
+            if (timeline.size() < CAPACITY) {
+                timeline.add(new FeedEvent(id, TYPES[random.nextInt(TYPES.length)], clubId, random.nextInt(100000), now));
+            }
+            id--;
+        }
+
+        encodedTimeline = new ArrayList<>();
+        for (FeedEvent event : timelines.get(0)) {
+            encodedTimeline.add(FeedTimeline.encode(event));
+        }
+        cursor = timelines.get(0).get(CAPACITY / 2).getId();
+    }
+
+    @Benchmark
+    public List<FeedEvent> firstPage() {
+        return FeedMerger.merge(timelines, clubIds, null, 21);
+    }
+
+    @Benchmark
+    public List<FeedEvent> pageAfterCursor() {
+        return FeedMerger.merge(timelines, clubIds, cursor, 21);
+    }
+
+    @Benchmark
+    public List<FeedEvent> decodeTimeline() {
+        List<FeedEvent> events = new ArrayList<>(encodedTimeline.size());
+        for (String value : encodedTimeline) {
+            events.add(FeedTimeline.decode(value));
+        }
+        return events;
+    }
+}
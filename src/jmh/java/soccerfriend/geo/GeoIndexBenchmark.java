@@ -0,0 +1,86 @@
+package soccerfriend.geo;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 수도권 크기(약 1.5도 x 1.5도) 안에 stadium들이 있을 때 반경 검색과 가까운 순서 검색의 처리시간을 측정합니다.
+ * 검색 중심은 매번 임의로 정하며, fullScan은 index 없이 모든 stadium의 거리를 계산하는 경우입니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class GeoIndexBenchmark {
+
+    private static final double MIN_LATITUDE = 36.9;
+    private static final double MIN_LONGITUDE = 126.4;
+    private static final double SPAN = 1.5;
+
+    @Param({"100000"})
+    public int stadiums;
+
+    @Param({"0.02"})
+    public double cellDegrees;
+
+    private GeoIndex index;
+    private double[] latitudes;
+    private double[] longitudes;
+    private final Random random = new Random(7);
+
+    @Setup
+    public void setUp() {
+        index = new GeoIndex(cellDegrees);
+        latitudes = new double[stadiums];
+        longitudes = new double[stadiums];
+        GeoIndex.Rebuild rebuild = index.startRebuild();
+        for (int id = 0; id < stadiums; id++) {
+            latitudes[id] = MIN_LATITUDE + random.nextDouble() * SPAN;
+            longitudes[id] = MIN_LONGITUDE + random.nextDouble() * SPAN;
+            rebuild.add(id, latitudes[id], longitudes[id]);
+        }
+        rebuild.finish();
+    }
+
+    @Benchmark
+    public List<GeoHit> within5Km() {
+        return index.within(latitude(), longitude(), 5, 100);
+    }
+
+    @Benchmark
+    public List<GeoHit> nearest10() {
+        return index.nearest(latitude(), longitude(), 10);
+    }
+
+    @Benchmark
+    public int fullScan5Km() {
+        double latitude = latitude();
+        double longitude = longitude();
+        int count = 0;
+        for (int id = 0; id < stadiums; id++) {
+            if (GeoIndex.distanceKm(latitude, longitude, latitudes[id], longitudes[id]) <= 5) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public void move() {
+        int id = random.nextInt(stadiums);
+        index.put(id, latitude(), longitude());
+    }
+
+    private double latitude() {
+        return MIN_LATITUDE + random.nextDouble() * SPAN;
+    }
+
+    private double longitude() {
+        return MIN_LONGITUDE + random.nextDouble() * SPAN;
+    }
+}
@@ -0,0 +1,68 @@
+package soccerfriend.monitoring;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.api.OpenTelemetry;
+import org.apache.ibatis.builder.StaticSqlSource;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * mapper statement 실행마다 붙는 MyBatis plugin(metric, tracing)의 부가 비용을 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MapperInterceptorBenchmark {
+
+    private Invocation invocation;
+    private StatementMetricsInterceptor statementMetricsInterceptor;
+    private TracingInterceptor tracingInterceptor;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        Configuration configuration = new Configuration();
+        MappedStatement mappedStatement = new MappedStatement.Builder(configuration,
+                "soccerfriend.mapper.BulletinMapper.getBulletinsByClubId",
+                new StaticSqlSource(configuration, "SELECT id, club_id, name, category FROM bulletin WHERE club_id = ?"),
+                SqlCommandType.SELECT).build();
+
+        List<Object> rows = List.of(new Object(), new Object(), new Object());
+        Executor executor = (Executor) Proxy.newProxyInstance(Executor.class.getClassLoader(),
+                new Class[]{Executor.class}, (proxy, method, args) -> rows);
+        Method query = Executor.class.getMethod("query", MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class);
+        invocation = new Invocation(executor, query, new Object[]{mappedStatement, 1, RowBounds.DEFAULT, null});
+
+        statementMetricsInterceptor = new StatementMetricsInterceptor(new SimpleMeterRegistry(), Duration.ofSeconds(10));
+        tracingInterceptor = new TracingInterceptor(OpenTelemetry.noop().getTracer("benchmark"));
+    }
+
+    @Benchmark
+    public Object withoutInterceptor() throws Exception {
+        return invocation.proceed();
+    }
+
+    @Benchmark
+    public Object statementMetrics() throws Throwable {
+        return statementMetricsInterceptor.intercept(invocation);
+    }
+
+    @Benchmark
+    public Object tracing() throws Throwable {
+        return tracingInterceptor.intercept(invocation);
+    }
+}
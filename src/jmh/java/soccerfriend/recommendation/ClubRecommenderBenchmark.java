@@ -0,0 +1,68 @@
+package soccerfriend.recommendation;
+
+import org.openjdk.jmh.annotations.*;
+import soccerfriend.dto.ClubCandidate;
+import soccerfriend.dto.ClubRecommendation;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 지역의 후보 목록을 redis에서 읽은 뒤의 처리시간을 측정합니다.
+ * decodeAndRecommend는 hash의 값들을 후보로 바꾸고 점수가 높은 10개를 고르는 경우이고, recommend는 점수만 매기는 경우입니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ClubRecommenderBenchmark {
+
+    private static final int POSITIONS = 11;
+
+    @Param({"100", "2000"})
+    public int clubs;
+
+    private Map<String, String> entries;
+    private List<ClubCandidate> candidates;
+    private final Set<Integer> joinedClubIds = Set.of(1, 2);
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(5);
+        entries = new HashMap<>();
+        candidates = new ArrayList<>();
+        for (int id = 1; id <= clubs; id++) {
+            Map<Integer, Integer> positions = new HashMap<>();
+            for (int position = 1; position <= POSITIONS; position++) {
+                positions.put(position, random.nextInt(4));
+            }
+            ClubCandidate candidate = ClubCandidate.builder()
+                                                   .clubId(id)
+                                                   .name("축구클럽" + id)
+                                                   .addressId(1)
+                                                   .monthlyFee(random.nextInt(6) * 10000)
+                                                   .members(random.nextInt(40))
+                                                   .recentMatches(random.nextInt(15))
+                                                   .positions(positions)
+                                                   .build();
+            candidates.add(candidate);
+            entries.put(Integer.toString(id), ClubCandidateCache.encode(candidate));
+        }
+    }
+
+    @Benchmark
+    public List<ClubRecommendation> decodeAndRecommend() {
+        List<ClubCandidate> decoded = new ArrayList<>(entries.size());
+        for (Map.Entry<String, String> entry : entries.entrySet()) {
+            decoded.add(ClubCandidateCache.decode(Integer.parseInt(entry.getKey()), 1, entry.getValue()));
+        }
+        return ClubRecommender.recommend(decoded, 4, 30000, joinedClubIds, 10);
+    }
+
+    @Benchmark
+    public List<ClubRecommendation> recommend() {
+        return ClubRecommender.recommend(candidates, 4, 30000, joinedClubIds, 10);
+    }
+}
@@ -0,0 +1,76 @@
+package soccerfriend.search;
+
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * club 수에 따른 검색 지연시간을 검색어 종류별로 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SearchIndexBenchmark {
+
+    private static final String[] WORDS = {"seoul", "busan", "dragons", "tigers", "united", "rovers", "city",
+            "sunday", "morning", "friends", "strikers", "galaxy", "phoenix", "wolves", "eagles", "stars"};
+    private static final String[] CITIES = {"서울", "부산", "대구", "인천", "광주", "대전", "울산", "경기"};
+
+    @Param({"10000", "100000"})
+    public int clubs;
+
+    private SearchIndex searchIndex;
+    private ClubSearchCondition exact;
+    private ClubSearchCondition prefix;
+    private ClubSearchCondition typo;
+    private ClubSearchCondition filterOnly;
+
+    @Setup
+    public void setUp() throws IOException {
+        searchIndex = new SearchIndex(new ByteBuffersDirectory());
+        SplittableRandom random = new SplittableRandom(42);
+        for (int id = 1; id <= clubs; id++) {
+            String name = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + id;
+            searchIndex.upsert(new ClubSearchDocument(id, name, CITIES[random.nextInt(CITIES.length)],
+                    "town" + random.nextInt(20), random.nextInt(10) * 5000, random.nextInt(1000)));
+        }
+        searchIndex.finishRebuild(0);
+
+        exact = ClubSearchCondition.builder().query("dragons").build();
+        prefix = ClubSearchCondition.builder().query("strik").city("서울").build();
+        typo = ClubSearchCondition.builder().query("phoenxi wolvse").build();
+        filterOnly = ClubSearchCondition.builder().city("부산").maxMonthlyFee(20000).minPoint(500).build();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        searchIndex.close();
+    }
+
+    @Benchmark
+    public List<ClubSearchDocument> exact() throws IOException {
+        return searchIndex.searchClubs(exact, 20);
+    }
+
+    @Benchmark
+    public List<ClubSearchDocument> prefixWithCity() throws IOException {
+        return searchIndex.searchClubs(prefix, 20);
+    }
+
+    @Benchmark
+    public List<ClubSearchDocument> typo() throws IOException {
+        return searchIndex.searchClubs(typo, 20);
+    }
+
+    @Benchmark
+    public List<ClubSearchDocument> filterOnly() throws IOException {
+        return searchIndex.searchClubs(filterOnly, 20);
+    }
+}
@@ -0,0 +1,93 @@
+package soccerfriend.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.session.web.http.DefaultCookieSerializer;
+import soccerfriend.session.SessionLogin;
+import soccerfriend.session.SessionNearCache;
+import soccerfriend.token.RevokedTokens;
+import soccerfriend.token.TokenSigner;
+import soccerfriend.token.TokenSubject;
+import soccerfriend.token.TokenType;
+
+import javax.servlet.http.Cookie;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static soccerfriend.utility.SessionKey.SESSION_LOGIN_MEMBER;
+
+/**
+ * 요청 하나의 인증 비용(getMemberId)을 token 방식과 session 방식으로 비교합니다.
+ * token 방식은 서명 검증과 폐기 목록 이진 탐색만 수행하며, revokedTokens로 폐기 목록의 크기를 바꿉니다.
+ * session 방식은 near cache hit와 miss를 측정합니다. miss에는 redis에서 session을 읽는 왕복 시간이 포함되지 않으므로,
+ * 실제 비용은 load test의 요청당 redis 명령 수와 함께 비교합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LoginServiceBenchmark {
+
+    private static final String SESSION_ID = "3f6b1c2e-4d5a-4b7c-9e8f-0a1b2c3d4e5f";
+
+    @Param({"0", "10000"})
+    public int revokedTokens;
+
+    private MockHttpServletRequest tokenRequest;
+    private TokenLoginService tokenLoginService;
+    private MockHttpServletRequest sessionRequest;
+    private SessionLoginService nearCacheHitLoginService;
+    private SessionLoginService nearCacheMissLoginService;
+
+    @Setup
+    public void setUp() {
+        TokenSigner tokenSigner = new TokenSigner("0123456789abcdef0123456789abcdef",
+                Duration.ofMinutes(15), Duration.ofDays(14), Clock.systemUTC());
+        RevokedTokens revoked = new RevokedTokens(null, Duration.ofDays(14), Clock.systemUTC());
+        for (int i = 0; i < revokedTokens; i++) {
+            revoked.markRevoked(ThreadLocalRandom.current().nextLong());
+        }
+        tokenRequest = new MockHttpServletRequest();
+        tokenRequest.addHeader("Authorization", "Bearer " + tokenSigner.sign(TokenType.ACCESS, TokenSubject.MEMBER, 1));
+        tokenLoginService = new TokenLoginService(tokenRequest, tokenSigner, revoked, null, null);
+
+        MockHttpSession httpSession = new MockHttpSession(null, SESSION_ID);
+        httpSession.setAttribute(SESSION_LOGIN_MEMBER, 1);
+        sessionRequest = new MockHttpServletRequest();
+        sessionRequest.setCookies(new Cookie("SESSION",
+                Base64.getEncoder().encodeToString(SESSION_ID.getBytes(StandardCharsets.UTF_8))));
+
+        SessionNearCache nearCache = nearCache(Duration.ofHours(1));
+        nearCache.put(SESSION_ID, new SessionLogin(1, null));
+        nearCacheHitLoginService = new SessionLoginService(httpSession, sessionRequest, nearCache, null, null);
+        nearCacheMissLoginService = new SessionLoginService(httpSession, sessionRequest, nearCache(Duration.ZERO), null, null);
+    }
+
+    @Benchmark
+    public int token() {
+        tokenRequest.clearAttributes();
+        return tokenLoginService.getMemberId();
+    }
+
+    @Benchmark
+    public int sessionNearCacheHit() {
+        return nearCacheHitLoginService.getMemberId();
+    }
+
+    @Benchmark
+    public int sessionNearCacheMiss() {
+        return nearCacheMissLoginService.getMemberId();
+    }
+
+    private static SessionNearCache nearCache(Duration refreshInterval) {
+        return new SessionNearCache(new DefaultCookieSerializer(), null, new SimpleMeterRegistry(), refreshInterval, 1000);
+    }
+}
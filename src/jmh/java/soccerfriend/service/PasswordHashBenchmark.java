@@ -0,0 +1,40 @@
+package soccerfriend.service;
+
+import org.mindrot.jbcrypt.BCrypt;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원가입, 로그인, 비밀번호 변경에서 사용하는 BCrypt의 cost별 비용을 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 2)
+public class PasswordHashBenchmark {
+
+    private static final String PASSWORD = "password1234!";
+
+    @Param({"10", "12"})
+    private int logRounds;
+
+    private String hashed;
+
+    @Setup
+    public void setUp() {
+        hashed = BCrypt.hashpw(PASSWORD, BCrypt.gensalt(logRounds));
+    }
+
+    @Benchmark
+    public String hash() {
+        return BCrypt.hashpw(PASSWORD, BCrypt.gensalt(logRounds));
+    }
+
+    @Benchmark
+    public boolean check() {
+        return BCrypt.checkpw(PASSWORD, hashed);
+    }
+}
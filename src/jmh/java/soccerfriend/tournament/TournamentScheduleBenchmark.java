@@ -0,0 +1,56 @@
+package soccerfriend.tournament;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대회를 만들 때 서버에서 수행하는 대진 생성과 slot 배정의 처리시간을 측정합니다.
+ * 64개 club의 리그(2016경기)를 경기장 수에 따라 약 5개월치 slot에 배정하는 비용과 64개 club 토너먼트의 비용을 비교합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TournamentScheduleBenchmark {
+
+    private static final int CLUB_COUNT = 64;
+    private static final Duration REST = Duration.ofHours(24);
+
+    @Param({"8", "32"})
+    public int stadiumCount;
+
+    private List<Integer> clubIds;
+    private List<StadiumSlot> slots;
+
+    @Setup
+    public void setUp() {
+        clubIds = new ArrayList<>();
+        for (int i = 1; i <= CLUB_COUNT; i++) {
+            clubIds.add(i);
+        }
+        List<Integer> stadiumIds = new ArrayList<>();
+        for (int i = 1; i <= stadiumCount; i++) {
+            stadiumIds.add(i);
+        }
+        slots = StadiumSlot.daily(stadiumIds, LocalDate.of(2023, 3, 1), LocalDate.of(2023, 7, 31),
+                List.of(LocalTime.of(10, 0), LocalTime.of(13, 0), LocalTime.of(16, 0), LocalTime.of(19, 0)), 120);
+    }
+
+    @Benchmark
+    public List<List<StadiumSlot>> league() {
+        return new SlotScheduler(slots).schedule(RoundRobin.rounds(clubIds), REST, false);
+    }
+
+    @Benchmark
+    public List<List<StadiumSlot>> knockout() {
+        return new SlotScheduler(slots).schedule(Knockout.rounds(clubIds), REST, true);
+    }
+}
@@ -0,0 +1,38 @@
+package soccerfriend.utility;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문번호, 비밀번호, 이메일 인증코드 생성 비용을 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CodeGeneratorBenchmark {
+
+    @Benchmark
+    public String orderId() {
+        return CodeGenerator.getOrderIdRandomly();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String orderIdContended() {
+        return CodeGenerator.getOrderIdRandomly();
+    }
+
+    @Benchmark
+    public String password() {
+        return CodeGenerator.getPasswordRandomly();
+    }
+
+    @Benchmark
+    public String emailAuthorizationCode() {
+        return CodeGenerator.getEmailAuthorizationCode();
+    }
+}
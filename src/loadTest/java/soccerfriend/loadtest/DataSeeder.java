@@ -0,0 +1,153 @@
+package soccerfriend.loadtest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.mindrot.jbcrypt.BCrypt;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Flyway migration으로 schema를 만들고 address, positions, member, club, 게시판, 경기, 골 데이터를 채웁니다.
+ * 만들어지는 id의 규칙은 SeedData를 참고합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class DataSeeder {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int MONTHLY_FEE = 10000;
+    private static final int MEMBER_POINT = 1_000_000;
+    private static final String[] CITIES = {"서울", "경기", "인천", "부산", "대구", "광주", "대전", "울산"};
+
+    private final DataSource dataSource;
+
+    public SeedData seed(LoadTestSettings settings) {
+        Flyway.configure()
+              .dataSource(dataSource)
+              .load()
+              .migrate();
+
+        SeedData seedData = new SeedData(settings.getClubs(), settings.getMembersPerClub());
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        long start = System.currentTimeMillis();
+        seedAddressesAndPositions(jdbcTemplate);
+        seedMembers(jdbcTemplate, seedData, now);
+        seedClubs(jdbcTemplate, seedData, now);
+        seedSoccerMatches(jdbcTemplate, seedData, now);
+        log.info("seeded {} clubs, {} members, {} soccer matches in {}ms",
+                seedData.getClubs(), seedData.getMembers(), seedData.getSoccerMatchCount(), System.currentTimeMillis() - start);
+        return seedData;
+    }
+
+    private void seedAddressesAndPositions(JdbcTemplate jdbcTemplate) {
+        List<Object[]> addresses = new ArrayList<>();
+        for (String city : CITIES) {
+            for (int town = 1; town <= 10; town++) {
+                addresses.add(new Object[]{city, city + town + "구"});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO address(city, town) VALUES (?, ?)", addresses);
+
+        List<Object[]> positions = new ArrayList<>();
+        for (String formation : new String[]{"FW", "MF", "DF", "GK"}) {
+            positions.add(new Object[]{formation, formation});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO positions(formation, detail) VALUES (?, ?)", positions);
+    }
+
+    private void seedMembers(JdbcTemplate jdbcTemplate, SeedData seedData, Timestamp now) {
+        // BCrypt는 비용이 크므로 모든 member가 같은 hash를 공유합니다.
+        String password = BCrypt.hashpw(SeedData.PASSWORD, BCrypt.gensalt());
+        List<Object[]> members = new ArrayList<>(BATCH_SIZE);
+        for (int id = 1; id <= seedData.getMembers(); id++) {
+            members.add(new Object[]{id, seedData.getMemberLoginId(id), password, "member" + id + "@soccer.com",
+                    "m" + id, MEMBER_POINT, id % 4 + 1, id % (CITIES.length * 10) + 1, now, now});
+            if (members.size() == BATCH_SIZE) {
+                insertMembers(jdbcTemplate, members);
+            }
+        }
+        insertMembers(jdbcTemplate, members);
+    }
+
+    private void insertMembers(JdbcTemplate jdbcTemplate, List<Object[]> members) {
+        jdbcTemplate.batchUpdate("INSERT INTO member(id, member_id, password, email, nickname, point, positions_id, " +
+                "address_id, email_approved, deleted, password_warning, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 1, 0, 0, ?, ?)", members);
+        members.clear();
+    }
+
+    private void seedClubs(JdbcTemplate jdbcTemplate, SeedData seedData, Timestamp now) {
+        List<Object[]> clubs = new ArrayList<>();
+        List<Object[]> records = new ArrayList<>();
+        List<Object[]> bulletins = new ArrayList<>();
+        for (int clubId = 1; clubId <= seedData.getClubs(); clubId++) {
+            clubs.add(new Object[]{clubId, "club" + clubId, seedData.getLeaderOfClub(clubId), clubId % (CITIES.length * 10) + 1,
+                    MONTHLY_FEE, now, now});
+            records.add(new Object[]{clubId, now, now});
+            bulletins.add(new Object[]{clubId, clubId, "공지사항", now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO club(id, name, leader, address_id, point, monthly_fee, payment_day, " +
+                "bulletin_num, created_at, updated_at) VALUES (?, ?, ?, ?, 0, ?, 1, 1, ?, ?)", clubs);
+        jdbcTemplate.batchUpdate("INSERT INTO club_soccer_match_record(club_id, win, draw, lose, created_at, updated_at) " +
+                "VALUES (?, 0, 0, 0, ?, ?)", records);
+        jdbcTemplate.batchUpdate("INSERT INTO bulletin(id, club_id, name, category, deleted, created_at, updated_at) " +
+                "VALUES (?, ?, ?, 'GENERAL', 0, ?, ?)", bulletins);
+
+        List<Object[]> clubMembers = new ArrayList<>(BATCH_SIZE);
+        for (int memberId = 1; memberId <= seedData.getMembers(); memberId++) {
+            int clubId = seedData.getClubIdOfMember(memberId);
+            String grade = seedData.getLeaderOfClub(clubId) == memberId ? "LEADER" : "MEMBER";
+            clubMembers.add(new Object[]{memberId, clubId, memberId, grade, now, now});
+            if (clubMembers.size() == BATCH_SIZE) {
+                insertClubMembers(jdbcTemplate, clubMembers);
+            }
+        }
+        insertClubMembers(jdbcTemplate, clubMembers);
+    }
+
+    private void insertClubMembers(JdbcTemplate jdbcTemplate, List<Object[]> clubMembers) {
+        jdbcTemplate.batchUpdate("INSERT INTO club_member(id, club_id, member_id, grade, approved, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, 1, ?, ?)", clubMembers);
+        clubMembers.clear();
+    }
+
+    private void seedSoccerMatches(JdbcTemplate jdbcTemplate, SeedData seedData, Timestamp now) {
+        jdbcTemplate.update("INSERT INTO stadium_owner(id, stadium_owner_id, password, representative, company_name, " +
+                "address, taxpayer_id, account_bank_id, account_number, point, created_at, updated_at) " +
+                "VALUES (1, 'owner0001', 'password', '대표', '풋살장', '서울', '000-00-00000', 1, '0000', 0, ?, ?)", now, now);
+        jdbcTemplate.update("INSERT INTO stadium(id, name, stadium_owner_id, address, phone_number, price_day, " +
+                "price_night, price_weekend, created_at, updated_at) " +
+                "VALUES (1, '풋살장', 1, '서울', '010-0000-0000', 50000, 60000, 70000, ?, ?)", now, now);
+
+        Timestamp startTime = Timestamp.valueOf(LocalDateTime.now().minusHours(1));
+        Timestamp endTime = Timestamp.valueOf(LocalDateTime.now().plusHours(1));
+        List<Object[]> recruitments = new ArrayList<>();
+        List<Object[]> soccerMatches = new ArrayList<>();
+        List<Object[]> soccerMatchMembers = new ArrayList<>();
+        for (int soccerMatchId = 1; soccerMatchId <= seedData.getSoccerMatchCount(); soccerMatchId++) {
+            int hostClubId = soccerMatchId * 2 - 1;
+            int participationClubId = soccerMatchId * 2;
+            recruitments.add(new Object[]{soccerMatchId, startTime, endTime, hostClubId, participationClubId, now, now});
+            soccerMatches.add(new Object[]{soccerMatchId, soccerMatchId, now, now});
+            for (int clubId : new int[]{hostClubId, participationClubId}) {
+                soccerMatchMembers.add(new Object[]{seedData.getLeaderSoccerMatchMemberId(clubId), soccerMatchId,
+                        seedData.getLeaderOfClub(clubId), clubId, now, now});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO soccer_match_recruitment(id, start_time, end_time, num_set, time_set, " +
+                "stadium_id, host_club_id, participation_club_id, created_at, updated_at) " +
+                "VALUES (?, ?, ?, 2, 45, 1, ?, ?, ?, ?)", recruitments);
+        jdbcTemplate.batchUpdate("INSERT INTO soccer_match(id, host_club_score, participation_club_score, " +
+                "soccer_match_recruitment_id, submitted, created_at, updated_at) VALUES (?, 0, 0, ?, 0, ?, ?)", soccerMatches);
+        jdbcTemplate.batchUpdate("INSERT INTO soccer_match_member(id, soccer_match_id, member_id, club_id, approved, " +
+                "created_at, updated_at) VALUES (?, ?, ?, ?, 1, ?, ?)", soccerMatchMembers);
+    }
+}
@@ -0,0 +1,71 @@
+package soccerfriend.loadtest;
+
+import lombok.Getter;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * endpoint별 응답시간을 HdrHistogram으로 기록합니다.
+ */
+public class LatencyRecorder {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<String, EndpointLatency> endpoints = new ConcurrentHashMap<>();
+    private volatile boolean recording = true;
+
+    /**
+     * 요청 하나의 응답시간과 결과를 기록합니다.
+     *
+     * @param endpoint    controller의 method와 URI pattern (예: "POST /goals")
+     * @param nanos       응답시간
+     * @param statusCode  응답 status code, 연결 실패 등으로 응답이 없다면 0
+     */
+    public void record(String endpoint, long nanos, int statusCode) {
+        if (!recording) {
+            return;
+        }
+
+        EndpointLatency latency = endpoints.computeIfAbsent(endpoint, EndpointLatency::new);
+        latency.histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), HIGHEST_TRACKABLE_MICROS));
+        if (statusCode == 0 || statusCode >= 400) {
+            latency.errors.increment();
+        }
+    }
+
+    /**
+     * warmup 동안 기록된 값을 버립니다.
+     */
+    public void reset() {
+        endpoints.values().forEach(latency -> {
+            latency.histogram.reset();
+            latency.errors.reset();
+        });
+    }
+
+    public void stop() {
+        recording = false;
+    }
+
+    public Map<String, EndpointLatency> getEndpoints() {
+        return new TreeMap<>(endpoints);
+    }
+
+    @Getter
+    public static class EndpointLatency {
+
+        private final String endpoint;
+        private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+
+        private EndpointLatency(String endpoint) {
+            this.endpoint = endpoint;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package soccerfriend.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 정해진 RPS로 scenario를 시작시키는 open model 부하 생성기입니다.
+ * 응답이 느려져도 시작 간격은 유지되며, scenario의 첫 요청은 예정된 시작 시각부터 잰 응답시간으로 기록합니다.
+ * 그래서 worker를 기다리며 대기열에 머문 시간도 histogram에 포함되어 coordinated omission이 생기지 않습니다.
+ * worker가 모두 바쁘고 대기열도 가득 차면 시작하지 못한 scenario를 dropped로 집계합니다.
+ */
+@Slf4j
+public class LoadRunner {
+
+    private final LoadTestSettings settings;
+    private final List<Scenario> weightedScenarios = new ArrayList<>();
+    private final LatencyRecorder recorder = new LatencyRecorder();
+    private final LongAdder dropped = new LongAdder();
+    private long redisCommands;
+    private final HttpClient client = HttpClient.newBuilder()
+                                                .connectTimeout(Duration.ofSeconds(5))
+                                                .version(HttpClient.Version.HTTP_1_1)
+                                                .build();
+
+    public LoadRunner(LoadTestSettings settings, List<Scenario> scenarios) {
+        this.settings = settings;
+        for (Scenario scenario : scenarios) {
+            int weight = settings.getScenarioWeights().getOrDefault(scenario.getName(), 0);
+            for (int i = 0; i < weight; i++) {
+                weightedScenarios.add(scenario);
+            }
+        }
+        if (weightedScenarios.isEmpty()) {
+            throw new IllegalArgumentException("no scenario selected: " + settings.getScenarioWeights());
+        }
+    }
+
+    public LatencyRecorder run(String baseUrl, LongSupplier redisCommandCounter) throws InterruptedException {
+        ThreadPoolExecutor workers = new ThreadPoolExecutor(settings.getWorkers(), settings.getWorkers(),
+                0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(settings.getWorkers() * 4));
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+        long periodNanos = TimeUnit.SECONDS.toNanos(1) / settings.getRps();
+        long firstStart = System.nanoTime();
+        AtomicLong ticks = new AtomicLong();
+        scheduler.scheduleAtFixedRate(() -> start(workers, baseUrl, firstStart + ticks.getAndIncrement() * periodNanos),
+                0, periodNanos, TimeUnit.NANOSECONDS);
+
+        log.info("warming up for {}", settings.getWarmup());
+        Thread.sleep(settings.getWarmup().toMillis());
+        recorder.reset();
+        dropped.reset();
+        long redisCommandsBefore = redisCommandCounter.getAsLong();
+
+        log.info("running {} rps for {} with {}", settings.getRps(), settings.getDuration(), settings.getScenarioWeights());
+        Thread.sleep(settings.getDuration().toMillis());
+        recorder.stop();
+        redisCommands = redisCommandCounter.getAsLong() - redisCommandsBefore;
+
+        scheduler.shutdownNow();
+        workers.shutdownNow();
+        workers.awaitTermination(30, TimeUnit.SECONDS);
+        return recorder;
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public long getRedisCommands() {
+        return redisCommands;
+    }
+
+    /**
+     * scenario를 대기열에 넣습니다. 예정된 시작 시각은 scheduler가 늦게 깨어나더라도 주기로부터 계산한 값입니다.
+     */
+    private void start(ThreadPoolExecutor workers, String baseUrl, long intendedStartNanos) {
+        Scenario scenario = weightedScenarios.get(ThreadLocalRandom.current().nextInt(weightedScenarios.size()));
+        try {
+            workers.execute(() -> {
+                try {
+                    scenario.run(new VirtualUser(client, baseUrl, recorder, intendedStartNanos));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (RuntimeException e) {
+                    log.warn("scenario {} failed", scenario.getName(), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            dropped.increment();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package soccerfriend.loadtest;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+import soccerfriend.SoccerFriendApplication;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * MySQL, Redis를 준비하고 데이터를 채운 뒤 application을 띄워 scenario를 실행하고 결과를 저장합니다.
+ * loadtest.jdbc-url, loadtest.redis-host를 지정하지 않으면 container로 MySQL, Redis를 띄웁니다.
+ *
+ * <pre>
+ * ./gradlew loadTest -Ploadtest.rps=100 -Ploadtest.duration=PT2M -Ploadtest.baseline-dir=build/reports/load-test/abc1234
+ * </pre>
+ */
+@Slf4j
+public class LoadTestApplication {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        MySQLContainer<?> mysql = null;
+        GenericContainer<?> redis = null;
+        String jdbcUrl = settings.getJdbcUrl();
+        String username = settings.getJdbcUsername();
+        String password = settings.getJdbcPassword();
+        String redisHost = settings.getRedisHost();
+        int redisPort = settings.getRedisPort();
+
+        if (settings.isUseContainers()) {
+            mysql = new MySQLContainer<>(DockerImageName.parse("mysql:8.0"))
+                    .withDatabaseName("soccerfriend")
+                    .withCommand("--character-set-server=utf8mb4", "--collation-server=utf8mb4_unicode_ci");
+            redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+            mysql.start();
+            redis.start();
+
+            jdbcUrl = mysql.getJdbcUrl();
+            username = mysql.getUsername();
+            password = mysql.getPassword();
+            redisHost = redis.getHost();
+            redisPort = redis.getMappedPort(6379);
+        }
+
+        ConfigurableApplicationContext context = null;
+        try (HikariDataSource seedDataSource = new HikariDataSource()) {
+            seedDataSource.setJdbcUrl(jdbcUrl);
+            seedDataSource.setUsername(username);
+            seedDataSource.setPassword(password);
+            SeedData seedData = new DataSeeder(seedDataSource).seed(settings);
+
+            context = new SpringApplicationBuilder(SoccerFriendApplication.class)
+                    .properties(applicationProperties(jdbcUrl, username, password, redisHost, redisPort))
+                    .run();
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+            LoadRunner runner = new LoadRunner(settings, Scenarios.create(seedData, settings));
+            try (RedisCommandCounter redisCommandCounter = new RedisCommandCounter(redisHost, redisPort)) {
+                LatencyRecorder recorder = runner.run(baseUrl, redisCommandCounter::getTotalCommands);
+                new LoadTestReport(settings).write(recorder, runner.getDropped(), runner.getRedisCommands());
+            }
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+            if (redis != null) {
+                redis.stop();
+            }
+            if (mysql != null) {
+                mysql.stop();
+            }
+        }
+    }
+
+    private static Map<String, Object> applicationProperties(String jdbcUrl, String username, String password,
+                                                             String redisHost, int redisPort) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.datasource.url", jdbcUrl);
+        properties.put("spring.datasource.username", username);
+        properties.put("spring.datasource.password", password);
+        properties.put("spring.redis.host", redisHost);
+        properties.put("spring.redis.port", redisPort);
+        properties.put("mybatis.mapper-locations", "classpath:mapper/*.xml");
+        properties.put("mybatis.configuration.map-underscore-to-camel-case", true);
+        properties.put("spring.mail.host", "localhost");
+        properties.put("spring.mail.username", "loadtest@soccer.com");
+        properties.put("toss-payments.secret-key", "test_sk_loadtest");
+        return properties;
+    }
+}
@@ -0,0 +1,115 @@
+package soccerfriend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * endpoint별 응답시간 분포를 commit 단위 디렉토리에 저장합니다.
+ * report.json에는 요약값을, endpoint별 .hgrm 파일에는 전체 percentile 분포를 기록합니다.
+ * 부하 구간 동안 redis가 처리한 명령 수도 요청당 값으로 기록합니다.
+ * baseline 디렉토리가 주어지면 p99와 요청당 redis 명령 수를 비교하여 함께 출력합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class LoadTestReport {
+
+    private static final String REPORT_FILE = "report.json";
+
+    private final LoadTestSettings settings;
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    public void write(LatencyRecorder recorder, long dropped, long redisCommands) throws IOException {
+        Path directory = settings.getReportDirectory();
+        Files.createDirectories(directory);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("commit", settings.getCommit());
+        report.put("createdAt", LocalDateTime.now().toString());
+        report.put("rps", settings.getRps());
+        report.put("durationSeconds", settings.getDuration().toSeconds());
+        report.put("scenarios", settings.getScenarioWeights());
+        report.put("clubs", settings.getClubs());
+        report.put("members", settings.getMembers());
+        report.put("dropped", dropped);
+
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        for (LatencyRecorder.EndpointLatency latency : recorder.getEndpoints().values()) {
+            Histogram histogram = latency.getHistogram();
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("count", histogram.getTotalCount());
+            summary.put("errors", latency.getErrors().sum());
+            summary.put("throughput", (double) histogram.getTotalCount() / settings.getDuration().toSeconds());
+            summary.put("meanMillis", histogram.getMean() / 1000);
+            summary.put("p50Millis", histogram.getValueAtPercentile(50) / 1000.0);
+            summary.put("p90Millis", histogram.getValueAtPercentile(90) / 1000.0);
+            summary.put("p99Millis", histogram.getValueAtPercentile(99) / 1000.0);
+            summary.put("p999Millis", histogram.getValueAtPercentile(99.9) / 1000.0);
+            summary.put("maxMillis", histogram.getMaxValue() / 1000.0);
+            endpoints.put(latency.getEndpoint(), summary);
+
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(fileName(latency.getEndpoint()))))) {
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        report.put("endpoints", endpoints);
+        long requests = recorder.getEndpoints().values().stream().mapToLong(latency -> latency.getHistogram().getTotalCount()).sum();
+        report.put("redisCommands", redisCommands);
+        report.put("redisCommandsPerRequest", requests == 0 ? 0 : (double) redisCommands / requests);
+
+        Path reportFile = directory.resolve(REPORT_FILE);
+        objectMapper.writeValue(reportFile.toFile(), report);
+        log.info("load test report written to {}", reportFile.toAbsolutePath());
+
+        print(endpoints, dropped, (double) report.get("redisCommandsPerRequest"));
+    }
+
+    private void print(Map<String, Object> endpoints, long dropped, double redisCommandsPerRequest) throws IOException {
+        JsonNode baseline = readBaseline();
+        StringBuilder table = new StringBuilder(String.format("%n%-60s %8s %7s %9s %9s %9s %12s%n",
+                "endpoint", "count", "errors", "p50(ms)", "p99(ms)", "max(ms)", "p99 vs base"));
+
+        for (Map.Entry<String, Object> entry : endpoints.entrySet()) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> summary = (Map<String, Object>) entry.getValue();
+            double p99 = (double) summary.get("p99Millis");
+            String comparison = "";
+            if (baseline != null && baseline.path("endpoints").has(entry.getKey())) {
+                double baseP99 = baseline.path("endpoints").path(entry.getKey()).path("p99Millis").asDouble();
+                comparison = baseP99 == 0 ? "" : String.format("%+.1f%%", (p99 - baseP99) / baseP99 * 100);
+            }
+            table.append(String.format("%-60s %8d %7d %9.2f %9.2f %9.2f %12s%n", entry.getKey(), summary.get("count"),
+                    summary.get("errors"), summary.get("p50Millis"), p99, summary.get("maxMillis"), comparison));
+        }
+        table.append(String.format("dropped scenarios: %d%n", dropped));
+        String redisComparison = "";
+        if (baseline != null && baseline.path("redisCommandsPerRequest").asDouble() > 0) {
+            redisComparison = String.format(" (baseline %.2f)", baseline.path("redisCommandsPerRequest").asDouble());
+        }
+        table.append(String.format("redis commands per request: %.2f%s%n", redisCommandsPerRequest, redisComparison));
+        log.info(table.toString());
+    }
+
+    private JsonNode readBaseline() throws IOException {
+        Path baselineDirectory = settings.getBaselineDirectory();
+        if (baselineDirectory == null || !Files.exists(baselineDirectory.resolve(REPORT_FILE))) {
+            return null;
+        }
+        return objectMapper.readTree(baselineDirectory.resolve(REPORT_FILE).toFile());
+    }
+
+    private String fileName(String endpoint) {
+        return endpoint.replaceAll("[^A-Za-z0-9]+", "_").replaceAll("^_|_$", "") + ".hgrm";
+    }
+}
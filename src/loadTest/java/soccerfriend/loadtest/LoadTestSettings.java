@@ -0,0 +1,86 @@
+package soccerfriend.loadtest;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정입니다. 모든 값은 loadtest.* system property로 변경할 수 있습니다.
+ */
+@Getter
+public class LoadTestSettings {
+
+    private final int rps;
+    private final Duration duration;
+    private final Duration warmup;
+    private final int workers;
+    private final Map<String, Integer> scenarioWeights;
+
+    private final int clubs;
+    private final int membersPerClub;
+    private final int goalBurst;
+
+    private final String jdbcUrl;
+    private final String jdbcUsername;
+    private final String jdbcPassword;
+    private final String redisHost;
+    private final int redisPort;
+
+    private final String commit;
+    private final Path reportDirectory;
+    private final Path baselineDirectory;
+
+    private LoadTestSettings() {
+        rps = Integer.getInteger("loadtest.rps", 50);
+        duration = Duration.parse(System.getProperty("loadtest.duration", "PT60S"));
+        warmup = Duration.parse(System.getProperty("loadtest.warmup", "PT10S"));
+        workers = Integer.getInteger("loadtest.workers", 64);
+        scenarioWeights = parseWeights(System.getProperty("loadtest.scenarios",
+                "signup:1,login:2,club-browsing:5,goal-entry:1,monthly-fee:1"));
+
+        clubs = Integer.getInteger("loadtest.clubs", 200);
+        membersPerClub = Integer.getInteger("loadtest.members-per-club", 25);
+        goalBurst = Integer.getInteger("loadtest.goal-burst", 10);
+
+        jdbcUrl = System.getProperty("loadtest.jdbc-url");
+        jdbcUsername = System.getProperty("loadtest.jdbc-username", "root");
+        jdbcPassword = System.getProperty("loadtest.jdbc-password", "");
+        redisHost = System.getProperty("loadtest.redis-host");
+        redisPort = Integer.getInteger("loadtest.redis-port", 6379);
+
+        commit = System.getProperty("loadtest.commit", "local");
+        reportDirectory = Paths.get(System.getProperty("loadtest.report-dir", "build/reports/load-test/" + commit));
+        String baseline = System.getProperty("loadtest.baseline-dir");
+        baselineDirectory = baseline == null || baseline.isBlank() ? null : Paths.get(baseline);
+    }
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings();
+    }
+
+    /**
+     * 외부 MySQL, Redis를 지정하지 않았다면 container를 띄워서 사용합니다.
+     *
+     * @return container 사용 여부
+     */
+    public boolean isUseContainers() {
+        return jdbcUrl == null || redisHost == null;
+    }
+
+    public int getMembers() {
+        return clubs * membersPerClub;
+    }
+
+    private static Map<String, Integer> parseWeights(String value) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            String[] nameAndWeight = entry.trim().split(":");
+            weights.put(nameAndWeight[0], nameAndWeight.length > 1 ? Integer.parseInt(nameAndWeight[1]) : 1);
+        }
+        return weights;
+    }
+}
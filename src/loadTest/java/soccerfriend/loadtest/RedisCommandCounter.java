@@ -0,0 +1,36 @@
+package soccerfriend.loadtest;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.api.StatefulRedisConnection;
+
+/**
+ * redis의 INFO stats에서 지금까지 처리한 명령 수를 읽습니다. 부하 구간 전후의 차이로 요청당 redis 명령 수를 구합니다.
+ */
+public class RedisCommandCounter implements AutoCloseable {
+
+    private static final String TOTAL_COMMANDS = "total_commands_processed:";
+
+    private final RedisClient client;
+    private final StatefulRedisConnection<String, String> connection;
+
+    public RedisCommandCounter(String host, int port) {
+        this.client = RedisClient.create(RedisURI.create(host, port));
+        this.connection = client.connect();
+    }
+
+    public long getTotalCommands() {
+        for (String line : connection.sync().info("stats").split("\r?\n")) {
+            if (line.startsWith(TOTAL_COMMANDS)) {
+                return Long.parseLong(line.substring(TOTAL_COMMANDS.length()).trim());
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public void close() {
+        connection.close();
+        client.shutdown();
+    }
+}
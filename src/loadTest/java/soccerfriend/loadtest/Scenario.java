@@ -0,0 +1,11 @@
+package soccerfriend.loadtest;
+
+/**
+ * 한 명의 사용자가 수행하는 일련의 요청입니다. 실행될 때마다 새로운 VirtualUser가 주어집니다.
+ */
+public interface Scenario {
+
+    String getName();
+
+    void run(VirtualUser user) throws InterruptedException;
+}
@@ -0,0 +1,208 @@
+package soccerfriend.loadtest;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 회원가입, 로그인, club 조회, 골 입력, 월회비 납부, feed scenario들입니다.
+ * endpoint 이름은 soccerfriend.controller의 mapping과 같게 기록하여 histogram이 URI pattern 단위로 모이게 합니다.
+ */
+public class Scenarios {
+
+    public static List<Scenario> create(SeedData seedData, LoadTestSettings settings) {
+        return List.of(
+                new SignUpScenario(),
+                new LoginScenario(seedData),
+                new ClubBrowsingScenario(seedData),
+                new GoalEntryScenario(seedData, settings.getGoalBurst()),
+                new MonthlyFeeScenario(seedData),
+                new FeedScenario(seedData));
+    }
+
+    private static boolean login(VirtualUser user, SeedData seedData, int memberId) throws InterruptedException {
+        String body = String.format("{\"id\":\"%s\",\"password\":\"%s\"}", seedData.getMemberLoginId(memberId), SeedData.PASSWORD);
+        return user.post("POST /members/login", "/members/login", body) == 200;
+    }
+
+    private static int randomMember(SeedData seedData) {
+        return ThreadLocalRandom.current().nextInt(1, seedData.getMembers() + 1);
+    }
+
+    static class SignUpScenario implements Scenario {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public String getName() {
+            return "signup";
+        }
+
+        @Override
+        public void run(VirtualUser user) throws InterruptedException {
+            int number = sequence.incrementAndGet();
+            String memberId = String.format("signup%06d", number);
+
+            user.get("GET /positions", "/positions");
+            user.get("GET /addresses/{city}", "/addresses/" + URLEncoder.encode("서울", StandardCharsets.UTF_8));
+            user.get("GET /members/exist/{memberId}", "/members/exist/" + memberId);
+            String body = String.format("{\"memberId\":\"%s\",\"password\":\"Password1!\",\"email\":\"%s@soccer.com\"," +
+                    "\"nickname\":\"s%d\",\"positionsId\":1,\"addressId\":1}", memberId, memberId, number);
+            user.post("POST /members", "/members", body);
+        }
+    }
+
+    static class LoginScenario implements Scenario {
+
+        private final SeedData seedData;
+
+        LoginScenario(SeedData seedData) {
+            this.seedData = seedData;
+        }
+
+        @Override
+        public String getName() {
+            return "login";
+        }
+
+        @Override
+        public void run(VirtualUser user) throws InterruptedException {
+            if (login(user, seedData, randomMember(seedData))) {
+                user.get("GET /members/logout", "/members/logout");
+            }
+        }
+    }
+
+    static class ClubBrowsingScenario implements Scenario {
+
+        private final SeedData seedData;
+
+        ClubBrowsingScenario(SeedData seedData) {
+            this.seedData = seedData;
+        }
+
+        @Override
+        public String getName() {
+            return "club-browsing";
+        }
+
+        @Override
+        public void run(VirtualUser user) throws InterruptedException {
+            int memberId = randomMember(seedData);
+            int clubId = seedData.getClubIdOfMember(memberId);
+            if (!login(user, seedData, memberId)) {
+                return;
+            }
+
+            user.get("GET /clubs/{clubId}/club-members", "/clubs/" + clubId + "/club-members?approve=true");
+            user.get("GET /bulletins/{id}", "/bulletins/" + clubId);
+            user.get("GET /bulletins/club/{clubId}", "/bulletins/club/" + clubId);
+            user.get("GET /soccer-matches/club/{clubId}/recruitments", "/soccer-matches/club/" + clubId + "/recruitments");
+            user.get("GET /goals/member/{memberId}", "/goals/member/" + memberId);
+        }
+    }
+
+    static class GoalEntryScenario implements Scenario {
+
+        private final SeedData seedData;
+        private final int burst;
+
+        GoalEntryScenario(SeedData seedData, int burst) {
+            this.seedData = seedData;
+            this.burst = burst;
+        }
+
+        @Override
+        public String getName() {
+            return "goal-entry";
+        }
+
+        @Override
+        public void run(VirtualUser user) throws InterruptedException {
+            int clubId = ThreadLocalRandom.current().nextInt(1, seedData.getSoccerMatchCount() * 2 + 1);
+            if (!login(user, seedData, seedData.getLeaderOfClub(clubId))) {
+                return;
+            }
+
+            String body = String.format("{\"soccerMatchMemberId\":%d,\"numSet\":1,\"timeSet\":10}",
+                    seedData.getLeaderSoccerMatchMemberId(clubId));
+            for (int i = 0; i < burst; i++) {
+                user.post("POST /goals", "/goals", body);
+            }
+        }
+    }
+
+    /**
+     * 월초에 몰리는 회비 납부입니다. member마다 한 달에 한 번만 납부할 수 있으므로 member를 순서대로 돌며,
+     * 모든 member가 납부하면 다음 달로 넘어갑니다.
+     */
+    static class MonthlyFeeScenario implements Scenario {
+
+        private final SeedData seedData;
+        private final AtomicInteger sequence = new AtomicInteger();
+        private final LocalDate firstMonth = LocalDate.now().withDayOfMonth(1);
+
+        MonthlyFeeScenario(SeedData seedData) {
+            this.seedData = seedData;
+        }
+
+        @Override
+        public String getName() {
+            return "monthly-fee";
+        }
+
+        @Override
+        public void run(VirtualUser user) throws InterruptedException {
+            int number = sequence.getAndIncrement();
+            int memberId = number % seedData.getMembers() + 1;
+            LocalDate month = firstMonth.plusMonths(number / seedData.getMembers());
+            int clubId = seedData.getClubIdOfMember(memberId);
+            if (!login(user, seedData, memberId)) {
+                return;
+            }
+
+            user.post("POST /clubs/{clubId}/pay/monthly-fee/{year}/{month}",
+                    "/clubs/" + clubId + "/pay/monthly-fee/" + month.getYear() + "/" + month.getMonthValue(), null);
+        }
+    }
+
+    /**
+     * feed 조회와 feed로 fan-out 되는 모집공고 게시입니다. 열 번 중 한 번은 club leader가 모집공고를 게시하여
+     * club 구성원 수만큼의 timeline 기록을 만들고, 나머지는 member가 자신의 feed를 조회합니다.
+     */
+    static class FeedScenario implements Scenario {
+
+        private final SeedData seedData;
+
+        FeedScenario(SeedData seedData) {
+            this.seedData = seedData;
+        }
+
+        @Override
+        public String getName() {
+            return "feed";
+        }
+
+        @Override
+        public void run(VirtualUser user) throws InterruptedException {
+            int memberId = randomMember(seedData);
+            int clubId = seedData.getClubIdOfMember(memberId);
+            if (ThreadLocalRandom.current().nextInt(10) > 0) {
+                if (login(user, seedData, memberId)) {
+                    user.get("GET /feed", "/feed");
+                }
+                return;
+            }
+
+            if (!login(user, seedData, seedData.getLeaderOfClub(clubId))) {
+                return;
+            }
+            String body = "{\"startTime\":\"2030-01-01T10:00:00\",\"endTime\":\"2030-01-01T12:00:00\"," +
+                    "\"numSet\":2,\"timeSet\":45,\"stadiumId\":1}";
+            user.post("POST /soccer-matches/recruitments", "/soccer-matches/recruitments?clubId=" + clubId, body);
+        }
+    }
+}
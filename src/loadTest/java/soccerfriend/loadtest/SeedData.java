@@ -0,0 +1,49 @@
+package soccerfriend.loadtest;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * DataSeeder가 만든 데이터의 규칙입니다. scenario는 이 규칙으로 요청할 id를 계산합니다.
+ * member i(1부터 시작)는 club ((i - 1) / membersPerClub) + 1에 속하며, 각 club의 첫번째 member가 LEADER입니다.
+ * club 2k - 1과 club 2k는 soccerMatch k를 치르고 있으며, 두 club의 LEADER가 soccerMatchMember로 등록되어 있습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class SeedData {
+
+    public static final String PASSWORD = "password1!";
+
+    private final int clubs;
+    private final int membersPerClub;
+
+    public int getMembers() {
+        return clubs * membersPerClub;
+    }
+
+    public String getMemberLoginId(int memberId) {
+        return String.format("member%06d", memberId);
+    }
+
+    public int getClubIdOfMember(int memberId) {
+        return (memberId - 1) / membersPerClub + 1;
+    }
+
+    public int getLeaderOfClub(int clubId) {
+        return (clubId - 1) * membersPerClub + 1;
+    }
+
+    public int getSoccerMatchCount() {
+        return clubs / 2;
+    }
+
+    /**
+     * 해당 club의 LEADER가 soccerMatch에 등록된 soccerMatchMember의 id를 반환합니다.
+     *
+     * @param clubId club의 id
+     * @return soccerMatchMember의 id
+     */
+    public int getLeaderSoccerMatchMemberId(int clubId) {
+        return clubId;
+    }
+}
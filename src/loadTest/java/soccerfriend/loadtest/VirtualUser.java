@@ -0,0 +1,82 @@
+package soccerfriend.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 한 명의 사용자입니다. HttpClient는 공유하되 session cookie는 사용자마다 따로 유지합니다.
+ * 첫 요청의 응답시간은 예정된 시작 시각부터 재므로 worker를 기다린 시간이 포함됩니다.
+ * 이후 요청은 앞 요청의 응답을 받은 뒤에 보내는 것이 예정이므로 보낸 시각부터 잽니다.
+ */
+public class VirtualUser {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final LatencyRecorder recorder;
+    private final Map<String, String> cookies = new LinkedHashMap<>();
+    private final long intendedStartNanos;
+    private boolean started;
+
+    public VirtualUser(HttpClient client, String baseUrl, LatencyRecorder recorder, long intendedStartNanos) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.recorder = recorder;
+        this.intendedStartNanos = intendedStartNanos;
+    }
+
+    public int get(String endpoint, String path) throws InterruptedException {
+        return send(endpoint, request(path).GET());
+    }
+
+    public int post(String endpoint, String path, String json) throws InterruptedException {
+        return send(endpoint, request(path).header("Content-Type", "application/json")
+                                           .POST(json == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(json)));
+    }
+
+    private HttpRequest.Builder request(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(TIMEOUT);
+        if (!cookies.isEmpty()) {
+            builder.header("Cookie", cookies.entrySet()
+                                            .stream()
+                                            .map(cookie -> cookie.getKey() + "=" + cookie.getValue())
+                                            .collect(Collectors.joining("; ")));
+        }
+        return builder;
+    }
+
+    private int send(String endpoint, HttpRequest.Builder builder) throws InterruptedException {
+        long start = started ? System.nanoTime() : intendedStartNanos;
+        started = true;
+        int statusCode = 0;
+        try {
+            HttpResponse<Void> response = client.send(builder.build(), HttpResponse.BodyHandlers.discarding());
+            statusCode = response.statusCode();
+            storeCookies(response.headers().allValues("Set-Cookie"));
+        } catch (IOException e) {
+            statusCode = 0;
+        } finally {
+            recorder.record(endpoint, System.nanoTime() - start, statusCode);
+        }
+        return statusCode;
+    }
+
+    private void storeCookies(List<String> setCookies) {
+        for (String setCookie : setCookies) {
+            String nameAndValue = setCookie.split(";", 2)[0];
+            int index = nameAndValue.indexOf('=');
+            if (index > 0) {
+                cookies.put(nameAndValue.substring(0, index).trim(), nameAndValue.substring(index + 1).trim());
+            }
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package soccerfriend.loadtest.dataset;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import soccerfriend.dto.MatchResult;
+
+import java.sql.DriverManager;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 대량의 member, club, club_member, club_monthly_fee, soccer_match_recruitment, soccer_match,
+ * soccer_match_member, goal, club_soccer_match_record row를 만듭니다.
+ * 하나의 SplittableRandom을 정해진 순서로만 사용하므로 seed가 같다면 결과도 같습니다.
+ *
+ * <p>다음의 규칙을 지킵니다.
+ * <ul>
+ *     <li>club마다 LEADER는 한 명이며 club.leader와 같습니다. member는 최대 한 club에만 속합니다.</li>
+ *     <li>club_member의 id는 member의 id와 같고, 승인되지 않은 club_member는 회비를 내거나 경기에 나가지 않습니다.</li>
+ *     <li>club.point는 해당 club에 납부된 회비의 합입니다.</li>
+ *     <li>soccer_match는 participation_club_id가 정해진 공고에만 존재합니다.</li>
+ *     <li>soccer_match의 점수는 양 club의 goal 수와 같으며, goal의 num_set, time_set은 공고의 범위 안에 있습니다.</li>
+ *     <li>club_soccer_match_record는 submitted 된 soccer_match의 결과의 합입니다.</li>
+ * </ul>
+ *
+ * <pre>
+ * ./gradlew generateDataset -Pdataset.seed=7 -Pdataset.clubs=50000
+ * ./gradlew generateDataset -Pdataset.jdbc-url=jdbc:mysql://localhost:3306/soccerfriend
+ * </pre>
+ */
+@Slf4j
+public class DatasetGenerator {
+
+    // "password1!"의 BCrypt hash입니다. 실행마다 salt가 바뀌지 않도록 고정합니다.
+    private static final String PASSWORD = "$2a$10$6R9xFHKDB5vzOijeYJ2J1e77bMG5tp4pEjY3EstYdWGCij5eZCE5G";
+    private static final int ADDRESSES = 80;
+    private static final int MIN_PLAYERS = 7;
+    private static final int MAX_PLAYERS = 11;
+    private static final int MAX_GOALS = 5;
+
+    private final DatasetSettings settings;
+    private final SplittableRandom random;
+    private final Map<Table, Long> counts = new EnumMap<>(Table.class);
+
+    private final int[] memberStart;
+    private final int[] approvedMemberCount;
+    private final int[] win;
+    private final int[] draw;
+    private final int[] lose;
+
+    public DatasetGenerator(DatasetSettings settings) {
+        this.settings = settings;
+        this.random = new SplittableRandom(settings.getSeed());
+        this.memberStart = new int[settings.getClubs() + 1];
+        this.approvedMemberCount = new int[settings.getClubs() + 1];
+        this.win = new int[settings.getClubs() + 1];
+        this.draw = new int[settings.getClubs() + 1];
+        this.lose = new int[settings.getClubs() + 1];
+    }
+
+    public static void main(String[] args) throws Exception {
+        DatasetSettings settings = DatasetSettings.fromSystemProperties();
+        if (settings.getJdbcUrl() != null) {
+            Flyway.configure()
+                  .dataSource(settings.getJdbcUrl(), settings.getJdbcUsername(), settings.getJdbcPassword())
+                  .load()
+                  .migrate();
+        }
+        RowSink sink = settings.getJdbcUrl() == null
+                ? new TsvRowSink(settings.getOutputDirectory())
+                : new JdbcRowSink(DriverManager.getConnection(settings.getJdbcUrl(), settings.getJdbcUsername(),
+                settings.getJdbcPassword()), settings.getBatchSize());
+
+        long start = System.currentTimeMillis();
+        DatasetGenerator generator = new DatasetGenerator(settings);
+        try (sink) {
+            generator.generate(sink);
+        }
+        log.info("generated {} in {}ms", generator.getCounts(), System.currentTimeMillis() - start);
+    }
+
+    public void generate(RowSink sink) throws Exception {
+        int memberId = generateClubs(sink);
+        generateClublessMembers(sink, memberId);
+        generateSoccerMatches(sink);
+        generateRecords(sink);
+    }
+
+    public Map<Table, Long> getCounts() {
+        return counts;
+    }
+
+    private int generateClubs(RowSink sink) throws Exception {
+        int average = settings.getAverageMembersPerClub();
+        int memberId = 1;
+        long feeId = 1;
+
+        for (int clubId = 1; clubId <= settings.getClubs(); clubId++) {
+            int size = Math.max(1, average / 2 + random.nextInt(average + 1));
+            int pending = (int) (size * settings.getPendingMemberRatio());
+            int fee = 5000 * (1 + random.nextInt(6));
+            LocalDateTime createdAt = dateTime(random.nextInt(28));
+            long clubPoint = 0;
+
+            memberStart[clubId] = memberId;
+            approvedMemberCount[clubId] = size - pending;
+            for (int index = 0; index < size; index++) {
+                boolean approved = index < size - pending;
+                String grade = index == 0 ? "LEADER" : index <= 2 ? "STAFF" : "MEMBER";
+                writeMember(sink, memberId, createdAt);
+                write(sink, Table.CLUB_MEMBER, memberId, clubId, memberId, grade, approved, createdAt, createdAt);
+
+                if (approved) {
+                    for (int month = 0; month < settings.getMonths(); month++) {
+                        if (random.nextDouble() < settings.getPaymentRatio()) {
+                            LocalDateTime paidAt = settings.getStartDate().plusMonths(month).atStartOfDay().plusHours(random.nextInt(24 * 7));
+                            write(sink, Table.CLUB_MONTHLY_FEE, feeId++, clubId, memberId, fee,
+                                    paidAt.getYear(), paidAt.getMonthValue(), paidAt, paidAt, paidAt);
+                            clubPoint += fee;
+                        }
+                    }
+                }
+                memberId++;
+            }
+
+            write(sink, Table.CLUB, clubId, "club" + clubId, memberStart[clubId], 1 + random.nextInt(ADDRESSES),
+                    clubPoint, fee, 1 + random.nextInt(28), 0, createdAt, createdAt);
+        }
+        return memberId;
+    }
+
+    private void generateClublessMembers(RowSink sink, int firstMemberId) throws Exception {
+        int clubless = (int) ((firstMemberId - 1) * settings.getClublessMemberRatio());
+        for (int memberId = firstMemberId; memberId < firstMemberId + clubless; memberId++) {
+            writeMember(sink, memberId, dateTime(random.nextInt(28)));
+        }
+    }
+
+    private void generateSoccerMatches(RowSink sink) throws Exception {
+        int clubs = settings.getClubs();
+        long recruitmentId = 1;
+        long soccerMatchId = 1;
+        long soccerMatchMemberId = 1;
+        long goalId = 1;
+        int days = Math.max(1, settings.getMonths() * 30);
+
+        for (int hostClubId = 1; hostClubId <= clubs; hostClubId++) {
+            for (int i = 0; i < settings.getRecruitmentsPerClub(); i++) {
+                LocalDateTime startTime = dateTime(random.nextInt(days)).withHour(8 + random.nextInt(14));
+                LocalDateTime endTime = startTime.plusHours(2);
+                int numSet = 1 + random.nextInt(3);
+                int timeSet = 15 + 5 * random.nextInt(6);
+                LocalDateTime createdAt = startTime.minusDays(1 + random.nextInt(14));
+
+                if (clubs < 2 || random.nextDouble() < settings.getOpenRecruitmentRatio()) {
+                    write(sink, Table.SOCCER_MATCH_RECRUITMENT, recruitmentId++, startTime, endTime, numSet, timeSet,
+                            1, hostClubId, null, createdAt, createdAt);
+                    continue;
+                }
+
+                int participationClubId = 1 + random.nextInt(clubs - 1);
+                if (participationClubId >= hostClubId) {
+                    participationClubId++;
+                }
+                write(sink, Table.SOCCER_MATCH_RECRUITMENT, recruitmentId, startTime, endTime, numSet, timeSet,
+                        1, hostClubId, participationClubId, createdAt, createdAt);
+
+                long hostFirstPlayer = soccerMatchMemberId;
+                int hostPlayers = writePlayers(sink, soccerMatchMemberId, soccerMatchId, hostClubId, startTime);
+                soccerMatchMemberId += hostPlayers;
+                long participationFirstPlayer = soccerMatchMemberId;
+                int participationPlayers = writePlayers(sink, soccerMatchMemberId, soccerMatchId, participationClubId, startTime);
+                soccerMatchMemberId += participationPlayers;
+
+                int hostClubScore = hostPlayers == 0 ? 0 : random.nextInt(MAX_GOALS + 1);
+                int participationClubScore = participationPlayers == 0 ? 0 : random.nextInt(MAX_GOALS + 1);
+                goalId = writeGoals(sink, goalId, hostFirstPlayer, hostPlayers, hostClubScore, numSet, timeSet, startTime);
+                goalId = writeGoals(sink, goalId, participationFirstPlayer, participationPlayers, participationClubScore,
+                        numSet, timeSet, startTime);
+
+                boolean submitted = random.nextDouble() < settings.getSubmittedRatio();
+                write(sink, Table.SOCCER_MATCH, soccerMatchId, hostClubScore, participationClubScore, recruitmentId,
+                        submitted, startTime, endTime);
+                if (submitted) {
+                    record(hostClubId, participationClubId, MatchResult.of(hostClubScore, participationClubScore));
+                }
+
+                recruitmentId++;
+                soccerMatchId++;
+            }
+        }
+    }
+
+    private int writePlayers(RowSink sink, long firstId, long soccerMatchId, int clubId, LocalDateTime startTime) throws Exception {
+        int candidates = approvedMemberCount[clubId];
+        int players = Math.min(candidates, MIN_PLAYERS + random.nextInt(MAX_PLAYERS - MIN_PLAYERS + 1));
+        int offset = candidates == 0 ? 0 : random.nextInt(candidates);
+        for (int i = 0; i < players; i++) {
+            int memberId = memberStart[clubId] + (offset + i) % candidates;
+            write(sink, Table.SOCCER_MATCH_MEMBER, firstId + i, soccerMatchId, memberId, clubId, true, startTime, startTime);
+        }
+        return players;
+    }
+
+    private long writeGoals(RowSink sink, long goalId, long firstPlayer, int players, int goals, int numSet, int timeSet,
+                            LocalDateTime startTime) throws Exception {
+        for (int i = 0; i < goals; i++) {
+            long scorer = firstPlayer + random.nextInt(players);
+            LocalDateTime createdAt = startTime.plusMinutes(random.nextInt(120));
+            write(sink, Table.GOAL, goalId++, scorer, 1 + random.nextInt(numSet), random.nextInt(timeSet + 1),
+                    createdAt, createdAt);
+        }
+        return goalId;
+    }
+
+    private void record(int hostClubId, int participationClubId, MatchResult result) {
+        switch (result) {
+            case HOST_WIN:
+                win[hostClubId]++;
+                lose[participationClubId]++;
+                break;
+            case DRAW:
+                draw[hostClubId]++;
+                draw[participationClubId]++;
+                break;
+            case PARTICIPATION_WIN:
+                lose[hostClubId]++;
+                win[participationClubId]++;
+                break;
+        }
+    }
+
+    private void generateRecords(RowSink sink) throws Exception {
+        LocalDateTime updatedAt = dateTime(settings.getMonths() * 30);
+        for (int clubId = 1; clubId <= settings.getClubs(); clubId++) {
+            write(sink, Table.CLUB_SOCCER_MATCH_RECORD, clubId, clubId, win[clubId], draw[clubId], lose[clubId],
+                    dateTime(0), updatedAt);
+        }
+    }
+
+    private void writeMember(RowSink sink, int memberId, LocalDateTime createdAt) throws Exception {
+        write(sink, Table.MEMBER, memberId, String.format("member%07d", memberId), PASSWORD,
+                "member" + memberId + "@soccer.com", "m" + memberId, random.nextInt(200_000),
+                1 + random.nextInt(4), 1 + random.nextInt(ADDRESSES), true, false, 0, createdAt, createdAt);
+    }
+
+    private LocalDateTime dateTime(int days) {
+        return settings.getStartDate().atStartOfDay().plusDays(days);
+    }
+
+    private void write(RowSink sink, Table table, Object... values) throws Exception {
+        sink.write(table, values);
+        counts.merge(table, 1L, Long::sum);
+    }
+}
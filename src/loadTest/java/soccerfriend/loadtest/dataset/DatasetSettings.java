@@ -0,0 +1,57 @@
+package soccerfriend.loadtest.dataset;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+
+/**
+ * dataset 생성 설정입니다. 모든 값은 dataset.* system property로 변경할 수 있습니다.
+ * 같은 설정과 seed로 실행하면 항상 같은 dataset이 만들어집니다.
+ */
+@Getter
+public class DatasetSettings {
+
+    private final long seed;
+    private final int clubs;
+    private final int averageMembersPerClub;
+    private final double clublessMemberRatio;
+    private final double pendingMemberRatio;
+    private final int recruitmentsPerClub;
+    private final double openRecruitmentRatio;
+    private final double submittedRatio;
+    private final int months;
+    private final double paymentRatio;
+    private final LocalDate startDate;
+
+    private final String jdbcUrl;
+    private final String jdbcUsername;
+    private final String jdbcPassword;
+    private final int batchSize;
+    private final Path outputDirectory;
+
+    private DatasetSettings() {
+        seed = Long.getLong("dataset.seed", 42L);
+        clubs = Integer.getInteger("dataset.clubs", 10_000);
+        averageMembersPerClub = Integer.getInteger("dataset.average-members-per-club", 30);
+        clublessMemberRatio = Double.parseDouble(System.getProperty("dataset.clubless-member-ratio", "0.1"));
+        pendingMemberRatio = Double.parseDouble(System.getProperty("dataset.pending-member-ratio", "0.05"));
+        recruitmentsPerClub = Integer.getInteger("dataset.recruitments-per-club", 20);
+        openRecruitmentRatio = Double.parseDouble(System.getProperty("dataset.open-recruitment-ratio", "0.1"));
+        submittedRatio = Double.parseDouble(System.getProperty("dataset.submitted-ratio", "0.9"));
+        months = Integer.getInteger("dataset.months", 12);
+        paymentRatio = Double.parseDouble(System.getProperty("dataset.payment-ratio", "0.8"));
+        startDate = LocalDate.parse(System.getProperty("dataset.start-date", "2022-01-01"));
+
+        jdbcUrl = System.getProperty("dataset.jdbc-url");
+        jdbcUsername = System.getProperty("dataset.jdbc-username", "root");
+        jdbcPassword = System.getProperty("dataset.jdbc-password", "");
+        batchSize = Integer.getInteger("dataset.batch-size", 1000);
+        outputDirectory = Paths.get(System.getProperty("dataset.output-dir", "build/dataset/" + seed));
+    }
+
+    public static DatasetSettings fromSystemProperties() {
+        return new DatasetSettings();
+    }
+}
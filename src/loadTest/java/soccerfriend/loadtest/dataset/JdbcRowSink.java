@@ -0,0 +1,76 @@
+package soccerfriend.loadtest.dataset;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * table마다 row를 모아 multi-row INSERT 하나로 저장합니다. batch 하나가 transaction 하나입니다.
+ */
+public class JdbcRowSink implements RowSink {
+
+    private final Connection connection;
+    private final int batchSize;
+    private final Map<Table, List<Object[]>> buffers = new EnumMap<>(Table.class);
+    private final Map<Table, String> fullBatchSql = new EnumMap<>(Table.class);
+
+    public JdbcRowSink(Connection connection, int batchSize) throws SQLException {
+        this.connection = connection;
+        this.batchSize = batchSize;
+        connection.setAutoCommit(false);
+    }
+
+    @Override
+    public void write(Table table, Object... values) throws SQLException {
+        List<Object[]> buffer = buffers.computeIfAbsent(table, key -> new ArrayList<>(batchSize));
+        buffer.add(values);
+        if (buffer.size() == batchSize) {
+            flush(table, buffer);
+        }
+    }
+
+    private void flush(Table table, List<Object[]> rows) throws SQLException {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        String sql = rows.size() == batchSize
+                ? fullBatchSql.computeIfAbsent(table, key -> insertSql(key, batchSize))
+                : insertSql(table, rows.size());
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            int index = 1;
+            for (Object[] row : rows) {
+                for (Object value : row) {
+                    statement.setObject(index++, value instanceof LocalDateTime ? Timestamp.valueOf((LocalDateTime) value) : value);
+                }
+            }
+            statement.executeUpdate();
+        }
+        connection.commit();
+        rows.clear();
+    }
+
+    private String insertSql(Table table, int rows) {
+        String placeholders = "(" + String.join(", ", Collections.nCopies(table.getColumns().size(), "?")) + ")";
+        return "INSERT INTO " + table.getTableName() + " (" + String.join(", ", table.getColumns()) + ") VALUES "
+                + String.join(", ", Collections.nCopies(rows, placeholders));
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            for (Map.Entry<Table, List<Object[]>> entry : buffers.entrySet()) {
+                flush(entry.getKey(), entry.getValue());
+            }
+        } finally {
+            connection.close();
+        }
+    }
+}
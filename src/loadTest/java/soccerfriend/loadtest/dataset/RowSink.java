@@ -0,0 +1,18 @@
+package soccerfriend.loadtest.dataset;
+
+/**
+ * 생성된 row를 받아서 저장하는 곳입니다.
+ */
+public interface RowSink extends AutoCloseable {
+
+    /**
+     * row 하나를 기록합니다. values는 Table에 정의된 column 순서를 따릅니다.
+     *
+     * @param table  table
+     * @param values column 값들
+     */
+    void write(Table table, Object... values) throws Exception;
+
+    @Override
+    void close() throws Exception;
+}
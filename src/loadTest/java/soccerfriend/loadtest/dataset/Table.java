@@ -0,0 +1,40 @@
+package soccerfriend.loadtest.dataset;
+
+import java.util.List;
+
+/**
+ * 생성기가 채우는 table과 column 순서입니다.
+ */
+public enum Table {
+    MEMBER("member", "id", "member_id", "password", "email", "nickname", "point", "positions_id", "address_id",
+            "email_approved", "deleted", "password_warning", "created_at", "updated_at"),
+    CLUB("club", "id", "name", "leader", "address_id", "point", "monthly_fee", "payment_day", "bulletin_num",
+            "created_at", "updated_at"),
+    CLUB_MEMBER("club_member", "id", "club_id", "member_id", "grade", "approved", "created_at", "updated_at"),
+    CLUB_MONTHLY_FEE("club_monthly_fee", "id", "club_id", "club_member_id", "price", "year", "month", "paid_at",
+            "created_at", "updated_at"),
+    CLUB_SOCCER_MATCH_RECORD("club_soccer_match_record", "id", "club_id", "win", "draw", "lose", "created_at", "updated_at"),
+    SOCCER_MATCH_RECRUITMENT("soccer_match_recruitment", "id", "start_time", "end_time", "num_set", "time_set",
+            "stadium_id", "host_club_id", "participation_club_id", "created_at", "updated_at"),
+    SOCCER_MATCH("soccer_match", "id", "host_club_score", "participation_club_score", "soccer_match_recruitment_id",
+            "submitted", "created_at", "updated_at"),
+    SOCCER_MATCH_MEMBER("soccer_match_member", "id", "soccer_match_id", "member_id", "club_id", "approved",
+            "created_at", "updated_at"),
+    GOAL("goal", "id", "soccer_match_member_id", "num_set", "time_set", "created_at", "updated_at");
+
+    private final String tableName;
+    private final List<String> columns;
+
+    Table(String tableName, String... columns) {
+        this.tableName = tableName;
+        this.columns = List.of(columns);
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public List<String> getColumns() {
+        return columns;
+    }
+}
@@ -0,0 +1,93 @@
+package soccerfriend.loadtest.dataset;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * table마다 LOAD DATA 형식의 TSV 파일을 쓰고, 이를 불러오는 load.sql을 함께 만듭니다.
+ *
+ * <pre>
+ * mysql --local-infile=1 soccerfriend &lt; build/dataset/42/load.sql
+ * </pre>
+ */
+public class TsvRowSink implements RowSink {
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Path directory;
+    private final Map<Table, BufferedWriter> writers = new EnumMap<>(Table.class);
+    private final StringBuilder line = new StringBuilder(256);
+
+    public TsvRowSink(Path directory) throws IOException {
+        this.directory = directory;
+        Files.createDirectories(directory);
+    }
+
+    @Override
+    public void write(Table table, Object... values) throws IOException {
+        line.setLength(0);
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                line.append('\t');
+            }
+            append(values[i]);
+        }
+        line.append('\n');
+        writer(table).append(line);
+    }
+
+    private void append(Object value) {
+        if (value == null) {
+            line.append("\\N");
+        } else if (value instanceof Boolean) {
+            line.append((Boolean) value ? '1' : '0');
+        } else if (value instanceof LocalDateTime) {
+            line.append(DATE_TIME.format((LocalDateTime) value));
+        } else if (value instanceof String) {
+            String text = (String) value;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == '\t' || c == '\n' || c == '\\') {
+                    line.append('\\');
+                }
+                line.append(c);
+            }
+        } else {
+            line.append(value);
+        }
+    }
+
+    private Writer writer(Table table) throws IOException {
+        BufferedWriter writer = writers.get(table);
+        if (writer == null) {
+            writer = Files.newBufferedWriter(file(table), StandardCharsets.UTF_8);
+            writers.put(table, writer);
+        }
+        return writer;
+    }
+
+    private Path file(Table table) {
+        return directory.resolve(table.getTableName() + ".tsv");
+    }
+
+    @Override
+    public void close() throws IOException {
+        StringBuilder script = new StringBuilder("SET foreign_key_checks = 0;\nSET unique_checks = 0;\n");
+        for (Map.Entry<Table, BufferedWriter> entry : writers.entrySet()) {
+            entry.getValue().close();
+            Table table = entry.getKey();
+            script.append(String.format("LOAD DATA LOCAL INFILE '%s' INTO TABLE %s CHARACTER SET utf8mb4 (%s);%n",
+                    file(table).toAbsolutePath(), table.getTableName(), String.join(", ", table.getColumns())));
+        }
+        script.append("SET unique_checks = 1;\nSET foreign_key_checks = 1;\n");
+        Files.writeString(directory.resolve("load.sql"), script);
+    }
+}
@@ -0,0 +1,16 @@
+package soccerfriend.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 직렬화가 완료된 응답 body와 그에 대한 ETag입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class CachedResponse {
+
+    private final String eTag;
+
+    private final byte[] body;
+}
@@ -0,0 +1,34 @@
+package soccerfriend.cache;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import soccerfriend.exception.ExceptionInfo;
+
+/**
+ * SingleFlightCache가 redis에 저장하는 항목입니다.
+ * 조회 결과가 없었던 항목은 value 대신 그 때 발생한 exceptionInfo를 가집니다.
+ * loadMillis는 값을 읽어오는 데 걸린 시간이고, expiresAt은 만료 시각(epoch milli)입니다.
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CachedValue {
+
+    private Object value;
+
+    private ExceptionInfo exceptionInfo;
+
+    private long loadMillis;
+
+    private long expiresAt;
+
+    public static CachedValue of(Object value, long loadMillis, long expiresAt) {
+        return new CachedValue(value, null, loadMillis, expiresAt);
+    }
+
+    public static CachedValue notFound(ExceptionInfo exceptionInfo, long expiresAt) {
+        return new CachedValue(null, exceptionInfo, 0, expiresAt);
+    }
+}
@@ -0,0 +1,114 @@
+package soccerfriend.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 자주 조회되는 응답을 직렬화된 byte 형태로 ETag와 함께 redis에 저장합니다.
+ * ETag는 body와 분리된 key에 저장되어 있어 조건부 요청(If-None-Match)은 body를 읽지 않고 처리됩니다.
+ */
+@RequiredArgsConstructor
+@Component
+public class ResponseCache {
+
+    private static final String BODY_PREFIX = "RESPONSE::";
+    private static final String ETAG_PREFIX = "ETAG::";
+
+    private final RedisTemplate<String, byte[]> byteRedisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 조건부 GET을 처리합니다. 클라이언트의 ETag가 현재 ETag와 같다면 body 없이 304를 응답하고,
+     * 그렇지 않다면 캐시된 body를 응답합니다. 캐시가 없을 때만 loader를 호출합니다.
+     *
+     * @param key     캐시 key
+     * @param ttl     캐시 유지시간
+     * @param request 현재 요청
+     * @param loader  캐시가 없을 때 응답 객체를 생성하는 함수
+     * @return 응답(304의 경우 null)
+     */
+    public ResponseEntity<byte[]> respond(String key, Duration ttl, WebRequest request, Supplier<?> loader) {
+        String eTag = getETag(key);
+        if (eTag != null && request.checkNotModified(eTag)) {
+            return null;
+        }
+
+        CachedResponse cachedResponse = get(key, eTag, ttl, loader);
+        if (request.checkNotModified(cachedResponse.getETag())) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                             .eTag(cachedResponse.getETag())
+                             .contentType(MediaType.APPLICATION_JSON)
+                             .body(cachedResponse.getBody());
+    }
+
+    /**
+     * 캐시된 응답을 반환합니다. 캐시가 없다면 loader의 결과를 직렬화하여 저장한 후 반환합니다.
+     *
+     * @param key    캐시 key
+     * @param ttl    캐시 유지시간
+     * @param loader 캐시가 없을 때 응답 객체를 생성하는 함수
+     * @return 직렬화된 응답과 ETag
+     */
+    public CachedResponse get(String key, Duration ttl, Supplier<?> loader) {
+        return get(key, getETag(key), ttl, loader);
+    }
+
+    private CachedResponse get(String key, String eTag, Duration ttl, Supplier<?> loader) {
+        if (eTag != null) {
+            byte[] body = byteRedisTemplate.opsForValue().get(BODY_PREFIX + key);
+            if (body != null) {
+                return new CachedResponse(eTag, body);
+            }
+        }
+
+        byte[] body = serialize(loader.get());
+        String newETag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+        byteRedisTemplate.opsForValue().set(BODY_PREFIX + key, body, ttl);
+        stringRedisTemplate.opsForValue().set(ETAG_PREFIX + key, newETag, ttl);
+
+        return new CachedResponse(newETag, body);
+    }
+
+    /**
+     * 현재 저장되어 있는 ETag를 반환합니다.
+     *
+     * @param key 캐시 key
+     * @return ETag(캐시가 없다면 null)
+     */
+    public String getETag(String key) {
+        return stringRedisTemplate.opsForValue().get(ETAG_PREFIX + key);
+    }
+
+    /**
+     * 캐시된 응답과 ETag를 삭제합니다.
+     *
+     * @param key 캐시 key
+     */
+    public void evict(String key) {
+        stringRedisTemplate.delete(ETAG_PREFIX + key);
+        byteRedisTemplate.delete(BODY_PREFIX + key);
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package soccerfriend.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.interceptor.CacheOperationInvoker;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import soccerfriend.exception.ExceptionInfo;
+import soccerfriend.exception.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * redis에 값을 저장하는 cache로, 같은 key를 동시에 읽어오는 요청을 하나로 모읍니다.
+ * <p>
+ * 항목이 없는 key를 여러 요청이 동시에 조회하면 한 요청만 값을 읽어오고, 나머지 요청은 그 결과를 기다려 함께 사용합니다.
+ * 모으는 범위는 서버 하나이므로 동시에 읽어오는 수는 서버 수 이하가 됩니다.
+ * 만료가 가까운 항목은 만료 전에 확률적으로(XFetch) 미리 다시 읽어옵니다. 값을 읽어오는 데 오래 걸릴수록, 만료가 가까울수록
+ * 다시 읽어올 확률이 높고, 다시 읽어오는 동안 다른 요청은 기존 값을 사용합니다.
+ * 값이 존재하지 않아 404 BadRequestException이 발생하면 그 결과도 짧은 만료시간으로 저장하고, 만료 전까지 같은 exception을 던집니다.
+ * <p>
+ * 동시 조회를 모으려면 {@code @Cacheable(sync = true)}로 사용해야 합니다.
+ * key는 RedisCache와 같은 "cache 이름::key" 형식이므로 redis에서 key를 직접 삭제하여 무효화할 수 있습니다.
+ */
+public class SingleFlightCache implements Cache {
+
+    private static final String KEY_SEPARATOR = "::";
+    private static final int CLEAR_SCAN_COUNT = 1000;
+
+    private final String name;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Duration ttl;
+    private final Duration notFoundTtl;
+    private final double beta;
+    private final Map<String, CompletableFuture<CachedValue>> loads = new ConcurrentHashMap<>();
+    private final Counter loaded;
+    private final Counter coalesced;
+    private final Counter refreshedEarly;
+    private final Counter notFoundHits;
+
+    public SingleFlightCache(String name,
+                             RedisTemplate<String, Object> redisTemplate,
+                             Duration ttl,
+                             Duration notFoundTtl,
+                             double beta,
+                             MeterRegistry meterRegistry) {
+        this.name = name;
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+        this.notFoundTtl = notFoundTtl;
+        this.beta = beta;
+        this.loaded = meterRegistry.counter("cache.loads", "cache", name, "result", "loaded");
+        this.coalesced = meterRegistry.counter("cache.loads", "cache", name, "result", "coalesced");
+        this.refreshedEarly = meterRegistry.counter("cache.loads", "cache", name, "result", "refreshed-early");
+        this.notFoundHits = meterRegistry.counter("cache.loads", "cache", name, "result", "not-found-hit");
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return redisTemplate;
+    }
+
+    /**
+     * 저장된 값을 반환합니다. 값이 없다고 저장된 항목은 없는 것으로 봅니다.
+     */
+    @Override
+    public ValueWrapper get(Object key) {
+        Object stored = redisTemplate.opsForValue().get(cacheKey(key));
+        if (!(stored instanceof CachedValue)) {
+            return stored == null ? null : new SimpleValueWrapper(stored);
+        }
+        CachedValue cached = (CachedValue) stored;
+        return cached.getExceptionInfo() == null ? new SimpleValueWrapper(cached.getValue()) : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper == null ? null : wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    /**
+     * 저장된 값을 반환하고, 없거나 미리 다시 읽어올 차례라면 valueLoader로 읽어옵니다.
+     * 같은 key를 이미 읽어오는 중이라면 그 결과를 기다립니다.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String cacheKey = cacheKey(key);
+        Object stored = redisTemplate.opsForValue().get(cacheKey);
+        if (stored != null && !(stored instanceof CachedValue)) {
+            return (T) stored;
+        }
+
+        CachedValue cached = (CachedValue) stored;
+        if (cached != null && (cached.getExceptionInfo() != null || !shouldRefreshEarly(cached, System.currentTimeMillis()))) {
+            if (cached.getExceptionInfo() != null) {
+                notFoundHits.increment();
+            }
+            return (T) valueOf(key, valueLoader, cached);
+        }
+
+        CompletableFuture<CachedValue> load = new CompletableFuture<>();
+        CompletableFuture<CachedValue> running = loads.putIfAbsent(cacheKey, load);
+        if (running != null) {
+            if (cached != null) {
+                return (T) cached.getValue();
+            }
+            coalesced.increment();
+            return (T) valueOf(key, valueLoader, join(running));
+        }
+
+        try {
+            if (cached != null) {
+                refreshedEarly.increment();
+            }
+            CachedValue value = load(key, cacheKey, valueLoader);
+            load.complete(value);
+            return (T) valueOf(key, valueLoader, value);
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loads.remove(cacheKey, load);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        long now = System.currentTimeMillis();
+        redisTemplate.opsForValue().set(cacheKey(key), CachedValue.of(value, 0, now + ttl.toMillis()), ttl);
+    }
+
+    @Override
+    public void evict(Object key) {
+        redisTemplate.delete(cacheKey(key));
+    }
+
+    @Override
+    public void clear() {
+        ScanOptions options = ScanOptions.scanOptions().match(name + KEY_SEPARATOR + "*").count(CLEAR_SCAN_COUNT).build();
+        List<String> keys = redisTemplate.execute((RedisCallback<List<String>>) connection -> {
+            List<String> scanned = new ArrayList<>();
+            try (Cursor<byte[]> cursor = connection.scan(options)) {
+                cursor.forEachRemaining(key -> scanned.add(new String(key, StandardCharsets.UTF_8)));
+            }
+            return scanned;
+        });
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    /**
+     * XFetch: 읽어오는 데 걸린 시간에 -beta * ln(난수)를 곱한 만큼 앞당긴 시각이 만료시각을 넘으면 미리 다시 읽어옵니다.
+     */
+    boolean shouldRefreshEarly(CachedValue cached, long now) {
+        double gap = cached.getLoadMillis() * beta * -Math.log(ThreadLocalRandom.current().nextDouble(Double.MIN_VALUE, 1));
+        return now + gap >= cached.getExpiresAt();
+    }
+
+    private CachedValue load(Object key, String cacheKey, Callable<?> valueLoader) {
+        long startedAt = System.currentTimeMillis();
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            ExceptionInfo notFound = notFound(e);
+            if (notFound == null) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+            CachedValue cached = CachedValue.notFound(notFound, System.currentTimeMillis() + notFoundTtl.toMillis());
+            redisTemplate.opsForValue().set(cacheKey, cached, notFoundTtl);
+            return cached;
+        }
+
+        long now = System.currentTimeMillis();
+        CachedValue cached = CachedValue.of(value, now - startedAt, now + ttl.toMillis());
+        redisTemplate.opsForValue().set(cacheKey, cached, ttl);
+        loaded.increment();
+        return cached;
+    }
+
+    private static ExceptionInfo notFound(Exception e) {
+        Throwable original = e instanceof CacheOperationInvoker.ThrowableWrapper
+                ? ((CacheOperationInvoker.ThrowableWrapper) e).getOriginal() : e;
+        if (!(original instanceof BadRequestException)) {
+            return null;
+        }
+        ExceptionInfo exceptionInfo = ((BadRequestException) original).getExceptionInfo();
+        return exceptionInfo.getStatus() == 404 ? exceptionInfo : null;
+    }
+
+    private static Object valueOf(Object key, Callable<?> valueLoader, CachedValue cached) {
+        if (cached.getExceptionInfo() != null) {
+            throw new ValueRetrievalException(key, valueLoader, new BadRequestException(cached.getExceptionInfo()));
+        }
+        return cached.getValue();
+    }
+
+    private static CachedValue join(CompletableFuture<CachedValue> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private String cacheKey(Object key) {
+        return name + KEY_SEPARATOR + key;
+    }
+}
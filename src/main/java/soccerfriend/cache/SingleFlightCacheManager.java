@@ -0,0 +1,35 @@
+package soccerfriend.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.*;
+
+/**
+ * 지정된 이름의 cache는 SingleFlightCache로, 나머지는 delegate의 cache로 제공합니다.
+ */
+public class SingleFlightCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final Map<String, SingleFlightCache> caches = new LinkedHashMap<>();
+
+    public SingleFlightCacheManager(CacheManager delegate, Collection<SingleFlightCache> caches) {
+        this.delegate = delegate;
+        for (SingleFlightCache cache : caches) {
+            this.caches.put(cache.getName(), cache);
+        }
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        return cache != null ? cache : delegate.getCache(name);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        Set<String> names = new LinkedHashSet<>(caches.keySet());
+        names.addAll(delegate.getCacheNames());
+        return Collections.unmodifiableSet(names);
+    }
+}
@@ -0,0 +1,76 @@
+package soccerfriend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import soccerfriend.datasource.ReplicaLagMonitor;
+import soccerfriend.datasource.RoutingDataSource;
+import soccerfriend.datasource.RoutingInterceptor;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static soccerfriend.datasource.DataSourceType.PRIMARY;
+import static soccerfriend.datasource.DataSourceType.REPLICA;
+
+/**
+ * spring.datasource.replica.jdbc-url이 설정되어 있으면 primary/replica 라우팅 datasource를 구성합니다.
+ * 설정되어 있지 않다면 기존처럼 spring.datasource 하나만 사용합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.datasource.replica", name = "jdbc-url")
+public class DataSourceConfig {
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+                         .type(HikariDataSource.class)
+                         .build();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        return new HikariDataSource();
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               @Value("${spring.datasource.replica.max-lag-seconds:3}") long maxLagSeconds) {
+        return new ReplicaLagMonitor(replicaDataSource, maxLagSeconds);
+    }
+
+    @Bean
+    public RoutingInterceptor routingInterceptor(@Value("${spring.datasource.replica.sticky-seconds:5}") long stickySeconds) {
+        return new RoutingInterceptor(Duration.ofSeconds(stickySeconds));
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor) {
+        Map<Object, Object> dataSources = new HashMap<>();
+        dataSources.put(PRIMARY, primaryDataSource);
+        dataSources.put(REPLICA, replicaDataSource);
+
+        RoutingDataSource routingDataSource = new RoutingDataSource(replicaLagMonitor);
+        routingDataSource.setTargetDataSources(dataSources);
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
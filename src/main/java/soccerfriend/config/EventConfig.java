@@ -0,0 +1,22 @@
+package soccerfriend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import soccerfriend.event.DomainEventStream;
+
+@Configuration
+public class EventConfig {
+
+    /**
+     * soccerfriend.outbox.stream.enabled=true 라면 OutboxRelay가 전달한 event를 redis stream에도 기록합니다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "soccerfriend.outbox.stream.enabled", havingValue = "true")
+    public DomainEventStream domainEventStream(StringRedisTemplate stringRedisTemplate,
+                                               @Value("${soccerfriend.outbox.stream.max-length:100000}") long maxLength) {
+        return new DomainEventStream(stringRedisTemplate, maxLength);
+    }
+}
@@ -0,0 +1,27 @@
+package soccerfriend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+/**
+ * 내려받기는 StreamingResponseBody로 응답하므로 비동기 요청으로 처리됩니다.
+ * servlet container의 기본 제한시간(30초)으로는 큰 장부를 끝까지 보내지 못하므로 제한시간을 늘립니다.
+ */
+@Configuration
+public class ExportConfig implements WebMvcConfigurer {
+
+    private final Duration timeout;
+
+    public ExportConfig(@Value("${soccerfriend.export.timeout:30m}") Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(timeout.toMillis());
+    }
+}
@@ -0,0 +1,21 @@
+package soccerfriend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import soccerfriend.feed.FeedTimeline;
+
+@Configuration
+public class FeedConfig {
+
+    /**
+     * member와 club의 feed timeline입니다. 각 timeline은 최근 event를 지정된 개수만큼만 보관합니다.
+     */
+    @Bean
+    public FeedTimeline feedTimeline(StringRedisTemplate stringRedisTemplate,
+                                     @Value("${soccerfriend.feed.member-capacity:300}") int memberCapacity,
+                                     @Value("${soccerfriend.feed.club-capacity:300}") int clubCapacity) {
+        return new FeedTimeline(stringRedisTemplate, memberCapacity, clubCapacity);
+    }
+}
@@ -0,0 +1,21 @@
+package soccerfriend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class FlywayConfig {
+
+    /**
+     * flyway_schema_history가 없는 기존 DB는 V1(init_schema)이 이미 적용된 것으로 기록하고 V1_1(covering_indexes)부터 migrate합니다.
+     * spring.flyway.baseline-on-migrate=false로 끌 수 있으며, migration 전체는 spring.flyway.enabled=false로 끌 수 있습니다.
+     */
+    @Bean
+    public FlywayConfigurationCustomizer baselineCustomizer(@Value("${spring.flyway.baseline-on-migrate:true}") boolean baselineOnMigrate,
+                                                            @Value("${spring.flyway.baseline-version:1}") String baselineVersion) {
+        return configuration -> configuration.baselineOnMigrate(baselineOnMigrate)
+                                             .baselineVersion(baselineVersion);
+    }
+}
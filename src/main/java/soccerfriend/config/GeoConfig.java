@@ -0,0 +1,31 @@
+package soccerfriend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import soccerfriend.geo.GeoIndex;
+import soccerfriend.service.GeoService;
+
+@Configuration
+public class GeoConfig {
+
+    /**
+     * stadium 위치 index입니다. 서버마다 각자 가지며, 칸의 기본 크기 0.02도는 남북으로 약 2.2km입니다.
+     */
+    @Bean
+    public GeoIndex stadiumGeoIndex(@Value("${soccerfriend.geo.cell-degrees:0.02}") double cellDegrees) {
+        return new GeoIndex(cellDegrees);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer stadiumLocationListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                         GeoService geoService) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(geoService, new ChannelTopic(GeoService.STADIUM_CHANNEL));
+        return container;
+    }
+}
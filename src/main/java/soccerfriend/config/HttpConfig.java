@@ -3,12 +3,17 @@ package soccerfriend.config;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
+import soccerfriend.monitoring.TracingClientHttpRequestInterceptor;
+
+import java.util.List;
 
 @Configuration
 public class HttpConfig {
 
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(TracingClientHttpRequestInterceptor tracingClientHttpRequestInterceptor) {
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.setInterceptors(List.of(tracingClientHttpRequestInterceptor));
+        return restTemplate;
     }
 }
@@ -0,0 +1,56 @@
+package soccerfriend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.web.multipart.MultipartResolver;
+import org.springframework.web.multipart.support.StandardServletMultipartResolver;
+import soccerfriend.media.LocalMediaStorage;
+import soccerfriend.media.MediaStorage;
+import soccerfriend.media.ThumbnailGenerator;
+import soccerfriend.media.ThumbnailWorker;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Configuration
+public class MediaConfig {
+
+    @Bean
+    public MediaStorage mediaStorage(@Value("${soccerfriend.media.root:${java.io.tmpdir}/soccerfriend-media}") Path root) throws IOException {
+        return new LocalMediaStorage(root);
+    }
+
+    @Bean
+    public ThumbnailGenerator thumbnailGenerator(@Value("${soccerfriend.media.thumbnail-size:320}") int maxDimension) {
+        return new ThumbnailGenerator(maxDimension);
+    }
+
+    @Bean(destroyMethod = "close")
+    public ThumbnailWorker thumbnailWorker(MediaStorage mediaStorage,
+                                           ThumbnailGenerator thumbnailGenerator,
+                                           @Value("${soccerfriend.media.thumbnail-workers:2}") int workers,
+                                           @Value("${soccerfriend.media.thumbnail-queue:100}") int queueCapacity,
+                                           TaskDecorator taskDecorator) {
+        return new ThumbnailWorker(mediaStorage, thumbnailGenerator, workers, queueCapacity, taskDecorator);
+    }
+
+    /**
+     * 사진 upload 요청은 controller가 body를 직접 streaming으로 읽으므로 servlet container가 미리 part를 읽지 않게 합니다.
+     */
+    @Bean
+    public MultipartResolver multipartResolver() {
+        return new StandardServletMultipartResolver() {
+            @Override
+            public boolean isMultipart(HttpServletRequest request) {
+                return !isPhotoUpload(request) && super.isMultipart(request);
+            }
+        };
+    }
+
+    private static boolean isPhotoUpload(HttpServletRequest request) {
+        return "POST".equals(request.getMethod()) && request.getRequestURI().endsWith("/photos");
+    }
+}
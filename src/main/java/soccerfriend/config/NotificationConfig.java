@@ -0,0 +1,22 @@
+package soccerfriend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import soccerfriend.notification.UnreadNotificationCounter;
+
+import java.time.Duration;
+
+@Configuration
+public class NotificationConfig {
+
+    /**
+     * member마다 읽지 않은 알림 수입니다. 저장된 값은 만료시간이 지나면 DB에서 다시 셉니다.
+     */
+    @Bean
+    public UnreadNotificationCounter unreadNotificationCounter(StringRedisTemplate stringRedisTemplate,
+                                                               @Value("${soccerfriend.notification.unread-ttl:10m}") Duration timeToLive) {
+        return new UnreadNotificationCounter(stringRedisTemplate, timeToLive);
+    }
+}
@@ -0,0 +1,22 @@
+package soccerfriend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import soccerfriend.recommendation.ClubCandidateCache;
+
+import java.time.Duration;
+
+@Configuration
+public class RecommendationConfig {
+
+    /**
+     * 지역별 club 추천 후보 목록입니다. 매일 다시 만들어지므로 만료시간은 하루보다 길게 둡니다.
+     */
+    @Bean
+    public ClubCandidateCache clubCandidateCache(StringRedisTemplate stringRedisTemplate,
+                                                 @Value("${soccerfriend.recommendation.region-ttl:2d}") Duration ttl) {
+        return new ClubCandidateCache(stringRedisTemplate, ttl);
+    }
+}
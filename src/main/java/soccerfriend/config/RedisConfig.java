@@ -1,9 +1,12 @@
 package soccerfriend.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
@@ -11,10 +14,15 @@ import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import soccerfriend.cache.SingleFlightCache;
+import soccerfriend.cache.SingleFlightCacheManager;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair.fromSerializer;
@@ -40,6 +48,15 @@ public class RedisConfig {
         return redisTemplate;
     }
 
+    @Bean
+    public RedisTemplate<String, byte[]> byteRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+        RedisTemplate<String, byte[]> byteRedisTemplate = new RedisTemplate<>();
+        byteRedisTemplate.setKeySerializer(new StringRedisSerializer());
+        byteRedisTemplate.setValueSerializer(RedisSerializer.byteArray());
+        byteRedisTemplate.setConnectionFactory(redisConnectionFactory);
+        return byteRedisTemplate;
+    }
+
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
         var redisStandaloneConfiguration = new RedisStandaloneConfiguration(host, port);
@@ -57,6 +74,23 @@ public class RedisConfig {
                 .build();
     }
 
+    /**
+     * customConfigurationMap의 cache들은 같은 만료시간의 SingleFlightCache로 제공합니다.
+     * 값이 존재하지 않는 결과는 not-found-ttl 동안 저장합니다.
+     */
+    @Primary
+    @Bean
+    public CacheManager cacheManager(RedisCacheManager redisCacheManager,
+                                     RedisTemplate<String, Object> redisTemplate,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${soccerfriend.cache.not-found-ttl:30s}") Duration notFoundTtl,
+                                     @Value("${soccerfriend.cache.early-refresh-beta:1.0}") double earlyRefreshBeta) {
+        List<SingleFlightCache> caches = new ArrayList<>();
+        customConfigurationMap().forEach((name, configuration) -> caches.add(
+                new SingleFlightCache(name, redisTemplate, configuration.getTtl(), notFoundTtl, earlyRefreshBeta, meterRegistry)));
+        return new SingleFlightCacheManager(redisCacheManager, caches);
+    }
+
     private RedisCacheConfiguration defaultConfiguration() {
         return RedisCacheConfiguration.defaultCacheConfig()
                                       .serializeKeysWith(fromSerializer(new StringRedisSerializer()))
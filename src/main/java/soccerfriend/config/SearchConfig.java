@@ -0,0 +1,36 @@
+package soccerfriend.config;
+
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import soccerfriend.search.SearchIndex;
+import soccerfriend.service.SearchService;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Configuration
+public class SearchConfig {
+
+    /**
+     * 서버의 local disk에 저장되는 검색 index입니다. 서버마다 각자 index를 가지며, 변경은 redis pub/sub으로 모든 서버에 전달하고
+     * 시작할 때와 주기적으로 재색인합니다.
+     */
+    @Bean(destroyMethod = "close")
+    public SearchIndex searchIndex(@Value("${soccerfriend.search.index-dir:${java.io.tmpdir}/soccerfriend-search}") Path indexDirectory) throws IOException {
+        return new SearchIndex(FSDirectory.open(indexDirectory));
+    }
+
+    @Bean
+    public RedisMessageListenerContainer searchIndexListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                     SearchService searchService) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(searchService, new ChannelTopic(SearchService.INDEX_CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,31 @@
+package soccerfriend.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import soccerfriend.session.CompactSessionSerializer;
+import soccerfriend.session.SessionNearCache;
+
+@Configuration
+public class SessionConfig {
+
+    /**
+     * Spring Session이 session 속성값을 redis에 저장할 때 사용하는 serializer입니다.
+     */
+    @Bean
+    public RedisSerializer<Object> springSessionDefaultRedisSerializer() {
+        return new CompactSessionSerializer();
+    }
+
+    @Bean
+    public RedisMessageListenerContainer sessionInvalidationListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                              SessionNearCache sessionNearCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(sessionNearCache, new ChannelTopic(SessionNearCache.INVALIDATION_CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,18 @@
+package soccerfriend.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import soccerfriend.stats.ScorerRanking;
+
+@Configuration
+public class StatsConfig {
+
+    /**
+     * 시즌 전체, club별, 지역별 득점 순위입니다.
+     */
+    @Bean
+    public ScorerRanking scorerRanking(StringRedisTemplate stringRedisTemplate) {
+        return new ScorerRanking(stringRedisTemplate);
+    }
+}
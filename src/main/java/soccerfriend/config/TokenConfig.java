@@ -0,0 +1,47 @@
+package soccerfriend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import soccerfriend.token.RevokedTokens;
+import soccerfriend.token.TokenSigner;
+import soccerfriend.token.TokenType;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * soccerfriend.login.mode=token일 때 서명된 토큰 인증에 필요한 bean을 등록합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "soccerfriend.login.mode", havingValue = "token")
+public class TokenConfig {
+
+    @Bean
+    public TokenSigner tokenSigner(@Value("${soccerfriend.token.secret}") String secret,
+                                   @Value("${soccerfriend.token.access-ttl:15m}") Duration accessTokenTtl,
+                                   @Value("${soccerfriend.token.refresh-ttl:14d}") Duration refreshTokenTtl) {
+        return new TokenSigner(secret, accessTokenTtl, refreshTokenTtl, Clock.systemUTC());
+    }
+
+    @Bean
+    public RevokedTokens revokedTokens(StringRedisTemplate stringRedisTemplate, TokenSigner tokenSigner) {
+        return new RevokedTokens(stringRedisTemplate, tokenSigner.getTtl(TokenType.REFRESH), Clock.systemUTC());
+    }
+
+    @Bean
+    public RedisMessageListenerContainer tokenRevocationListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                         RevokedTokens revokedTokens) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(revokedTokens, List.of(new ChannelTopic(RevokedTokens.REVOCATION_CHANNEL),
+                new ChannelTopic(RevokedTokens.SUBJECT_REVOCATION_CHANNEL)));
+        return container;
+    }
+}
@@ -0,0 +1,110 @@
+package soccerfriend.config;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.exporter.logging.LoggingSpanExporter;
+import io.opentelemetry.exporter.otlp.trace.OtlpGrpcSpanExporter;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.task.TaskDecorator;
+import soccerfriend.monitoring.InMemorySpanExporter;
+import soccerfriend.monitoring.RedisTracingPostProcessor;
+import soccerfriend.monitoring.TracingFilter;
+import soccerfriend.monitoring.TracingTaskDecorator;
+
+/**
+ * 요청 단위 tracing 설정입니다.
+ * soccerfriend.tracing.exporter 값으로 span을 내보낼 곳(none, logging, otlp, memory)을 선택하고,
+ * soccerfriend.tracing.sample-ratio 비율로 새로운 trace를 sampling 합니다.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Value("${soccerfriend.tracing.exporter:none}")
+    private String exporter;
+
+    @Value("${soccerfriend.tracing.sample-ratio:0.1}")
+    private double sampleRatio;
+
+    @Value("${soccerfriend.tracing.otlp-endpoint:http://localhost:4317}")
+    private String otlpEndpoint;
+
+    @Bean
+    public InMemorySpanExporter inMemorySpanExporter() {
+        return new InMemorySpanExporter();
+    }
+
+    @Bean(destroyMethod = "close")
+    public SdkTracerProvider sdkTracerProvider(InMemorySpanExporter inMemorySpanExporter) {
+        Resource resource = Resource.getDefault()
+                                    .merge(Resource.create(Attributes.of(AttributeKey.stringKey("service.name"), "soccer-friend")));
+
+        return SdkTracerProvider.builder()
+                                .setResource(resource)
+                                .setSampler(Sampler.parentBased(Sampler.traceIdRatioBased(sampleRatio)))
+                                .addSpanProcessor(spanProcessor(inMemorySpanExporter))
+                                .build();
+    }
+
+    @Bean
+    public OpenTelemetry openTelemetry(SdkTracerProvider sdkTracerProvider) {
+        return OpenTelemetrySdk.builder()
+                               .setTracerProvider(sdkTracerProvider)
+                               .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+                               .build();
+    }
+
+    @Bean
+    public Tracer tracer(OpenTelemetry openTelemetry) {
+        return openTelemetry.getTracer("soccerfriend");
+    }
+
+    @Bean
+    public FilterRegistrationBean<TracingFilter> tracingFilter(OpenTelemetry openTelemetry, Tracer tracer) {
+        FilterRegistrationBean<TracingFilter> registration = new FilterRegistrationBean<>(new TracingFilter(openTelemetry, tracer));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public static RedisTracingPostProcessor redisTracingPostProcessor(ObjectProvider<Tracer> tracerProvider) {
+        return new RedisTracingPostProcessor(tracerProvider);
+    }
+
+    @Bean
+    public TaskDecorator tracingTaskDecorator() {
+        return new TracingTaskDecorator();
+    }
+
+    private SpanProcessor spanProcessor(InMemorySpanExporter inMemorySpanExporter) {
+        switch (exporter) {
+            case "memory":
+                return SimpleSpanProcessor.create(inMemorySpanExporter);
+            case "logging":
+                return BatchSpanProcessor.builder(LoggingSpanExporter.create()).build();
+            case "otlp":
+                SpanExporter otlpExporter = OtlpGrpcSpanExporter.builder()
+                                                                .setEndpoint(otlpEndpoint)
+                                                                .build();
+                return BatchSpanProcessor.builder(otlpExporter).build();
+            default:
+                return SpanProcessor.composite();
+        }
+    }
+}
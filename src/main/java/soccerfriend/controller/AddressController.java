@@ -1,14 +1,16 @@
 package soccerfriend.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-import soccerfriend.dto.Address;
+import org.springframework.web.context.request.WebRequest;
+import soccerfriend.cache.ResponseCache;
 import soccerfriend.service.AddressService;
 
-import java.util.List;
+import java.time.Duration;
 
 @RestController
 @RequiredArgsConstructor
@@ -16,10 +18,12 @@ import java.util.List;
 public class AddressController {
 
     private final AddressService service;
+    private final ResponseCache responseCache;
 
     @GetMapping("/{city}")
-    public List<Address> getAddressByCity(@PathVariable String city) {
-        return service.getAddressByCity(city);
+    public ResponseEntity<byte[]> getAddressByCity(@PathVariable String city, WebRequest request) {
+        return responseCache.respond("ADDRESS" + city, Duration.ofDays(1), request,
+                () -> service.getAddressByCity(city));
     }
 }
 
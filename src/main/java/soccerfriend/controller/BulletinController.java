@@ -1,16 +1,19 @@
 package soccerfriend.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import soccerfriend.authentication.BulletinChangeable;
 import soccerfriend.authentication.BulletinReadable;
 import soccerfriend.authentication.IsClubLeaderOrManager;
+import soccerfriend.cache.ResponseCache;
 import soccerfriend.dto.Bulletin;
 import soccerfriend.service.BulletinService;
 
 import javax.validation.constraints.Size;
-import java.util.List;
+import java.time.Duration;
 
 @RestController
 @RequiredArgsConstructor
@@ -18,6 +21,7 @@ import java.util.List;
 public class BulletinController {
 
     private final BulletinService bulletinService;
+    private final ResponseCache responseCache;
 
     /**
      * 클럽에 게시판을 생성합니다.
@@ -44,14 +48,17 @@ public class BulletinController {
 
     /**
      * 특정 클럽에 존재하는 모든 게시판을 반환합니다.
+     * 요청의 ETag가 현재 게시판 목록과 같다면 304를 반환합니다.
      *
-     * @param clubId 클럽의 id
+     * @param clubId  클럽의 id
+     * @param request 현재 요청
      * @return 특정 클럽에 존재하는 모든 게시판의 정보
      */
     @GetMapping("/club/{clubId}")
     @BulletinReadable
-    public List<Bulletin> getBulletinsByClubId(@PathVariable int clubId) {
-        return bulletinService.getBulletinsByClubId(clubId);
+    public ResponseEntity<byte[]> getBulletinsByClubId(@PathVariable int clubId, WebRequest request) {
+        return responseCache.respond("BULLETIN CLUB" + clubId, Duration.ofDays(1), request,
+                () -> bulletinService.getBulletinsByClubId(clubId));
     }
 
     /**
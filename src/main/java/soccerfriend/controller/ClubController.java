@@ -1,12 +1,23 @@
 package soccerfriend.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import soccerfriend.dto.Club;
+import soccerfriend.dto.ClubForm;
 import soccerfriend.dto.ClubMember;
+import soccerfriend.dto.ClubRecommendation;
+import soccerfriend.dto.HeadToHead;
+import soccerfriend.exception.exception.BadRequestException;
 import soccerfriend.exception.exception.NoPermissionException;
+import soccerfriend.export.ExportFormat;
+import soccerfriend.service.ClubHistoryService;
+import soccerfriend.service.ExportService;
 import soccerfriend.service.LoginService;
 import soccerfriend.service.ClubMemberService;
+import soccerfriend.service.ClubRecommendationService;
 import soccerfriend.service.ClubService;
 
 import java.util.List;
@@ -22,6 +33,9 @@ public class ClubController {
     private final ClubService clubService;
     private final ClubMemberService clubMemberService;
     private final LoginService loginService;
+    private final ClubHistoryService clubHistoryService;
+    private final ExportService exportService;
+    private final ClubRecommendationService clubRecommendationService;
 
     /**
      * club을 생성합니다.
@@ -34,6 +48,18 @@ public class ClubController {
         clubService.create(memberId, club);
     }
 
+    /**
+     * 로그인한 member와 같은 지역에서 가입할 만한 club들을 추천합니다.
+     *
+     * @param size 최대 개수
+     * @return 점수가 높은 순서의 추천 club
+     */
+    @GetMapping("/recommendations")
+    public List<ClubRecommendation> getRecommendations(@RequestParam(defaultValue = "10") int size) {
+        int memberId = loginService.getMemberId();
+        return clubRecommendationService.recommend(memberId, size);
+    }
+
     /**
      * club에 가입신청합니다.
      *
@@ -181,4 +207,93 @@ public class ClubController {
         }
         return clubMemberService.getNotPaidClubMembers(clubId, year, month);
     }
-}
\ No newline at end of file
+
+    /**
+     * 두 club의 상대전적을 조회합니다.
+     *
+     * @param clubId         club의 id
+     * @param opponentClubId 상대 club의 id
+     * @return clubId의 club 기준 상대전적
+     */
+    @GetMapping("/{clubId}/head-to-head/{opponentClubId}")
+    public HeadToHead getHeadToHead(@PathVariable int clubId, @PathVariable int opponentClubId) {
+        return clubHistoryService.getHeadToHead(clubId, opponentClubId);
+    }
+
+    /**
+     * club의 최근 10경기 결과를 조회합니다.
+     *
+     * @param clubId club의 id
+     * @return 최신 경기부터 W(승), D(무), L(패)로 나타낸 경기결과
+     */
+    @GetMapping("/{clubId}/form")
+    public ClubForm getForm(@PathVariable int clubId) {
+        return clubHistoryService.getForm(clubId);
+    }
+
+    /**
+     * club의 회비 장부를 CSV나 NDJSON 파일로 내려받습니다. Accept-Encoding에 gzip이 있다면 압축하여 보냅니다.
+     *
+     * @param clubId         club의 id
+     * @param year           연도, 생략하면 전체 기간
+     * @param format         파일 형식(csv, ndjson)
+     * @param acceptEncoding 요청의 Accept-Encoding
+     * @return 회비 장부 파일
+     */
+    @GetMapping("/{clubId}/exports/monthly-fees")
+    public ResponseEntity<StreamingResponseBody> exportDues(@PathVariable int clubId,
+                                                           @RequestParam(required = false) Integer year,
+                                                           @RequestParam(defaultValue = "csv") String format,
+                                                           @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        ExportFormat exportFormat = checkExport(clubId, format);
+        boolean gzip = acceptsGzip(acceptEncoding);
+        return download("club-" + clubId + "-monthly-fees", exportFormat, gzip,
+                out -> exportService.exportDues(clubId, year, exportFormat, out, gzip));
+    }
+
+    /**
+     * club이 주최하거나 참가한 경기 기록을 CSV나 NDJSON 파일로 내려받습니다. Accept-Encoding에 gzip이 있다면 압축하여 보냅니다.
+     *
+     * @param clubId         club의 id
+     * @param format         파일 형식(csv, ndjson)
+     * @param acceptEncoding 요청의 Accept-Encoding
+     * @return 경기 기록 파일
+     */
+    @GetMapping("/{clubId}/exports/soccer-matches")
+    public ResponseEntity<StreamingResponseBody> exportMatchHistory(@PathVariable int clubId,
+                                                                   @RequestParam(defaultValue = "csv") String format,
+                                                                   @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        ExportFormat exportFormat = checkExport(clubId, format);
+        boolean gzip = acceptsGzip(acceptEncoding);
+        return download("club-" + clubId + "-soccer-matches", exportFormat, gzip,
+                out -> exportService.exportMatchHistory(clubId, exportFormat, out, gzip));
+    }
+
+    private ExportFormat checkExport(int clubId, String format) {
+        int memberId = loginService.getMemberId();
+        if (!clubMemberService.isClubLeaderOrStaff(clubId, memberId)) {
+            throw new NoPermissionException(NO_CLUB_PERMISSION);
+        }
+
+        ExportFormat exportFormat = ExportFormat.of(format);
+        if (exportFormat == null) {
+            throw new BadRequestException(NOT_PROPER_EXPORT_FORMAT);
+        }
+        return exportFormat;
+    }
+
+    private boolean acceptsGzip(String acceptEncoding) {
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+    }
+
+    private ResponseEntity<StreamingResponseBody> download(String name, ExportFormat format, boolean gzip, StreamingResponseBody body) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                                                            .header(HttpHeaders.CONTENT_TYPE, format.getContentType())
+                                                            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + name + "." + format.getExtension() + "\"")
+                                                            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+}
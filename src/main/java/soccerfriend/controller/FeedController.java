@@ -0,0 +1,31 @@
+package soccerfriend.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import soccerfriend.dto.FeedPage;
+import soccerfriend.service.FeedService;
+import soccerfriend.service.LoginService;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/feed")
+public class FeedController {
+
+    private final FeedService feedService;
+    private final LoginService loginService;
+
+    /**
+     * 로그인한 member가 속한 club들에서 일어난 일을 최신순으로 반환합니다.
+     *
+     * @param cursor 이전 page의 nextCursor, 첫 page라면 생략
+     * @return event 목록과 다음 page의 cursor
+     */
+    @GetMapping
+    public FeedPage getFeed(@RequestParam(required = false) Long cursor) {
+        int memberId = loginService.getMemberId();
+        return feedService.getFeed(memberId, cursor);
+    }
+}
@@ -3,10 +3,12 @@ package soccerfriend.controller;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 import soccerfriend.dto.Goal;
+import soccerfriend.dto.ScorerRank;
 import soccerfriend.dto.SoccerMatchMember;
 import soccerfriend.exception.exception.NoPermissionException;
 import soccerfriend.service.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import static soccerfriend.exception.ExceptionInfo.NO_CLUB_PERMISSION;
@@ -21,6 +23,7 @@ public class GoalController {
     private final SoccerMatchMemberService soccerMatchMemberService;
     private final LoginService loginService;
     private final soccerfriend.service.GoalService goalService;
+    private final GoalStatService goalStatService;
 
 
     /**
@@ -61,4 +64,51 @@ public class GoalController {
     public List<Goal> getGoalByMemberId(@PathVariable int memberId) {
         return goalService.getGoalByMemberId(memberId);
     }
-}
\ No newline at end of file
+
+    /**
+     * 시즌 전체의 득점 순위를 조회합니다.
+     *
+     * @param season 시즌(연도), 생략하면 올해
+     * @param size   최대 인원
+     * @return 골이 많은 순서의 순위
+     */
+    @GetMapping("/top-scorers")
+    public List<ScorerRank> getTopScorers(@RequestParam(required = false) Integer season,
+                                          @RequestParam(defaultValue = "10") int size) {
+        return goalStatService.getTopScorers(seasonOrThisYear(season), size);
+    }
+
+    /**
+     * club의 시즌 득점 순위를 조회합니다.
+     *
+     * @param clubId club의 id
+     * @param season 시즌(연도), 생략하면 올해
+     * @param size   최대 인원
+     * @return 골이 많은 순서의 순위
+     */
+    @GetMapping("/top-scorers/clubs/{clubId}")
+    public List<ScorerRank> getTopScorersOfClub(@PathVariable int clubId,
+                                                @RequestParam(required = false) Integer season,
+                                                @RequestParam(defaultValue = "10") int size) {
+        return goalStatService.getTopScorersOfClub(seasonOrThisYear(season), clubId, size);
+    }
+
+    /**
+     * 지역의 시즌 득점 순위를 조회합니다.
+     *
+     * @param addressId 지역(address)의 id
+     * @param season    시즌(연도), 생략하면 올해
+     * @param size      최대 인원
+     * @return 골이 많은 순서의 순위
+     */
+    @GetMapping("/top-scorers/regions/{addressId}")
+    public List<ScorerRank> getTopScorersOfRegion(@PathVariable int addressId,
+                                                  @RequestParam(required = false) Integer season,
+                                                  @RequestParam(defaultValue = "10") int size) {
+        return goalStatService.getTopScorersOfRegion(seasonOrThisYear(season), addressId, size);
+    }
+
+    private int seasonOrThisYear(Integer season) {
+        return season != null ? season : LocalDate.now().getYear();
+    }
+}
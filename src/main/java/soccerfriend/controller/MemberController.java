@@ -62,6 +62,7 @@ public class MemberController {
     public void deleteAccount() {
         int id = loginService.getMemberId();
         memberService.deleteAccount(id);
+        loginService.logout();
     }
 
     /**
@@ -92,6 +93,18 @@ public class MemberController {
         memberService.updateNickname(memberId, nickname);
     }
 
+    /**
+     * member의 알림 email 요약 수신 여부를 변경합니다.
+     *
+     * @param enabled 수신 여부
+     */
+    @MemberLoginCheck
+    @PatchMapping("/email-digest")
+    public void updateEmailDigest(@RequestParam boolean enabled) {
+        int memberId = loginService.getMemberId();
+        memberService.updateEmailDigest(memberId, enabled);
+    }
+
     /**
      * member의 pasword를 수정합니다.
      *
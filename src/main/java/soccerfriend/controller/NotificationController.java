@@ -0,0 +1,64 @@
+package soccerfriend.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+import soccerfriend.authentication.MemberLoginCheck;
+import soccerfriend.dto.NotificationPage;
+import soccerfriend.service.LoginService;
+import soccerfriend.service.NotificationService;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/notifications")
+public class NotificationController {
+
+    private final NotificationService notificationService;
+    private final LoginService loginService;
+
+    /**
+     * 로그인한 member의 알림을 최신순으로 반환합니다.
+     *
+     * @param cursor 이전 page의 nextCursor, 첫 page라면 생략
+     * @return 알림 목록과 다음 page의 cursor
+     */
+    @MemberLoginCheck
+    @GetMapping
+    public NotificationPage getNotifications(@RequestParam(required = false) Long cursor) {
+        int memberId = loginService.getMemberId();
+        return notificationService.getNotifications(memberId, cursor);
+    }
+
+    /**
+     * 로그인한 member의 읽지 않은 알림 수를 반환합니다.
+     *
+     * @return 읽지 않은 알림 수
+     */
+    @MemberLoginCheck
+    @GetMapping("/unread-count")
+    public int getUnreadCount() {
+        int memberId = loginService.getMemberId();
+        return notificationService.getUnreadCount(memberId);
+    }
+
+    /**
+     * 알림을 읽음으로 표시합니다.
+     *
+     * @param id 알림의 id
+     */
+    @MemberLoginCheck
+    @PatchMapping("/{id}/read")
+    public void markRead(@PathVariable long id) {
+        int memberId = loginService.getMemberId();
+        notificationService.markRead(memberId, id);
+    }
+
+    /**
+     * 로그인한 member의 모든 알림을 읽음으로 표시합니다.
+     */
+    @MemberLoginCheck
+    @PatchMapping("/read")
+    public void markAllRead() {
+        int memberId = loginService.getMemberId();
+        notificationService.markAllRead(memberId);
+    }
+}
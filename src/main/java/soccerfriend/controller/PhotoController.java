@@ -0,0 +1,105 @@
+package soccerfriend.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+import soccerfriend.authentication.BulletinReadable;
+import soccerfriend.dto.Photo;
+import soccerfriend.exception.exception.BadRequestException;
+import soccerfriend.media.MediaResponder;
+import soccerfriend.media.MultipartStreamReader;
+import soccerfriend.media.MultipartStreamReader.Part;
+import soccerfriend.service.LoginService;
+import soccerfriend.service.PhotoService;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static soccerfriend.exception.ExceptionInfo.PHOTO_NOT_INCLUDED;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/bulletins/{id}/photos")
+public class PhotoController {
+
+    private final PhotoService photoService;
+    private final LoginService loginService;
+    private final MediaResponder mediaResponder;
+
+    /**
+     * 사진 게시판에 사진을 upload합니다. multipart/form-data의 파일 part마다 사진 하나가 저장됩니다.
+     * 요청 body는 servlet container가 미리 읽지 않으며 part를 읽는 대로 저장소에 씁니다.
+     *
+     * @param id      게시판의 id
+     * @param request 현재 요청
+     * @return 저장된 사진의 id
+     */
+    @PostMapping
+    @BulletinReadable
+    public List<Integer> upload(@PathVariable int id, HttpServletRequest request) throws IOException {
+        String boundary = MultipartStreamReader.getBoundary(request.getContentType());
+        if (boundary == null) {
+            throw new BadRequestException(PHOTO_NOT_INCLUDED);
+        }
+
+        int memberId = loginService.getMemberId();
+        MultipartStreamReader reader = new MultipartStreamReader(request.getInputStream(), boundary);
+        List<Integer> photoIds = new ArrayList<>();
+        for (Part part = reader.next(); part != null; part = reader.next()) {
+            if (part.getFilename() != null) {
+                photoIds.add(photoService.upload(id, memberId, part.getContentType(), part.getBody()));
+            }
+        }
+        if (photoIds.isEmpty()) {
+            throw new BadRequestException(PHOTO_NOT_INCLUDED);
+        }
+        return photoIds;
+    }
+
+    /**
+     * 게시판의 사진 목록을 최신순으로 반환합니다.
+     *
+     * @param id     게시판의 id
+     * @param cursor 이전 목록의 마지막 사진 id, 첫 목록이라면 생략
+     * @return 사진 목록
+     */
+    @GetMapping
+    @BulletinReadable
+    public List<Photo> getPhotos(@PathVariable int id, @RequestParam(required = false) Integer cursor) {
+        return photoService.getPhotos(id, cursor);
+    }
+
+    /**
+     * 사진의 원본을 응답합니다. Range 요청을 지원합니다.
+     *
+     * @param id      게시판의 id
+     * @param photoId 사진의 id
+     */
+    @GetMapping("/{photoId}")
+    @BulletinReadable
+    public void getPhoto(@PathVariable int id, @PathVariable int photoId,
+                         HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Photo photo = photoService.getPhoto(id, photoId);
+        mediaResponder.send(photo.getStorageKey(), photo.getContentType(), request, response);
+    }
+
+    /**
+     * 사진의 썸네일을 응답합니다. 썸네일이 아직 없다면 원본을 응답합니다.
+     *
+     * @param id      게시판의 id
+     * @param photoId 사진의 id
+     */
+    @GetMapping("/{photoId}/thumbnail")
+    @BulletinReadable
+    public void getThumbnail(@PathVariable int id, @PathVariable int photoId,
+                             HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Photo photo = photoService.getPhoto(id, photoId);
+        if (photo.isThumbnailReady()) {
+            mediaResponder.send(photo.getThumbnailKey(), "image/jpeg", request, response);
+            return;
+        }
+        mediaResponder.send(photo.getStorageKey(), photo.getContentType(), request, response);
+    }
+}
@@ -1,13 +1,15 @@
 package soccerfriend.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-import soccerfriend.dto.Positions;
+import org.springframework.web.context.request.WebRequest;
+import soccerfriend.cache.ResponseCache;
 import soccerfriend.service.PositionsService;
 
-import java.util.List;
+import java.time.Duration;
 
 @RestController
 @RequiredArgsConstructor
@@ -15,10 +17,11 @@ import java.util.List;
 public class PositionsController {
 
     private final PositionsService service;
+    private final ResponseCache responseCache;
 
     @GetMapping()
-    public List<Positions> getAll() {
-        return service.getAll();
+    public ResponseEntity<byte[]> getAll(WebRequest request) {
+        return responseCache.respond("POSITIONS", Duration.ofDays(1), request, service::getAll);
     }
 }
 
@@ -0,0 +1,85 @@
+package soccerfriend.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import soccerfriend.authentication.BulletinReadable;
+import soccerfriend.cache.ResponseCache;
+import soccerfriend.dto.Post;
+import soccerfriend.service.LoginService;
+import soccerfriend.service.PostService;
+
+import java.time.Duration;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/bulletins/{id}/posts")
+public class PostController {
+
+    private final PostService postService;
+    private final LoginService loginService;
+    private final ResponseCache responseCache;
+
+    /**
+     * 게시판에 게시글을 작성합니다.
+     *
+     * @param id   게시판의 id
+     * @param post title, content를 가진 게시글
+     */
+    @PostMapping
+    @BulletinReadable
+    public void create(@PathVariable int id, @Validated @RequestBody Post post) {
+        int memberId = loginService.getMemberId();
+        postService.create(id, memberId, post);
+    }
+
+    /**
+     * 게시판의 게시글 목록을 최신순으로 반환합니다.
+     * 첫 page는 캐시에서 응답하며, 요청의 ETag가 같다면 304를 반환합니다.
+     *
+     * @param id      게시판의 id
+     * @param cursor  이전 page의 nextCursor, 첫 page라면 생략
+     * @param request 현재 요청
+     * @return 게시글 목록과 다음 page의 cursor
+     */
+    @GetMapping
+    @BulletinReadable
+    public ResponseEntity<?> getPosts(@PathVariable int id,
+                                      @RequestParam(required = false) Integer cursor,
+                                      WebRequest request) {
+        if (cursor == null) {
+            return responseCache.respond(PostService.firstPageCacheKey(id), Duration.ofMinutes(10), request,
+                    () -> postService.getPosts(id, null));
+        }
+        return ResponseEntity.ok(postService.getPosts(id, cursor));
+    }
+
+    /**
+     * 게시글을 반환합니다.
+     *
+     * @param id     게시판의 id
+     * @param postId 게시글의 id
+     * @return 게시글
+     */
+    @GetMapping("/{postId}")
+    @BulletinReadable
+    public Post read(@PathVariable int id, @PathVariable int postId) {
+        return postService.read(id, postId);
+    }
+
+    /**
+     * 게시글의 제목과 내용을 수정합니다.
+     *
+     * @param id     게시판의 id
+     * @param postId 게시글의 id
+     * @param post   새로운 title, content를 가진 게시글
+     */
+    @PatchMapping("/{postId}")
+    @BulletinReadable
+    public void update(@PathVariable int id, @PathVariable int postId, @Validated @RequestBody Post post) {
+        int memberId = loginService.getMemberId();
+        postService.update(id, postId, memberId, post);
+    }
+}
@@ -0,0 +1,77 @@
+package soccerfriend.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+import soccerfriend.authentication.MemberLoginCheck;
+import soccerfriend.exception.exception.NoPermissionException;
+import soccerfriend.search.ClubSearchCondition;
+import soccerfriend.search.ClubSearchDocument;
+import soccerfriend.search.ContentSearchDocument;
+import soccerfriend.service.ClubMemberService;
+import soccerfriend.service.LoginService;
+import soccerfriend.service.SearchService;
+
+import java.util.List;
+
+import static soccerfriend.exception.ExceptionInfo.NOT_CLUB_MEMBER;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/search")
+public class SearchController {
+
+    private final SearchService searchService;
+    private final ClubMemberService clubMemberService;
+    private final LoginService loginService;
+
+    /**
+     * club을 이름으로 검색합니다. 접두어와 오타를 허용하며, 지역, 월회비, point로 범위를 좁힐 수 있습니다.
+     *
+     * @param query         검색어, 생략하면 조건에 맞는 club을 point 순으로 반환
+     * @param city          시/도
+     * @param town          시/군/구
+     * @param minMonthlyFee 최소 월회비
+     * @param maxMonthlyFee 최대 월회비
+     * @param minPoint      최소 point
+     * @param size          최대 결과 수
+     * @return 검색된 club
+     */
+    @GetMapping("/clubs")
+    public List<ClubSearchDocument> searchClubs(@RequestParam(required = false) String query,
+                                                @RequestParam(required = false) String city,
+                                                @RequestParam(required = false) String town,
+                                                @RequestParam(required = false) Integer minMonthlyFee,
+                                                @RequestParam(required = false) Integer maxMonthlyFee,
+                                                @RequestParam(required = false) Integer minPoint,
+                                                @RequestParam(defaultValue = "20") int size) {
+        ClubSearchCondition condition = ClubSearchCondition.builder()
+                                                           .query(query)
+                                                           .city(city)
+                                                           .town(town)
+                                                           .minMonthlyFee(minMonthlyFee)
+                                                           .maxMonthlyFee(maxMonthlyFee)
+                                                           .minPoint(minPoint)
+                                                           .build();
+        return searchService.searchClubs(condition, size);
+    }
+
+    /**
+     * club 안의 게시판과 게시글을 검색합니다. club의 회원만 검색할 수 있습니다.
+     *
+     * @param clubId club의 id
+     * @param query  검색어
+     * @param size   최대 결과 수
+     * @return 검색된 게시판과 게시글
+     */
+    @GetMapping("/clubs/{clubId}/contents")
+    @MemberLoginCheck
+    public List<ContentSearchDocument> searchContents(@PathVariable int clubId,
+                                                      @RequestParam String query,
+                                                      @RequestParam(defaultValue = "20") int size) {
+        int memberId = loginService.getMemberId();
+        if (!clubMemberService.isClubMember(clubId, memberId)) {
+            throw new NoPermissionException(NOT_CLUB_MEMBER);
+        }
+        return searchService.searchContents(clubId, query, size);
+    }
+}
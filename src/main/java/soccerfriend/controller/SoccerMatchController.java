@@ -2,14 +2,22 @@ package soccerfriend.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
+import soccerfriend.dto.MatchImportResult;
+import soccerfriend.dto.NearbySoccerMatchRecruitment;
 import soccerfriend.dto.SoccerMatch;
 import soccerfriend.dto.SoccerMatchMember;
 import soccerfriend.dto.SoccerMatchRecruitment;
 import soccerfriend.exception.exception.BadRequestException;
 import soccerfriend.exception.exception.NoPermissionException;
+import soccerfriend.matchimport.MatchImportReader.Format;
 import soccerfriend.service.*;
 import soccerfriend.utility.InputForm;
 
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static soccerfriend.exception.ExceptionInfo.*;
@@ -26,6 +34,8 @@ public class SoccerMatchController {
     private final SoccerMatchMemberService soccerMatchMemberService;
     private final LoginService loginService;
     private final ClubService clubService;
+    private final MatchImportService matchImportService;
+    private final GeoService geoService;
 
 
     /**
@@ -59,6 +69,44 @@ public class SoccerMatchController {
         return soccerMatchRecruitmentService.getSoccerMatchRecruitmentById(soccerMatchRecruitmentId);
     }
 
+    /**
+     * 중심에서 반경 안의 경기장에서 열리는, 상대 club을 모집중인 경기모집공고를 시작 시각 순서로 조회합니다.
+     * 중심은 위도와 경도, 또는 addressId로 입력합니다.
+     *
+     * @param latitude  중심의 위도
+     * @param longitude 중심의 경도
+     * @param addressId 중심으로 사용할 address의 id
+     * @param radiusKm  반경(km, 최대 50)
+     * @param size      최대 개수(최대 100)
+     * @return 시작 시각 순서의 경기모집공고와 경기장까지의 거리
+     */
+    @GetMapping("/recruitments/nearby")
+    public List<NearbySoccerMatchRecruitment> getOpenRecruitmentsWithin(@RequestParam(required = false) Double latitude,
+                                                                        @RequestParam(required = false) Double longitude,
+                                                                        @RequestParam(required = false) Integer addressId,
+                                                                        @RequestParam(defaultValue = "5") double radiusKm,
+                                                                        @RequestParam(defaultValue = "20") int size) {
+        return geoService.getOpenRecruitmentsWithin(latitude, longitude, addressId, radiusKm, size);
+    }
+
+    /**
+     * 경기장이 중심에서 가장 가까운, 상대 club을 모집중인 경기모집공고를 조회합니다.
+     * 중심은 위도와 경도, 또는 addressId로 입력합니다.
+     *
+     * @param latitude  중심의 위도
+     * @param longitude 중심의 경도
+     * @param addressId 중심으로 사용할 address의 id
+     * @param size      최대 개수(최대 100)
+     * @return 가까운 순서의 경기모집공고와 경기장까지의 거리
+     */
+    @GetMapping("/recruitments/nearest")
+    public List<NearbySoccerMatchRecruitment> getNearestOpenRecruitments(@RequestParam(required = false) Double latitude,
+                                                                         @RequestParam(required = false) Double longitude,
+                                                                         @RequestParam(required = false) Integer addressId,
+                                                                         @RequestParam(defaultValue = "10") int size) {
+        return geoService.getNearestOpenRecruitments(latitude, longitude, addressId, size);
+    }
+
     /**
      * 특정 club의 모든 soccerMatchRecruitment를 조회합니다.
      *
@@ -211,4 +259,24 @@ public class SoccerMatchController {
 
         soccerMatchService.submit(soccerMatchId);
     }
-}
\ No newline at end of file
+
+    /**
+     * 여러 경기의 골과 결과를 CSV(text/csv)나 NDJSON(application/x-ndjson) 파일로 한 번에 반영합니다.
+     * 요청 body는 읽는 대로 처리하며, 반영하지 못한 경기는 줄 번호와 함께 응답합니다.
+     *
+     * @param request 현재 요청
+     * @return 반영된 경기들의 id와 오류들
+     */
+    @PostMapping("/results/import")
+    public MatchImportResult importResults(HttpServletRequest request) throws IOException {
+        int memberId = loginService.getMemberId();
+        Format format = Format.of(request.getContentType());
+        if (format == null) {
+            throw new BadRequestException(UNSUPPORTED_IMPORT_TYPE);
+        }
+
+        try (Reader reader = new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8)) {
+            return matchImportService.importResults(memberId, reader, format);
+        }
+    }
+}
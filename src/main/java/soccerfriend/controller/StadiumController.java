@@ -2,8 +2,10 @@ package soccerfriend.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
+import soccerfriend.dto.NearbyStadium;
 import soccerfriend.dto.Stadium;
 import soccerfriend.exception.exception.NoPermissionException;
+import soccerfriend.service.GeoService;
 import soccerfriend.service.LoginService;
 import soccerfriend.service.StadiumService;
 import soccerfriend.utility.InputForm.UpdateStadiumRequest;
@@ -20,6 +22,7 @@ public class StadiumController {
 
     private final StadiumService stadiumService;
     private final LoginService loginService;
+    private final GeoService geoService;
 
     /**
      * stadium을 생성합니다.
@@ -43,6 +46,42 @@ public class StadiumController {
         return stadiumService.getStadiumById(id);
     }
 
+    /**
+     * 중심에서 반경 안의 stadium들을 가까운 순서로 반환합니다. 중심은 위도와 경도, 또는 addressId로 입력합니다.
+     *
+     * @param latitude  중심의 위도
+     * @param longitude 중심의 경도
+     * @param addressId 중심으로 사용할 address의 id
+     * @param radiusKm  반경(km, 최대 50)
+     * @param size      최대 개수(최대 100)
+     * @return 가까운 순서의 stadium과 거리
+     */
+    @GetMapping("/nearby")
+    public List<NearbyStadium> getStadiumsWithin(@RequestParam(required = false) Double latitude,
+                                                 @RequestParam(required = false) Double longitude,
+                                                 @RequestParam(required = false) Integer addressId,
+                                                 @RequestParam(defaultValue = "5") double radiusKm,
+                                                 @RequestParam(defaultValue = "20") int size) {
+        return geoService.getStadiumsWithin(latitude, longitude, addressId, radiusKm, size);
+    }
+
+    /**
+     * 중심에서 가장 가까운 stadium들을 반환합니다. 중심은 위도와 경도, 또는 addressId로 입력합니다.
+     *
+     * @param latitude  중심의 위도
+     * @param longitude 중심의 경도
+     * @param addressId 중심으로 사용할 address의 id
+     * @param size      최대 개수(최대 100)
+     * @return 가까운 순서의 stadium과 거리
+     */
+    @GetMapping("/nearest")
+    public List<NearbyStadium> getNearestStadiums(@RequestParam(required = false) Double latitude,
+                                                  @RequestParam(required = false) Double longitude,
+                                                  @RequestParam(required = false) Integer addressId,
+                                                  @RequestParam(defaultValue = "10") int size) {
+        return geoService.getNearestStadiums(latitude, longitude, addressId, size);
+    }
+
     /**
      * stadiumOwner 자신이 소유한 stadium들을 반환합니다.
      *
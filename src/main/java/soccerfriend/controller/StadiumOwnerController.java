@@ -1,15 +1,24 @@
 package soccerfriend.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import soccerfriend.dto.StadiumOwner;
+import soccerfriend.dto.StadiumRevenue;
+import soccerfriend.exception.exception.NoPermissionException;
 import soccerfriend.service.LoginService;
 import soccerfriend.service.StadiumOwnerService;
+import soccerfriend.service.StadiumRevenueService;
+import soccerfriend.service.StadiumService;
 import soccerfriend.utility.InputForm.LoginRequest;
 import soccerfriend.utility.InputForm.UpdatePasswordRequest;
 import soccerfriend.utility.InputForm.UpdateStadiumOwnerRequest;
 
+import java.time.LocalDate;
+import java.util.List;
+
+import static soccerfriend.exception.ExceptionInfo.NOT_STADIUM_OWNER;
 import static soccerfriend.utility.HttpStatusCode.CONFLICT;
 import static soccerfriend.utility.HttpStatusCode.OK;
 
@@ -20,6 +29,8 @@ public class StadiumOwnerController {
 
     private final StadiumOwnerService stadiumOwnerService;
     private final LoginService loginService;
+    private final StadiumService stadiumService;
+    private final StadiumRevenueService stadiumRevenueService;
 
     /**
      * stadiumOwner의 회원가입을 수행합니다.
@@ -56,6 +67,7 @@ public class StadiumOwnerController {
     public void deleteAccount() {
         int id = loginService.getStadiumOwnerId();
         stadiumOwnerService.deleteAccount(id);
+        loginService.logout();
     }
 
     /**
@@ -97,4 +109,47 @@ public class StadiumOwnerController {
         stadiumOwnerService.updatePassword(id, passwordRequest);
         loginService.logout();
     }
+
+    /**
+     * 운영중인 stadium 하나의 하루 동안 시간별 예약 수, 예약된 시간, 가격대별 매출을 반환합니다.
+     *
+     * @param stadiumId stadium의 id
+     * @param date      날짜(yyyy-MM-dd)
+     * @return 시간, 가격대 순서의 집계
+     */
+    @GetMapping("/revenues/hourly")
+    public List<StadiumRevenue> getHourlyRevenues(@RequestParam int stadiumId,
+                                                  @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        int id = loginService.getStadiumOwnerId();
+        if (!stadiumService.isStadiumOwner(stadiumId, id)) {
+            throw new NoPermissionException(NOT_STADIUM_OWNER);
+        }
+        return stadiumRevenueService.getHourlyRevenues(stadiumId, date);
+    }
+
+    /**
+     * 운영중인 stadium들의 일별 예약 수, 예약된 시간, 가격대별 매출을 반환합니다.
+     *
+     * @param from 시작 날짜(yyyy-MM-dd)
+     * @param to   마지막 날짜(yyyy-MM-dd, 포함)
+     * @return stadium, 날짜, 가격대 순서의 집계
+     */
+    @GetMapping("/revenues/daily")
+    public List<StadiumRevenue> getDailyRevenues(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                 @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        int id = loginService.getStadiumOwnerId();
+        return stadiumRevenueService.getDailyRevenues(id, from, to);
+    }
+
+    /**
+     * 운영중인 stadium들의 한 해 동안의 월별 예약 수, 예약된 시간, 가격대별 매출을 반환합니다.
+     *
+     * @param year 연도
+     * @return stadium, 월, 가격대 순서의 집계
+     */
+    @GetMapping("/revenues/monthly")
+    public List<StadiumRevenue> getMonthlyRevenues(@RequestParam int year) {
+        int id = loginService.getStadiumOwnerId();
+        return stadiumRevenueService.getMonthlyRevenues(id, year);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package soccerfriend.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import soccerfriend.service.TokenLoginService;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/tokens")
+@ConditionalOnProperty(name = "soccerfriend.login.mode", havingValue = "token")
+public class TokenController {
+
+    private final TokenLoginService tokenLoginService;
+
+    /**
+     * refresh 토큰으로 access, refresh 토큰을 재발급합니다.
+     */
+    @PostMapping("/refresh")
+    public void refresh() {
+        tokenLoginService.refresh();
+    }
+}
@@ -0,0 +1,105 @@
+package soccerfriend.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import soccerfriend.dto.Tournament;
+import soccerfriend.dto.TournamentClub;
+import soccerfriend.dto.TournamentFixture;
+import soccerfriend.exception.exception.NoPermissionException;
+import soccerfriend.service.ClubMemberService;
+import soccerfriend.service.LoginService;
+import soccerfriend.service.TournamentService;
+import soccerfriend.utility.InputForm.CreateTournamentRequest;
+
+import java.util.List;
+
+import static soccerfriend.exception.ExceptionInfo.NO_CLUB_PERMISSION;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/tournaments")
+public class TournamentController {
+
+    private final TournamentService tournamentService;
+    private final ClubMemberService clubMemberService;
+    private final LoginService loginService;
+
+    /**
+     * 주최 club의 운영진이 대회를 만듭니다. 모든 경기가 경기장 slot에 배정되고 다른 참가 club들이 초대됩니다.
+     * 경기모집공고와 soccerMatch는 모든 club이 수락했을 때 생성됩니다.
+     *
+     * @param request 대회의 정보
+     * @return 만들어진 대회의 id
+     */
+    @PostMapping
+    public int create(@Validated @RequestBody CreateTournamentRequest request) {
+        checkClubPermission(request.getHostClubId());
+        return tournamentService.create(request);
+    }
+
+    /**
+     * 초대된 club의 운영진이 대회 참가를 수락합니다.
+     *
+     * @param id     대회의 id
+     * @param clubId 수락하는 club의 id
+     */
+    @PostMapping("/{id}/clubs/{clubId}/accept")
+    public void accept(@PathVariable int id, @PathVariable int clubId) {
+        checkClubPermission(clubId);
+        tournamentService.accept(id, clubId);
+    }
+
+    /**
+     * 초대된 club의 운영진이 대회 참가를 거절합니다. 대회는 취소됩니다.
+     *
+     * @param id     대회의 id
+     * @param clubId 거절하는 club의 id
+     */
+    @PostMapping("/{id}/clubs/{clubId}/decline")
+    public void decline(@PathVariable int id, @PathVariable int clubId) {
+        checkClubPermission(clubId);
+        tournamentService.decline(id, clubId);
+    }
+
+    /**
+     * 특정 id의 대회를 조회합니다.
+     *
+     * @param id 대회의 id
+     * @return 대회
+     */
+    @GetMapping("/{id}")
+    public Tournament getTournamentById(@PathVariable int id) {
+        return tournamentService.getTournamentById(id);
+    }
+
+    /**
+     * 대회의 순위표를 조회합니다.
+     *
+     * @param id 대회의 id
+     * @return 순위표
+     */
+    @GetMapping("/{id}/standings")
+    public List<TournamentClub> getStandings(@PathVariable int id) {
+        return tournamentService.getStandings(id);
+    }
+
+    /**
+     * 대회의 경기들을 조회합니다.
+     *
+     * @param id    대회의 id
+     * @param round 라운드, 생략하면 모든 라운드
+     * @return 경기들
+     */
+    @GetMapping("/{id}/fixtures")
+    public List<TournamentFixture> getFixtures(@PathVariable int id, @RequestParam(required = false) Integer round) {
+        return tournamentService.getFixtures(id, round);
+    }
+
+    private void checkClubPermission(int clubId) {
+        int memberId = loginService.getMemberId();
+        if (!clubMemberService.isClubLeaderOrStaff(clubId, memberId)) {
+            throw new NoPermissionException(NO_CLUB_PERMISSION);
+        }
+    }
+}
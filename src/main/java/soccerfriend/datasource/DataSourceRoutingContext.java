@@ -0,0 +1,104 @@
+package soccerfriend.datasource;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.time.Duration;
+
+/**
+ * 현재 thread와 client의 datasource 라우팅 상태를 관리합니다.
+ * client가 쓰기를 수행하면 일정 시간 동안 cookie를 통해 primary로 고정하여 자신이 쓴 데이터를 바로 읽을 수 있게 합니다.
+ */
+public class DataSourceRoutingContext {
+
+    public static final String PRIMARY_STICKY = "PRIMARY_STICKY";
+
+    private static final ThreadLocal<Boolean> REPLICA_READ = new ThreadLocal<>();
+
+    /**
+     * 현재 thread의 조회를 replica에서 수행하도록 설정합니다.
+     *
+     * @param replicaRead replica 조회 여부
+     */
+    public static void setReplicaRead(boolean replicaRead) {
+        if (replicaRead) {
+            REPLICA_READ.set(true);
+        }
+        else {
+            REPLICA_READ.remove();
+        }
+    }
+
+    /**
+     * 현재 thread의 조회가 replica 대상인지 확인합니다.
+     *
+     * @return replica 조회 여부
+     */
+    public static boolean isReplicaRead() {
+        return REPLICA_READ.get() != null;
+    }
+
+    /**
+     * 현재 요청 또는 client가 최근에 쓰기를 수행하여 primary로 고정되어야 하는지 확인합니다.
+     *
+     * @return primary 고정 여부
+     */
+    public static boolean isWriteSticky() {
+        ServletRequestAttributes attributes = getRequestAttributes();
+        if (attributes == null) {
+            return false;
+        }
+        if (attributes.getAttribute(PRIMARY_STICKY, RequestAttributes.SCOPE_REQUEST) != null) {
+            return true;
+        }
+
+        Cookie[] cookies = attributes.getRequest().getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        for (Cookie cookie : cookies) {
+            if (PRIMARY_STICKY.equals(cookie.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 쓰기가 발생했음을 기록합니다. 현재 요청의 이후 조회와 stickyTime 동안의 client 요청은 primary에서 수행됩니다.
+     *
+     * @param stickyTime primary 고정 시간
+     */
+    public static void markWrite(Duration stickyTime) {
+        ServletRequestAttributes attributes = getRequestAttributes();
+        if (attributes == null) {
+            return;
+        }
+        if (attributes.getAttribute(PRIMARY_STICKY, RequestAttributes.SCOPE_REQUEST) != null) {
+            return;
+        }
+        attributes.setAttribute(PRIMARY_STICKY, true, RequestAttributes.SCOPE_REQUEST);
+
+        HttpServletResponse response = attributes.getResponse();
+        if (response == null || response.isCommitted()) {
+            return;
+        }
+        Cookie cookie = new Cookie(PRIMARY_STICKY, "1");
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) stickyTime.getSeconds());
+        response.addCookie(cookie);
+    }
+
+    private static ServletRequestAttributes getRequestAttributes() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes)) {
+            return null;
+        }
+        return (ServletRequestAttributes) attributes;
+    }
+}
@@ -0,0 +1,6 @@
+package soccerfriend.datasource;
+
+public enum DataSourceType {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,63 @@
+package soccerfriend.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * replica의 복제 지연을 주기적으로 확인합니다.
+ * 지연이 허용치를 넘거나 복제 상태를 확인할 수 없다면 replica를 사용하지 않습니다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long maxLagSeconds;
+    private volatile boolean replicaAvailable = true;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, long maxLagSeconds) {
+        this.jdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    /**
+     * replica를 조회에 사용할 수 있는지 확인합니다.
+     *
+     * @return replica 사용 가능 여부
+     */
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    /**
+     * replica의 복제 지연(Seconds_Behind_Source)을 확인하여 replica 사용 가능 여부를 갱신합니다.
+     * 복제 설정이 없는 단독 서버라면 지연이 없는 것으로 간주합니다.
+     */
+    @Scheduled(fixedDelayString = "${spring.datasource.replica.lag-check-interval:5000}")
+    public void check() {
+        boolean available;
+        try {
+            List<Map<String, Object>> status = jdbcTemplate.queryForList("SHOW REPLICA STATUS");
+            available = status.isEmpty() || isLagAcceptable(status.get(0).get("Seconds_Behind_Source"));
+        } catch (RuntimeException e) {
+            log.warn("replica 상태를 확인할 수 없습니다. {}", e.getMessage());
+            available = false;
+        }
+
+        if (available != replicaAvailable) {
+            log.info("replica 사용 여부가 변경되었습니다. available={}", available);
+        }
+        replicaAvailable = available;
+    }
+
+    private boolean isLagAcceptable(Object secondsBehindSource) {
+        if (secondsBehindSource == null) {
+            return false;
+        }
+        return ((Number) secondsBehindSource).longValue() <= maxLagSeconds;
+    }
+}
@@ -0,0 +1,15 @@
+package soccerfriend.datasource;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * mapper의 조회 메서드를 replica datasource에서 수행합니다.
+ * mapper interface에 선언하면 해당 mapper의 모든 SELECT가 replica에서 수행됩니다.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReplicaRead {
+}
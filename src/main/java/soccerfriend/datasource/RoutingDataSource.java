@@ -0,0 +1,36 @@
+package soccerfriend.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static soccerfriend.datasource.DataSourceType.PRIMARY;
+import static soccerfriend.datasource.DataSourceType.REPLICA;
+
+/**
+ * 조회 요청을 replica로, 그 외의 요청을 primary로 라우팅합니다.
+ * replica가 지연되었거나 client가 최근에 쓰기를 수행했다면 조회도 primary에서 수행합니다.
+ */
+@RequiredArgsConstructor
+public class RoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!replicaLagMonitor.isReplicaAvailable()) {
+            return PRIMARY;
+        }
+        if (DataSourceRoutingContext.isWriteSticky()) {
+            return PRIMARY;
+        }
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return REPLICA;
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive() && DataSourceRoutingContext.isReplicaRead()) {
+            return REPLICA;
+        }
+
+        return PRIMARY;
+    }
+}
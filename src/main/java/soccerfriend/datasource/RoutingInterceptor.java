@@ -0,0 +1,71 @@
+package soccerfriend.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * mapper 수준의 라우팅을 담당하는 MyBatis plugin입니다.
+ * {@link ReplicaRead}가 선언된 조회는 replica로 보내고, 쓰기가 발생하면 client를 primary로 고정합니다.
+ */
+@Intercepts({
+        @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
+        @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class})
+})
+@RequiredArgsConstructor
+public class RoutingInterceptor implements Interceptor {
+
+    private final Duration stickyTime;
+    private final Map<String, Boolean> replicaReadStatements = new ConcurrentHashMap<>();
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement mappedStatement = (MappedStatement) invocation.getArgs()[0];
+
+        if ("update".equals(invocation.getMethod().getName())) {
+            DataSourceRoutingContext.markWrite(stickyTime);
+            return invocation.proceed();
+        }
+
+        if (!replicaReadStatements.computeIfAbsent(mappedStatement.getId(), this::isReplicaRead)) {
+            return invocation.proceed();
+        }
+        boolean outer = DataSourceRoutingContext.isReplicaRead();
+        DataSourceRoutingContext.setReplicaRead(true);
+        try {
+            return invocation.proceed();
+        } finally {
+            DataSourceRoutingContext.setReplicaRead(outer);
+        }
+    }
+
+    private boolean isReplicaRead(String statementId) {
+        int index = statementId.lastIndexOf('.');
+        try {
+            Class<?> mapper = Class.forName(statementId.substring(0, index));
+            if (mapper.isAnnotationPresent(ReplicaRead.class)) {
+                return true;
+            }
+            String methodName = statementId.substring(index + 1);
+            for (Method method : mapper.getMethods()) {
+                if (method.getName().equals(methodName) && method.isAnnotationPresent(ReplicaRead.class)) {
+                    return true;
+                }
+            }
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+        return false;
+    }
+}
@@ -10,4 +10,8 @@ public class Address {
     String city;
 
     String town;
+
+    Double latitude;
+
+    Double longitude;
 }
@@ -0,0 +1,31 @@
+package soccerfriend.dto;
+
+import lombok.*;
+
+import java.util.Map;
+
+/**
+ * 지역별 추천 후보 목록에 보관하는 club의 정보입니다.
+ * members는 가입승인된 구성원 수, recentMatches는 최근 기간에 상대가 정해진 경기 수이고,
+ * positions는 구성원의 선호 포지션(positionsId)별 인원입니다.
+ */
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ClubCandidate {
+
+    private int clubId;
+
+    private String name;
+
+    private int addressId;
+
+    private int monthlyFee;
+
+    private int members;
+
+    private int recentMatches;
+
+    private Map<Integer, Integer> positions;
+}
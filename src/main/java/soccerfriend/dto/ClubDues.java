@@ -0,0 +1,32 @@
+package soccerfriend.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * club 회비 장부의 한 줄입니다. 월회비를 낸 club 회원과 그 member의 정보를 함께 담습니다.
+ * club을 탈퇴한 회원의 회비라면 memberId와 nickname은 null입니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ClubDues {
+
+    private int id;
+
+    private int year;
+
+    private int month;
+
+    private int clubMemberId;
+
+    private Integer memberId;
+
+    private String nickname;
+
+    private int price;
+
+    private LocalDateTime paidAt;
+}
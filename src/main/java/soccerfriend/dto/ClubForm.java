@@ -0,0 +1,31 @@
+package soccerfriend.dto;
+
+import lombok.*;
+
+/**
+ * club의 최근 경기결과입니다. form은 최신 경기부터 W(승), D(무), L(패)로 최대 LENGTH개를 나타냅니다.
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ClubForm {
+    public static final int LENGTH = 10;
+
+    private int clubId;
+
+    private String form;
+
+    /**
+     * 경기결과를 club 기준의 문자로 바꿉니다.
+     *
+     * @param goalsFor     club의 점수
+     * @param goalsAgainst 상대 club의 점수
+     * @return W, D, L 중 하나
+     */
+    public static char result(int goalsFor, int goalsAgainst) {
+        if (goalsFor > goalsAgainst) {
+            return 'W';
+        }
+        return goalsFor == goalsAgainst ? 'D' : 'L';
+    }
+}
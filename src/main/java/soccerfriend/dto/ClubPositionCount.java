@@ -0,0 +1,19 @@
+package soccerfriend.dto;
+
+import lombok.*;
+
+/**
+ * club에서 같은 포지션을 선호하는 가입승인된 구성원 수입니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ClubPositionCount {
+
+    private int clubId;
+
+    private int positionsId;
+
+    private int members;
+}
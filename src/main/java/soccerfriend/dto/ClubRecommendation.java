@@ -0,0 +1,28 @@
+package soccerfriend.dto;
+
+import lombok.*;
+
+/**
+ * member에게 추천하는 club입니다.
+ * samePositionMembers는 member와 같은 포지션을 선호하는 구성원 수이고, score는 0 이상 1 이하의 추천 점수입니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ClubRecommendation {
+
+    private int clubId;
+
+    private String name;
+
+    private int monthlyFee;
+
+    private int members;
+
+    private int recentMatches;
+
+    private int samePositionMembers;
+
+    private double score;
+}
@@ -0,0 +1,29 @@
+package soccerfriend.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * email 요약에 들어갈 알림 하나와 수신자의 정보입니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DigestNotification {
+
+    private int memberId;
+
+    private String email;
+
+    private Notification.Type type;
+
+    private int clubId;
+
+    private String clubName;
+
+    private int targetId;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,67 @@
+package soccerfriend.dto;
+
+import com.fasterxml.jackson.annotation.JacksonInject;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.OptBoolean;
+import lombok.*;
+import soccerfriend.event.DomainEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * club에서 일어난 일 하나입니다. 서비스에서 outbox로 발행되어 club 구성원들의 feed에 전달됩니다.
+ * id는 outbox의 id이며 나중에 발행된 event일수록 큽니다. 같은 event가 다시 전달되어도 id가 같으므로 feed에서 중복을 걸러낼 수 있습니다.
+ * payload의 id는 무시하고 전달시 주입된 id를 사용합니다.
+ */
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@JsonIgnoreProperties(value = "id", allowGetters = true)
+public class FeedEvent implements DomainEvent {
+
+    @JacksonInject(value = DomainEvent.EVENT_ID, useInput = OptBoolean.FALSE)
+    private long id;
+
+    private Type type;
+
+    private int clubId;
+
+    private int targetId;
+
+    private LocalDateTime createdAt;
+
+    /**
+     * 해당 club에서 일어난 event를 생성합니다.
+     *
+     * @param type     event의 종류
+     * @param clubId   club의 id
+     * @param targetId event의 대상(모집공고, 경기, member, 게시판)의 id
+     * @return id가 부여되지 않은 event
+     */
+    public static FeedEvent of(Type type, int clubId, int targetId) {
+        return FeedEvent.builder()
+                        .type(type)
+                        .clubId(clubId)
+                        .targetId(targetId)
+                        .createdAt(LocalDateTime.now())
+                        .build();
+    }
+
+    @Override
+    public String getAggregateType() {
+        return "club";
+    }
+
+    @Override
+    public int getAggregateId() {
+        return clubId;
+    }
+
+    public static enum Type {
+        RECRUITMENT_CREATED,
+        MATCH_SUBMITTED,
+        MEMBER_APPROVED,
+        BULLETIN_CREATED
+    }
+}
@@ -0,0 +1,26 @@
+package soccerfriend.dto;
+
+import lombok.*;
+
+/**
+ * 한 시즌 동안 member가 한 club 소속으로 넣은 골 수입니다.
+ * season은 경기가 시작한 연도이고, addressId는 club의 지역입니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GoalStat {
+
+    private int season;
+
+    private int memberId;
+
+    private int clubId;
+
+    private int addressId;
+
+    private int goals;
+
+    private int lastGoalId;
+}
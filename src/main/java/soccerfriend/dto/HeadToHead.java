@@ -0,0 +1,81 @@
+package soccerfriend.dto;
+
+import lombok.*;
+
+/**
+ * 두 club의 상대전적입니다. 승, 무, 패와 득점, 실점은 clubId의 club 기준입니다.
+ * DB에는 club 쌍마다 clubId가 작은 쪽 기준으로 한 row만 저장합니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HeadToHead {
+
+    private int clubId;
+
+    private int opponentClubId;
+
+    private int win;
+
+    private int draw;
+
+    private int lose;
+
+    private int goalsFor;
+
+    private int goalsAgainst;
+
+    /**
+     * 두 club의 경기 하나의 결과를 clubId가 작은 club 기준으로 만듭니다.
+     *
+     * @param hostClubId             주최 club의 id
+     * @param participationClubId    참가 club의 id
+     * @param hostClubScore          주최 club의 점수
+     * @param participationClubScore 참가 club의 점수
+     * @return 경기 하나의 상대전적
+     */
+    public static HeadToHead of(int hostClubId, int participationClubId, int hostClubScore, int participationClubScore) {
+        HeadToHead headToHead = HeadToHead.builder()
+                                          .clubId(hostClubId)
+                                          .opponentClubId(participationClubId)
+                                          .win(hostClubScore > participationClubScore ? 1 : 0)
+                                          .draw(hostClubScore == participationClubScore ? 1 : 0)
+                                          .lose(hostClubScore < participationClubScore ? 1 : 0)
+                                          .goalsFor(hostClubScore)
+                                          .goalsAgainst(participationClubScore)
+                                          .build();
+        return hostClubId < participationClubId ? headToHead : headToHead.reversed();
+    }
+
+    /**
+     * 두 club이 경기한 적이 없는 상대전적을 만듭니다.
+     *
+     * @param clubId         club의 id
+     * @param opponentClubId 상대 club의 id
+     * @return 모두 0인 상대전적
+     */
+    public static HeadToHead empty(int clubId, int opponentClubId) {
+        return new HeadToHead(clubId, opponentClubId, 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * 상대 club 기준의 상대전적을 반환합니다.
+     *
+     * @return 상대 club 기준의 상대전적
+     */
+    public HeadToHead reversed() {
+        return new HeadToHead(opponentClubId, clubId, lose, draw, win, goalsAgainst, goalsFor);
+    }
+
+    /**
+     * 두 상대전적을 더합니다. 같은 club 기준이어야 합니다.
+     *
+     * @param other 더할 상대전적
+     * @return 더한 상대전적
+     */
+    public HeadToHead plus(HeadToHead other) {
+        return new HeadToHead(clubId, opponentClubId, win + other.win, draw + other.draw, lose + other.lose,
+                goalsFor + other.goalsFor, goalsAgainst + other.goalsAgainst);
+    }
+}
@@ -0,0 +1,24 @@
+package soccerfriend.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 경기결과를 가져오지 못한 줄과 그 이유입니다.
+ * 경기를 알 수 없는 줄이라면 soccerMatchId는 null이고, code는 ExceptionInfo의 이름이거나 파일을 읽지 못했다면 INVALID_ROW입니다.
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MatchImportError {
+
+    private int line;
+
+    private Integer soccerMatchId;
+
+    private String code;
+
+    private String message;
+}
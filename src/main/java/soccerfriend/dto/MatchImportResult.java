@@ -0,0 +1,21 @@
+package soccerfriend.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 경기결과 가져오기의 결과입니다. 오류가 있는 경기는 반영되지 않으며, 나머지 경기는 경기마다 따로 반영됩니다.
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MatchImportResult {
+
+    private List<Integer> importedSoccerMatchIds;
+
+    private List<MatchImportError> errors;
+}
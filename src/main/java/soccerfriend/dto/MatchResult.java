@@ -0,0 +1,27 @@
+package soccerfriend.dto;
+
+/**
+ * 양 팀의 점수로 결정되는 경기결과입니다.
+ */
+public enum MatchResult {
+    HOST_WIN,
+    DRAW,
+    PARTICIPATION_WIN;
+
+    /**
+     * 주최 club과 참가 club의 점수로 경기결과를 계산합니다.
+     *
+     * @param hostClubScore          주최 club의 점수
+     * @param participationClubScore 참가 club의 점수
+     * @return 경기결과
+     */
+    public static MatchResult of(int hostClubScore, int participationClubScore) {
+        if (hostClubScore > participationClubScore) {
+            return HOST_WIN;
+        }
+        if (hostClubScore == participationClubScore) {
+            return DRAW;
+        }
+        return PARTICIPATION_WIN;
+    }
+}
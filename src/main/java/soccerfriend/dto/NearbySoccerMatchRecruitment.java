@@ -0,0 +1,17 @@
+package soccerfriend.dto;
+
+import lombok.*;
+
+/**
+ * 검색 중심에서 경기장까지 distanceKm만큼 떨어진, 상대 club을 모집중인 경기모집공고입니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NearbySoccerMatchRecruitment {
+
+    private SoccerMatchRecruitment soccerMatchRecruitment;
+
+    private double distanceKm;
+}
@@ -0,0 +1,17 @@
+package soccerfriend.dto;
+
+import lombok.*;
+
+/**
+ * 검색 중심에서 distanceKm만큼 떨어진 stadium입니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NearbyStadium {
+
+    private Stadium stadium;
+
+    private double distanceKm;
+}
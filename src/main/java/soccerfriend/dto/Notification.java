@@ -0,0 +1,46 @@
+package soccerfriend.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * member의 알림함에 쌓이는 알림입니다. 같은 domain event(eventId)로는 member마다 한 번만 생성됩니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Notification {
+
+    private long id;
+
+    private int memberId;
+
+    private long eventId;
+
+    private Type type;
+
+    private int clubId;
+
+    private int targetId;
+
+    private boolean read;
+
+    private LocalDateTime createdAt;
+
+    public static enum Type {
+        /**
+         * club에 가입신청이 들어왔습니다. targetId는 신청한 member의 id입니다.
+         */
+        CLUB_JOIN_REQUESTED,
+        /**
+         * 축구경기에 참가신청이 들어왔습니다. targetId는 soccerMatch의 id입니다.
+         */
+        SOCCER_MATCH_JOIN_REQUESTED,
+        /**
+         * club 가입신청이 승인되었습니다. targetId는 승인된 member의 id입니다.
+         */
+        CLUB_JOIN_APPROVED
+    }
+}
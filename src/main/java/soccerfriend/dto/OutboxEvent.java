@@ -0,0 +1,37 @@
+package soccerfriend.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * outbox table에 저장된 domain event입니다. 발행되지 않은 event는 publishedAt이 null입니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent {
+
+    private long id;
+
+    private int partitionNo;
+
+    private String aggregateType;
+
+    private int aggregateId;
+
+    private String eventType;
+
+    private String payload;
+
+    private int attempts;
+
+    private String lastError;
+
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime publishedAt;
+}
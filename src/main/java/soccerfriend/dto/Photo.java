@@ -0,0 +1,46 @@
+package soccerfriend.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Photo {
+
+    private int id;
+
+    private int bulletinId;
+
+    private int memberId;
+
+    private String storageKey;
+
+    private String contentType;
+
+    private long size;
+
+    private boolean thumbnailReady;
+
+    private LocalDateTime createdAt;
+
+    @Builder
+    public Photo(int bulletinId, int memberId, String storageKey, String contentType, long size) {
+        this.bulletinId = bulletinId;
+        this.memberId = memberId;
+        this.storageKey = storageKey;
+        this.contentType = contentType;
+        this.size = size;
+    }
+
+    /**
+     * 썸네일이 저장되는 key를 반환합니다.
+     *
+     * @return 썸네일의 key
+     */
+    public String getThumbnailKey() {
+        return storageKey + ".thumbnail.jpg";
+    }
+}
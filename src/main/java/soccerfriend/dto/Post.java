@@ -0,0 +1,42 @@
+package soccerfriend.dto;
+
+import lombok.*;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Post {
+
+    private int id;
+
+    private int bulletinId;
+
+    private int memberId;
+
+    @NotNull
+    @Size(min = 1, max = 50)
+    private String title;
+
+    @NotNull
+    @Size(min = 1, max = 5000)
+    private String content;
+
+    private long views;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public Post(int bulletinId, int memberId, String title, String content) {
+        this.bulletinId = bulletinId;
+        this.memberId = memberId;
+        this.title = title;
+        this.content = content;
+    }
+}
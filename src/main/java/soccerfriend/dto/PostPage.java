@@ -0,0 +1,22 @@
+package soccerfriend.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 게시글 목록의 한 page입니다. 다음 page는 nextCursor를 cursor로 전달하여 조회합니다.
+ * 마지막 page라면 nextCursor는 null입니다.
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostPage {
+
+    private List<Post> posts;
+
+    private Integer nextCursor;
+}
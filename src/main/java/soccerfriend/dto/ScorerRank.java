@@ -0,0 +1,16 @@
+package soccerfriend.dto;
+
+import lombok.*;
+
+/**
+ * 득점 순위의 한 항목입니다.
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ScorerRank {
+
+    private int memberId;
+
+    private int goals;
+}
@@ -0,0 +1,33 @@
+package soccerfriend.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * club이 치른 경기 하나의 일정, 경기장, 상대와 점수입니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SoccerMatchHistory {
+
+    private int soccerMatchId;
+
+    private LocalDateTime startTime;
+
+    private LocalDateTime endTime;
+
+    private int stadiumId;
+
+    private int hostClubId;
+
+    private int participationClubId;
+
+    private int hostClubScore;
+
+    private int participationClubScore;
+
+    private boolean submitted;
+}
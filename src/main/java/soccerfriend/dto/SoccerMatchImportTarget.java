@@ -0,0 +1,33 @@
+package soccerfriend.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 경기결과를 가져올 때 검증에 사용하는 경기, 경기모집공고와 두 club의 지역입니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SoccerMatchImportTarget {
+
+    private int id;
+
+    private boolean submitted;
+
+    private LocalDateTime startTime;
+
+    private int numSet;
+
+    private int timeSet;
+
+    private int hostClubId;
+
+    private Integer participationClubId;
+
+    private int hostClubAddressId;
+
+    private int participationClubAddressId;
+}
@@ -0,0 +1,23 @@
+package soccerfriend.dto;
+
+import lombok.*;
+
+/**
+ * 제출된 경기의 양 club과 점수입니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SoccerMatchResult {
+
+    private int soccerMatchId;
+
+    private int hostClubId;
+
+    private int participationClubId;
+
+    private int hostClubScore;
+
+    private int participationClubScore;
+}
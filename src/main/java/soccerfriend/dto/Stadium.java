@@ -25,6 +25,10 @@ public class Stadium {
 
     int priceWeekend;
 
+    Double latitude;
+
+    Double longitude;
+
     LocalDateTime createdAt;
 
     LocalDateTime updatedAt;
@@ -0,0 +1,79 @@
+package soccerfriend.dto;
+
+import lombok.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+
+/**
+ * 한 stadium의 한 기간(시간, 일, 월) 동안 한 가격대의 예약 집계입니다.
+ * startedAt은 기간이 시작하는 시각이고, bookings는 기간 안에 시작한 예약 수, minutes는 예약된 시간(분), revenue는 예약 금액입니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StadiumRevenue {
+
+    private int stadiumId;
+
+    private LocalDateTime startedAt;
+
+    private PriceBand priceBand;
+
+    private int bookings;
+
+    private int minutes;
+
+    private long revenue;
+
+    public enum PriceBand {
+        /**
+         * 평일 06시부터 18시까지, stadium의 priceDay
+         */
+        DAY,
+        /**
+         * 평일 18시부터 다음날 06시까지, stadium의 priceNight
+         */
+        NIGHT,
+        /**
+         * 토요일과 일요일, stadium의 priceWeekend
+         */
+        WEEKEND;
+
+        public static final int NIGHT_START_HOUR = 18;
+        public static final int NIGHT_END_HOUR = 6;
+
+        /**
+         * 특정 시각이 속한 가격대를 반환합니다.
+         *
+         * @param time 시각
+         * @return 가격대
+         */
+        public static PriceBand of(LocalDateTime time) {
+            DayOfWeek dayOfWeek = time.getDayOfWeek();
+            if (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) {
+                return WEEKEND;
+            }
+            int hour = time.getHour();
+            return hour >= NIGHT_START_HOUR || hour < NIGHT_END_HOUR ? NIGHT : DAY;
+        }
+
+        /**
+         * stadium의 이 가격대 시간당 가격을 반환합니다.
+         *
+         * @param stadium stadium
+         * @return 시간당 가격
+         */
+        public int price(Stadium stadium) {
+            switch (this) {
+                case DAY:
+                    return stadium.getPriceDay();
+                case NIGHT:
+                    return stadium.getPriceNight();
+                default:
+                    return stadium.getPriceWeekend();
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package soccerfriend.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Tournament {
+
+    private int id;
+
+    private String name;
+
+    private Type type;
+
+    private int hostClubId;
+
+    private int numSet;
+
+    private int timeSet;
+
+    private Status status;
+
+    private Integer winnerClubId;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    public enum Type {
+        /**
+         * 모든 club이 서로 한 번씩 경기하는 리그
+         */
+        LEAGUE,
+        /**
+         * 진 club이 탈락하는 토너먼트
+         */
+        KNOCKOUT
+    }
+
+    public enum Status {
+        /**
+         * 초대받은 club들의 수락을 기다리는 중이며, 경기장 slot만 배정되어 있습니다.
+         */
+        INVITING,
+        /**
+         * 모든 club이 수락하여 경기모집공고와 soccerMatch가 만들어졌습니다.
+         */
+        SCHEDULED,
+        /**
+         * 초대받은 club이 거절하여 취소되었습니다.
+         */
+        CANCELED
+    }
+}
@@ -0,0 +1,36 @@
+package soccerfriend.dto;
+
+import lombok.*;
+
+/**
+ * 대회에 참가한 club과 순위표의 한 행입니다. 승점은 승리 3점, 무승부 1점입니다.
+ * accepted는 초대받은 club이 참가를 수락했는지 여부이며, 주최 club은 처음부터 수락한 상태입니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TournamentClub {
+
+    private int tournamentId;
+
+    private int clubId;
+
+    private int seed;
+
+    private boolean accepted;
+
+    private int played;
+
+    private int win;
+
+    private int draw;
+
+    private int lose;
+
+    private int goalsFor;
+
+    private int goalsAgainst;
+
+    private int points;
+}
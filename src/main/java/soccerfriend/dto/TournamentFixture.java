@@ -0,0 +1,40 @@
+package soccerfriend.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대회의 경기 하나입니다. 두 club이 정해지면 경기모집공고와 soccerMatch가 만들어집니다.
+ * 토너먼트의 다음 라운드 경기는 경기장과 시간만 미리 배정되고 club은 이전 경기의 결과가 제출될 때 정해집니다.
+ */
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TournamentFixture {
+
+    private int id;
+
+    private int tournamentId;
+
+    private int round;
+
+    private int position;
+
+    private Integer homeClubId;
+
+    private Integer awayClubId;
+
+    private int stadiumId;
+
+    private LocalDateTime startTime;
+
+    private LocalDateTime endTime;
+
+    private Integer soccerMatchRecruitmentId;
+
+    private Integer soccerMatchId;
+
+    private Integer winnerClubId;
+}
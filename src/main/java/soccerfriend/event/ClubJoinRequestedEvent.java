@@ -0,0 +1,39 @@
+package soccerfriend.event;
+
+import com.fasterxml.jackson.annotation.JacksonInject;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.OptBoolean;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * member가 club에 가입신청을 했습니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@JsonIgnoreProperties(value = "eventId", allowGetters = true)
+public class ClubJoinRequestedEvent implements DomainEvent {
+
+    @JacksonInject(value = DomainEvent.EVENT_ID, useInput = OptBoolean.FALSE)
+    private long eventId;
+
+    private int clubId;
+
+    private int memberId;
+
+    public ClubJoinRequestedEvent(int clubId, int memberId) {
+        this.clubId = clubId;
+        this.memberId = memberId;
+    }
+
+    @Override
+    public String getAggregateType() {
+        return "club";
+    }
+
+    @Override
+    public int getAggregateId() {
+        return clubId;
+    }
+}
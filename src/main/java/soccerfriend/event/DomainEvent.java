@@ -0,0 +1,31 @@
+package soccerfriend.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * outbox를 통해 발행되는 domain event입니다.
+ * 발행한 transaction과 함께 outbox table에 저장되고, commit된 후 OutboxRelay가 application event로 전달합니다.
+ * 같은 aggregate의 event는 저장된 순서대로 전달되며, 한 event가 두 번 이상 전달될 수 있으므로 listener는 멱등해야 합니다.
+ * payload는 JSON으로 저장되며, 전달시 @JacksonInject(EVENT_ID) field에 outbox의 id가 주입됩니다.
+ * 주입받는 field는 payload의 값으로 덮어쓰이지 않도록 @JsonIgnoreProperties(allowGetters = true)로 읽기에서 제외합니다.
+ */
+public interface DomainEvent {
+
+    String EVENT_ID = "eventId";
+
+    /**
+     * 전달 순서를 보장하는 단위인 aggregate의 종류를 반환합니다.
+     *
+     * @return aggregate의 종류
+     */
+    @JsonIgnore
+    String getAggregateType();
+
+    /**
+     * 전달 순서를 보장하는 단위인 aggregate의 id를 반환합니다.
+     *
+     * @return aggregate의 id
+     */
+    @JsonIgnore
+    int getAggregateId();
+}
@@ -0,0 +1,66 @@
+package soccerfriend.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import soccerfriend.dto.OutboxEvent;
+import soccerfriend.mapper.OutboxMapper;
+
+import java.util.Objects;
+
+/**
+ * domain event를 현재 transaction 안에서 outbox table에 저장합니다.
+ * transaction이 rollback되면 event도 사라지고, commit되면 OutboxRelay가 전달하므로
+ * 부수효과를 transaction 밖으로 옮기면서도 누락되지 않게 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DomainEventPublisher {
+
+    /**
+     * outbox partition의 수입니다. V4__outbox_event.sql의 outbox_partition row 수와 같아야 합니다.
+     */
+    public static final int PARTITIONS = 16;
+
+    private final OutboxMapper mapper;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * event를 outbox에 저장합니다. 진행중인 transaction이 없다면 IllegalTransactionStateException이 발생합니다.
+     *
+     * @param event 발행할 event
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(DomainEvent event) {
+        OutboxEvent outboxEvent = OutboxEvent.builder()
+                                             .partitionNo(partitionOf(event.getAggregateType(), event.getAggregateId()))
+                                             .aggregateType(event.getAggregateType())
+                                             .aggregateId(event.getAggregateId())
+                                             .eventType(event.getClass().getName())
+                                             .payload(serialize(event))
+                                             .build();
+        mapper.insert(outboxEvent);
+    }
+
+    /**
+     * aggregate가 속한 partition을 반환합니다. 같은 aggregate는 항상 같은 partition에 속합니다.
+     *
+     * @param aggregateType aggregate의 종류
+     * @param aggregateId   aggregate의 id
+     * @return partition 번호
+     */
+    public static int partitionOf(String aggregateType, int aggregateId) {
+        return Math.floorMod(Objects.hash(aggregateType, aggregateId), PARTITIONS);
+    }
+
+    private String serialize(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("failed to serialize " + event.getClass().getName(), e);
+        }
+    }
+}
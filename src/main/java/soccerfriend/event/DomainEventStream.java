@@ -0,0 +1,52 @@
+package soccerfriend.event;
+
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import soccerfriend.dto.OutboxEvent;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 전달한 domain event를 redis stream에 기록하여 다른 서버나 다른 application이 읽을 수 있게 합니다.
+ * stream은 약 maxLength개의 최근 event만 보관하며, 같은 event가 두 번 기록될 수 있으므로 읽는 쪽은 eventId로 중복을 걸러야 합니다.
+ */
+public class DomainEventStream {
+
+    public static final String STREAM_KEY = "soccerfriend:events";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final XAddOptions options;
+
+    public DomainEventStream(StringRedisTemplate stringRedisTemplate, long maxLength) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.options = XAddOptions.maxlen(maxLength).approximateTrimming(true);
+    }
+
+    /**
+     * event들을 하나의 pipeline으로 stream에 기록합니다.
+     *
+     * @param events 기록할 event들
+     */
+    public void publish(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            for (OutboxEvent event : events) {
+                Map<String, String> fields = Map.of(
+                        "eventId", Long.toString(event.getId()),
+                        "aggregateType", event.getAggregateType(),
+                        "aggregateId", Integer.toString(event.getAggregateId()),
+                        "eventType", event.getEventType(),
+                        "payload", event.getPayload());
+                redis.xAdd(StreamRecords.string(fields).withStreamKey(STREAM_KEY), options);
+            }
+            return null;
+        });
+    }
+}
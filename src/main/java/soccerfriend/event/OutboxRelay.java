@@ -0,0 +1,196 @@
+package soccerfriend.event;
+
+import com.fasterxml.jackson.databind.InjectableValues;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import soccerfriend.dto.OutboxEvent;
+import soccerfriend.mapper.OutboxMapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * outbox에 저장된 domain event를 application event로 전달합니다.
+ * <p>
+ * 서버마다 주기적으로 발행되지 않은 event가 있는 partition을 찾고, partition row를 SKIP LOCKED로 잠근 뒤
+ * id 순서대로 전달하고 같은 transaction에서 발행 완료를 기록합니다. 한 partition은 한 서버만 처리하므로
+ * 같은 aggregate의 event는 순서대로 전달되며, 전달 후 commit 전에 실패하면 다시 전달됩니다(at-least-once).
+ * <p>
+ * listener가 실패한 event는 지수적으로 늦춰 다시 시도하며, 그동안 같은 aggregate의 이후 event도 전달하지 않습니다.
+ * 기다리는 event와 그 aggregate의 이후 event는 조회할 때 제외하므로, 한 aggregate의 실패가 partition의 다른 aggregate를 막지 않습니다.
+ * maxAttempts번 실패한 event는 last_error를 남기고 건너뜁니다.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final int DELETE_SIZE = 1000;
+
+    private final OutboxMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<DomainEventStream> domainEventStream;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retention;
+    private final Map<String, Class<? extends DomainEvent>> eventTypes = new ConcurrentHashMap<>();
+
+    public OutboxRelay(OutboxMapper mapper,
+                       ApplicationEventPublisher eventPublisher,
+                       ObjectMapper objectMapper,
+                       TransactionTemplate transactionTemplate,
+                       ObjectProvider<DomainEventStream> domainEventStream,
+                       @Value("${soccerfriend.outbox.batch-size:100}") int batchSize,
+                       @Value("${soccerfriend.outbox.max-attempts:15}") int maxAttempts,
+                       @Value("${soccerfriend.outbox.retention:7d}") Duration retention) {
+        this.mapper = mapper;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.domainEventStream = domainEventStream;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retention = retention;
+    }
+
+    /**
+     * 발행되지 않은 event가 있는 partition들을 차례로 처리합니다.
+     */
+    @Scheduled(fixedDelayString = "${soccerfriend.outbox.poll-interval:200}")
+    public void relay() {
+        List<Integer> partitions;
+        try {
+            partitions = mapper.getPendingPartitions();
+        } catch (RuntimeException e) {
+            log.warn("failed to find pending outbox partitions", e);
+            return;
+        }
+
+        for (int partitionNo : partitions) {
+            try {
+                boolean hasMore = true;
+                while (hasMore) {
+                    hasMore = Boolean.TRUE.equals(transactionTemplate.execute(status -> relay(partitionNo)));
+                }
+            } catch (RuntimeException e) {
+                log.warn("failed to relay outbox partition {}", partitionNo, e);
+            }
+        }
+    }
+
+    /**
+     * 발행된 지 retention이 지난 event를 삭제합니다.
+     */
+    @Scheduled(cron = "${soccerfriend.outbox.cleanup-cron:0 30 4 * * *}")
+    public void deletePublished() {
+        LocalDateTime before = LocalDateTime.now().minus(retention);
+        long deleted = 0;
+        int count;
+        do {
+            count = mapper.deletePublished(before, DELETE_SIZE);
+            deleted += count;
+        } while (count == DELETE_SIZE);
+        log.info("deleted {} published outbox events", deleted);
+    }
+
+    /**
+     * partition의 event를 한 batch만큼 전달합니다.
+     *
+     * @return 이어서 처리할 event가 남아있을 수 있는지 여부
+     */
+    private boolean relay(int partitionNo) {
+        if (mapper.lockPartition(partitionNo) == null) {
+            return false;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = mapper.getPendingEvents(partitionNo, now, batchSize);
+        Set<String> blockedAggregates = new HashSet<>();
+        List<OutboxEvent> delivered = new ArrayList<>();
+        for (OutboxEvent event : events) {
+            String aggregate = event.getAggregateType() + ":" + event.getAggregateId();
+            if (blockedAggregates.contains(aggregate)) {
+                continue;
+            }
+
+            try {
+                dispatch(event);
+                delivered.add(event);
+            } catch (Exception e) {
+                if (!recordFailure(event, e, now)) {
+                    blockedAggregates.add(aggregate);
+                }
+            }
+        }
+
+        if (delivered.isEmpty()) {
+            return false;
+        }
+        domainEventStream.ifAvailable(stream -> stream.publish(delivered));
+        List<Long> ids = new ArrayList<>(delivered.size());
+        for (OutboxEvent event : delivered) {
+            ids.add(event.getId());
+        }
+        mapper.setPublished(ids);
+        return events.size() == batchSize && blockedAggregates.isEmpty();
+    }
+
+    private void dispatch(OutboxEvent outboxEvent) throws IOException, ClassNotFoundException {
+        InjectableValues eventId = new InjectableValues.Std().addValue(DomainEvent.EVENT_ID, outboxEvent.getId());
+        DomainEvent event = objectMapper.readerFor(getEventType(outboxEvent.getEventType()))
+                                        .with(eventId)
+                                        .readValue(outboxEvent.getPayload());
+        eventPublisher.publishEvent(event);
+    }
+
+    /**
+     * 실패를 기록합니다. maxAttempts번 실패했다면 event를 건너뛰도록 발행된 것으로 기록합니다.
+     *
+     * @return event를 건너뛰었는지 여부
+     */
+    private boolean recordFailure(OutboxEvent event, Exception e, LocalDateTime now) {
+        int attempts = event.getAttempts() + 1;
+        boolean park = attempts >= maxAttempts;
+        String error = String.valueOf(e);
+        if (error.length() > MAX_ERROR_LENGTH) {
+            error = error.substring(0, MAX_ERROR_LENGTH);
+        }
+
+        Duration backoff = Duration.ofSeconds(1L << Math.min(attempts, 20));
+        mapper.recordFailure(event.getId(), error, now.plus(backoff.compareTo(MAX_BACKOFF) < 0 ? backoff : MAX_BACKOFF), park);
+        if (park) {
+            log.error("gave up outbox event {} {} after {} attempts", event.getId(), event.getEventType(), attempts, e);
+        } else {
+            log.warn("failed to relay outbox event {} {}, attempt {}", event.getId(), event.getEventType(), attempts, e);
+        }
+        return park;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Class<? extends DomainEvent> getEventType(String name) throws ClassNotFoundException {
+        Class<? extends DomainEvent> type = eventTypes.get(name);
+        if (type != null) {
+            return type;
+        }
+
+        Class<?> loaded = Class.forName(name);
+        if (!DomainEvent.class.isAssignableFrom(loaded)) {
+            throw new IllegalArgumentException(name + " is not a domain event");
+        }
+        type = (Class<? extends DomainEvent>) loaded;
+        eventTypes.put(name, type);
+        return type;
+    }
+}
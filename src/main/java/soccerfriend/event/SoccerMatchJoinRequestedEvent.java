@@ -0,0 +1,42 @@
+package soccerfriend.event;
+
+import com.fasterxml.jackson.annotation.JacksonInject;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.OptBoolean;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * member가 소속 club으로 축구경기에 참가신청을 했습니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@JsonIgnoreProperties(value = "eventId", allowGetters = true)
+public class SoccerMatchJoinRequestedEvent implements DomainEvent {
+
+    @JacksonInject(value = DomainEvent.EVENT_ID, useInput = OptBoolean.FALSE)
+    private long eventId;
+
+    private int soccerMatchId;
+
+    private int clubId;
+
+    private int memberId;
+
+    public SoccerMatchJoinRequestedEvent(int soccerMatchId, int clubId, int memberId) {
+        this.soccerMatchId = soccerMatchId;
+        this.clubId = clubId;
+        this.memberId = memberId;
+    }
+
+    @Override
+    public String getAggregateType() {
+        return "club";
+    }
+
+    @Override
+    public int getAggregateId() {
+        return clubId;
+    }
+}
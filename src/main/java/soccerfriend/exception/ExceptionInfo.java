@@ -9,6 +9,8 @@ public enum ExceptionInfo {
 
     CHANGE_PASSWORD_REQUIRED(401, "비밀번호를 변경해주세요"),
     NOT_LOGIN(401, "로그인되어있지 않습니다."),
+    TOKEN_INVALID(401, "유효하지 않은 토큰입니다."),
+    TOKEN_EXPIRED(401, "만료된 토큰입니다. 토큰을 재발급해주세요."),
     NO_ORDER_PERMISSION(401, "해당 주문에 관한 권한이 없습니다."),
     NOT_CLUB_OF_SOCCER_MATCH(401, "경기에 참여하는 club이 아닙니다."),
     NOT_STADIUM_OWNER(401, "경기장의 사업자가 아닙니다."),
@@ -17,6 +19,7 @@ public enum ExceptionInfo {
     NOT_CLUB_MEMBER(401, "해당 클럽의 회원이 아닙니다."),
     IS_CLUB_LEADER(401, "해당 클럽의 leader는 탈퇴할 수 없습니다."),
     PAYMENT_FAIL(401, "결제에 실패했습니다."),
+    NO_POST_PERMISSION(401, "게시글의 작성자가 아닙니다."),
 
     CODE_NOT_EXIST(404, "존재하지 않는 코드입니다."),
     TOSS_PAYMENT_FAIL(404, "토스페이먼트 결제승인과정에서 오류가 발생했습니다."),
@@ -30,8 +33,11 @@ public enum ExceptionInfo {
     SOCCER_MATCH_NOT_EXIST(404, "존재하지 않은 경기입니다."),
     POSITIONS_NOT_EXIST(404, "존재하지 않은 포지션입니다."),
     ADDRESS_NOT_EXIST(404, "존재하지 않은 주소입니다."),
+    ADDRESS_LOCATION_NOT_EXIST(404, "해당 주소의 위치 정보가 없습니다."),
     EMAIL_NOT_EXIST(404, "존재하지 않은 이메일입니다."),
     BULLETIN_NOT_EXIST(404, "존재하지 않은 게시판입니다."),
+    POST_NOT_EXIST(404, "존재하지 않은 게시글입니다."),
+    PHOTO_NOT_EXIST(404, "존재하지 않은 사진입니다."),
     ID_NOT_EXIST(404, "존재하지 않은 아이디입니다."),
     MEMBER_NOT_EXIST(404, "해당 회원이 존재하지 않습니다."),
     STADIUM_OWNER_NOT_EXIST(404, "존재하지 않은 경기장 사업자입니다."),
@@ -42,9 +48,24 @@ public enum ExceptionInfo {
     CLUB_MEMBER_NOT_EXIST(404, "해당 클럽회원이 존재하지 않습니다"),
     CLUB_NOT_EXIST(404, "해당 클럽이 존재하지 않습니다"),
     PAYER_TYPE_NOT_EXIST(404, "결제 대상이 아닙니다."),
+    TOURNAMENT_NOT_EXIST(404, "존재하지 않은 대회입니다."),
+    NOT_PROPER_TOURNAMENT(404, "대회에 대한 정보가 정확하지 않습니다. 참가 클럽, 세트, 기간을 다시 확인해주세요."),
+    HOST_CLUB_NOT_IN_TOURNAMENT(404, "주최 클럽은 대회의 참가 클럽이어야 합니다."),
+    NOT_INVITED_TO_TOURNAMENT(404, "대회에 초대되지 않았거나 이미 응답한 클럽입니다."),
+    STADIUM_NOT_EXIST(404, "존재하지 않은 경기장입니다."),
+    NOT_PROPER_EXPORT_FORMAT(404, "지원하지 않는 내려받기 형식입니다. csv나 ndjson을 선택해주세요."),
+    NOT_PROPER_IMPORT_FILE(404, "경기결과 파일의 형식이 올바르지 않습니다. CSV는 soccerMatchId,memberId,numSet,timeSet header가 필요하며, 한 줄은 16384자, 경기별 골은 100개, 읽지 못한 줄은 100개까지 허용합니다."),
+    NOT_PROPER_REVENUE_PERIOD(404, "조회 기간이 올바르지 않습니다. 일별 매출은 92일까지 조회할 수 있습니다."),
+    NOT_PROPER_LOCATION(404, "위치가 올바르지 않습니다. 위도(-90~90)와 경도(-180~180)를 함께 입력해주세요."),
 
 
     SAME_NAME_FOR_UPDATE(409, "이전과 동일한 이름입니다."),
+    NOT_PHOTO_BULLETIN(409, "사진 게시판이 아닙니다."),
+    PHOTO_NOT_INCLUDED(409, "업로드할 사진이 없습니다."),
+    PHOTO_TOO_LARGE(413, "사진의 크기가 너무 큽니다."),
+    UNSUPPORTED_PHOTO_TYPE(415, "지원하지 않는 사진 형식입니다."),
+    TOO_MANY_IMPORT_MATCHES(413, "한 번에 가져올 수 있는 경기 수를 넘었습니다."),
+    UNSUPPORTED_IMPORT_TYPE(415, "지원하지 않는 경기결과 파일 형식입니다. text/csv나 application/x-ndjson으로 보내주세요."),
     CLUB_BULLETINS_FULL(409, "클럽내 게시판 개수가 최대입니다."),
     BULLETIN_NAME_DUPLICATED(409, "이미 존재하는 게시판 이름입니다."),
     CODE_INCORRECT(409, "일치하지 않은 코드입니다."),
@@ -54,6 +75,9 @@ public enum ExceptionInfo {
     NOT_ENOUGH_POINT(409, "포인트가 부족합니다."),
     SAME_AS_HOST_CLUB(409, "경기 주최클럽과 동일한 클럽은 상대가 될 수 없습니다."),
     ALREADY_MATCH_APPROVED(409, "이미 성사된 경기입니다."),
+    NOT_ENOUGH_STADIUM_SLOT(409, "대회의 모든 경기를 배정할 경기장 시간이 부족합니다."),
+    TOURNAMENT_NOT_INVITING(409, "참가 클럽의 수락을 기다리는 대회가 아닙니다."),
+    STADIUM_SLOT_ALREADY_BOOKED(409, "대회 경기의 경기장 시간에 이미 다른 경기가 잡혀 있습니다."),
     ALREADY_PAID_CLUB_MONTHLY_FEE(409, "이미 클럽에 월회비를 납부했습니다."),
     ALREADY_JOINED_CLUB(409, "이미 해당 클럽에 가입신청했습니다."),
     ALREADY_JOINED_SOCCER_MATCH(409, "이미 해당 경기에 참가신청했습니다."),
@@ -0,0 +1,42 @@
+package soccerfriend.export;
+
+import java.util.Locale;
+
+/**
+ * 내려받기 파일의 형식입니다.
+ */
+public enum ExportFormat {
+    CSV("text/csv; charset=UTF-8", "csv"),
+    NDJSON("application/x-ndjson; charset=UTF-8", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * 요청 parameter에 해당하는 형식을 반환합니다.
+     *
+     * @param name 형식의 이름(csv, ndjson)
+     * @return 형식, 지원하지 않는 이름이라면 null
+     */
+    public static ExportFormat of(String name) {
+        for (ExportFormat format : values()) {
+            if (format.extension.equals(name.toLowerCase(Locale.ROOT))) {
+                return format;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,159 @@
+package soccerfriend.export;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * row들을 CSV나 NDJSON으로 씁니다.
+ * <p>
+ * 열마다 이름과 값을 꺼내는 함수를 두고, row를 하나씩 받아 바로 writer에 쓰므로 row 수와 관계없이 heap 사용량이 일정합니다.
+ * 값은 숫자, boolean, 문자열과 시각(yyyy-MM-dd'T'HH:mm:ss)을 지원하며, null은 CSV에서 빈 칸, NDJSON에서 null로 씁니다.
+ * 열 정보는 만든 뒤 바뀌지 않으므로 여러 thread에서 함께 사용할 수 있습니다.
+ *
+ * @param <T> row의 type
+ */
+public class RowExporter<T> {
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private final List<String> names = new ArrayList<>();
+    private final List<String> jsonKeys = new ArrayList<>();
+    private final List<Function<T, ?>> values = new ArrayList<>();
+
+    /**
+     * 열을 추가합니다.
+     *
+     * @param name  열의 이름, CSV header와 NDJSON key로 사용합니다.
+     * @param value row에서 열의 값을 꺼내는 함수
+     * @return 이 exporter
+     */
+    public RowExporter<T> column(String name, Function<T, ?> value) {
+        names.add(name);
+        jsonKeys.add((jsonKeys.isEmpty() ? "{\"" : ",\"") + name + "\":");
+        values.add(value);
+        return this;
+    }
+
+    /**
+     * row들을 모두 씁니다. writer는 닫지 않습니다.
+     *
+     * @param rows   쓸 row들
+     * @param format 파일의 형식
+     * @param out    writer
+     * @return 쓴 row 수
+     */
+    public long write(Iterable<T> rows, ExportFormat format, Writer out) throws IOException {
+        if (format == ExportFormat.CSV) {
+            out.write(String.join(",", names));
+            out.write('\n');
+        }
+
+        long count = 0;
+        for (T row : rows) {
+            if (format == ExportFormat.CSV) {
+                writeCsv(row, out);
+            } else {
+                writeNdjson(row, out);
+            }
+            count++;
+        }
+        out.flush();
+        return count;
+    }
+
+    private void writeCsv(T row, Writer out) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            Object value = values.get(i).apply(row);
+            if (value == null) {
+                continue;
+            }
+            if (value instanceof Number || value instanceof Boolean) {
+                out.write(value.toString());
+            } else {
+                writeCsvString(text(value), out);
+            }
+        }
+        out.write('\n');
+    }
+
+    private void writeNdjson(T row, Writer out) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            out.write(jsonKeys.get(i));
+            Object value = values.get(i).apply(row);
+            if (value == null || value instanceof Number || value instanceof Boolean) {
+                out.write(String.valueOf(value));
+            } else {
+                writeJsonString(text(value), out);
+            }
+        }
+        out.write("}\n");
+    }
+
+    private static String text(Object value) {
+        return value instanceof LocalDateTime ? DATE_TIME.format((LocalDateTime) value) : value.toString();
+    }
+
+    /**
+     * 쉼표, 큰따옴표, 줄바꿈이 있는 값만 큰따옴표로 감싸고 안의 큰따옴표는 두 번 씁니다(RFC 4180).
+     * 회원이 입력한 문자열이 spreadsheet에서 수식으로 실행되지 않도록 =, +, -, @, tab, carriage return으로 시작하는 값은 앞에 '를 붙입니다.
+     */
+    static void writeCsvString(String value, Writer out) throws IOException {
+        if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+
+    static void writeJsonString(String value, Writer out) throws IOException {
+        out.write('"');
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c != '"' && c != '\\' && c >= 0x20) {
+                continue;
+            }
+            out.write(value, start, i - start);
+            switch (c) {
+                case '"':
+                    out.write("\\\"");
+                    break;
+                case '\\':
+                    out.write("\\\\");
+                    break;
+                case '\n':
+                    out.write("\\n");
+                    break;
+                case '\r':
+                    out.write("\\r");
+                    break;
+                case '\t':
+                    out.write("\\t");
+                    break;
+                default:
+                    out.write(String.format("\\u%04x", (int) c));
+            }
+            start = i + 1;
+        }
+        out.write(value, start, value.length() - start);
+        out.write('"');
+    }
+}
@@ -0,0 +1,94 @@
+package soccerfriend.feed;
+
+import soccerfriend.dto.FeedEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 최신순으로 정렬된 여러 timeline을 하나의 최신순 목록으로 합칩니다.
+ * 각 timeline의 앞에서부터 필요한 만큼만 읽으므로 비용은 timeline의 수 k와 결과의 크기 n에 대해 O(n log k)입니다.
+ */
+public class FeedMerger {
+
+    private FeedMerger() {
+    }
+
+    /**
+     * timeline들을 합쳐 cursor보다 오래된 event를 최신순으로 size개까지 반환합니다.
+     * 같은 event가 여러 timeline에 있다면 한 번만 포함하며, 속하지 않은 club의 event는 제외합니다.
+     *
+     * @param timelines 최신순으로 정렬된 timeline들
+     * @param clubIds   포함할 club의 id들
+     * @param cursor    이전 page의 마지막 event의 id, 첫 page라면 null
+     * @param size      반환할 최대 event 수
+     * @return 최신순으로 정렬된 event 목록
+     */
+    public static List<FeedEvent> merge(List<List<FeedEvent>> timelines, Set<Integer> clubIds, Long cursor, int size) {
+        PriorityQueue<Head> heads = new PriorityQueue<>(Math.max(1, timelines.size()));
+        for (List<FeedEvent> timeline : timelines) {
+            Head head = new Head(timeline);
+            if (head.seek(cursor)) {
+                heads.add(head);
+            }
+        }
+
+        List<FeedEvent> merged = new ArrayList<>(size);
+        long lastId = Long.MAX_VALUE;
+        while (merged.size() < size && !heads.isEmpty()) {
+            Head head = heads.poll();
+            FeedEvent event = head.current();
+            if (event.getId() != lastId && clubIds.contains(event.getClubId())) {
+                merged.add(event);
+                lastId = event.getId();
+            }
+            if (head.next()) {
+                heads.add(head);
+            }
+        }
+        return merged;
+    }
+
+    private static class Head implements Comparable<Head> {
+
+        private final List<FeedEvent> timeline;
+        private int index;
+
+        Head(List<FeedEvent> timeline) {
+            this.timeline = timeline;
+        }
+
+        boolean seek(Long cursor) {
+            if (cursor == null) {
+                return !timeline.isEmpty();
+            }
+            int low = 0;
+            int high = timeline.size();
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (timeline.get(middle).getId() >= cursor) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            index = low;
+            return index < timeline.size();
+        }
+
+        FeedEvent current() {
+            return timeline.get(index);
+        }
+
+        boolean next() {
+            return ++index < timeline.size();
+        }
+
+        @Override
+        public int compareTo(Head other) {
+            return Long.compare(other.current().getId(), current().getId());
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package soccerfriend.feed;
+
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import soccerfriend.dto.FeedEvent;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * redis에 저장되는 feed timeline입니다.
+ * member마다 최근 event를 담는 크기 제한된 list(fan-out-on-write)를 두고, club마다도 같은 list를 둡니다.
+ * 구성원이 많은 club의 event는 member list에 복사하지 않고 club list에만 기록하며, 조회시 club list를 함께 읽습니다(fan-out-on-read).
+ * event는 "id,type,clubId,targetId,epochSecond" 형태의 문자열로 저장하여 복사본의 크기를 줄입니다.
+ */
+public class FeedTimeline {
+
+    public static final String MEMBER_KEY_PREFIX = "soccerfriend:feed:member:";
+    public static final String CLUB_KEY_PREFIX = "soccerfriend:feed:club:";
+    public static final String LARGE_CLUBS_KEY = "soccerfriend:feed:large-clubs";
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    private static final Comparator<FeedEvent> LATEST_FIRST = Comparator.comparingLong(FeedEvent::getId).reversed();
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final int memberCapacity;
+    private final int clubCapacity;
+
+    public FeedTimeline(StringRedisTemplate stringRedisTemplate, int memberCapacity, int clubCapacity) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.memberCapacity = memberCapacity;
+        this.clubCapacity = clubCapacity;
+    }
+
+    /**
+     * event를 club의 timeline과 member들의 timeline에 기록합니다.
+     * 모든 기록은 하나의 pipeline으로 전송됩니다.
+     *
+     * @param event     기록할 event
+     * @param memberIds event를 복사할 member들의 id
+     * @param largeClub fan-out-on-read로 조회할 club인지 여부
+     */
+    public void append(FeedEvent event, Collection<Integer> memberIds, boolean largeClub) {
+        String value = encode(event);
+        String clubId = Integer.toString(event.getClubId());
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            push(redis, CLUB_KEY_PREFIX + clubId, value, clubCapacity);
+            if (largeClub) {
+                redis.sAdd(LARGE_CLUBS_KEY, clubId);
+            } else {
+                redis.sRem(LARGE_CLUBS_KEY, clubId);
+            }
+            for (int memberId : memberIds) {
+                push(redis, MEMBER_KEY_PREFIX + memberId, value, memberCapacity);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * member의 timeline과, member가 속한 club 중 fan-out-on-read로 조회할 club들의 timeline을 읽습니다.
+     * 각 timeline은 최신순으로 정렬되어 있습니다.
+     *
+     * @param memberId member의 id
+     * @param clubIds  member가 속한 club의 id들
+     * @return 읽은 timeline들
+     */
+    public List<List<FeedEvent>> read(int memberId, List<Integer> clubIds) {
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            redis.lRange(MEMBER_KEY_PREFIX + memberId, 0, memberCapacity - 1);
+            for (int clubId : clubIds) {
+                redis.sIsMember(LARGE_CLUBS_KEY, Integer.toString(clubId));
+            }
+            return null;
+        });
+
+        List<List<FeedEvent>> timelines = new ArrayList<>();
+        timelines.add(decode(results.get(0)));
+
+        List<Integer> largeClubIds = new ArrayList<>();
+        for (int i = 0; i < clubIds.size(); i++) {
+            if (Boolean.TRUE.equals(results.get(i + 1))) {
+                largeClubIds.add(clubIds.get(i));
+            }
+        }
+        if (largeClubIds.isEmpty()) {
+            return timelines;
+        }
+
+        List<Object> clubTimelines = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            for (int clubId : largeClubIds) {
+                redis.lRange(CLUB_KEY_PREFIX + clubId, 0, clubCapacity - 1);
+            }
+            return null;
+        });
+        for (Object clubTimeline : clubTimelines) {
+            timelines.add(decode(clubTimeline));
+        }
+        return timelines;
+    }
+
+    private void push(StringRedisConnection redis, String key, String value, int capacity) {
+        redis.lPush(key, value);
+        redis.lTrim(key, 0, capacity - 1);
+    }
+
+    /**
+     * 서로 다른 event의 기록이 동시에 진행되면 list의 순서가 id 순서와 조금 어긋날 수 있으므로 읽은 뒤 다시 정렬합니다.
+     * 거의 정렬된 list이므로 비용은 크지 않습니다.
+     */
+    @SuppressWarnings("unchecked")
+    private List<FeedEvent> decode(Object values) {
+        List<FeedEvent> events = new ArrayList<>();
+        if (values == null) {
+            return events;
+        }
+        for (String value : (List<String>) values) {
+            events.add(decode(value));
+        }
+        events.sort(LATEST_FIRST);
+        return events;
+    }
+
+    static String encode(FeedEvent event) {
+        long epochSecond = event.getCreatedAt().atZone(ZONE).toEpochSecond();
+        return event.getId() + "," + event.getType().name() + "," + event.getClubId() + ","
+                + event.getTargetId() + "," + epochSecond;
+    }
+
+    static FeedEvent decode(String value) {
+        int type = value.indexOf(',');
+        int clubId = value.indexOf(',', type + 1);
+        int targetId = value.indexOf(',', clubId + 1);
+        int createdAt = value.indexOf(',', targetId + 1);
+        long epochSecond = Long.parseLong(value, createdAt + 1, value.length(), 10);
+        return FeedEvent.builder()
+                        .id(Long.parseLong(value, 0, type, 10))
+                        .type(FeedEvent.Type.valueOf(value.substring(type + 1, clubId)))
+                        .clubId(Integer.parseInt(value, clubId + 1, targetId, 10))
+                        .targetId(Integer.parseInt(value, targetId + 1, createdAt, 10))
+                        .createdAt(LocalDateTime.ofEpochSecond(epochSecond, 0, ZONE.getRules().getOffset(Instant.ofEpochSecond(epochSecond))))
+                        .build();
+    }
+}
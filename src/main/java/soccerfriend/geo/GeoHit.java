@@ -0,0 +1,16 @@
+package soccerfriend.geo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 위치 검색 결과 하나입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class GeoHit {
+
+    private final int id;
+
+    private final double distanceKm;
+}
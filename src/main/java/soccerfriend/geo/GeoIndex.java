@@ -0,0 +1,382 @@
+package soccerfriend.geo;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * id별 위도, 경도를 격자(grid)로 나누어 보관하고 반경 검색과 가까운 순서 검색을 제공하는 서버 메모리 index입니다.
+ * <p>
+ * 격자 한 칸은 cellDegrees도 크기이며, 칸마다 id와 좌표를 배열로 가집니다. 칸은 바뀌지 않는 객체이고 변경시 새 칸으로 교체하므로
+ * 조회는 잠금 없이 수행되며, 변경은 이 객체에서 동기화됩니다.
+ * 전체 재구성은 새 격자를 따로 만든 뒤 교체하며, 재구성하는 동안 들어온 변경은 교체된 격자에도 다시 반영합니다.
+ * <p>
+ * 거리는 구면 위의 대원거리(km)입니다. 날짜변경선을 지나는 검색은 지원하지 않습니다.
+ */
+public class GeoIndex {
+
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+    public static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+    private static final double MAX_LATITUDE = 89.9;
+
+    private final double cellDegrees;
+    private volatile Grid grid;
+    private Map<Integer, double[]> changedDuringRebuild;
+
+    public GeoIndex(double cellDegrees) {
+        this.cellDegrees = cellDegrees;
+        this.grid = new Grid(cellDegrees);
+    }
+
+    public int size() {
+        return grid.locations.size();
+    }
+
+    /**
+     * id의 위치를 추가하거나 교체합니다.
+     *
+     * @param id        id
+     * @param latitude  위도
+     * @param longitude 경도
+     */
+    public synchronized void put(int id, double latitude, double longitude) {
+        grid.put(id, latitude, longitude);
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.put(id, new double[]{latitude, longitude});
+        }
+    }
+
+    /**
+     * id의 위치를 삭제합니다.
+     *
+     * @param id id
+     */
+    public synchronized void remove(int id) {
+        grid.remove(id);
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.put(id, null);
+        }
+    }
+
+    /**
+     * 전체 재구성을 시작합니다. 반환된 Rebuild에 모든 위치를 더한 뒤 finish를 호출하면 index가 교체됩니다.
+     *
+     * @return 새 격자를 만드는 Rebuild
+     */
+    public synchronized Rebuild startRebuild() {
+        changedDuringRebuild = new HashMap<>();
+        return new Rebuild();
+    }
+
+    /**
+     * 중심에서 반경 안에 있는 위치들을 가까운 순서로 반환합니다.
+     *
+     * @param latitude  중심의 위도
+     * @param longitude 중심의 경도
+     * @param radiusKm  반경(km)
+     * @param limit     최대 개수
+     * @return 가까운 순서의 검색 결과
+     */
+    public List<GeoHit> within(double latitude, double longitude, double radiusKm, int limit) {
+        Grid grid = this.grid;
+        double latitudeSpan = radiusKm / KM_PER_DEGREE;
+        double longitudeSpan = radiusKm / (KM_PER_DEGREE * Math.cos(Math.toRadians(Math.min(MAX_LATITUDE, Math.abs(latitude) + latitudeSpan))));
+        int fromRow = grid.row(latitude - latitudeSpan);
+        int toRow = grid.row(latitude + latitudeSpan);
+        int fromColumn = grid.column(Math.max(-180, longitude - longitudeSpan));
+        int toColumn = grid.column(Math.min(180, longitude + longitudeSpan));
+
+        Nearest nearest = new Nearest(limit);
+        double centerLatitude = Math.toRadians(latitude);
+        double cosCenterLatitude = Math.cos(centerLatitude);
+        for (int row = fromRow; row <= toRow; row++) {
+            for (int column = fromColumn; column <= toColumn; column++) {
+                Cell cell = grid.cells.get(key(row, column));
+                if (cell != null) {
+                    cell.collect(centerLatitude, cosCenterLatitude, longitude, radiusKm, nearest);
+                }
+            }
+        }
+        return nearest.toList();
+    }
+
+    /**
+     * 중심에서 가장 가까운 위치들을 가까운 순서로 반환합니다.
+     * 중심의 칸부터 한 겹씩 넓혀가며 찾고, 다음 겹의 최소 거리가 지금까지 찾은 k번째 거리보다 멀어지면 멈춥니다.
+     *
+     * @param latitude  중심의 위도
+     * @param longitude 중심의 경도
+     * @param k         최대 개수
+     * @return 가까운 순서의 검색 결과
+     */
+    public List<GeoHit> nearest(double latitude, double longitude, int k) {
+        Grid grid = this.grid;
+        Nearest nearest = new Nearest(k);
+        if (k <= 0 || grid.locations.isEmpty()) {
+            return nearest.toList();
+        }
+
+        int centerRow = grid.row(latitude);
+        int centerColumn = grid.column(longitude);
+        int maxRing = Math.max(Math.max(centerRow - grid.minRow, grid.maxRow - centerRow),
+                Math.max(centerColumn - grid.minColumn, grid.maxColumn - centerColumn));
+        double centerLatitude = Math.toRadians(latitude);
+        double cosCenterLatitude = Math.cos(centerLatitude);
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            for (int row = centerRow - ring; row <= centerRow + ring; row++) {
+                boolean edgeRow = row == centerRow - ring || row == centerRow + ring;
+                int step = edgeRow ? 1 : Math.max(1, 2 * ring);
+                for (int column = centerColumn - ring; column <= centerColumn + ring; column += step) {
+                    Cell cell = grid.cells.get(key(row, column));
+                    if (cell != null) {
+                        cell.collect(centerLatitude, cosCenterLatitude, longitude, Double.MAX_VALUE, nearest);
+                    }
+                }
+            }
+            if (nearest.isFull() && nearest.farthest() <= minDistanceBeyond(latitude, ring)) {
+                break;
+            }
+        }
+        return nearest.toList();
+    }
+
+    /**
+     * ring 겹까지 확인했을 때 아직 확인하지 않은 칸에 있는 위치까지의 최소 거리입니다.
+     */
+    private double minDistanceBeyond(double latitude, int ring) {
+        double degrees = ring * cellDegrees;
+        double cosLatitude = Math.cos(Math.toRadians(Math.min(MAX_LATITUDE, Math.abs(latitude) + degrees)));
+        return degrees * KM_PER_DEGREE * cosLatitude;
+    }
+
+    private static long key(int row, int column) {
+        return ((long) row << 32) | (column & 0xffffffffL);
+    }
+
+    private static double distanceKm(double latitude1, double cosLatitude1, double longitude1,
+                                     double latitude2, double longitude2) {
+        double latitude2Radians = Math.toRadians(latitude2);
+        double sinLatitude = Math.sin((latitude2Radians - latitude1) / 2);
+        double sinLongitude = Math.sin(Math.toRadians(longitude2 - longitude1) / 2);
+        double h = sinLatitude * sinLatitude + cosLatitude1 * Math.cos(latitude2Radians) * sinLongitude * sinLongitude;
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(h)));
+    }
+
+    /**
+     * 두 위치 사이의 대원거리를 반환합니다.
+     *
+     * @return 거리(km)
+     */
+    public static double distanceKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double latitude1Radians = Math.toRadians(latitude1);
+        return distanceKm(latitude1Radians, Math.cos(latitude1Radians), longitude1, latitude2, longitude2);
+    }
+
+    /**
+     * 새 격자를 만듭니다. 위치를 배열에 모은 뒤 finish에서 칸별로 나누므로 칸을 반복해서 복사하지 않습니다.
+     */
+    public class Rebuild {
+        private int[] ids = new int[1024];
+        private double[] latitudes = new double[1024];
+        private double[] longitudes = new double[1024];
+        private int size;
+
+        public void add(int id, double latitude, double longitude) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                latitudes = Arrays.copyOf(latitudes, size * 2);
+                longitudes = Arrays.copyOf(longitudes, size * 2);
+            }
+            ids[size] = id;
+            latitudes[size] = latitude;
+            longitudes[size] = longitude;
+            size++;
+        }
+
+        /**
+         * 새 격자로 index를 교체합니다. 재구성하는 동안 들어온 변경을 새 격자에 다시 반영합니다.
+         *
+         * @return 새 격자의 위치 수
+         */
+        public int finish() {
+            Grid rebuilt = new Grid(cellDegrees);
+            rebuilt.addAll(ids, latitudes, longitudes, size);
+            synchronized (GeoIndex.this) {
+                changedDuringRebuild.forEach((id, location) -> {
+                    if (location == null) {
+                        rebuilt.remove(id);
+                    } else {
+                        rebuilt.put(id, location[0], location[1]);
+                    }
+                });
+                changedDuringRebuild = null;
+                grid = rebuilt;
+            }
+            return rebuilt.locations.size();
+        }
+    }
+
+    private static class Grid {
+        private final double cellDegrees;
+        private final Map<Long, Cell> cells = new ConcurrentHashMap<>();
+        private final Map<Integer, double[]> locations = new ConcurrentHashMap<>();
+        private volatile int minRow = Integer.MAX_VALUE;
+        private volatile int maxRow = Integer.MIN_VALUE;
+        private volatile int minColumn = Integer.MAX_VALUE;
+        private volatile int maxColumn = Integer.MIN_VALUE;
+
+        private Grid(double cellDegrees) {
+            this.cellDegrees = cellDegrees;
+        }
+
+        private int row(double latitude) {
+            return (int) Math.floor((latitude + 90) / cellDegrees);
+        }
+
+        private int column(double longitude) {
+            return (int) Math.floor((longitude + 180) / cellDegrees);
+        }
+
+        private void put(int id, double latitude, double longitude) {
+            remove(id);
+            int row = row(latitude);
+            int column = column(longitude);
+            cells.compute(key(row, column), (key, cell) -> cell == null
+                    ? new Cell(new int[]{id}, new double[]{latitude}, new double[]{longitude})
+                    : cell.plus(id, latitude, longitude));
+            locations.put(id, new double[]{latitude, longitude});
+            extend(row, column);
+        }
+
+        private void remove(int id) {
+            double[] location = locations.remove(id);
+            if (location == null) {
+                return;
+            }
+            cells.computeIfPresent(key(row(location[0]), column(location[1])), (key, cell) -> cell.minus(id));
+        }
+
+        private void addAll(int[] ids, double[] latitudes, double[] longitudes, int size) {
+            Map<Long, Integer> counts = new HashMap<>();
+            long[] keys = new long[size];
+            for (int i = 0; i < size; i++) {
+                if (locations.put(ids[i], new double[]{latitudes[i], longitudes[i]}) != null) {
+                    throw new IllegalArgumentException("duplicated id " + ids[i]);
+                }
+                int row = row(latitudes[i]);
+                int column = column(longitudes[i]);
+                keys[i] = key(row, column);
+                counts.merge(keys[i], 1, Integer::sum);
+                extend(row, column);
+            }
+
+            Map<Long, Cell> built = new HashMap<>(counts.size() * 2);
+            Map<Long, Integer> filled = new HashMap<>(counts.size() * 2);
+            for (int i = 0; i < size; i++) {
+                int count = counts.get(keys[i]);
+                Cell cell = built.computeIfAbsent(keys[i], key -> new Cell(new int[count], new double[count], new double[count]));
+                int index = filled.merge(keys[i], 1, Integer::sum) - 1;
+                cell.ids[index] = ids[i];
+                cell.latitudes[index] = latitudes[i];
+                cell.longitudes[index] = longitudes[i];
+            }
+            cells.putAll(built);
+        }
+
+        private void extend(int row, int column) {
+            minRow = Math.min(minRow, row);
+            maxRow = Math.max(maxRow, row);
+            minColumn = Math.min(minColumn, column);
+            maxColumn = Math.max(maxColumn, column);
+        }
+    }
+
+    private static class Cell {
+        private final int[] ids;
+        private final double[] latitudes;
+        private final double[] longitudes;
+
+        private Cell(int[] ids, double[] latitudes, double[] longitudes) {
+            this.ids = ids;
+            this.latitudes = latitudes;
+            this.longitudes = longitudes;
+        }
+
+        private Cell plus(int id, double latitude, double longitude) {
+            int size = ids.length;
+            Cell cell = new Cell(Arrays.copyOf(ids, size + 1), Arrays.copyOf(latitudes, size + 1), Arrays.copyOf(longitudes, size + 1));
+            cell.ids[size] = id;
+            cell.latitudes[size] = latitude;
+            cell.longitudes[size] = longitude;
+            return cell;
+        }
+
+        private Cell minus(int id) {
+            int index = 0;
+            while (index < ids.length && ids[index] != id) {
+                index++;
+            }
+            if (index == ids.length) {
+                return this;
+            }
+            if (ids.length == 1) {
+                return null;
+            }
+            int last = ids.length - 1;
+            Cell cell = new Cell(Arrays.copyOf(ids, last), Arrays.copyOf(latitudes, last), Arrays.copyOf(longitudes, last));
+            if (index != last) {
+                cell.ids[index] = ids[last];
+                cell.latitudes[index] = latitudes[last];
+                cell.longitudes[index] = longitudes[last];
+            }
+            return cell;
+        }
+
+        private void collect(double centerLatitude, double cosCenterLatitude, double centerLongitude,
+                             double radiusKm, Nearest nearest) {
+            for (int i = 0; i < ids.length; i++) {
+                double distance = distanceKm(centerLatitude, cosCenterLatitude, centerLongitude, latitudes[i], longitudes[i]);
+                if (distance <= radiusKm) {
+                    nearest.offer(ids[i], distance);
+                }
+            }
+        }
+    }
+
+    /**
+     * 가장 가까운 limit개만 max heap으로 유지합니다.
+     */
+    private static class Nearest {
+        private final int limit;
+        private final PriorityQueue<GeoHit> heap;
+
+        private Nearest(int limit) {
+            this.limit = Math.max(0, limit);
+            this.heap = new PriorityQueue<>(Math.max(1, Math.min(this.limit, 1024)),
+                    Comparator.comparingDouble(GeoHit::getDistanceKm).reversed());
+        }
+
+        private void offer(int id, double distanceKm) {
+            if (heap.size() < limit) {
+                heap.add(new GeoHit(id, distanceKm));
+            } else if (limit > 0 && distanceKm < heap.peek().getDistanceKm()) {
+                heap.poll();
+                heap.add(new GeoHit(id, distanceKm));
+            }
+        }
+
+        private boolean isFull() {
+            return heap.size() == limit;
+        }
+
+        private double farthest() {
+            return heap.peek().getDistanceKm();
+        }
+
+        private List<GeoHit> toList() {
+            List<GeoHit> hits = new ArrayList<>(heap);
+            hits.sort(Comparator.comparingDouble(GeoHit::getDistanceKm).thenComparingInt(GeoHit::getId));
+            return hits;
+        }
+    }
+}
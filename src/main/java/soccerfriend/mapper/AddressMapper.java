@@ -1,12 +1,16 @@
 package soccerfriend.mapper;
 
 import org.apache.ibatis.annotations.Mapper;
+import soccerfriend.datasource.ReplicaRead;
 import soccerfriend.dto.Address;
 
 import java.util.List;
 
 @Mapper
+@ReplicaRead
 public interface AddressMapper {
 
     public List<Address> getAddressByCity(String city);
+
+    public Address getAddressById(int id);
 }
@@ -2,6 +2,7 @@ package soccerfriend.mapper;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import soccerfriend.datasource.ReplicaRead;
 import soccerfriend.dto.Bulletin;
 
 import java.util.List;
@@ -22,6 +23,7 @@ public interface BulletinMapper {
 
     public Bulletin getBulletinById(int id);
 
+    @ReplicaRead
     public List<Bulletin> getBulletinsByClubId(int clubId);
 
     public void updateName(@Param("id") int id, @Param("name") String name);
@@ -0,0 +1,33 @@
+package soccerfriend.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
+import soccerfriend.datasource.ReplicaRead;
+import soccerfriend.dto.ClubForm;
+import soccerfriend.dto.HeadToHead;
+import soccerfriend.dto.SoccerMatchResult;
+
+import java.util.Collection;
+
+@Mapper
+public interface ClubHistoryMapper {
+
+    public void addHeadToHead(HeadToHead headToHead);
+
+    @ReplicaRead
+    public HeadToHead getHeadToHead(@Param("clubId") int clubId, @Param("opponentClubId") int opponentClubId);
+
+    public void addForm(@Param("clubId") int clubId, @Param("result") String result);
+
+    @ReplicaRead
+    public ClubForm getForm(int clubId);
+
+    public boolean isFormExist();
+
+    public Cursor<SoccerMatchResult> getSubmittedResults();
+
+    public void saveHeadToHeads(@Param("headToHeads") Collection<HeadToHead> headToHeads);
+
+    public void saveForms(@Param("forms") Collection<ClubForm> forms);
+}
@@ -2,6 +2,7 @@ package soccerfriend.mapper;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import soccerfriend.datasource.ReplicaRead;
 import soccerfriend.dto.ClubMember;
 
 import java.util.List;
@@ -23,8 +24,10 @@ public interface ClubMemberMapper {
 
     public ClubMember getClubMemberByClubIdAndMemberId(@Param("clubId") int clubId, @Param("memberId") int memberId);
 
+    @ReplicaRead
     public List<ClubMember> getClubMembers(int clubId);
 
+    @ReplicaRead
     public List<ClubMember> getNotApprovedClubMembers(int clubId);
 
     public void setApprovedTrue(int id);
@@ -36,5 +39,12 @@ public interface ClubMemberMapper {
     public List<ClubMember> getNotPaidClubMembers(@Param("clubId") int clubId, @Param("year") int year, @Param("month") int month);
 
     public List<Integer> getClubIdOfMember(int memberId);
+
+    @ReplicaRead
+    public List<Integer> getApprovedClubIdOfMember(int memberId);
+
+    public List<Integer> getApprovedMemberIds(@Param("clubId") int clubId, @Param("limit") int limit);
+
+    public List<Integer> getLeaderAndStaffIds(int clubId);
 }
 
@@ -2,6 +2,8 @@ package soccerfriend.mapper;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
+import soccerfriend.dto.ClubDues;
 import soccerfriend.dto.ClubMonthlyFee;
 
 @Mapper
@@ -10,4 +12,6 @@ public interface ClubMonthlyFeeMapper {
     public void insert(@Param("clubId") int clubId, @Param("clubMemberId") int clubMemberId, @Param("price") int price, @Param("year") int year, @Param("month") int month);
 
     public boolean isClubMonthlyFeeExist(@Param("clubId") int clubId, @Param("clubMemberId") int clubMemberId, @Param("year") int year, @Param("month") int month);
+
+    public Cursor<ClubDues> getDues(@Param("clubId") int clubId, @Param("year") Integer year);
 }
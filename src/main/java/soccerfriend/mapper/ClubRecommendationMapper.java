@@ -0,0 +1,25 @@
+package soccerfriend.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import soccerfriend.datasource.ReplicaRead;
+import soccerfriend.dto.ClubCandidate;
+import soccerfriend.dto.ClubPositionCount;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Mapper
+public interface ClubRecommendationMapper {
+
+    @ReplicaRead
+    public List<Integer> getAddressIdsOfClubs();
+
+    public List<ClubCandidate> getCandidatesByAddressId(@Param("addressId") int addressId,
+                                                        @Param("since") LocalDateTime since);
+
+    public ClubCandidate getCandidateByClubId(@Param("clubId") int clubId, @Param("since") LocalDateTime since);
+
+    public List<ClubPositionCount> getPositionCounts(@Param("clubIds") Collection<Integer> clubIds);
+}
@@ -1,6 +1,8 @@
 package soccerfriend.mapper;
 
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import soccerfriend.datasource.ReplicaRead;
 import soccerfriend.dto.Goal;
 
 import java.util.List;
@@ -11,7 +13,10 @@ public interface GoalMapper {
 
     public void insert(Goal goal);
 
+    public void insertAll(@Param("goals") List<Goal> goals);
+
     public Goal getGoalById(int id);
 
+    @ReplicaRead
     public List<Goal> getGoalByMemberId(int memberId);
 }
@@ -0,0 +1,37 @@
+package soccerfriend.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
+import soccerfriend.datasource.ReplicaRead;
+import soccerfriend.dto.GoalStat;
+import soccerfriend.dto.ScorerRank;
+
+import java.util.List;
+
+@Mapper
+public interface GoalStatMapper {
+
+    public void increase(GoalStat goalStat);
+
+    public void increaseAll(@Param("goalStats") List<GoalStat> goalStats);
+
+    @ReplicaRead
+    public List<ScorerRank> getTopScorers(@Param("season") int season, @Param("size") int size);
+
+    @ReplicaRead
+    public List<ScorerRank> getTopScorersOfClub(@Param("season") int season,
+                                                @Param("clubId") int clubId,
+                                                @Param("size") int size);
+
+    @ReplicaRead
+    public List<ScorerRank> getTopScorersOfRegion(@Param("season") int season,
+                                                  @Param("addressId") int addressId,
+                                                  @Param("size") int size);
+
+    public int getMaxGoalId();
+
+    public Cursor<GoalStat> recompute(int maxGoalId);
+
+    public void reconcile(@Param("goalStats") List<GoalStat> goalStats);
+}
@@ -29,6 +29,8 @@ public interface MemberMapper {
 
     public void updateNickname(@Param("id") int id, @Param("nickname") String nickname);
 
+    public void updateEmailDigest(@Param("id") int id, @Param("emailDigest") boolean emailDigest);
+
     public void updatePassword(@Param("id") int id, @Param("password") String password);
 
     public void increasePoint(@Param("id") int id, @Param("point") int point);
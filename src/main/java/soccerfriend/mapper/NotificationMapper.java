@@ -0,0 +1,32 @@
+package soccerfriend.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
+import soccerfriend.datasource.ReplicaRead;
+import soccerfriend.dto.DigestNotification;
+import soccerfriend.dto.Notification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface NotificationMapper {
+    public int insertAll(@Param("notifications") List<Notification> notifications);
+
+    @ReplicaRead
+    public List<Notification> getNotifications(@Param("memberId") int memberId,
+                                               @Param("cursor") Long cursor,
+                                               @Param("size") int size);
+
+    public int getUnreadCount(int memberId);
+
+    public int markRead(@Param("id") long id, @Param("memberId") int memberId);
+
+    public int markAllRead(int memberId);
+
+    public Cursor<DigestNotification> getDigestNotifications(@Param("from") LocalDateTime from,
+                                                             @Param("to") LocalDateTime to);
+
+    public int deleteCreatedBefore(@Param("before") LocalDateTime before, @Param("size") int size);
+}
@@ -0,0 +1,30 @@
+package soccerfriend.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import soccerfriend.dto.OutboxEvent;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface OutboxMapper {
+    public void insert(OutboxEvent outboxEvent);
+
+    public List<Integer> getPendingPartitions();
+
+    public Integer lockPartition(int partitionNo);
+
+    public List<OutboxEvent> getPendingEvents(@Param("partitionNo") int partitionNo,
+                                              @Param("now") LocalDateTime now,
+                                              @Param("size") int size);
+
+    public void setPublished(@Param("ids") List<Long> ids);
+
+    public void recordFailure(@Param("id") long id,
+                              @Param("lastError") String lastError,
+                              @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                              @Param("park") boolean park);
+
+    public int deletePublished(@Param("before") LocalDateTime before, @Param("size") int size);
+}
@@ -0,0 +1,22 @@
+package soccerfriend.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import soccerfriend.datasource.ReplicaRead;
+import soccerfriend.dto.Photo;
+
+import java.util.List;
+
+@Mapper
+public interface PhotoMapper {
+    public void insert(Photo photo);
+
+    public Photo getPhotoById(int id);
+
+    @ReplicaRead
+    public List<Photo> getPhotosByBulletinId(@Param("bulletinId") int bulletinId,
+                                             @Param("cursor") Integer cursor,
+                                             @Param("size") int size);
+
+    public void updateThumbnailReady(int id);
+}
@@ -1,11 +1,13 @@
 package soccerfriend.mapper;
 
 import org.apache.ibatis.annotations.Mapper;
+import soccerfriend.datasource.ReplicaRead;
 import soccerfriend.dto.Positions;
 
 import java.util.List;
 
 @Mapper
+@ReplicaRead
 public interface PositionsMapper {
 
     public List<Positions> getAll();
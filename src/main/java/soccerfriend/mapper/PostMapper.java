@@ -0,0 +1,25 @@
+package soccerfriend.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import soccerfriend.datasource.ReplicaRead;
+import soccerfriend.dto.Post;
+
+import java.util.List;
+import java.util.Map;
+
+@Mapper
+public interface PostMapper {
+    public void insert(Post post);
+
+    public Post getPostById(int id);
+
+    @ReplicaRead
+    public List<Post> getPostsByBulletinId(@Param("bulletinId") int bulletinId,
+                                           @Param("cursor") Integer cursor,
+                                           @Param("size") int size);
+
+    public void update(@Param("id") int id, @Param("title") String title, @Param("content") String content);
+
+    public void addViews(@Param("views") Map<Integer, Long> views);
+}
@@ -0,0 +1,21 @@
+package soccerfriend.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.cursor.Cursor;
+import soccerfriend.search.ClubSearchDocument;
+import soccerfriend.search.ContentSearchDocument;
+
+@Mapper
+public interface SearchMapper {
+    public ClubSearchDocument getClubById(int id);
+
+    public ContentSearchDocument getBulletinById(int id);
+
+    public ContentSearchDocument getPostById(int id);
+
+    public Cursor<ClubSearchDocument> getClubs();
+
+    public Cursor<ContentSearchDocument> getBulletins();
+
+    public Cursor<ContentSearchDocument> getPosts();
+}
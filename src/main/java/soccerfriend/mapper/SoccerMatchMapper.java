@@ -2,8 +2,12 @@ package soccerfriend.mapper;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 import soccerfriend.dto.SoccerMatch;
+import soccerfriend.dto.SoccerMatchHistory;
+import soccerfriend.dto.SoccerMatchImportTarget;
 
+import java.util.Collection;
 import java.util.List;
 
 
@@ -12,16 +16,26 @@ public interface SoccerMatchMapper {
 
     public void insert(int soccerMatchRecruitmentId);
 
+    public void insertAll(@Param("soccerMatches") List<SoccerMatch> soccerMatches);
+
     public SoccerMatch getSoccerMatchById(int id);
 
     public SoccerMatch getSoccerMatchBySoccerMatchRecruitmentId(int soccerMatchRecruitmentId);
 
     public List<SoccerMatch> getSoccerMatchByClubId(int clubId);
 
+    public Cursor<SoccerMatchHistory> getHistory(int clubId);
+
     public void increaseHostClubScore(int id);
 
     public void increaseParticipationClubScore(int id);
 
+    public void addScores(@Param("id") int id,
+                          @Param("hostClubScore") int hostClubScore,
+                          @Param("participationClubScore") int participationClubScore);
+
+    public List<SoccerMatchImportTarget> getImportTargets(@Param("ids") Collection<Integer> ids);
+
     public int getHostClubId(int id);
 
     public int getParticipationClubId(int id);
@@ -5,6 +5,7 @@ import org.apache.ibatis.annotations.Param;
 import soccerfriend.dto.SoccerMatch;
 import soccerfriend.dto.SoccerMatchMember;
 
+import java.util.Collection;
 import java.util.List;
 
 
@@ -22,4 +23,6 @@ public interface SoccerMatchMemberMapper {
     public List<SoccerMatchMember> getApprovedSoccerMatchMember(@Param("soccerMatchId") int soccerMatchId, @Param("clubId") int clubId);
 
     public List<SoccerMatchMember> getNotApprovedSoccerMatchMember(@Param("soccerMatchId") int soccerMatchId, @Param("clubId") int clubId);
+
+    public List<SoccerMatchMember> getSoccerMatchMembersBySoccerMatchIds(@Param("soccerMatchIds") Collection<Integer> soccerMatchIds);
 }
@@ -2,9 +2,12 @@ package soccerfriend.mapper;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import soccerfriend.datasource.ReplicaRead;
 import soccerfriend.dto.SoccerMatchRecruitment;
 import soccerfriend.utility.InputForm.UpdateSoccerMatchRecruitmentRequest;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
@@ -12,8 +15,12 @@ public interface SoccerMatchRecruitmentMapper {
 
     public void insert(SoccerMatchRecruitment soccerMatchRecruitment);
 
+    public void insertAll(@Param("soccerMatchRecruitments") List<SoccerMatchRecruitment> soccerMatchRecruitments);
+
     public SoccerMatchRecruitment getSoccerMatchRecruitmentById(int id);
 
+    public SoccerMatchRecruitment getSoccerMatchRecruitmentByIdForUpdate(int id);
+
     public List<SoccerMatchRecruitment> getSoccerMatchRecruitmentByClubId(int clubId);
 
     public void update(@Param("id") int id, @Param("request") UpdateSoccerMatchRecruitmentRequest request);
@@ -21,4 +28,9 @@ public interface SoccerMatchRecruitmentMapper {
     public void setParticipationClubId(@Param("id") int id, @Param("participationClubId") int participationClubId);
 
     public boolean isParticipationClubExist(int id);
+
+    @ReplicaRead
+    public List<SoccerMatchRecruitment> getOpenRecruitmentsByStadiumIds(@Param("stadiumIds") Collection<Integer> stadiumIds,
+                                                                        @Param("from") LocalDateTime from,
+                                                                        @Param("size") Integer size);
 }
@@ -2,11 +2,13 @@ package soccerfriend.mapper;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 import soccerfriend.dto.Club;
 import soccerfriend.dto.Stadium;
 import soccerfriend.utility.InputForm;
 import soccerfriend.utility.InputForm.UpdateStadiumRequest;
 
+import java.util.Collection;
 import java.util.List;
 
 
@@ -19,9 +21,13 @@ public interface StadiumMapper {
 
     public Stadium getStadiumById(int id);
 
+    public List<Stadium> getStadiumsByIds(@Param("ids") Collection<Integer> ids);
+
     public List<Stadium> getStadiumByStadiumOwnerId(int stadiumOwnerId);
 
     public void updateStadium(@Param("id") int id, @Param("stadium") UpdateStadiumRequest stadium);
 
+    public Cursor<Stadium> getStadiumLocations();
+
     public void updateStadiumOwner(@Param("id") int id, @Param("stadiumOwnerId") int stadiumOwnerId);
 }
@@ -0,0 +1,39 @@
+package soccerfriend.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import soccerfriend.datasource.ReplicaRead;
+import soccerfriend.dto.StadiumRevenue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface StadiumRevenueMapper {
+
+    public void increaseHourly(@Param("revenues") List<StadiumRevenue> revenues);
+
+    public void increaseDaily(@Param("revenues") List<StadiumRevenue> revenues);
+
+    @ReplicaRead
+    public List<StadiumRevenue> getHourlyRevenues(@Param("stadiumId") int stadiumId,
+                                                  @Param("from") LocalDateTime from,
+                                                  @Param("to") LocalDateTime to);
+
+    @ReplicaRead
+    public List<StadiumRevenue> getDailyRevenues(@Param("stadiumOwnerId") int stadiumOwnerId,
+                                                 @Param("from") LocalDate from,
+                                                 @Param("to") LocalDate to);
+
+    @ReplicaRead
+    public List<StadiumRevenue> getMonthlyRevenues(@Param("stadiumOwnerId") int stadiumOwnerId,
+                                                   @Param("from") LocalDate from,
+                                                   @Param("to") LocalDate to);
+
+    public int deleteHourlyBefore(@Param("hour") LocalDateTime hour, @Param("limit") int limit);
+
+    public int compactDailyBefore(LocalDate day);
+
+    public int deleteDailyBefore(LocalDate day);
+}
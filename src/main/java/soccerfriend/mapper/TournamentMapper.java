@@ -0,0 +1,70 @@
+package soccerfriend.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import soccerfriend.datasource.ReplicaRead;
+import soccerfriend.dto.Tournament;
+import soccerfriend.dto.TournamentClub;
+import soccerfriend.dto.TournamentFixture;
+import soccerfriend.tournament.StadiumSlot;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Mapper
+public interface TournamentMapper {
+
+    public void insert(Tournament tournament);
+
+    public Tournament getTournamentById(int id);
+
+    public Tournament getTournamentForUpdate(int id);
+
+    public void setStatus(@Param("id") int id, @Param("status") Tournament.Status status);
+
+    public void setWinner(@Param("id") int id, @Param("winnerClubId") int winnerClubId);
+
+    public void insertClubs(@Param("clubs") List<TournamentClub> clubs);
+
+    public TournamentClub getTournamentClub(@Param("tournamentId") int tournamentId, @Param("clubId") int clubId);
+
+    public void acceptClub(@Param("tournamentId") int tournamentId, @Param("clubId") int clubId);
+
+    public int countNotAcceptedClubs(int tournamentId);
+
+    @ReplicaRead
+    public List<TournamentClub> getStandings(int tournamentId);
+
+    public int getSeed(@Param("tournamentId") int tournamentId, @Param("clubId") int clubId);
+
+    public void addResult(TournamentClub result);
+
+    public void insertFixtures(@Param("fixtures") List<TournamentFixture> fixtures);
+
+    @ReplicaRead
+    public List<TournamentFixture> getFixtures(@Param("tournamentId") int tournamentId, @Param("round") Integer round);
+
+    public void deleteFixtures(int tournamentId);
+
+    public TournamentFixture getFixtureBySoccerMatchId(int soccerMatchId);
+
+    public TournamentFixture getFixtureForUpdate(@Param("tournamentId") int tournamentId,
+                                                 @Param("round") int round,
+                                                 @Param("position") int position);
+
+    public void setFixtureClubs(@Param("id") int id,
+                                @Param("homeClubId") Integer homeClubId,
+                                @Param("awayClubId") Integer awayClubId);
+
+    public void setFixtureMatch(@Param("id") int id,
+                                @Param("soccerMatchRecruitmentId") int soccerMatchRecruitmentId,
+                                @Param("soccerMatchId") int soccerMatchId);
+
+    public void setFixtureWinner(@Param("id") int id, @Param("winnerClubId") int winnerClubId);
+
+    public List<StadiumSlot> getBookedSlots(@Param("stadiumIds") Collection<Integer> stadiumIds,
+                                            @Param("from") LocalDateTime from,
+                                            @Param("to") LocalDateTime to,
+                                            @Param("tournamentId") int tournamentId);
+}
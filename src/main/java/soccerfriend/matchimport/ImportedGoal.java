@@ -0,0 +1,20 @@
+package soccerfriend.matchimport;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 가져온 파일의 골 하나입니다. line은 오류를 알려줄 때 사용하는 파일의 줄 번호(1부터 시작)입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ImportedGoal {
+
+    private final int line;
+
+    private final int memberId;
+
+    private final int numSet;
+
+    private final int timeSet;
+}
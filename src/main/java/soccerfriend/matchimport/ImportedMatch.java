@@ -0,0 +1,28 @@
+package soccerfriend.matchimport;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 가져온 파일의 경기 하나와 그 경기의 골들입니다. line은 경기가 처음 나온 줄 번호입니다.
+ */
+@Getter
+public class ImportedMatch {
+
+    private final int line;
+
+    private final int soccerMatchId;
+
+    private final List<ImportedGoal> goals = new ArrayList<>();
+
+    public ImportedMatch(int line, int soccerMatchId) {
+        this.line = line;
+        this.soccerMatchId = soccerMatchId;
+    }
+
+    void addGoal(ImportedGoal goal) {
+        goals.add(goal);
+    }
+}
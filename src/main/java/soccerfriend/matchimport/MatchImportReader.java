@@ -0,0 +1,249 @@
+package soccerfriend.matchimport;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import soccerfriend.dto.MatchImportError;
+import soccerfriend.exception.exception.BadRequestException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.*;
+
+import static soccerfriend.exception.ExceptionInfo.NOT_PROPER_IMPORT_FILE;
+import static soccerfriend.exception.ExceptionInfo.TOO_MANY_IMPORT_MATCHES;
+
+/**
+ * 경기결과 파일을 한 줄씩 읽어 경기별로 골을 모읍니다. 요청 body 전체를 메모리에 올리지 않도록 한 줄의 길이, 경기 수,
+ * 경기별 골 수, 오류 수를 제한하며 넘으면 파일 전체를 거절합니다.
+ * <p>
+ * CSV는 "soccerMatchId,memberId,numSet,timeSet" header 다음에 골마다 한 줄을 쓰며, 골이 없는 경기는 memberId, numSet,
+ * timeSet을 비운 줄로 씁니다. NDJSON은 {"soccerMatchId":1,"goals":[{"memberId":2,"numSet":1,"timeSet":30}]}처럼
+ * 경기마다 한 줄을 씁니다. 같은 경기가 여러 줄에 나오면 골을 합칩니다.
+ * <p>
+ * 읽지 못한 줄은 오류로 기록하고, 그 줄의 경기는 점수가 틀어지지 않도록 다른 줄까지 모두 제외합니다.
+ */
+public class MatchImportReader {
+
+    public static final String CSV_HEADER = "soccerMatchId,memberId,numSet,timeSet";
+    public static final String INVALID_ROW = "INVALID_ROW";
+    public static final int MAX_LINE_LENGTH = 16 * 1024;
+    public static final int MAX_GOALS_PER_MATCH = 100;
+    public static final int MAX_ERRORS = 100;
+
+    public enum Format {
+        CSV, NDJSON;
+
+        /**
+         * 요청의 Content-Type에 해당하는 형식을 반환합니다.
+         *
+         * @param contentType 요청의 Content-Type
+         * @return 형식, 지원하지 않는 형식이라면 null
+         */
+        public static Format of(String contentType) {
+            if (contentType == null) {
+                return null;
+            }
+            String mediaType = contentType.toLowerCase(Locale.ROOT);
+            if (mediaType.startsWith("text/csv")) {
+                return CSV;
+            }
+            if (mediaType.startsWith("application/x-ndjson") || mediaType.startsWith("application/ndjson")) {
+                return NDJSON;
+            }
+            return null;
+        }
+    }
+
+    private final ObjectMapper objectMapper;
+    private final int maxMatches;
+
+    public MatchImportReader(ObjectMapper objectMapper, int maxMatches) {
+        this.objectMapper = objectMapper;
+        this.maxMatches = maxMatches;
+    }
+
+    /**
+     * 파일을 끝까지 읽어 경기들을 반환합니다.
+     *
+     * @param in     파일
+     * @param format 파일의 형식
+     * @param errors 읽지 못한 줄을 기록할 list
+     * @return 처음 나온 순서대로의 경기들
+     */
+    public List<ImportedMatch> read(Reader in, Format format, List<MatchImportError> errors) throws IOException {
+        BufferedReader reader = new BufferedReader(in);
+        Rows rows = new Rows(errors);
+        int lineNo = 0;
+        if (format == Format.CSV) {
+            String header = readLine(reader);
+            lineNo++;
+            if (header == null || !CSV_HEADER.equalsIgnoreCase(header.replace("\uFEFF", "").trim())) {
+                throw new BadRequestException(NOT_PROPER_IMPORT_FILE);
+            }
+        }
+
+        for (String line = readLine(reader); line != null; line = readLine(reader)) {
+            lineNo++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (format == Format.CSV) {
+                readCsv(line, lineNo, rows);
+            } else {
+                readNdjson(line, lineNo, rows);
+            }
+        }
+        return new ArrayList<>(rows.matches.values());
+    }
+
+    /**
+     * 한 줄을 읽습니다. BufferedReader.readLine()과 같이 \n, \r, \r\n을 줄의 끝으로 보며,
+     * 줄이 MAX_LINE_LENGTH보다 길면 끝까지 읽지 않고 파일을 거절합니다.
+     *
+     * @param reader 파일
+     * @return 줄의 끝을 제외한 내용, 파일의 끝이라면 null
+     */
+    private static String readLine(BufferedReader reader) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        while (c != -1 && c != '\n') {
+            if (c == '\r') {
+                reader.mark(1);
+                if (reader.read() != '\n') {
+                    reader.reset();
+                }
+                break;
+            }
+            if (line.length() >= MAX_LINE_LENGTH) {
+                throw new BadRequestException(NOT_PROPER_IMPORT_FILE);
+            }
+            line.append((char) c);
+            c = reader.read();
+        }
+        return line.toString();
+    }
+
+    private void readCsv(String line, int lineNo, Rows rows) {
+        String[] fields = line.split(",", -1);
+        if (fields.length != 4) {
+            rows.reject(lineNo, null, "항목이 4개여야 합니다.");
+            return;
+        }
+        Integer soccerMatchId = parseInt(fields[0]);
+        if (soccerMatchId == null) {
+            rows.reject(lineNo, null, "soccerMatchId가 올바르지 않습니다.");
+            return;
+        }
+        if (fields[1].isBlank() && fields[2].isBlank() && fields[3].isBlank()) {
+            rows.add(lineNo, soccerMatchId, List.of());
+            return;
+        }
+
+        Integer memberId = parseInt(fields[1]);
+        Integer numSet = parseInt(fields[2]);
+        Integer timeSet = parseInt(fields[3]);
+        if (memberId == null || numSet == null || timeSet == null) {
+            rows.reject(lineNo, soccerMatchId, "골의 memberId, numSet, timeSet이 올바르지 않습니다.");
+            return;
+        }
+        rows.add(lineNo, soccerMatchId, List.of(new ImportedGoal(lineNo, memberId, numSet, timeSet)));
+    }
+
+    private void readNdjson(String line, int lineNo, Rows rows) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            rows.reject(lineNo, null, "JSON이 올바르지 않습니다.");
+            return;
+        }
+        JsonNode soccerMatchId = node.path("soccerMatchId");
+        if (!soccerMatchId.canConvertToInt() || !soccerMatchId.isIntegralNumber()) {
+            rows.reject(lineNo, null, "soccerMatchId가 올바르지 않습니다.");
+            return;
+        }
+
+        JsonNode goalNodes = node.path("goals");
+        if (!goalNodes.isMissingNode() && !goalNodes.isArray()) {
+            rows.reject(lineNo, soccerMatchId.intValue(), "goals가 배열이 아닙니다.");
+            return;
+        }
+        if (goalNodes.size() > MAX_GOALS_PER_MATCH) {
+            throw new BadRequestException(NOT_PROPER_IMPORT_FILE);
+        }
+        List<ImportedGoal> goals = new ArrayList<>(goalNodes.size());
+        for (JsonNode goal : goalNodes) {
+            JsonNode memberId = goal.path("memberId");
+            JsonNode numSet = goal.path("numSet");
+            JsonNode timeSet = goal.path("timeSet");
+            if (!isInt(memberId) || !isInt(numSet) || !isInt(timeSet)) {
+                rows.reject(lineNo, soccerMatchId.intValue(), "골의 memberId, numSet, timeSet이 올바르지 않습니다.");
+                return;
+            }
+            goals.add(new ImportedGoal(lineNo, memberId.intValue(), numSet.intValue(), timeSet.intValue()));
+        }
+        rows.add(lineNo, soccerMatchId.intValue(), goals);
+    }
+
+    private static boolean isInt(JsonNode node) {
+        return node.isIntegralNumber() && node.canConvertToInt();
+    }
+
+    private static Integer parseInt(String field) {
+        try {
+            return Integer.parseInt(field.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 읽은 경기들과 제외된 경기들입니다.
+     */
+    private class Rows {
+        private final Map<Integer, ImportedMatch> matches = new LinkedHashMap<>();
+        private final Set<Integer> rejected = new HashSet<>();
+        private final List<MatchImportError> errors;
+        private int errorCount;
+
+        private Rows(List<MatchImportError> errors) {
+            this.errors = errors;
+        }
+
+        private void add(int lineNo, int soccerMatchId, List<ImportedGoal> goals) {
+            if (rejected.contains(soccerMatchId)) {
+                return;
+            }
+            ImportedMatch match = matches.get(soccerMatchId);
+            if (match == null) {
+                if (matches.size() >= maxMatches) {
+                    throw new BadRequestException(TOO_MANY_IMPORT_MATCHES);
+                }
+                match = new ImportedMatch(lineNo, soccerMatchId);
+                matches.put(soccerMatchId, match);
+            }
+            if (match.getGoals().size() + goals.size() > MAX_GOALS_PER_MATCH) {
+                throw new BadRequestException(NOT_PROPER_IMPORT_FILE);
+            }
+            for (ImportedGoal goal : goals) {
+                match.addGoal(goal);
+            }
+        }
+
+        private void reject(int lineNo, Integer soccerMatchId, String message) {
+            if (++errorCount > MAX_ERRORS) {
+                throw new BadRequestException(NOT_PROPER_IMPORT_FILE);
+            }
+            errors.add(new MatchImportError(lineNo, soccerMatchId, INVALID_ROW, message));
+            if (soccerMatchId != null) {
+                rejected.add(soccerMatchId);
+                matches.remove(soccerMatchId);
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package soccerfriend.media;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.*;
+import java.util.Optional;
+
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * local disk의 root 디렉토리 아래에 파일을 저장하는 MediaStorage입니다.
+ * 쓰기는 64KB direct buffer 하나로 channel 간에 복사하므로 파일 크기와 관계없이 heap을 사용하지 않으며,
+ * 임시 파일에 쓴 뒤 move하므로 쓰는 도중의 파일은 읽히지 않습니다.
+ * 읽기는 FileChannel.transferTo를 사용하여 target이 socket이라면 kernel에서 바로 복사됩니다.
+ */
+public class LocalMediaStorage implements MediaStorage {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path root;
+
+    public LocalMediaStorage(Path root) throws IOException {
+        this.root = Files.createDirectories(root).toRealPath();
+    }
+
+    @Override
+    public long write(String key, ReadableByteChannel source, long maxBytes) throws IOException {
+        Path path = resolve(key);
+        Files.createDirectories(path.getParent());
+        Path temporary = Files.createTempFile(path.getParent(), ".upload-", ".tmp");
+
+        try (FileChannel channel = FileChannel.open(temporary, WRITE, TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            long written = 0;
+            while (source.read(buffer) != -1) {
+                buffer.flip();
+                written += buffer.remaining();
+                if (written > maxBytes) {
+                    throw new MediaTooLargeException(maxBytes);
+                }
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                buffer.clear();
+            }
+            channel.force(false);
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return written;
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    @Override
+    public long size(String key) throws IOException {
+        return Files.size(resolve(key));
+    }
+
+    @Override
+    public long transferTo(String key, long position, long count, WritableByteChannel target) throws IOException {
+        try (FileChannel channel = FileChannel.open(resolve(key), READ)) {
+            long transferred = 0;
+            while (transferred < count) {
+                long sent = channel.transferTo(position + transferred, count - transferred, target);
+                if (sent <= 0) {
+                    break;
+                }
+                transferred += sent;
+            }
+            return transferred;
+        }
+    }
+
+    @Override
+    public InputStream read(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.isRegularFile(resolve(key));
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    @Override
+    public Optional<Path> getLocalPath(String key) {
+        return Optional.of(resolve(key));
+    }
+
+    /**
+     * key를 root 아래의 경로로 바꿉니다. root 밖을 가리키는 key는 허용하지 않습니다.
+     */
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root) || path.equals(root)) {
+            throw new IllegalArgumentException("invalid media key: " + key);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,89 @@
+package soccerfriend.media;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 저장된 media를 응답합니다. 하나의 Range 요청은 206으로 해당 구간만 응답하고, 여러 구간을 요청하면 전체를 응답합니다.
+ * local 파일이고 Tomcat이 sendfile을 지원하면 body를 쓰지 않고 Tomcat이 socket으로 직접 보내게 하며,
+ * 그렇지 않다면 FileChannel.transferTo로 응답 stream에 보냅니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MediaResponder {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final MediaStorage mediaStorage;
+
+    /**
+     * media를 응답합니다. key에는 upload마다 새로운 값이 쓰이므로 내용이 바뀌지 않아 client가 오래 cache하게 합니다.
+     *
+     * @param key         media의 key
+     * @param contentType media의 Content-Type
+     * @param request     현재 요청
+     * @param response    현재 응답
+     */
+    public void send(String key, String contentType, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        long size = mediaStorage.size(key);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=2592000, immutable");
+        response.setContentType(contentType);
+
+        long start = 0;
+        long end = size - 1;
+        List<HttpRange> ranges = parseRanges(request.getHeader(HttpHeaders.RANGE));
+        if (ranges.size() == 1) {
+            try {
+                start = ranges.get(0).getRangeStart(size);
+                end = ranges.get(0).getRangeEnd(size);
+            } catch (IllegalArgumentException e) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                response.sendError(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+        }
+
+        long length = end - start + 1;
+        response.setContentLengthLong(length);
+        if ("HEAD".equals(request.getMethod()) || length == 0) {
+            return;
+        }
+
+        Optional<Path> path = mediaStorage.getLocalPath(key);
+        if (path.isPresent() && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.get().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        mediaStorage.transferTo(key, start, length, Channels.newChannel(response.getOutputStream()));
+    }
+
+    private List<HttpRange> parseRanges(String range) {
+        if (range == null) {
+            return List.of();
+        }
+        try {
+            return HttpRange.parseRanges(range);
+        } catch (IllegalArgumentException e) {
+            return List.of();
+        }
+    }
+}
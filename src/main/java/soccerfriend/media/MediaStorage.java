@@ -0,0 +1,75 @@
+package soccerfriend.media;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * 사진 등 media 파일의 저장소입니다. key는 '/'로 구분된 상대 경로입니다.
+ * 지금은 local disk 구현만 있으며, object storage 구현은 getLocalPath가 빈 값을 반환하도록 추가하면 됩니다.
+ */
+public interface MediaStorage {
+
+    /**
+     * source의 내용을 끝까지 읽어 key에 저장합니다. 저장이 끝나기 전에는 key가 보이지 않으며, 이미 있다면 덮어씁니다.
+     *
+     * @param key      저장할 key
+     * @param source   저장할 내용
+     * @param maxBytes 최대 크기, 넘으면 저장하지 않고 MediaTooLargeException을 던짐
+     * @return 저장된 byte 수
+     */
+    long write(String key, ReadableByteChannel source, long maxBytes) throws IOException;
+
+    /**
+     * 저장된 파일의 크기를 반환합니다.
+     *
+     * @param key 파일의 key
+     * @return 파일의 byte 수
+     */
+    long size(String key) throws IOException;
+
+    /**
+     * 파일의 일부를 target으로 보냅니다.
+     *
+     * @param key      파일의 key
+     * @param position 시작 위치
+     * @param count    보낼 byte 수
+     * @param target   보낼 곳
+     * @return 보낸 byte 수
+     */
+    long transferTo(String key, long position, long count, WritableByteChannel target) throws IOException;
+
+    /**
+     * 파일을 처음부터 읽는 stream을 반환합니다.
+     *
+     * @param key 파일의 key
+     * @return 파일의 내용
+     */
+    InputStream read(String key) throws IOException;
+
+    /**
+     * 파일이 있는지 확인합니다.
+     *
+     * @param key 파일의 key
+     * @return 존재 여부
+     */
+    boolean exists(String key);
+
+    /**
+     * 파일을 삭제합니다. 없다면 무시합니다.
+     *
+     * @param key 파일의 key
+     */
+    void delete(String key) throws IOException;
+
+    /**
+     * local disk에 있는 파일이라면 경로를 반환합니다. servlet container의 sendfile에 사용합니다.
+     *
+     * @param key 파일의 key
+     * @return 파일의 경로, local 파일이 아니라면 빈 값
+     */
+    Optional<Path> getLocalPath(String key);
+}
@@ -0,0 +1,13 @@
+package soccerfriend.media;
+
+import java.io.IOException;
+
+/**
+ * 저장하려는 media가 허용된 크기를 넘었을 때 발생합니다.
+ */
+public class MediaTooLargeException extends IOException {
+
+    public MediaTooLargeException(long maxBytes) {
+        super("media exceeds " + maxBytes + " bytes");
+    }
+}
@@ -0,0 +1,267 @@
+package soccerfriend.media;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * multipart/form-data 요청 body를 part 단위로 순서대로 읽습니다.
+ * part의 내용은 고정 크기 buffer를 거쳐 stream으로 전달되므로 파일 전체를 메모리나 임시 파일에 담지 않습니다.
+ * 다음 part로 넘어가면 이전 part의 남은 내용은 버려집니다.
+ */
+public class MultipartStreamReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_HEADER_SIZE = 8 * 1024;
+    private static final byte[] CRLF = {'\r', '\n'};
+
+    private final InputStream in;
+    private final byte[] delimiter;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private boolean eof;
+    private PartInputStream current;
+    private boolean finished;
+
+    public MultipartStreamReader(InputStream in, String boundary) {
+        this.in = in;
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.US_ASCII);
+        // 첫 delimiter 앞에는 CRLF가 없으므로 buffer에 미리 넣어 모든 delimiter를 같은 방식으로 찾습니다.
+        this.buffer[0] = '\r';
+        this.buffer[1] = '\n';
+        this.limit = 2;
+    }
+
+    /**
+     * Content-Type header에서 boundary를 꺼냅니다.
+     *
+     * @param contentType 요청의 Content-Type
+     * @return boundary, multipart 요청이 아니라면 null
+     */
+    public static String getBoundary(String contentType) {
+        if (contentType == null || !contentType.toLowerCase(Locale.ROOT).startsWith("multipart/")) {
+            return null;
+        }
+        for (String parameter : contentType.split(";")) {
+            String trimmed = parameter.trim();
+            if (trimmed.toLowerCase(Locale.ROOT).startsWith("boundary=")) {
+                String boundary = trimmed.substring("boundary=".length());
+                if (boundary.length() > 1 && boundary.startsWith("\"") && boundary.endsWith("\"")) {
+                    boundary = boundary.substring(1, boundary.length() - 1);
+                }
+                return boundary.isEmpty() ? null : boundary;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 다음 part를 반환합니다.
+     *
+     * @return 다음 part, 더 이상 없다면 null
+     */
+    public Part next() throws IOException {
+        if (finished) {
+            return null;
+        }
+        if (current == null) {
+            // preamble을 건너뜁니다.
+            current = new PartInputStream();
+        }
+        current.skipRemaining();
+
+        position += delimiter.length;
+        ensure(2);
+        if (limit - position >= 2 && buffer[position] == '-' && buffer[position + 1] == '-') {
+            finished = true;
+            return null;
+        }
+        skipLine();
+
+        Map<String, String> headers = readHeaders();
+        current = new PartInputStream();
+        return new Part(headers, current);
+    }
+
+    private Map<String, String> readHeaders() throws IOException {
+        Map<String, String> headers = new HashMap<>();
+        int read = 0;
+        while (true) {
+            String line = readLine();
+            read += line.length() + 2;
+            if (read > MAX_HEADER_SIZE) {
+                throw new IOException("multipart headers too large");
+            }
+            if (line.isEmpty()) {
+                return headers;
+            }
+            int colon = line.indexOf(':');
+            if (colon > 0) {
+                headers.put(line.substring(0, colon).trim().toLowerCase(Locale.ROOT), line.substring(colon + 1).trim());
+            }
+        }
+    }
+
+    private String readLine() throws IOException {
+        StringBuilder line = new StringBuilder();
+        while (true) {
+            ensure(2);
+            if (limit - position < 2) {
+                throw new IOException("unexpected end of multipart body");
+            }
+            if (buffer[position] == CRLF[0] && buffer[position + 1] == CRLF[1]) {
+                position += 2;
+                return line.toString();
+            }
+            line.append((char) (buffer[position++] & 0xff));
+            if (line.length() > MAX_HEADER_SIZE) {
+                throw new IOException("multipart header line too long");
+            }
+        }
+    }
+
+    private void skipLine() throws IOException {
+        readLine();
+    }
+
+    /**
+     * buffer에 최소 count byte가 남도록 채웁니다. stream이 끝났다면 남은 만큼만 채웁니다.
+     */
+    private void ensure(int count) throws IOException {
+        if (limit - position >= count || eof) {
+            return;
+        }
+        System.arraycopy(buffer, position, buffer, 0, limit - position);
+        limit -= position;
+        position = 0;
+        while (limit < count && !eof) {
+            int read = in.read(buffer, limit, buffer.length - limit);
+            if (read == -1) {
+                eof = true;
+            } else {
+                limit += read;
+            }
+        }
+    }
+
+    private int indexOfDelimiter() {
+        outer:
+        for (int i = position; i <= limit - delimiter.length; i++) {
+            for (int j = 0; j < delimiter.length; j++) {
+                if (buffer[i + j] != delimiter[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    /**
+     * multipart의 한 part입니다. header 이름은 소문자로 저장됩니다.
+     */
+    public static class Part {
+
+        private final Map<String, String> headers;
+        private final InputStream body;
+
+        private Part(Map<String, String> headers, InputStream body) {
+            this.headers = headers;
+            this.body = body;
+        }
+
+        public String getHeader(String name) {
+            return headers.get(name.toLowerCase(Locale.ROOT));
+        }
+
+        public String getContentType() {
+            return getHeader("content-type");
+        }
+
+        public String getName() {
+            return getDispositionParameter("name");
+        }
+
+        public String getFilename() {
+            return getDispositionParameter("filename");
+        }
+
+        public InputStream getBody() {
+            return body;
+        }
+
+        private String getDispositionParameter(String name) {
+            String disposition = getHeader("content-disposition");
+            if (disposition == null) {
+                return null;
+            }
+            for (String parameter : disposition.split(";")) {
+                String trimmed = parameter.trim();
+                if (trimmed.startsWith(name + "=")) {
+                    String value = trimmed.substring(name.length() + 1);
+                    if (value.length() > 1 && value.startsWith("\"") && value.endsWith("\"")) {
+                        value = value.substring(1, value.length() - 1);
+                    }
+                    return value;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 다음 delimiter 직전까지 읽는 stream입니다. 끝나면 reader의 위치는 delimiter의 시작입니다.
+     */
+    private class PartInputStream extends InputStream {
+
+        private boolean ended;
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) == -1 ? -1 : single[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int length) throws IOException {
+            if (ended || current != this) {
+                return -1;
+            }
+            if (length == 0) {
+                return 0;
+            }
+
+            ensure(delimiter.length);
+            int found = indexOfDelimiter();
+            int available;
+            if (found >= 0) {
+                available = found - position;
+            } else if (eof) {
+                throw new IOException("unexpected end of multipart body");
+            } else {
+                // delimiter의 앞부분일 수 있는 마지막 byte들은 남겨둡니다.
+                available = limit - position - (delimiter.length - 1);
+            }
+
+            if (available == 0 && found >= 0) {
+                ended = true;
+                return -1;
+            }
+            int count = Math.min(available, length);
+            System.arraycopy(buffer, position, target, offset, count);
+            position += count;
+            return count;
+        }
+
+        private void skipRemaining() throws IOException {
+            byte[] discard = new byte[4096];
+            while (read(discard, 0, discard.length) != -1) {
+                // 다음 delimiter까지 버립니다.
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package soccerfriend.media;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.util.Iterator;
+
+/**
+ * 원본 이미지를 긴 변이 maxDimension 이하인 JPEG 썸네일로 만듭니다.
+ * 원본을 읽을 때부터 subsampling하므로 큰 사진도 썸네일 크기의 약 2배 이내로만 decode합니다.
+ */
+public class ThumbnailGenerator {
+
+    private final int maxDimension;
+
+    public ThumbnailGenerator(int maxDimension) {
+        this.maxDimension = maxDimension;
+    }
+
+    /**
+     * 썸네일을 만들어 저장합니다.
+     *
+     * @param storage      원본과 썸네일의 저장소
+     * @param sourceKey    원본의 key
+     * @param thumbnailKey 썸네일을 저장할 key
+     * @return 원본이 읽을 수 있는 이미지라서 썸네일을 만들었다면 true
+     */
+    public boolean generate(MediaStorage storage, String sourceKey, String thumbnailKey) throws IOException {
+        BufferedImage source;
+        try (InputStream in = storage.read(sourceKey);
+             ImageInputStream imageInput = ImageIO.createImageInputStream(in)) {
+            source = readSubsampled(imageInput);
+        }
+        if (source == null) {
+            return false;
+        }
+
+        double scale = Math.min(1.0, (double) maxDimension / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+        BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = thumbnail.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(thumbnail, "jpg", out);
+        storage.write(thumbnailKey, Channels.newChannel(new ByteArrayInputStream(out.toByteArray())), Long.MAX_VALUE);
+        return true;
+    }
+
+    private BufferedImage readSubsampled(ImageInputStream imageInput) throws IOException {
+        if (imageInput == null) {
+            return null;
+        }
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInput);
+        if (!readers.hasNext()) {
+            return null;
+        }
+
+        ImageReader reader = readers.next();
+        try {
+            reader.setInput(imageInput, true, true);
+            int longSide = Math.max(reader.getWidth(0), reader.getHeight(0));
+            int subsampling = Math.max(1, longSide / (maxDimension * 2));
+            ImageReadParam param = reader.getDefaultReadParam();
+            param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+            return reader.read(0, param);
+        } finally {
+            reader.dispose();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package soccerfriend.media;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskDecorator;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 썸네일을 고정된 수의 thread에서 비동기로 만듭니다.
+ * 대기열이 가득 차면 작업을 거절하여 upload 요청이 밀리지 않게 하며, 썸네일이 없는 사진은 원본으로 응답합니다.
+ */
+@Slf4j
+public class ThumbnailWorker implements AutoCloseable {
+
+    private final MediaStorage mediaStorage;
+    private final ThumbnailGenerator thumbnailGenerator;
+    private final ThreadPoolExecutor executor;
+    private final TaskDecorator taskDecorator;
+
+    public ThumbnailWorker(MediaStorage mediaStorage, ThumbnailGenerator thumbnailGenerator,
+                           int workers, int queueCapacity, TaskDecorator taskDecorator) {
+        this.mediaStorage = mediaStorage;
+        this.thumbnailGenerator = thumbnailGenerator;
+        this.taskDecorator = taskDecorator;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "thumbnail-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 썸네일 생성을 요청합니다.
+     *
+     * @param sourceKey    원본의 key
+     * @param thumbnailKey 썸네일을 저장할 key
+     * @param onGenerated  썸네일이 저장된 후 실행할 작업
+     * @return 대기열에 들어갔다면 true, 가득 차서 거절되었다면 false
+     */
+    public boolean submit(String sourceKey, String thumbnailKey, Runnable onGenerated) {
+        try {
+            executor.execute(taskDecorator.decorate(() -> {
+                try {
+                    if (thumbnailGenerator.generate(mediaStorage, sourceKey, thumbnailKey)) {
+                        onGenerated.run();
+                    }
+                } catch (IOException | RuntimeException e) {
+                    log.warn("failed to generate thumbnail of {}", sourceKey, e);
+                }
+            }));
+            return true;
+        } catch (RejectedExecutionException e) {
+            log.warn("thumbnail queue is full, skipped {}", sourceKey);
+            return false;
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+}
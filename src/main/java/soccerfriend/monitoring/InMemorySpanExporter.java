@@ -0,0 +1,51 @@
+package soccerfriend.monitoring;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 종료된 span을 메모리에 보관하는 exporter입니다. 테스트에서 span을 검증할 때 사용합니다.
+ */
+public class InMemorySpanExporter implements SpanExporter {
+
+    private final ConcurrentLinkedQueue<SpanData> finishedSpans = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spans) {
+        finishedSpans.addAll(spans);
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        finishedSpans.clear();
+        return CompletableResultCode.ofSuccess();
+    }
+
+    /**
+     * 지금까지 종료된 span들을 반환합니다.
+     *
+     * @return 종료된 span
+     */
+    public List<SpanData> getFinishedSpans() {
+        return new ArrayList<>(finishedSpans);
+    }
+
+    /**
+     * 보관중인 span을 모두 삭제합니다.
+     */
+    public void reset() {
+        finishedSpans.clear();
+    }
+}
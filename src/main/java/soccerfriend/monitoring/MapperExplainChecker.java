@@ -0,0 +1,190 @@
+package soccerfriend.monitoring;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * application이 시작되면 모든 mapper의 SELECT, UPDATE, DELETE statement를 EXPLAIN 하여
+ * full table scan(type=ALL)이나 full index scan(type=index)을 하는 statement를 기록합니다.
+ * 데이터가 채워진 DB에서 실행해야 의미가 있으므로 soccerfriend.explain-check.enabled=true 일 때만 동작합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "soccerfriend.explain-check", name = "enabled", havingValue = "true")
+public class MapperExplainChecker {
+
+    private static final Set<String> FULL_SCAN_TYPES = Set.of("ALL", "index");
+
+    private final SqlSessionFactory sqlSessionFactory;
+    private final DataSource dataSource;
+    private final Set<String> ignoredStatements;
+    private final boolean failOnFullScan;
+
+    public MapperExplainChecker(SqlSessionFactory sqlSessionFactory,
+                                DataSource dataSource,
+                                @Value("${soccerfriend.explain-check.ignore:soccerfriend.mapper.PositionsMapper.getAll}") Set<String> ignoredStatements,
+                                @Value("${soccerfriend.explain-check.fail-on-full-scan:false}") boolean failOnFullScan) {
+        this.sqlSessionFactory = sqlSessionFactory;
+        this.dataSource = dataSource;
+        this.ignoredStatements = ignoredStatements;
+        this.failOnFullScan = failOnFullScan;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void check() throws SQLException {
+        List<String> fullScans = new ArrayList<>();
+        List<String> failed = new ArrayList<>();
+
+        try (Connection connection = dataSource.getConnection()) {
+            for (MappedStatement mappedStatement : getMappedStatements()) {
+                try {
+                    fullScans.addAll(explain(connection, mappedStatement));
+                } catch (SQLException | RuntimeException e) {
+                    failed.add(mappedStatement.getId());
+                    log.warn("explain failed {}: {}", mappedStatement.getId(), e.getMessage());
+                }
+            }
+        }
+
+        log.info("explain check finished, {} full scans, {} failed statements", fullScans.size(), failed.size());
+        if (failOnFullScan && !fullScans.isEmpty()) {
+            throw new IllegalStateException("full scans found: " + fullScans);
+        }
+    }
+
+    private Collection<MappedStatement> getMappedStatements() {
+        Map<String, MappedStatement> statements = new TreeMap<>();
+        for (Object value : sqlSessionFactory.getConfiguration().getMappedStatements()) {
+            if (!(value instanceof MappedStatement)) {
+                continue;
+            }
+            MappedStatement mappedStatement = (MappedStatement) value;
+            SqlCommandType command = mappedStatement.getSqlCommandType();
+            if ((command == SqlCommandType.SELECT || command == SqlCommandType.UPDATE || command == SqlCommandType.DELETE)
+                    && !mappedStatement.getId().contains("!")
+                    && !ignoredStatements.contains(mappedStatement.getId())) {
+                statements.put(mappedStatement.getId(), mappedStatement);
+            }
+        }
+        return statements.values();
+    }
+
+    private List<String> explain(Connection connection, MappedStatement mappedStatement) throws SQLException {
+        Method mapperMethod = findMapperMethod(mappedStatement.getId());
+        BoundSql boundSql = mappedStatement.getBoundSql(null);
+        List<String> fullScans = new ArrayList<>();
+
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + boundSql.getSql())) {
+            List<ParameterMapping> parameterMappings = boundSql.getParameterMappings();
+            for (int i = 0; i < parameterMappings.size(); i++) {
+                statement.setObject(i + 1, sampleValue(mapperMethod, parameterMappings.get(i).getProperty()));
+            }
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    String type = resultSet.getString("type");
+                    if (type != null && FULL_SCAN_TYPES.contains(type)) {
+                        String description = String.format("%s table=%s type=%s key=%s rows=%s extra=%s",
+                                mappedStatement.getId(), resultSet.getString("table"), type,
+                                resultSet.getString("key"), resultSet.getString("rows"), resultSet.getString("Extra"));
+                        log.warn("full scan {}", description);
+                        fullScans.add(description);
+                    }
+                }
+            }
+        }
+        return fullScans;
+    }
+
+    private Method findMapperMethod(String statementId) {
+        int index = statementId.lastIndexOf('.');
+        try {
+            Class<?> mapper = Class.forName(statementId.substring(0, index));
+            String name = statementId.substring(index + 1);
+            return Arrays.stream(mapper.getMethods())
+                         .filter(method -> method.getName().equals(name))
+                         .findFirst()
+                         .orElse(null);
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+    }
+
+    /**
+     * parameter의 type에 맞는 값을 만듭니다. 문자열 column에 숫자를 넣으면 index를 쓰지 못하므로
+     * mapper method의 parameter type(DTO라면 field type)을 따라갑니다.
+     */
+    private Object sampleValue(Method mapperMethod, String property) {
+        if (mapperMethod == null) {
+            return 1;
+        }
+
+        String[] path = property.split("\\.");
+        Class<?> type = null;
+        Parameter[] parameters = mapperMethod.getParameters();
+        for (Parameter parameter : parameters) {
+            Param param = parameter.getAnnotation(Param.class);
+            if (param != null && param.value().equals(path[0])) {
+                type = resolve(parameter.getType(), path, 1);
+            }
+        }
+        if (type == null && parameters.length == 1) {
+            type = isSimple(parameters[0].getType()) ? parameters[0].getType() : resolve(parameters[0].getType(), path, 0);
+        }
+        return sampleValue(type);
+    }
+
+    private Class<?> resolve(Class<?> type, String[] path, int from) {
+        for (int i = from; i < path.length && type != null; i++) {
+            Field field = ReflectionUtils.findField(type, path[i]);
+            type = field == null ? null : field.getType();
+        }
+        return type;
+    }
+
+    private boolean isSimple(Class<?> type) {
+        return type.isPrimitive() || type == String.class || Number.class.isAssignableFrom(type)
+                || type == Boolean.class || type == LocalDateTime.class || type.isEnum();
+    }
+
+    private Object sampleValue(Class<?> type) {
+        if (type == null) {
+            return 1;
+        }
+        if (type == String.class) {
+            return "1";
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return true;
+        }
+        if (type == LocalDateTime.class) {
+            return LocalDateTime.now();
+        }
+        if (type.isEnum()) {
+            return type.getEnumConstants()[0].toString();
+        }
+        return 1;
+    }
+}
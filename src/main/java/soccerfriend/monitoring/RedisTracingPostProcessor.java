@@ -0,0 +1,90 @@
+package soccerfriend.monitoring;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Set;
+
+/**
+ * RedisConnectionFactory가 반환하는 connection을 감싸 redis 명령 하나를 CLIENT span 하나로 기록합니다.
+ * RedisTemplate, cache, session 모두 connection을 통해 명령을 수행하므로 함께 기록됩니다.
+ */
+public class RedisTracingPostProcessor implements BeanPostProcessor {
+
+    private static final Set<String> UNTRACED_METHODS = Set.of(
+            "close", "isClosed", "getNativeConnection", "isQueueing", "isPipelined", "isSubscribed",
+            "getSubscription", "getSentinelConnection", "getConvertPipelineAndTxResults", "translateExceptionIfPossible");
+
+    private final ObjectProvider<Tracer> tracerProvider;
+
+    public RedisTracingPostProcessor(ObjectProvider<Tracer> tracerProvider) {
+        this.tracerProvider = tracerProvider;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof RedisConnectionFactory) || Proxy.isProxyClass(bean.getClass())) {
+            return bean;
+        }
+        return proxy(bean, (proxy, method, args) -> {
+            Object result = invoke(bean, method, args);
+            if (result instanceof RedisConnection && "getConnection".equals(method.getName())) {
+                return tracedConnection((RedisConnection) result);
+            }
+            return result;
+        });
+    }
+
+    private Object tracedConnection(RedisConnection connection) {
+        return proxy(connection, (proxy, method, args) -> {
+            if (!isTraced(method)) {
+                return invoke(connection, method, args);
+            }
+
+            Span span = tracerProvider.getObject()
+                                      .spanBuilder("redis " + method.getName())
+                                      .setSpanKind(SpanKind.CLIENT)
+                                      .setAttribute("db.system", "redis")
+                                      .setAttribute("db.operation", method.getName())
+                                      .startSpan();
+            try (Scope ignored = span.makeCurrent()) {
+                return invoke(connection, method, args);
+            } catch (Throwable throwable) {
+                Spans.error(span, throwable);
+                throw throwable;
+            } finally {
+                span.end();
+            }
+        });
+    }
+
+    private boolean isTraced(Method method) {
+        return method.getDeclaringClass() != Object.class
+                && !method.getName().endsWith("Commands")
+                && !UNTRACED_METHODS.contains(method.getName());
+    }
+
+    private static Object proxy(Object target, InvocationHandler handler) {
+        Class<?>[] interfaces = ClassUtils.getAllInterfacesForClass(target.getClass());
+        return Proxy.newProxyInstance(target.getClass().getClassLoader(), interfaces, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
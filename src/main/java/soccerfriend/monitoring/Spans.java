@@ -0,0 +1,21 @@
+package soccerfriend.monitoring;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+
+/**
+ * span 처리에 공통으로 사용되는 함수들입니다.
+ */
+public class Spans {
+
+    /**
+     * span에 예외를 기록하고 상태를 ERROR로 변경합니다.
+     *
+     * @param span      현재 span
+     * @param throwable 발생한 예외
+     */
+    public static void error(Span span, Throwable throwable) {
+        span.recordException(throwable);
+        span.setStatus(StatusCode.ERROR, throwable.getClass().getSimpleName());
+    }
+}
@@ -0,0 +1,129 @@
+package soccerfriend.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * mapper statement별 실행시간과 row 수를 Micrometer metric으로 기록하는 MyBatis plugin입니다.
+ * 실행시간이 기준을 넘으면 parameter 값을 가린 SQL을 slow query로 기록합니다.
+ * 예외로 끝난 실행도 finally에서 outcome=error로 기록하므로 timeout이나 lock 대기로 실패한 시간도 집계됩니다.
+ */
+@Slf4j
+@Component
+@Intercepts({
+        @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
+        @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class})
+})
+public class StatementMetricsInterceptor implements Interceptor {
+
+    private final MeterRegistry meterRegistry;
+    private final long slowQueryNanos;
+    private final Map<String, StatementStats> statementStats = new ConcurrentHashMap<>();
+
+    public StatementMetricsInterceptor(MeterRegistry meterRegistry,
+                                       @Value("${soccerfriend.mybatis.slow-query-threshold:200ms}") Duration slowQueryThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.slowQueryNanos = slowQueryThreshold.toNanos();
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement mappedStatement = (MappedStatement) invocation.getArgs()[0];
+        long start = System.nanoTime();
+        Object result = null;
+        boolean succeeded = false;
+        try {
+            result = invocation.proceed();
+            succeeded = true;
+            return result;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            StatementStats stats = statementStats.computeIfAbsent(mappedStatement.getId(), id -> createStats(mappedStatement));
+            int rowCount = countRows(result);
+            if (succeeded) {
+                stats.record(elapsed, rowCount);
+            } else {
+                stats.recordError(elapsed);
+            }
+
+            if (elapsed >= slowQueryNanos) {
+                logSlowQuery(mappedStatement, invocation.getArgs()[1], elapsed, rowCount, succeeded);
+            }
+        }
+    }
+
+    /**
+     * 지금까지 기록된 모든 statement의 집계를 반환합니다.
+     *
+     * @return statement별 집계
+     */
+    public Collection<StatementStats> getStatementStats() {
+        return statementStats.values();
+    }
+
+    /**
+     * 누적 실행시간이 가장 긴 statement들을 반환합니다.
+     *
+     * @param limit 반환할 statement 수
+     * @return 누적 실행시간 내림차순의 statement 집계
+     */
+    public List<StatementStats> getTopStatementsByTotalTime(int limit) {
+        return statementStats.values()
+                             .stream()
+                             .sorted(Comparator.comparingLong(StatementStats::getTotalNanos).reversed())
+                             .limit(limit)
+                             .collect(Collectors.toList());
+    }
+
+    private StatementStats createStats(MappedStatement mappedStatement) {
+        String command = mappedStatement.getSqlCommandType().name();
+        return new StatementStats(mappedStatement.getId(), command, meterRegistry);
+    }
+
+    private int countRows(Object result) {
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        if (result instanceof Integer) {
+            return (Integer) result;
+        }
+        return 0;
+    }
+
+    private void logSlowQuery(MappedStatement mappedStatement, Object parameter, long elapsed, int rowCount, boolean succeeded) {
+        BoundSql boundSql = mappedStatement.getBoundSql(parameter);
+        List<String> parameterNames = new ArrayList<>();
+        for (ParameterMapping parameterMapping : boundSql.getParameterMappings()) {
+            parameterNames.add(parameterMapping.getProperty() + "=?");
+        }
+
+        log.warn("slow query {} {}ms outcome={} rows={} sql=[{}] parameters={}",
+                mappedStatement.getId(),
+                elapsed / 1_000_000,
+                succeeded ? "success" : "error",
+                rowCount,
+                boundSql.getSql().replaceAll("\\s+", " ").trim(),
+                parameterNames);
+    }
+}
@@ -0,0 +1,64 @@
+package soccerfriend.monitoring;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 누적 실행시간이 긴 mapper statement를 보여주는 actuator endpoint입니다. (/actuator/mybatis)
+ * management.endpoints.web.exposure.include에 mybatis를 추가해야 web으로 노출됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "mybatis")
+public class StatementReportEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final StatementMetricsInterceptor statementMetricsInterceptor;
+
+    /**
+     * 누적 실행시간 내림차순으로 statement 집계를 반환합니다.
+     *
+     * @param limit 반환할 statement 수
+     * @return statement 집계
+     */
+    @ReadOperation
+    public List<StatementReport> topStatements(@Nullable Integer limit) {
+        return statementMetricsInterceptor.getTopStatementsByTotalTime(limit == null ? DEFAULT_LIMIT : limit)
+                                          .stream()
+                                          .map(StatementReport::new)
+                                          .collect(Collectors.toList());
+    }
+
+    @Getter
+    public static class StatementReport {
+        private final String statementId;
+        private final long count;
+        private final long errors;
+        private final double totalMillis;
+        private final double averageMillis;
+        private final double p50Millis;
+        private final double p99Millis;
+        private final double maxMillis;
+        private final long totalRows;
+
+        public StatementReport(StatementStats stats) {
+            this.statementId = stats.getStatementId();
+            this.count = stats.getCount();
+            this.errors = stats.getErrors();
+            this.totalMillis = stats.getTotalNanos() / 1_000_000.0;
+            this.averageMillis = count == 0 ? 0 : totalMillis / count;
+            this.p50Millis = stats.getP50Millis();
+            this.p99Millis = stats.getP99Millis();
+            this.maxMillis = stats.getMaxNanos() / 1_000_000.0;
+            this.totalRows = stats.getTotalRows();
+        }
+    }
+}
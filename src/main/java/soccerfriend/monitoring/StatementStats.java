@@ -0,0 +1,116 @@
+package soccerfriend.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 하나의 mapper statement에 대한 실행시간과 처리한 row 수를 집계합니다.
+ * 실행시간 metric은 성공(outcome=success)과 예외(outcome=error)를 나누어 기록하며, 누적 실행시간에는 둘 다 포함됩니다.
+ */
+public class StatementStats {
+
+    @Getter
+    private final String statementId;
+    private final Timer timer;
+    private final Timer errorTimer;
+    private final DistributionSummary rows;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder totalRows = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public StatementStats(String statementId, String command, MeterRegistry meterRegistry) {
+        this.statementId = statementId;
+        this.timer = Timer.builder("mybatis.statement")
+                          .description("mapper statement 실행시간")
+                          .tag("statement", statementId)
+                          .tag("command", command)
+                          .tag("outcome", "success")
+                          .publishPercentiles(0.5, 0.99)
+                          .register(meterRegistry);
+        this.errorTimer = Timer.builder("mybatis.statement")
+                               .description("mapper statement 실행시간")
+                               .tag("statement", statementId)
+                               .tag("command", command)
+                               .tag("outcome", "error")
+                               .register(meterRegistry);
+        this.rows = DistributionSummary.builder("mybatis.statement.rows")
+                                       .description("mapper statement가 반환하거나 변경한 row 수")
+                                       .tag("statement", statementId)
+                                       .tag("command", command)
+                                       .register(meterRegistry);
+    }
+
+    /**
+     * statement 1회 실행 결과를 기록합니다.
+     *
+     * @param nanos    실행시간(ns)
+     * @param rowCount 반환하거나 변경한 row 수
+     */
+    public void record(long nanos, int rowCount) {
+        timer.record(nanos, TimeUnit.NANOSECONDS);
+        rows.record(rowCount);
+        count.increment();
+        totalNanos.add(nanos);
+        totalRows.add(rowCount);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * 예외로 끝난 statement 1회 실행을 기록합니다.
+     *
+     * @param nanos 예외가 발생할 때까지의 실행시간(ns)
+     */
+    public void recordError(long nanos) {
+        errorTimer.record(nanos, TimeUnit.NANOSECONDS);
+        count.increment();
+        errors.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long getTotalRows() {
+        return totalRows.sum();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    public double getP50Millis() {
+        return percentileMillis(0.5);
+    }
+
+    public double getP99Millis() {
+        return percentileMillis(0.99);
+    }
+
+    private double percentileMillis(double percentile) {
+        for (ValueAtPercentile value : timer.takeSnapshot().percentileValues()) {
+            if (value.percentile() == percentile) {
+                return value.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,52 @@
+package soccerfriend.monitoring;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증 interceptor, service method, 메일 전송을 각각의 span으로 기록합니다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class TracingAspect {
+
+    private final Tracer tracer;
+
+    @Around("execution(* soccerfriend.authentication.AuthInterceptor.preHandle(..))")
+    public Object traceAuthInterceptor(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace("AuthInterceptor.preHandle", SpanKind.INTERNAL, joinPoint);
+    }
+
+    @Around("execution(public * soccerfriend.service..*(..))")
+    public Object traceService(ProceedingJoinPoint joinPoint) throws Throwable {
+        String name = joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName();
+        return trace(name, SpanKind.INTERNAL, joinPoint);
+    }
+
+    @Around("execution(* org.springframework.mail.MailSender+.send(..))")
+    public Object traceMail(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace("mail send", SpanKind.CLIENT, joinPoint);
+    }
+
+    private Object trace(String name, SpanKind kind, ProceedingJoinPoint joinPoint) throws Throwable {
+        Span span = tracer.spanBuilder(name)
+                          .setSpanKind(kind)
+                          .startSpan();
+        try (Scope ignored = span.makeCurrent()) {
+            return joinPoint.proceed();
+        } catch (Throwable throwable) {
+            Spans.error(span, throwable);
+            throw throwable;
+        } finally {
+            span.end();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package soccerfriend.monitoring;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * RestTemplate을 통한 외부 호출(결제 등)을 CLIENT span으로 기록하고 traceparent header를 전달합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TracingClientHttpRequestInterceptor implements ClientHttpRequestInterceptor {
+
+    private final OpenTelemetry openTelemetry;
+    private final Tracer tracer;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        Span span = tracer.spanBuilder(request.getMethodValue() + " " + request.getURI().getHost())
+                          .setSpanKind(SpanKind.CLIENT)
+                          .setAttribute("http.method", request.getMethodValue())
+                          .setAttribute("http.url", request.getURI().toString())
+                          .startSpan();
+
+        try (Scope ignored = span.makeCurrent()) {
+            openTelemetry.getPropagators()
+                         .getTextMapPropagator()
+                         .inject(Context.current(), request, (carrier, key, value) -> carrier.getHeaders().set(key, value));
+            ClientHttpResponse response = execution.execute(request, body);
+            span.setAttribute("http.status_code", response.getRawStatusCode());
+            return response;
+        } catch (IOException | RuntimeException e) {
+            Spans.error(span, e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package soccerfriend.monitoring;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.stereotype.Component;
+
+/**
+ * mapper statement 실행을 span으로 기록하는 MyBatis plugin입니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Intercepts({
+        @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
+        @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class})
+})
+public class TracingInterceptor implements Interceptor {
+
+    private final Tracer tracer;
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement mappedStatement = (MappedStatement) invocation.getArgs()[0];
+        Span span = tracer.spanBuilder("mybatis " + mappedStatement.getId())
+                          .setSpanKind(SpanKind.CLIENT)
+                          .setAttribute("db.system", "mysql")
+                          .setAttribute("db.operation", mappedStatement.getSqlCommandType().name())
+                          .startSpan();
+        try (Scope ignored = span.makeCurrent()) {
+            return invocation.proceed();
+        } catch (Throwable throwable) {
+            Spans.error(span, throwable);
+            throw throwable;
+        } finally {
+            span.end();
+        }
+    }
+}
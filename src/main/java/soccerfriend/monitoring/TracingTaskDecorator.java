@@ -0,0 +1,15 @@
+package soccerfriend.monitoring;
+
+import io.opentelemetry.context.Context;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * 비동기 executor로 넘어가는 작업에 현재 trace context를 전달합니다.
+ */
+public class TracingTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        return Context.current().wrap(runnable);
+    }
+}
@@ -0,0 +1,73 @@
+package soccerfriend.notification;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * email을 모아 batchSize개씩 한 번에 전송합니다.
+ * JavaMailSender는 한 번의 send에 전달된 message들을 하나의 SMTP 연결로 보내므로 message마다 연결하는 비용이 없습니다.
+ * 전송에 실패한 message는 기록만 하고 다음 batch를 계속 보냅니다.
+ */
+@Slf4j
+public class BatchMailSender {
+
+    private final JavaMailSender mailSender;
+    private final int batchSize;
+    private final List<SimpleMailMessage> pending = new ArrayList<>();
+    private int sent;
+    private int failed;
+
+    public BatchMailSender(JavaMailSender mailSender, int batchSize) {
+        this.mailSender = mailSender;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * message를 전송 대기열에 추가하고, batchSize개가 모이면 전송합니다.
+     *
+     * @param message 전송할 message
+     */
+    public void send(SimpleMailMessage message) {
+        pending.add(message);
+        if (pending.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * 대기중인 message를 모두 전송합니다.
+     */
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        try {
+            mailSender.send(pending.toArray(new SimpleMailMessage[0]));
+            sent += pending.size();
+        } catch (MailSendException e) {
+            int failedMessages = e.getFailedMessages().isEmpty() ? pending.size() : e.getFailedMessages().size();
+            failed += failedMessages;
+            sent += pending.size() - failedMessages;
+            log.warn("failed to send {} of {} mails", failedMessages, pending.size(), e);
+        } catch (MailException e) {
+            failed += pending.size();
+            log.warn("failed to send {} mails", pending.size(), e);
+        }
+        pending.clear();
+    }
+
+    public int getSent() {
+        return sent;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+}
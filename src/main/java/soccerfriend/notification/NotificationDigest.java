@@ -0,0 +1,78 @@
+package soccerfriend.notification;
+
+import org.springframework.mail.SimpleMailMessage;
+import soccerfriend.dto.DigestNotification;
+import soccerfriend.dto.Notification;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 한 member의 하루치 알림을 하나의 email로 요약합니다.
+ * 알림을 하나씩 나열하지 않고 club과 종류별 건수로 묶으므로, 신청이 많은 club의 leader도 짧은 email 한 통을 받습니다.
+ */
+public class NotificationDigest {
+
+    private final int memberId;
+    private final String email;
+    private final Map<String, Integer> counts = new LinkedHashMap<>();
+    private int total;
+
+    public NotificationDigest(int memberId, String email) {
+        this.memberId = memberId;
+        this.email = email;
+    }
+
+    /**
+     * 알림을 요약에 추가합니다.
+     *
+     * @param notification 수신자가 같은 알림
+     */
+    public void add(DigestNotification notification) {
+        String line = "[" + notification.getClubName() + "] " + describe(notification.getType());
+        counts.merge(line, 1, Integer::sum);
+        total++;
+    }
+
+    public int getMemberId() {
+        return memberId;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * 요약 email을 만듭니다.
+     *
+     * @param from 발신 email
+     * @param date 요약한 날짜
+     * @return 요약 email
+     */
+    public SimpleMailMessage toMessage(String from, LocalDate date) {
+        StringBuilder text = new StringBuilder();
+        text.append(date).append(" 하루 동안 읽지 않은 알림 ").append(total).append("건이 있습니다.\n\n");
+        counts.forEach((line, count) -> text.append(line).append(' ').append(count).append("건\n"));
+
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom(from);
+        message.setTo(email);
+        message.setSubject("SoccerFriend 알림 요약");
+        message.setText(text.toString());
+        return message;
+    }
+
+    private static String describe(Notification.Type type) {
+        switch (type) {
+            case CLUB_JOIN_REQUESTED:
+                return "가입 신청";
+            case SOCCER_MATCH_JOIN_REQUESTED:
+                return "경기 참가 신청";
+            case CLUB_JOIN_APPROVED:
+                return "가입 승인";
+            default:
+                return type.name();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package soccerfriend.notification;
+
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * member마다 읽지 않은 알림 수를 redis에 보관합니다.
+ * 값이 없으면 DB에서 세어 채우고, 이후에는 알림이 생기거나 읽힐 때 값이 있는 경우에만 증감합니다.
+ * 세는 도중에 생긴 알림은 누락될 수 있으므로 짧은 만료시간을 두어 주기적으로 DB와 맞춥니다.
+ */
+public class UnreadNotificationCounter {
+
+    public static final String KEY_PREFIX = "soccerfriend:notification:unread:";
+
+    private static final String INCREMENT_IF_EXISTS =
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return redis.call('INCRBY', KEYS[1], ARGV[1]) end return -1";
+    private static final String DECREMENT_IF_POSITIVE =
+            "local count = tonumber(redis.call('GET', KEYS[1]))" +
+                    " if count == nil then return -1 end" +
+                    " if count <= 1 then redis.call('DECRBY', KEYS[1], count) return 0 end" +
+                    " return redis.call('DECR', KEYS[1])";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration timeToLive;
+
+    public UnreadNotificationCounter(StringRedisTemplate stringRedisTemplate, Duration timeToLive) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * 읽지 않은 알림 수를 반환합니다. 값이 없다면 loader로 세어 저장합니다.
+     *
+     * @param memberId member의 id
+     * @param loader   DB에서 읽지 않은 알림 수를 세는 함수
+     * @return 읽지 않은 알림 수
+     */
+    public int get(int memberId, IntSupplier loader) {
+        String count = stringRedisTemplate.opsForValue().get(KEY_PREFIX + memberId);
+        if (count != null) {
+            return Integer.parseInt(count);
+        }
+
+        int loaded = loader.getAsInt();
+        stringRedisTemplate.opsForValue().set(KEY_PREFIX + memberId, Integer.toString(loaded), timeToLive);
+        return loaded;
+    }
+
+    /**
+     * member들의 읽지 않은 알림 수를 1씩 증가시킵니다. 하나의 pipeline으로 전송됩니다.
+     *
+     * @param memberIds member들의 id
+     */
+    public void increment(Collection<Integer> memberIds) {
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            for (int memberId : memberIds) {
+                redis.eval(INCREMENT_IF_EXISTS, ReturnType.INTEGER, 1, KEY_PREFIX + memberId, "1");
+            }
+            return null;
+        });
+    }
+
+    /**
+     * member의 읽지 않은 알림 수를 1 감소시킵니다.
+     *
+     * @param memberId member의 id
+     */
+    public void decrement(int memberId) {
+        stringRedisTemplate.execute((RedisCallback<Object>) connection ->
+                ((StringRedisConnection) connection).eval(DECREMENT_IF_POSITIVE, ReturnType.INTEGER, 1, KEY_PREFIX + memberId));
+    }
+
+    /**
+     * 저장된 값을 삭제하여 다음 조회시 DB에서 다시 세게 합니다.
+     *
+     * @param memberIds member들의 id
+     */
+    public void evict(Collection<Integer> memberIds) {
+        List<String> keys = new ArrayList<>(memberIds.size());
+        for (int memberId : memberIds) {
+            keys.add(KEY_PREFIX + memberId);
+        }
+        stringRedisTemplate.delete(keys);
+    }
+}
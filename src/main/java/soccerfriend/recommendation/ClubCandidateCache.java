@@ -0,0 +1,180 @@
+package soccerfriend.recommendation;
+
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import soccerfriend.dto.ClubCandidate;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 지역별 club 추천 후보 목록을 redis hash로 보관합니다.
+ * <p>
+ * 지역마다 club id를 field로, club의 후보 정보를 값으로 하는 hash를 두고, 목록 전체가 만들어진 지역에만 built field를 둡니다.
+ * built field가 없는 hash는 아직 만들어지지 않은 목록으로 보고 조회하지 않습니다.
+ * 목록 전체는 임시 key에 만든 뒤 RENAME으로 교체하고, club 하나의 변경은 해당 field만 갱신합니다.
+ * club이 다른 지역으로 옮기면 이전 지역에서 지우도록 club별 지역을 별도의 hash에 기록합니다.
+ * 후보 정보는 "monthlyFee,members,recentMatches,positionsId:members;...,name" 형태의 문자열로 저장합니다.
+ */
+public class ClubCandidateCache {
+
+    public static final String REGION_KEY_PREFIX = "soccerfriend:recommendation:region:";
+    public static final String CLUB_REGION_KEY = "soccerfriend:recommendation:club-region";
+
+    static final String BUILT_FIELD = "built";
+
+    private static final String REBUILD_SUFFIX = ":rebuild";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration ttl;
+
+    public ClubCandidateCache(StringRedisTemplate stringRedisTemplate, Duration ttl) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 지역의 추천 후보 목록을 반환합니다.
+     *
+     * @param addressId 지역(address)의 id
+     * @return 추천 후보 목록, 목록이 만들어지지 않았다면 null
+     */
+    public List<ClubCandidate> get(int addressId) {
+        Map<String, String> entries = stringRedisTemplate.<String, String>opsForHash().entries(regionKey(addressId));
+        if (!entries.containsKey(BUILT_FIELD)) {
+            return null;
+        }
+
+        List<ClubCandidate> candidates = new ArrayList<>(entries.size() - 1);
+        for (Map.Entry<String, String> entry : entries.entrySet()) {
+            if (!BUILT_FIELD.equals(entry.getKey())) {
+                candidates.add(decode(Integer.parseInt(entry.getKey()), addressId, entry.getValue()));
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * 지역의 추천 후보 목록 전체를 교체합니다. 모든 기록은 하나의 pipeline으로 전송됩니다.
+     *
+     * @param addressId  지역(address)의 id
+     * @param candidates 지역의 모든 추천 후보
+     */
+    public void replace(int addressId, Collection<ClubCandidate> candidates) {
+        String key = regionKey(addressId);
+        String rebuildKey = key + REBUILD_SUFFIX;
+        Map<String, String> entries = new HashMap<>();
+        Map<String, String> regions = new HashMap<>();
+        for (ClubCandidate candidate : candidates) {
+            String clubId = Integer.toString(candidate.getClubId());
+            entries.put(clubId, encode(candidate));
+            regions.put(clubId, Integer.toString(addressId));
+        }
+        entries.put(BUILT_FIELD, "1");
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            redis.del(rebuildKey);
+            redis.hMSet(rebuildKey, entries);
+            redis.rename(rebuildKey, key);
+            redis.expire(key, ttl.getSeconds());
+            if (!regions.isEmpty()) {
+                redis.hMSet(CLUB_REGION_KEY, regions);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * club 하나의 후보 정보를 갱신합니다. 지역이 바뀌었다면 이전 지역의 목록에서 삭제하고,
+     * 새 지역의 목록이 만들어져 있을 때만 추가합니다.
+     *
+     * @param candidate club의 추천 후보 정보
+     */
+    public void put(ClubCandidate candidate) {
+        String clubId = Integer.toString(candidate.getClubId());
+        String key = regionKey(candidate.getAddressId());
+        String previousRegion = stringRedisTemplate.<String, String>opsForHash().get(CLUB_REGION_KEY, clubId);
+        Boolean built = stringRedisTemplate.opsForHash().hasKey(key, BUILT_FIELD);
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            if (previousRegion != null && !previousRegion.equals(Integer.toString(candidate.getAddressId()))) {
+                redis.hDel(REGION_KEY_PREFIX + previousRegion, clubId);
+            }
+            if (Boolean.TRUE.equals(built)) {
+                redis.hSet(key, clubId, encode(candidate));
+            }
+            redis.hSet(CLUB_REGION_KEY, clubId, Integer.toString(candidate.getAddressId()));
+            return null;
+        });
+    }
+
+    /**
+     * club을 추천 후보 목록에서 삭제합니다.
+     *
+     * @param clubId club의 id
+     */
+    public void remove(int clubId) {
+        String field = Integer.toString(clubId);
+        String previousRegion = stringRedisTemplate.<String, String>opsForHash().get(CLUB_REGION_KEY, field);
+        if (previousRegion == null) {
+            return;
+        }
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            redis.hDel(REGION_KEY_PREFIX + previousRegion, field);
+            redis.hDel(CLUB_REGION_KEY, field);
+            return null;
+        });
+    }
+
+    public static String regionKey(int addressId) {
+        return REGION_KEY_PREFIX + addressId;
+    }
+
+    static String encode(ClubCandidate candidate) {
+        StringBuilder value = new StringBuilder(32 + candidate.getName().length());
+        value.append(candidate.getMonthlyFee()).append(',')
+             .append(candidate.getMembers()).append(',')
+             .append(candidate.getRecentMatches()).append(',');
+        if (candidate.getPositions() != null) {
+            String separator = "";
+            for (Map.Entry<Integer, Integer> position : candidate.getPositions().entrySet()) {
+                value.append(separator).append(position.getKey()).append(':').append(position.getValue());
+                separator = ";";
+            }
+        }
+        return value.append(',').append(candidate.getName()).toString();
+    }
+
+    static ClubCandidate decode(int clubId, int addressId, String value) {
+        int members = value.indexOf(',');
+        int recentMatches = value.indexOf(',', members + 1);
+        int positions = value.indexOf(',', recentMatches + 1);
+        int name = value.indexOf(',', positions + 1);
+
+        Map<Integer, Integer> positionCounts = new HashMap<>();
+        int start = positions + 1;
+        while (start < name) {
+            int end = value.indexOf(';', start);
+            if (end < 0 || end > name) {
+                end = name;
+            }
+            int colon = value.indexOf(':', start);
+            positionCounts.put(Integer.parseInt(value, start, colon, 10), Integer.parseInt(value, colon + 1, end, 10));
+            start = end + 1;
+        }
+
+        return ClubCandidate.builder()
+                            .clubId(clubId)
+                            .name(value.substring(name + 1))
+                            .addressId(addressId)
+                            .monthlyFee(Integer.parseInt(value, 0, members, 10))
+                            .members(Integer.parseInt(value, members + 1, recentMatches, 10))
+                            .recentMatches(Integer.parseInt(value, recentMatches + 1, positions, 10))
+                            .positions(positionCounts)
+                            .build();
+    }
+}
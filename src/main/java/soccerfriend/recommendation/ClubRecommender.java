@@ -0,0 +1,121 @@
+package soccerfriend.recommendation;
+
+import soccerfriend.dto.ClubCandidate;
+import soccerfriend.dto.ClubRecommendation;
+
+import java.util.*;
+
+/**
+ * 같은 지역의 추천 후보 club들에 member에 맞는 점수를 매겨 높은 순서로 고릅니다.
+ * <p>
+ * 점수는 포지션, 회비, 활동량 점수의 가중합이며 각 점수는 0 이상 1 이하입니다.
+ * <ul>
+ *     <li>포지션: member와 같은 포지션을 선호하는 구성원이 적을수록 높습니다. member의 포지션이 없다면(0) 중간값입니다.</li>
+ *     <li>회비: 회비가 없으면 1이고, member의 point로 낼 수 없는 회비라면 0입니다. 그 사이는 point에 비해 회비가 적을수록 높습니다.</li>
+ *     <li>활동량: 최근 경기 수와 구성원 수가 기준에 가까울수록 높습니다.</li>
+ * </ul>
+ */
+public class ClubRecommender {
+
+    static final double POSITION_WEIGHT = 0.35;
+    static final double FEE_WEIGHT = 0.25;
+    static final double ACTIVITY_WEIGHT = 0.4;
+
+    private static final int NO_POSITION = 0;
+    private static final double NO_POSITION_SCORE = 0.5;
+    private static final int ACTIVE_MATCHES = 8;
+    private static final int FULL_SQUAD = 22;
+    private static final double MATCHES_SHARE = 0.7;
+
+    private static final Comparator<ClubRecommendation> WORST_FIRST =
+            Comparator.comparingDouble(ClubRecommendation::getScore)
+                      .thenComparing(Comparator.comparingInt(ClubRecommendation::getClubId).reversed());
+
+    private ClubRecommender() {
+    }
+
+    /**
+     * 후보 중 점수가 높은 club을 최대 size개 반환합니다. 점수가 같다면 id가 작은 club이 먼저입니다.
+     *
+     * @param candidates      같은 지역의 추천 후보
+     * @param positionsId     member가 선호하는 포지션의 id, 없다면 0
+     * @param point           member의 point
+     * @param excludedClubIds 이미 가입했거나 가입신청한 club의 id
+     * @param size            최대 개수
+     * @return 점수가 높은 순서의 추천 club
+     */
+    public static List<ClubRecommendation> recommend(Collection<ClubCandidate> candidates,
+                                                     int positionsId,
+                                                     int point,
+                                                     Set<Integer> excludedClubIds,
+                                                     int size) {
+        if (size <= 0) {
+            return List.of();
+        }
+        PriorityQueue<ClubRecommendation> top = new PriorityQueue<>(size + 1, WORST_FIRST);
+        for (ClubCandidate candidate : candidates) {
+            if (excludedClubIds.contains(candidate.getClubId())) {
+                continue;
+            }
+            ClubRecommendation recommendation = score(candidate, positionsId, point);
+            if (top.size() < size) {
+                top.add(recommendation);
+            } else if (WORST_FIRST.compare(recommendation, top.peek()) > 0) {
+                top.poll();
+                top.add(recommendation);
+            }
+        }
+
+        List<ClubRecommendation> recommendations = new ArrayList<>(top);
+        recommendations.sort(WORST_FIRST.reversed());
+        return recommendations;
+    }
+
+    /**
+     * 후보 club 하나의 점수를 계산합니다.
+     *
+     * @param candidate   추천 후보
+     * @param positionsId member가 선호하는 포지션의 id, 없다면 0
+     * @param point       member의 point
+     * @return 점수를 포함한 추천 club
+     */
+    public static ClubRecommendation score(ClubCandidate candidate, int positionsId, int point) {
+        int samePositionMembers = samePositionMembers(candidate, positionsId);
+        double positionScore = positionsId == NO_POSITION ? NO_POSITION_SCORE : 1.0 / (1 + samePositionMembers);
+        double score = POSITION_WEIGHT * positionScore
+                + FEE_WEIGHT * feeScore(candidate.getMonthlyFee(), point)
+                + ACTIVITY_WEIGHT * activity(candidate.getMembers(), candidate.getRecentMatches());
+
+        return ClubRecommendation.builder()
+                                 .clubId(candidate.getClubId())
+                                 .name(candidate.getName())
+                                 .monthlyFee(candidate.getMonthlyFee())
+                                 .members(candidate.getMembers())
+                                 .recentMatches(candidate.getRecentMatches())
+                                 .samePositionMembers(samePositionMembers)
+                                 .score(score)
+                                 .build();
+    }
+
+    static double feeScore(int monthlyFee, int point) {
+        if (monthlyFee <= 0) {
+            return 1;
+        }
+        if (point < monthlyFee) {
+            return 0;
+        }
+        return 1 - monthlyFee / (2.0 * point);
+    }
+
+    static double activity(int members, int recentMatches) {
+        return MATCHES_SHARE * Math.min(1.0, (double) recentMatches / ACTIVE_MATCHES)
+                + (1 - MATCHES_SHARE) * Math.min(1.0, (double) members / FULL_SQUAD);
+    }
+
+    private static int samePositionMembers(ClubCandidate candidate, int positionsId) {
+        if (positionsId == NO_POSITION || candidate.getPositions() == null) {
+            return 0;
+        }
+        return candidate.getPositions().getOrDefault(positionsId, 0);
+    }
+}
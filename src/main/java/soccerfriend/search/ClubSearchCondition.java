@@ -0,0 +1,24 @@
+package soccerfriend.search;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * club 검색 조건입니다. query 외의 조건은 null이면 적용하지 않습니다.
+ */
+@Getter
+@Builder
+public class ClubSearchCondition {
+
+    private String query;
+
+    private String city;
+
+    private String town;
+
+    private Integer minMonthlyFee;
+
+    private Integer maxMonthlyFee;
+
+    private Integer minPoint;
+}
@@ -0,0 +1,25 @@
+package soccerfriend.search;
+
+import lombok.*;
+
+/**
+ * 검색 index에 저장되는 club의 정보입니다. rating으로는 club의 point를 사용합니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ClubSearchDocument {
+
+    private int id;
+
+    private String name;
+
+    private String city;
+
+    private String town;
+
+    private int monthlyFee;
+
+    private int point;
+}
@@ -0,0 +1,31 @@
+package soccerfriend.search;
+
+import lombok.*;
+
+/**
+ * 검색 index에 저장되는 club 내부의 글입니다. 게시판은 이름을 title로, 게시글은 제목과 내용을 색인합니다.
+ * 내용은 색인만 하고 저장하지 않으므로 검색 결과의 content는 null입니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ContentSearchDocument {
+
+    private Type type;
+
+    private int id;
+
+    private int clubId;
+
+    private int bulletinId;
+
+    private String title;
+
+    private String content;
+
+    public enum Type {
+        BULLETIN,
+        POST;
+    }
+}
@@ -0,0 +1,318 @@
+package soccerfriend.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.*;
+import org.apache.lucene.index.*;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.Directory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * club, 게시판, 게시글을 검색하는 Lucene index입니다.
+ * 변경은 IndexWriter에 바로 반영되고 near-real-time reopen thread가 1초 안에 검색에 노출시킵니다.
+ * 디스크 commit은 주기적으로 수행하며, 전체 재색인은 generation을 올려 다시 색인한 뒤 이전 generation의 문서를 삭제하므로
+ * 재색인 중에도 검색이 가능합니다.
+ */
+@Slf4j
+public class SearchIndex implements AutoCloseable {
+
+    private static final String KEY = "key";
+    private static final String TYPE = "type";
+    private static final String GENERATION = "generation";
+    private static final String ID = "id";
+    private static final String NAME = "name";
+    private static final String CITY = "city";
+    private static final String TOWN = "town";
+    private static final String MONTHLY_FEE = "monthlyFee";
+    private static final String POINT = "point";
+    private static final String CLUB_ID = "clubId";
+    private static final String BULLETIN_ID = "bulletinId";
+    private static final String TITLE = "title";
+    private static final String CONTENT = "content";
+    private static final String CLUB = "CLUB";
+
+    private final Directory directory;
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+    private volatile long generation;
+
+    public SearchIndex(Directory directory) throws IOException {
+        this.directory = directory;
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.searcherManager = new SearcherManager(writer, null);
+        this.reopenThread = new ControlledRealTimeReopenThread<>(writer, searcherManager, 1.0, 0.1);
+        this.reopenThread.setName("search-index-reopen");
+        this.reopenThread.setDaemon(true);
+        this.reopenThread.start();
+
+        Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+        if (commitData != null) {
+            for (Map.Entry<String, String> entry : commitData) {
+                if (GENERATION.equals(entry.getKey())) {
+                    generation = Long.parseLong(entry.getValue());
+                }
+            }
+        }
+    }
+
+    /**
+     * index에 문서가 없는지 확인합니다.
+     *
+     * @return 문서가 없다면 true
+     */
+    public boolean isEmpty() {
+        return writer.getDocStats().numDocs == 0;
+    }
+
+    /**
+     * club 문서를 추가하거나 교체합니다.
+     *
+     * @param club club의 검색 정보
+     */
+    public void upsert(ClubSearchDocument club) throws IOException {
+        Document document = baseDocument(CLUB, club.getId());
+        document.add(new TextField(NAME, club.getName(), Field.Store.YES));
+        if (club.getCity() != null) {
+            document.add(new StringField(CITY, club.getCity(), Field.Store.YES));
+            document.add(new StringField(TOWN, club.getTown(), Field.Store.YES));
+        }
+        addInt(document, MONTHLY_FEE, club.getMonthlyFee());
+        addInt(document, POINT, club.getPoint());
+        document.add(new NumericDocValuesField(POINT, club.getPoint()));
+        writer.updateDocument(new Term(KEY, key(CLUB, club.getId())), document);
+    }
+
+    /**
+     * 게시판 또는 게시글 문서를 추가하거나 교체합니다.
+     *
+     * @param content 게시판 또는 게시글의 검색 정보
+     */
+    public void upsert(ContentSearchDocument content) throws IOException {
+        Document document = baseDocument(content.getType().name(), content.getId());
+        addInt(document, CLUB_ID, content.getClubId());
+        addInt(document, BULLETIN_ID, content.getBulletinId());
+        document.add(new TextField(TITLE, content.getTitle(), Field.Store.YES));
+        if (content.getContent() != null) {
+            document.add(new TextField(CONTENT, content.getContent(), Field.Store.NO));
+        }
+        writer.updateDocument(new Term(KEY, key(content.getType().name(), content.getId())), document);
+    }
+
+    /**
+     * club 문서를 삭제합니다.
+     *
+     * @param id club의 id
+     */
+    public void deleteClub(int id) throws IOException {
+        writer.deleteDocuments(new Term(KEY, key(CLUB, id)));
+    }
+
+    /**
+     * 게시판 또는 게시글 문서를 삭제합니다.
+     *
+     * @param type 게시판 또는 게시글
+     * @param id   게시판 또는 게시글의 id
+     */
+    public void deleteContent(ContentSearchDocument.Type type, int id) throws IOException {
+        writer.deleteDocuments(new Term(KEY, key(type.name(), id)));
+    }
+
+    /**
+     * 게시판과 그 게시판의 모든 게시글 문서를 삭제합니다.
+     *
+     * @param bulletinId 게시판의 id
+     */
+    public void deleteBulletin(int bulletinId) throws IOException {
+        writer.deleteDocuments(IntPoint.newExactQuery(BULLETIN_ID, bulletinId));
+    }
+
+    /**
+     * 조건에 맞는 club을 관련도 순으로 반환합니다. 검색어가 없다면 point 내림차순으로 반환합니다.
+     *
+     * @param condition 검색 조건
+     * @param size      최대 결과 수
+     * @return 검색된 club
+     */
+    public List<ClubSearchDocument> searchClubs(ClubSearchCondition condition, int size) throws IOException {
+        BooleanQuery.Builder query = new BooleanQuery.Builder()
+                .add(new TermQuery(new Term(TYPE, CLUB)), BooleanClause.Occur.FILTER);
+        boolean hasTerms = addTextQuery(query, condition.getQuery(), NAME);
+        if (condition.getCity() != null) {
+            query.add(new TermQuery(new Term(CITY, condition.getCity())), BooleanClause.Occur.FILTER);
+        }
+        if (condition.getTown() != null) {
+            query.add(new TermQuery(new Term(TOWN, condition.getTown())), BooleanClause.Occur.FILTER);
+        }
+        if (condition.getMinMonthlyFee() != null || condition.getMaxMonthlyFee() != null) {
+            query.add(IntPoint.newRangeQuery(MONTHLY_FEE,
+                    condition.getMinMonthlyFee() == null ? Integer.MIN_VALUE : condition.getMinMonthlyFee(),
+                    condition.getMaxMonthlyFee() == null ? Integer.MAX_VALUE : condition.getMaxMonthlyFee()),
+                    BooleanClause.Occur.FILTER);
+        }
+        if (condition.getMinPoint() != null) {
+            query.add(IntPoint.newRangeQuery(POINT, condition.getMinPoint(), Integer.MAX_VALUE), BooleanClause.Occur.FILTER);
+        }
+
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            TopDocs topDocs = hasTerms
+                    ? searcher.search(query.build(), size)
+                    : searcher.search(query.build(), size, new Sort(new SortField(POINT, SortField.Type.INT, true)));
+            List<ClubSearchDocument> clubs = new ArrayList<>(topDocs.scoreDocs.length);
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                Document document = searcher.doc(scoreDoc.doc);
+                clubs.add(ClubSearchDocument.builder()
+                                            .id(document.getField(ID).numericValue().intValue())
+                                            .name(document.get(NAME))
+                                            .city(document.get(CITY))
+                                            .town(document.get(TOWN))
+                                            .monthlyFee(document.getField(MONTHLY_FEE).numericValue().intValue())
+                                            .point(document.getField(POINT).numericValue().intValue())
+                                            .build());
+            }
+            return clubs;
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    /**
+     * club 안의 게시판과 게시글을 관련도 순으로 반환합니다.
+     *
+     * @param clubId club의 id
+     * @param text   검색어
+     * @param size   최대 결과 수
+     * @return 검색된 게시판과 게시글
+     */
+    public List<ContentSearchDocument> searchContents(int clubId, String text, int size) throws IOException {
+        BooleanQuery.Builder query = new BooleanQuery.Builder()
+                .add(IntPoint.newExactQuery(CLUB_ID, clubId), BooleanClause.Occur.FILTER);
+        if (!addTextQuery(query, text, TITLE, CONTENT)) {
+            return List.of();
+        }
+
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            TopDocs topDocs = searcher.search(query.build(), size);
+            List<ContentSearchDocument> contents = new ArrayList<>(topDocs.scoreDocs.length);
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                Document document = searcher.doc(scoreDoc.doc);
+                contents.add(ContentSearchDocument.builder()
+                                                  .type(ContentSearchDocument.Type.valueOf(document.get(TYPE)))
+                                                  .id(document.getField(ID).numericValue().intValue())
+                                                  .clubId(clubId)
+                                                  .bulletinId(document.getField(BULLETIN_ID).numericValue().intValue())
+                                                  .title(document.get(TITLE))
+                                                  .build());
+            }
+            return contents;
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    /**
+     * 전체 재색인을 시작합니다. 이후 색인되는 문서는 새로운 generation을 가집니다.
+     *
+     * @return 새로운 generation
+     */
+    public synchronized long startRebuild() {
+        return ++generation;
+    }
+
+    /**
+     * 전체 재색인을 마칩니다. 재색인 중 다시 색인되지 않은 이전 generation의 문서를 삭제하고 commit합니다.
+     *
+     * @param rebuildGeneration startRebuild가 반환한 generation
+     */
+    public void finishRebuild(long rebuildGeneration) throws IOException {
+        writer.deleteDocuments(LongPoint.newRangeQuery(GENERATION, Long.MIN_VALUE, rebuildGeneration - 1));
+        commit();
+        searcherManager.maybeRefresh();
+    }
+
+    /**
+     * 변경사항을 디스크에 commit합니다. 검색 노출은 commit과 관계없이 near-real-time으로 이루어집니다.
+     */
+    @Scheduled(fixedDelayString = "${soccerfriend.search.commit-interval:60000}")
+    public void commit() throws IOException {
+        if (writer.hasUncommittedChanges()) {
+            writer.setLiveCommitData(Map.of(GENERATION, Long.toString(generation)).entrySet());
+            writer.commit();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reopenThread.close();
+        searcherManager.close();
+        commit();
+        writer.close();
+        directory.close();
+    }
+
+    private Document baseDocument(String type, int id) {
+        Document document = new Document();
+        document.add(new StringField(KEY, key(type, id), Field.Store.NO));
+        document.add(new StringField(TYPE, type, Field.Store.YES));
+        document.add(new StoredField(ID, id));
+        document.add(new LongPoint(GENERATION, generation));
+        return document;
+    }
+
+    private void addInt(Document document, String name, int value) {
+        document.add(new IntPoint(name, value));
+        document.add(new StoredField(name, value));
+    }
+
+    /**
+     * 검색어의 각 단어가 field 중 하나에 정확히, 접두어로, 또는 오타를 허용하여 일치해야 하는 조건을 추가합니다.
+     * 정확히 일치할수록 점수가 높으며, 오타는 4글자 이상이면 1글자, 8글자 이상이면 2글자까지 허용합니다.
+     *
+     * @return 검색어에 단어가 있었는지 여부
+     */
+    private boolean addTextQuery(BooleanQuery.Builder query, String text, String... fields) throws IOException {
+        if (text == null || text.isBlank()) {
+            return false;
+        }
+
+        boolean hasTerms = false;
+        try (TokenStream tokenStream = analyzer.tokenStream(fields[0], text)) {
+            CharTermAttribute attribute = tokenStream.addAttribute(CharTermAttribute.class);
+            tokenStream.reset();
+            while (tokenStream.incrementToken()) {
+                String word = attribute.toString();
+                int maxEdits = word.length() >= 8 ? 2 : word.length() >= 4 ? 1 : 0;
+                BooleanQuery.Builder wordQuery = new BooleanQuery.Builder();
+                for (String field : fields) {
+                    Term term = new Term(field, word);
+                    wordQuery.add(new BoostQuery(new TermQuery(term), 3), BooleanClause.Occur.SHOULD);
+                    wordQuery.add(new BoostQuery(new PrefixQuery(term), 2), BooleanClause.Occur.SHOULD);
+                    if (maxEdits > 0) {
+                        wordQuery.add(new FuzzyQuery(term, maxEdits, 1), BooleanClause.Occur.SHOULD);
+                    }
+                }
+                query.add(wordQuery.build(), BooleanClause.Occur.MUST);
+                hasTerms = true;
+            }
+            tokenStream.end();
+        }
+        return hasTerms;
+    }
+
+    private static String key(String type, int id) {
+        return type + ":" + id;
+    }
+}
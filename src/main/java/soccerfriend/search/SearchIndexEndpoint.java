@@ -0,0 +1,29 @@
+package soccerfriend.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+import soccerfriend.service.SearchService;
+
+/**
+ * 검색 index를 MySQL에서 다시 만드는 actuator endpoint입니다. (POST /actuator/search-index)
+ * management.endpoints.web.exposure.include에 search-index를 추가해야 web으로 노출됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "search-index")
+public class SearchIndexEndpoint {
+
+    private final SearchService searchService;
+
+    /**
+     * 전체 재색인을 수행합니다.
+     *
+     * @return 색인한 문서 수
+     */
+    @WriteOperation
+    public long rebuild() {
+        return searchService.rebuild();
+    }
+}
@@ -5,14 +5,18 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import soccerfriend.cache.ResponseCache;
 import soccerfriend.dto.Bulletin;
 import soccerfriend.dto.Club;
+import soccerfriend.dto.FeedEvent;
+import soccerfriend.event.DomainEventPublisher;
 import soccerfriend.exception.exception.BadRequestException;
 import soccerfriend.exception.exception.DuplicatedException;
 import soccerfriend.mapper.BulletinMapper;
 
 import java.util.List;
 
+import static soccerfriend.dto.FeedEvent.Type.BULLETIN_CREATED;
 import static soccerfriend.exception.ExceptionInfo.*;
 
 @Service
@@ -22,6 +26,9 @@ public class BulletinService {
     private final BulletinMapper mapper;
     private final int MAX_BULLETIN_NUM = 8;
     private final RedisTemplate redisTemplate;
+    private final ResponseCache responseCache;
+    private final SearchService searchService;
+    private final DomainEventPublisher domainEventPublisher;
 
     /**
      * 클럽 내에 게시판을 생성합니다.
@@ -52,6 +59,10 @@ public class BulletinService {
 
         mapper.insert(newBulletin);
         clubService.increaseBulletinNum(clubId);
+        redisTemplate.delete("BULLETIN::BULLETIN CLUB" + String.valueOf(clubId));
+        responseCache.evict("BULLETIN CLUB" + clubId);
+        searchService.indexBulletin(newBulletin.getId());
+        domainEventPublisher.publish(FeedEvent.of(BULLETIN_CREATED, clubId, newBulletin.getId()));
     }
 
     /**
@@ -70,6 +81,7 @@ public class BulletinService {
         mapper.delete(id);
         clubService.decreaseBulletinNum(clubId);
         deleteCache(id, clubId);
+        searchService.indexBulletin(id);
     }
 
     /**
@@ -111,7 +123,7 @@ public class BulletinService {
      * @param id 게시판의 id
      * @return 특정 id의 게시판
      */
-    @Cacheable(value = "BULLETIN", key = "'BULLETIN'+#id")
+    @Cacheable(value = "BULLETIN", key = "'BULLETIN'+#id", sync = true)
     public Bulletin getBulletinById(int id) {
         Bulletin bulletin = mapper.getBulletinById(id);
         if (bulletin == null) {
@@ -127,7 +139,7 @@ public class BulletinService {
      * @param clubId 클럽의 id
      * @return 클럽에 존재하는 모든 게시판
      */
-    @Cacheable(value = "BULLETIN", key = "'BULLETIN CLUB'+#clubId")
+    @Cacheable(value = "BULLETIN", key = "'BULLETIN CLUB'+#clubId", sync = true)
     public List<Bulletin> getBulletinsByClubId(int clubId) {
         List<Bulletin> bulletins = mapper.getBulletinsByClubId(clubId);
         if (bulletins.isEmpty()) {
@@ -157,10 +169,11 @@ public class BulletinService {
 
         deleteCache(id, clubId);
         mapper.updateName(id, name);
+        searchService.indexBulletin(id);
     }
 
     /**
-     * 캐시에 저장되어 있는 해당 게시판과 관련된 정보를 모두 삭제합니다.
+     * 캐시에 저장되어 있는 해당 게시판과 관련된 정보를 모두 삭제합니다. 게시판의 게시글 첫 page도 함께 삭제합니다.
      *
      * @param id     게시판의 id
      * @param clubId 클럽의 id
@@ -168,5 +181,7 @@ public class BulletinService {
     public void deleteCache(int id, int clubId) {
         redisTemplate.delete("BULLETIN::BULLETIN" + String.valueOf(id));
         redisTemplate.delete("BULLETIN::BULLETIN CLUB" + String.valueOf(clubId));
+        responseCache.evict("BULLETIN CLUB" + clubId);
+        responseCache.evict(PostService.firstPageCacheKey(id));
     }
 }
@@ -0,0 +1,150 @@
+package soccerfriend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import soccerfriend.dto.ClubForm;
+import soccerfriend.dto.HeadToHead;
+import soccerfriend.dto.SoccerMatchResult;
+import soccerfriend.mapper.ClubHistoryMapper;
+import soccerfriend.stats.ClubHistoryBackfill;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * club 간의 상대전적과 club의 최근 경기결과를 관리합니다.
+ * 경기결과가 제출되면 같은 transaction에서 club 쌍의 row와 두 club의 최근 경기결과 row를 갱신하므로,
+ * 조회는 primary key로 row 하나만 읽습니다.
+ */
+@Slf4j
+@Service
+public class ClubHistoryService {
+    public static final String BACKFILL_LOCK_KEY = "soccerfriend:club-history:backfill";
+    private static final int SAVE_SIZE = 500;
+
+    private final ClubHistoryMapper mapper;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public ClubHistoryService(ClubHistoryMapper mapper,
+                              StringRedisTemplate stringRedisTemplate,
+                              TransactionTemplate transactionTemplate) {
+        this.mapper = mapper;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * 제출된 경기결과를 상대전적과 두 club의 최근 경기결과에 반영합니다. 경기결과를 제출하는 transaction 안에서 호출해야 합니다.
+     *
+     * @param hostClubId             주최 club의 id
+     * @param participationClubId    참가 club의 id
+     * @param hostClubScore          주최 club의 점수
+     * @param participationClubScore 참가 club의 점수
+     */
+    public void record(int hostClubId, int participationClubId, int hostClubScore, int participationClubScore) {
+        mapper.addHeadToHead(HeadToHead.of(hostClubId, participationClubId, hostClubScore, participationClubScore));
+        mapper.addForm(hostClubId, String.valueOf(ClubForm.result(hostClubScore, participationClubScore)));
+        mapper.addForm(participationClubId, String.valueOf(ClubForm.result(participationClubScore, hostClubScore)));
+    }
+
+    /**
+     * club 기준의 상대전적을 반환합니다.
+     *
+     * @param clubId         club의 id
+     * @param opponentClubId 상대 club의 id
+     * @return club 기준의 상대전적, 경기한 적이 없다면 모두 0
+     */
+    public HeadToHead getHeadToHead(int clubId, int opponentClubId) {
+        if (clubId < opponentClubId) {
+            HeadToHead headToHead = mapper.getHeadToHead(clubId, opponentClubId);
+            return headToHead != null ? headToHead : HeadToHead.empty(clubId, opponentClubId);
+        }
+        HeadToHead headToHead = mapper.getHeadToHead(opponentClubId, clubId);
+        return headToHead != null ? headToHead.reversed() : HeadToHead.empty(clubId, opponentClubId);
+    }
+
+    /**
+     * club의 최근 경기결과를 반환합니다.
+     *
+     * @param clubId club의 id
+     * @return 최근 경기결과, 제출된 경기가 없다면 빈 문자열
+     */
+    public ClubForm getForm(int clubId) {
+        ClubForm form = mapper.getForm(clubId);
+        return form != null ? form : new ClubForm(clubId, "");
+    }
+
+    /**
+     * 최근 경기결과가 하나도 없다면 application이 시작된 후 지난 경기들로 채웁니다.
+     * 여러 서버가 동시에 시작하더라도 한 서버만 채우도록 redis lock을 잡습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        try {
+            if (mapper.isFormExist()) {
+                return;
+            }
+            Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(BACKFILL_LOCK_KEY, "1", Duration.ofHours(1));
+            if (Boolean.TRUE.equals(locked)) {
+                backfill();
+            }
+        } catch (RuntimeException e) {
+            log.warn("failed to backfill club history", e);
+        }
+    }
+
+    /**
+     * 제출된 모든 경기를 최신순으로 한 번 streaming하여 상대전적과 최근 경기결과를 다시 계산하고 저장합니다.
+     * 메모리에는 경기한 적이 있는 club 쌍과 club마다 최근 경기결과만 남습니다.
+     * 다시 계산하는 동안 제출된 경기는 덮어쓰일 수 있으므로 경기가 적은 시간에 실행합니다.
+     *
+     * @return 집계한 경기 수
+     */
+    public long backfill() {
+        long startedAt = System.currentTimeMillis();
+        ClubHistoryBackfill backfill = new ClubHistoryBackfill();
+        Long count = transactionTemplate.execute(status -> {
+            long read = 0;
+            try (Cursor<SoccerMatchResult> results = mapper.getSubmittedResults()) {
+                for (SoccerMatchResult result : results) {
+                    backfill.add(result);
+                    read++;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            saveInBatches(backfill.getHeadToHeads(), mapper::saveHeadToHeads);
+            saveInBatches(backfill.getForms(), mapper::saveForms);
+            return read;
+        });
+
+        log.info("backfilled club history from {} soccer matches in {}ms", count, System.currentTimeMillis() - startedAt);
+        return count;
+    }
+
+    private <T> void saveInBatches(Collection<T> rows, Consumer<List<T>> save) {
+        List<T> batch = new ArrayList<>(SAVE_SIZE);
+        for (T row : rows) {
+            batch.add(row);
+            if (batch.size() == SAVE_SIZE) {
+                save.accept(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            save.accept(batch);
+        }
+    }
+}
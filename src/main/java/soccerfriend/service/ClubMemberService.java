@@ -2,7 +2,11 @@ package soccerfriend.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import soccerfriend.dto.ClubMember;
+import soccerfriend.dto.FeedEvent;
+import soccerfriend.event.ClubJoinRequestedEvent;
+import soccerfriend.event.DomainEventPublisher;
 import soccerfriend.exception.exception.BadRequestException;
 import soccerfriend.exception.exception.DuplicatedException;
 import soccerfriend.mapper.ClubMemberMapper;
@@ -11,6 +15,7 @@ import java.util.List;
 
 import static soccerfriend.dto.ClubMember.ClubMemberGrade.LEADER;
 import static soccerfriend.dto.ClubMember.ClubMemberGrade.MEMBER;
+import static soccerfriend.dto.FeedEvent.Type.MEMBER_APPROVED;
 import static soccerfriend.exception.ExceptionInfo.*;
 
 @Service
@@ -18,6 +23,8 @@ import static soccerfriend.exception.ExceptionInfo.*;
 public class ClubMemberService {
 
     private final ClubMemberMapper mapper;
+    private final DomainEventPublisher domainEventPublisher;
+    private final ClubRecommendationService clubRecommendationService;
 
     /**
      * clubMember를 추가합니다.
@@ -44,6 +51,7 @@ public class ClubMemberService {
      * @param clubId   가입하고자 하는 club의 id
      * @param memberId 클럽에 가입하고자하는 member
      */
+    @Transactional
     public void add(int clubId, int memberId) {
 
         if (isClubMember(clubId, memberId)) {
@@ -58,6 +66,7 @@ public class ClubMemberService {
                                              .paymentStatus(false)
                                              .build();
         mapper.insert(newClubMember);
+        domainEventPublisher.publish(new ClubJoinRequestedEvent(clubId, memberId));
     }
 
     /**
@@ -170,9 +179,12 @@ public class ClubMemberService {
      *
      * @param id clubMember의 id
      */
+    @Transactional
     public void approve(int id) {
+        ClubMember clubMember = getClubMemberById(id);
 
         mapper.setApprovedTrue(id);
+        domainEventPublisher.publish(FeedEvent.of(MEMBER_APPROVED, clubMember.getClubId(), clubMember.getMemberId()));
     }
 
     /**
@@ -180,6 +192,7 @@ public class ClubMemberService {
      *
      * @param clubMemberId
      */
+    @Transactional
     public void approveClubMember(int clubMemberId) {
         approve(clubMemberId);
     }
@@ -192,6 +205,7 @@ public class ClubMemberService {
      */
     public void deleteClubMember(int clubId, int memberId) {
         mapper.delete(clubId, memberId);
+        clubRecommendationService.refreshClub(clubId);
     }
 
     /**
@@ -232,4 +246,35 @@ public class ClubMemberService {
 
         return clubIdOfMember;
     }
+
+    /**
+     * 특정 member가 가입승인된 모든 club의 id들을 반환합니다.
+     *
+     * @param memberId member의 id
+     * @return member가 가입승인된 club의 id, 없다면 빈 목록
+     */
+    public List<Integer> getApprovedClubIdOfMember(int memberId) {
+        return mapper.getApprovedClubIdOfMember(memberId);
+    }
+
+    /**
+     * club의 leader와 staff의 id를 반환합니다.
+     *
+     * @param clubId club의 id
+     * @return leader와 staff의 id
+     */
+    public List<Integer> getLeaderAndStaffIds(int clubId) {
+        return mapper.getLeaderAndStaffIds(clubId);
+    }
+
+    /**
+     * club에 가입승인된 member들의 id를 최대 limit개까지 반환합니다.
+     *
+     * @param clubId club의 id
+     * @param limit  반환할 최대 개수
+     * @return 가입승인된 member들의 id
+     */
+    public List<Integer> getApprovedMemberIds(int clubId, int limit) {
+        return mapper.getApprovedMemberIds(clubId, limit);
+    }
 }
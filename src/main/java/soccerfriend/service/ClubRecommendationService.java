@@ -0,0 +1,186 @@
+package soccerfriend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import soccerfriend.dto.*;
+import soccerfriend.mapper.ClubMemberMapper;
+import soccerfriend.mapper.ClubRecommendationMapper;
+import soccerfriend.recommendation.ClubCandidateCache;
+import soccerfriend.recommendation.ClubRecommender;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * member에게 가입할 만한 club을 추천합니다.
+ * <p>
+ * 추천 후보는 member와 같은 지역(address)의 club들이며, 지역마다 후보 목록을 미리 만들어 redis에 보관합니다.
+ * 추천은 redis의 후보 목록을 읽어 member의 포지션과 point로 점수를 매기므로 DB의 집계 query를 실행하지 않습니다.
+ * <p>
+ * 후보 목록은 매일 한 서버에서 전체를 다시 만들고, 그 사이에는 club의 지역이나 회비가 바뀌거나
+ * 구성원이 가입승인되거나 탈퇴하거나 경기 결과가 제출되면 commit된 후 해당 club만 다시 계산합니다.
+ * 아직 목록이 없는 지역은 처음 조회할 때 만듭니다.
+ * 전체를 다시 만드는 동안 같은 지역의 club이 갱신되면 그 갱신은 교체될 수 있으며, 다음 갱신이나 다음 날 반영됩니다.
+ */
+@Slf4j
+@Service
+public class ClubRecommendationService {
+    public static final int MAX_SIZE = 50;
+    public static final String REBUILD_LOCK_KEY_PREFIX = "soccerfriend:recommendation:rebuild:";
+    private static final int RECENT_MATCH_DAYS = 90;
+
+    private final ClubRecommendationMapper mapper;
+    private final ClubCandidateCache clubCandidateCache;
+    private final MemberService memberService;
+    private final ClubMemberMapper clubMemberMapper;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public ClubRecommendationService(ClubRecommendationMapper mapper,
+                                     ClubCandidateCache clubCandidateCache,
+                                     MemberService memberService,
+                                     ClubMemberMapper clubMemberMapper,
+                                     StringRedisTemplate stringRedisTemplate) {
+        this.mapper = mapper;
+        this.clubCandidateCache = clubCandidateCache;
+        this.memberService = memberService;
+        this.clubMemberMapper = clubMemberMapper;
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    /**
+     * member와 같은 지역의 club 중 점수가 높은 club들을 반환합니다. 이미 가입했거나 가입신청한 club은 제외합니다.
+     *
+     * @param memberId member의 id
+     * @param size     최대 개수
+     * @return 점수가 높은 순서의 추천 club, member의 지역이 없다면 빈 목록
+     */
+    public List<ClubRecommendation> recommend(int memberId, int size) {
+        Member member = memberService.getMemberById(memberId);
+        if (member.getAddressId() == 0) {
+            return List.of();
+        }
+
+        List<ClubCandidate> candidates = getCandidates(member.getAddressId());
+        Set<Integer> joinedClubIds = new HashSet<>(clubMemberMapper.getClubIdOfMember(memberId));
+        return ClubRecommender.recommend(candidates, member.getPositionsId(), member.getPoint(), joinedClubIds,
+                Math.min(size, MAX_SIZE));
+    }
+
+    private List<ClubCandidate> getCandidates(int addressId) {
+        List<ClubCandidate> candidates = clubCandidateCache.get(addressId);
+        if (candidates != null) {
+            return candidates;
+        }
+
+        candidates = loadRegion(addressId);
+        clubCandidateCache.replace(addressId, candidates);
+        return candidates;
+    }
+
+    /**
+     * club의 추천 후보 정보를 다시 계산합니다. transaction 안이라면 commit된 후에 계산합니다.
+     * 실패하면 다음 날 전체를 다시 만들 때 반영됩니다.
+     *
+     * @param clubId club의 id
+     */
+    public void refreshClub(int clubId) {
+        Runnable task = () -> {
+            try {
+                ClubCandidate candidate = mapper.getCandidateByClubId(clubId, recentMatchesSince());
+                if (candidate == null || candidate.getAddressId() == 0) {
+                    clubCandidateCache.remove(clubId);
+                    return;
+                }
+                clubCandidateCache.put(withPositions(List.of(candidate)).get(0));
+            } catch (RuntimeException e) {
+                log.warn("failed to refresh recommendation candidate of club {}", clubId, e);
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    /**
+     * 구성원이나 경기가 바뀐 club의 후보 정보를 다시 계산합니다.
+     *
+     * @param event OutboxRelay가 전달한 event
+     */
+    @EventListener
+    public void onFeedEvent(FeedEvent event) {
+        if (event.getType() == FeedEvent.Type.MEMBER_APPROVED || event.getType() == FeedEvent.Type.MATCH_SUBMITTED) {
+            refreshClub(event.getClubId());
+        }
+    }
+
+    /**
+     * 매일 한 서버에서만 모든 지역의 후보 목록을 다시 만듭니다.
+     */
+    @Scheduled(cron = "${soccerfriend.recommendation.rebuild-cron:0 0 5 * * *}")
+    public void rebuildDaily() {
+        Boolean locked = stringRedisTemplate.opsForValue()
+                                            .setIfAbsent(REBUILD_LOCK_KEY_PREFIX + LocalDate.now(), "1", Duration.ofDays(2));
+        if (Boolean.TRUE.equals(locked)) {
+            rebuild();
+        }
+    }
+
+    /**
+     * club이 있는 모든 지역의 후보 목록을 다시 만듭니다. 지역마다 목록을 만들어 바로 교체합니다.
+     *
+     * @return 다시 만든 지역의 수
+     */
+    public int rebuild() {
+        long startedAt = System.currentTimeMillis();
+        List<Integer> addressIds = mapper.getAddressIdsOfClubs();
+        for (int addressId : addressIds) {
+            clubCandidateCache.replace(addressId, loadRegion(addressId));
+        }
+
+        log.info("rebuilt club recommendation candidates of {} regions in {}ms",
+                addressIds.size(), System.currentTimeMillis() - startedAt);
+        return addressIds.size();
+    }
+
+    private List<ClubCandidate> loadRegion(int addressId) {
+        List<ClubCandidate> candidates = mapper.getCandidatesByAddressId(addressId, recentMatchesSince());
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+        return withPositions(candidates);
+    }
+
+    private List<ClubCandidate> withPositions(List<ClubCandidate> candidates) {
+        Map<Integer, Map<Integer, Integer>> positions = new HashMap<>();
+        for (ClubCandidate candidate : candidates) {
+            positions.put(candidate.getClubId(), new HashMap<>());
+        }
+        for (ClubPositionCount count : mapper.getPositionCounts(positions.keySet())) {
+            positions.get(count.getClubId()).put(count.getPositionsId(), count.getMembers());
+        }
+
+        List<ClubCandidate> result = new ArrayList<>(candidates.size());
+        for (ClubCandidate candidate : candidates) {
+            result.add(candidate.toBuilder().positions(positions.get(candidate.getClubId())).build());
+        }
+        return result;
+    }
+
+    private static LocalDateTime recentMatchesSince() {
+        return LocalDate.now().minusDays(RECENT_MATCH_DAYS).atStartOfDay();
+    }
+}
@@ -21,6 +21,8 @@ public class ClubService {
     private final MemberService memberService;
     private final ClubMonthlyFeeService clubMonthlyFeeService;
     private final ClubSoccerMatchRecordService clubSoccerMatchRecordService;
+    private final SearchService searchService;
+    private final ClubRecommendationService clubRecommendationService;
 
     /**
      * 클럽을 생성합니다.
@@ -48,6 +50,8 @@ public class ClubService {
         Club newClub = mapper.getClubByName(club.getName());
         clubMemberService.addLeader(newClub.getId(), memberId);
         clubSoccerMatchRecordService.create(newClub.getId());
+        searchService.indexClub(newClub.getId());
+        clubRecommendationService.refreshClub(newClub.getId());
     }
 
     /**
@@ -111,6 +115,7 @@ public class ClubService {
         }
 
         mapper.updateName(id, name);
+        searchService.indexClub(id);
     }
 
     /**
@@ -121,6 +126,8 @@ public class ClubService {
      */
     public void updateAddressId(int id, int addressId) {
         mapper.updateAddressId(id, addressId);
+        searchService.indexClub(id);
+        clubRecommendationService.refreshClub(id);
     }
 
     /**
@@ -131,6 +138,8 @@ public class ClubService {
      */
     public void updateMonthlyFee(int id, int monthlyFee) {
         mapper.updateMonthlyFee(id, monthlyFee);
+        searchService.indexClub(id);
+        clubRecommendationService.refreshClub(id);
     }
 
     /**
@@ -141,6 +150,7 @@ public class ClubService {
      */
     public void increasePont(int id, int point) {
         mapper.increasePoint(id, point);
+        searchService.indexClub(id);
     }
 
     /**
@@ -151,6 +161,7 @@ public class ClubService {
      */
     public void decreasePoint(int id, int point) {
         mapper.decreasePoint(id, point);
+        searchService.indexClub(id);
     }
 
     /**
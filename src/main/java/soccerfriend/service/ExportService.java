@@ -0,0 +1,117 @@
+package soccerfriend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import soccerfriend.dto.ClubDues;
+import soccerfriend.dto.SoccerMatchHistory;
+import soccerfriend.export.ExportFormat;
+import soccerfriend.export.RowExporter;
+import soccerfriend.mapper.ClubMonthlyFeeMapper;
+import soccerfriend.mapper.SoccerMatchMapper;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * club의 회비 장부와 경기 기록을 CSV나 NDJSON 파일로 내려받게 합니다.
+ * <p>
+ * MySQL에서 cursor로 streaming하며 읽은 row를 바로 응답에 쓰므로, 전체 결과를 list로 만들지 않고 row 수와 관계없이
+ * heap 사용량이 일정합니다. gzip을 요청하면 쓰는 대로 압축합니다. cursor가 열려 있는 동안 connection을 사용하므로
+ * 읽기 전용 transaction 안에서 읽습니다.
+ */
+@Slf4j
+@Service
+public class ExportService {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    static final RowExporter<ClubDues> DUES = new RowExporter<ClubDues>()
+            .column("id", ClubDues::getId)
+            .column("year", ClubDues::getYear)
+            .column("month", ClubDues::getMonth)
+            .column("clubMemberId", ClubDues::getClubMemberId)
+            .column("memberId", ClubDues::getMemberId)
+            .column("nickname", ClubDues::getNickname)
+            .column("price", ClubDues::getPrice)
+            .column("paidAt", ClubDues::getPaidAt);
+
+    static final RowExporter<SoccerMatchHistory> MATCH_HISTORY = new RowExporter<SoccerMatchHistory>()
+            .column("soccerMatchId", SoccerMatchHistory::getSoccerMatchId)
+            .column("startTime", SoccerMatchHistory::getStartTime)
+            .column("endTime", SoccerMatchHistory::getEndTime)
+            .column("stadiumId", SoccerMatchHistory::getStadiumId)
+            .column("hostClubId", SoccerMatchHistory::getHostClubId)
+            .column("participationClubId", SoccerMatchHistory::getParticipationClubId)
+            .column("hostClubScore", SoccerMatchHistory::getHostClubScore)
+            .column("participationClubScore", SoccerMatchHistory::getParticipationClubScore)
+            .column("submitted", SoccerMatchHistory::isSubmitted);
+
+    private final ClubMonthlyFeeMapper clubMonthlyFeeMapper;
+    private final SoccerMatchMapper soccerMatchMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public ExportService(ClubMonthlyFeeMapper clubMonthlyFeeMapper,
+                         SoccerMatchMapper soccerMatchMapper,
+                         PlatformTransactionManager transactionManager) {
+        this.clubMonthlyFeeMapper = clubMonthlyFeeMapper;
+        this.soccerMatchMapper = soccerMatchMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * club의 회비 장부를 연, 월, 납부 순서대로 씁니다.
+     *
+     * @param clubId club의 id
+     * @param year   연도, null이라면 전체 기간
+     * @param format 파일의 형식
+     * @param out    응답 body
+     * @param gzip   gzip으로 압축할지 여부
+     * @return 쓴 row 수
+     */
+    public long exportDues(int clubId, Integer year, ExportFormat format, OutputStream out, boolean gzip) {
+        return export(() -> clubMonthlyFeeMapper.getDues(clubId, year), DUES, format, out, gzip);
+    }
+
+    /**
+     * club이 주최하거나 참가한 경기를 시작시각 순서대로 씁니다.
+     *
+     * @param clubId club의 id
+     * @param format 파일의 형식
+     * @param out    응답 body
+     * @param gzip   gzip으로 압축할지 여부
+     * @return 쓴 row 수
+     */
+    public long exportMatchHistory(int clubId, ExportFormat format, OutputStream out, boolean gzip) {
+        return export(() -> soccerMatchMapper.getHistory(clubId), MATCH_HISTORY, format, out, gzip);
+    }
+
+    /**
+     * cursor의 row를 모두 씁니다. gzip stream은 끝맺지만 응답 body는 servlet container가 닫도록 닫지 않습니다.
+     */
+    private <T> long export(Supplier<Cursor<T>> query, RowExporter<T> exporter, ExportFormat format,
+                            OutputStream out, boolean gzip) {
+        long startedAt = System.currentTimeMillis();
+        Long count = transactionTemplate.execute(status -> {
+            try (Cursor<T> rows = query.get()) {
+                GZIPOutputStream compressed = gzip ? new GZIPOutputStream(out, BUFFER_SIZE) : null;
+                Writer writer = new BufferedWriter(
+                        new OutputStreamWriter(gzip ? compressed : out, StandardCharsets.UTF_8), BUFFER_SIZE);
+                long written = exporter.write(rows, format, writer);
+                if (compressed != null) {
+                    compressed.finish();
+                }
+                out.flush();
+                return written;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        log.info("exported {} rows as {} in {}ms", count, format, System.currentTimeMillis() - startedAt);
+        return count;
+    }
+}
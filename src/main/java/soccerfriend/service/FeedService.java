@@ -0,0 +1,68 @@
+package soccerfriend.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import soccerfriend.dto.FeedEvent;
+import soccerfriend.dto.FeedPage;
+import soccerfriend.feed.FeedMerger;
+import soccerfriend.feed.FeedTimeline;
+
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * OutboxRelay가 전달한 FeedEvent를 club 구성원들의 feed에 기록하고 member의 feed를 조회합니다.
+ * 구성원이 fanOutLimit명 이하인 club의 event는 구성원마다 복사하고, 그보다 큰 club의 event는 조회시 club timeline에서 읽습니다.
+ */
+@Service
+public class FeedService {
+    public static final int PAGE_SIZE = 20;
+
+    private final FeedTimeline feedTimeline;
+    private final ClubMemberService clubMemberService;
+    private final int fanOutLimit;
+
+    public FeedService(FeedTimeline feedTimeline,
+                       ClubMemberService clubMemberService,
+                       @Value("${soccerfriend.feed.fan-out-limit:500}") int fanOutLimit) {
+        this.feedTimeline = feedTimeline;
+        this.clubMemberService = clubMemberService;
+        this.fanOutLimit = fanOutLimit;
+    }
+
+    /**
+     * event를 club의 timeline과 구성원들의 timeline에 기록합니다.
+     * 실패하면 OutboxRelay가 다시 전달하며, 다시 기록된 event는 조회시 id로 중복이 제거됩니다.
+     *
+     * @param event 전달된 event
+     */
+    @EventListener
+    public void fanOut(FeedEvent event) {
+        List<Integer> memberIds = clubMemberService.getApprovedMemberIds(event.getClubId(), fanOutLimit + 1);
+        boolean largeClub = memberIds.size() > fanOutLimit;
+        feedTimeline.append(event, largeClub ? List.of() : memberIds, largeClub);
+    }
+
+    /**
+     * member가 속한 club들의 event를 최신순으로 반환합니다.
+     *
+     * @param memberId member의 id
+     * @param cursor   이전 page의 nextCursor, 첫 page라면 null
+     * @return event 목록과 다음 page의 cursor
+     */
+    public FeedPage getFeed(int memberId, Long cursor) {
+        List<Integer> clubIds = clubMemberService.getApprovedClubIdOfMember(memberId);
+        if (clubIds.isEmpty()) {
+            return new FeedPage(List.of(), null);
+        }
+
+        List<List<FeedEvent>> timelines = feedTimeline.read(memberId, clubIds);
+        List<FeedEvent> events = FeedMerger.merge(timelines, new HashSet<>(clubIds), cursor, PAGE_SIZE + 1);
+        if (events.size() > PAGE_SIZE) {
+            events = events.subList(0, PAGE_SIZE);
+            return new FeedPage(events, events.get(PAGE_SIZE - 1).getId());
+        }
+        return new FeedPage(events, null);
+    }
+}
@@ -0,0 +1,304 @@
+package soccerfriend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import soccerfriend.dto.*;
+import soccerfriend.exception.exception.BadRequestException;
+import soccerfriend.geo.GeoHit;
+import soccerfriend.geo.GeoIndex;
+import soccerfriend.mapper.AddressMapper;
+import soccerfriend.mapper.SoccerMatchRecruitmentMapper;
+import soccerfriend.mapper.StadiumMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static soccerfriend.exception.ExceptionInfo.*;
+
+/**
+ * 위치로 stadium과 상대 club을 모집중인 경기모집공고를 찾습니다.
+ * <p>
+ * stadium의 위치는 서버마다 메모리의 GeoIndex에 보관하며, 시작할 때와 주기적으로 DB에서 다시 만듭니다.
+ * stadium이 생성되거나 수정되면 commit된 후 DB에서 다시 읽어 index를 갱신하고, redis pub/sub으로 다른 서버에도 알립니다.
+ * 경기모집공고는 index에서 가까운 stadium들을 찾은 뒤 그 stadium들의 공고를 DB에서 조회합니다.
+ * 검색 중심은 위도, 경도를 직접 받거나 address(동네)의 중심 위치를 사용합니다.
+ */
+@Slf4j
+@Service
+public class GeoService implements MessageListener {
+    public static final String STADIUM_CHANNEL = "soccerfriend:geo:stadium";
+    public static final int MAX_SIZE = 100;
+    public static final double MAX_RADIUS_KM = 50;
+    private static final int MAX_RECRUITMENT_STADIUMS = 1000;
+
+    private final GeoIndex stadiumIndex;
+    private final StadiumMapper stadiumMapper;
+    private final SoccerMatchRecruitmentMapper soccerMatchRecruitmentMapper;
+    private final AddressMapper addressMapper;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TransactionTemplate readTransactionTemplate;
+
+    public GeoService(GeoIndex stadiumIndex,
+                      StadiumMapper stadiumMapper,
+                      SoccerMatchRecruitmentMapper soccerMatchRecruitmentMapper,
+                      AddressMapper addressMapper,
+                      StringRedisTemplate stringRedisTemplate,
+                      PlatformTransactionManager transactionManager) {
+        this.stadiumIndex = stadiumIndex;
+        this.stadiumMapper = stadiumMapper;
+        this.soccerMatchRecruitmentMapper = soccerMatchRecruitmentMapper;
+        this.addressMapper = addressMapper;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.readTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readTransactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * 위도와 경도가 올바른지 확인합니다. 위치가 없는 stadium을 위해 둘 다 null인 것은 허용합니다.
+     *
+     * @param latitude  위도
+     * @param longitude 경도
+     */
+    public static void validateLocation(Double latitude, Double longitude) {
+        if (latitude == null && longitude == null) {
+            return;
+        }
+        if (latitude == null || longitude == null
+                || !(latitude >= -90 && latitude <= 90) || !(longitude >= -180 && longitude <= 180)) {
+            throw new BadRequestException(NOT_PROPER_LOCATION);
+        }
+    }
+
+    /**
+     * stadium의 위치를 모든 서버의 index에 다시 반영합니다. transaction 안이라면 commit된 후에 반영합니다.
+     *
+     * @param id stadium의 id
+     */
+    public void indexStadium(int id) {
+        Runnable task = () -> {
+            try {
+                reloadStadium(id);
+                stringRedisTemplate.convertAndSend(STADIUM_CHANNEL, Integer.toString(id));
+            } catch (RuntimeException e) {
+                log.warn("failed to update location of stadium {}", id, e);
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            reloadStadium(Integer.parseInt(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (RuntimeException e) {
+            log.warn("failed to update stadium location from message", e);
+        }
+    }
+
+    private void reloadStadium(int id) {
+        Stadium stadium = stadiumMapper.getStadiumById(id);
+        if (stadium == null || stadium.getLatitude() == null || stadium.getLongitude() == null) {
+            stadiumIndex.remove(id);
+            return;
+        }
+        stadiumIndex.put(id, stadium.getLatitude(), stadium.getLongitude());
+    }
+
+    /**
+     * application이 시작된 후 index를 만듭니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStart() {
+        rebuild();
+    }
+
+    /**
+     * 누락된 변경을 복구하도록 주기적으로 index를 다시 만듭니다.
+     */
+    @Scheduled(fixedDelayString = "${soccerfriend.geo.rebuild-interval:3600000}",
+            initialDelayString = "${soccerfriend.geo.rebuild-interval:3600000}")
+    public void rebuildPeriodically() {
+        rebuild();
+    }
+
+    /**
+     * 위치가 있는 모든 stadium을 streaming으로 읽어 index를 새로 만듭니다. 만드는 동안에도 이전 index로 검색할 수 있습니다.
+     *
+     * @return index의 stadium 수
+     */
+    public int rebuild() {
+        long startedAt = System.currentTimeMillis();
+        GeoIndex.Rebuild rebuild = stadiumIndex.startRebuild();
+        readTransactionTemplate.executeWithoutResult(status -> {
+            try (Cursor<Stadium> stadiums = stadiumMapper.getStadiumLocations()) {
+                for (Stadium stadium : stadiums) {
+                    rebuild.add(stadium.getId(), stadium.getLatitude(), stadium.getLongitude());
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        int count = rebuild.finish();
+        log.info("stadium location index rebuilt, {} stadiums in {}ms", count, System.currentTimeMillis() - startedAt);
+        return count;
+    }
+
+    /**
+     * 중심에서 반경 안의 stadium들을 가까운 순서로 반환합니다.
+     *
+     * @param latitude  중심의 위도, addressId가 없다면 필수
+     * @param longitude 중심의 경도, addressId가 없다면 필수
+     * @param addressId 중심으로 사용할 address의 id
+     * @param radiusKm  반경(km), 최대 MAX_RADIUS_KM
+     * @param size      최대 개수, 최대 MAX_SIZE
+     * @return 가까운 순서의 stadium과 거리
+     */
+    public List<NearbyStadium> getStadiumsWithin(Double latitude, Double longitude, Integer addressId,
+                                                 double radiusKm, int size) {
+        double[] center = center(latitude, longitude, addressId);
+        return toNearbyStadiums(stadiumIndex.within(center[0], center[1], Math.min(radiusKm, MAX_RADIUS_KM), Math.min(size, MAX_SIZE)));
+    }
+
+    /**
+     * 중심에서 가장 가까운 stadium들을 반환합니다.
+     *
+     * @param latitude  중심의 위도, addressId가 없다면 필수
+     * @param longitude 중심의 경도, addressId가 없다면 필수
+     * @param addressId 중심으로 사용할 address의 id
+     * @param size      최대 개수, 최대 MAX_SIZE
+     * @return 가까운 순서의 stadium과 거리
+     */
+    public List<NearbyStadium> getNearestStadiums(Double latitude, Double longitude, Integer addressId, int size) {
+        double[] center = center(latitude, longitude, addressId);
+        return toNearbyStadiums(stadiumIndex.nearest(center[0], center[1], Math.min(size, MAX_SIZE)));
+    }
+
+    /**
+     * 중심에서 반경 안의 stadium에서 열리는, 상대 club을 모집중인 경기모집공고를 시작 시각 순서로 반환합니다.
+     *
+     * @param latitude  중심의 위도, addressId가 없다면 필수
+     * @param longitude 중심의 경도, addressId가 없다면 필수
+     * @param addressId 중심으로 사용할 address의 id
+     * @param radiusKm  반경(km), 최대 MAX_RADIUS_KM
+     * @param size      최대 개수, 최대 MAX_SIZE
+     * @return 시작 시각 순서의 경기모집공고와 경기장까지의 거리
+     */
+    public List<NearbySoccerMatchRecruitment> getOpenRecruitmentsWithin(Double latitude, Double longitude, Integer addressId,
+                                                                        double radiusKm, int size) {
+        double[] center = center(latitude, longitude, addressId);
+        List<GeoHit> stadiums = stadiumIndex.within(center[0], center[1], Math.min(radiusKm, MAX_RADIUS_KM), MAX_RECRUITMENT_STADIUMS);
+        return getOpenRecruitments(stadiums, Math.min(size, MAX_SIZE));
+    }
+
+    /**
+     * 경기장이 중심에서 가장 가까운, 상대 club을 모집중인 경기모집공고들을 반환합니다.
+     * 가까운 stadium부터 개수를 두 배씩 늘려가며 공고가 충분해질 때까지 조회합니다.
+     * 찾은 공고가 size개 이상이면 더 먼 stadium의 공고는 그보다 가까울 수 없으므로 결과가 정확합니다.
+     *
+     * @param latitude  중심의 위도, addressId가 없다면 필수
+     * @param longitude 중심의 경도, addressId가 없다면 필수
+     * @param addressId 중심으로 사용할 address의 id
+     * @param size      최대 개수, 최대 MAX_SIZE
+     * @return 가까운 순서, 같은 거리라면 시작 시각 순서의 경기모집공고와 경기장까지의 거리
+     */
+    public List<NearbySoccerMatchRecruitment> getNearestOpenRecruitments(Double latitude, Double longitude, Integer addressId,
+                                                                         int size) {
+        double[] center = center(latitude, longitude, addressId);
+        int limit = Math.min(size, MAX_SIZE);
+        int stadiumCount = Math.min(limit * 4, MAX_RECRUITMENT_STADIUMS);
+        while (true) {
+            List<GeoHit> stadiums = stadiumIndex.nearest(center[0], center[1], stadiumCount);
+            List<NearbySoccerMatchRecruitment> recruitments = getOpenRecruitments(stadiums, null);
+            if (recruitments.size() >= limit || stadiums.size() < stadiumCount || stadiumCount == MAX_RECRUITMENT_STADIUMS) {
+                recruitments.sort(Comparator.comparingDouble(NearbySoccerMatchRecruitment::getDistanceKm));
+                return recruitments.subList(0, Math.min(recruitments.size(), limit));
+            }
+            stadiumCount = Math.min(stadiumCount * 2, MAX_RECRUITMENT_STADIUMS);
+        }
+    }
+
+    /**
+     * stadium들의 상대 club을 모집중인 경기모집공고를 시작 시각 순서로 반환합니다.
+     * 거리 순서가 필요한 경우 시작 시각 순서로 자르면 가까운 공고가 빠질 수 있으므로 size를 null로 전달합니다.
+     *
+     * @param size 최대 개수, null이면 모두 반환
+     */
+    private List<NearbySoccerMatchRecruitment> getOpenRecruitments(List<GeoHit> stadiums, Integer size) {
+        if (stadiums.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Integer, Double> distances = new HashMap<>();
+        stadiums.forEach(hit -> distances.put(hit.getId(), hit.getDistanceKm()));
+
+        List<SoccerMatchRecruitment> recruitments =
+                soccerMatchRecruitmentMapper.getOpenRecruitmentsByStadiumIds(distances.keySet(), LocalDateTime.now(), size);
+        List<NearbySoccerMatchRecruitment> nearby = new ArrayList<>(recruitments.size());
+        for (SoccerMatchRecruitment recruitment : recruitments) {
+            nearby.add(NearbySoccerMatchRecruitment.builder()
+                                                   .soccerMatchRecruitment(recruitment)
+                                                   .distanceKm(distances.get(recruitment.getStadiumId()))
+                                                   .build());
+        }
+        return nearby;
+    }
+
+    private List<NearbyStadium> toNearbyStadiums(List<GeoHit> hits) {
+        if (hits.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Integer> ids = new ArrayList<>(hits.size());
+        hits.forEach(hit -> ids.add(hit.getId()));
+        Map<Integer, Stadium> stadiums = new HashMap<>();
+        stadiumMapper.getStadiumsByIds(ids).forEach(stadium -> stadiums.put(stadium.getId(), stadium));
+
+        List<NearbyStadium> nearby = new ArrayList<>(hits.size());
+        for (GeoHit hit : hits) {
+            Stadium stadium = stadiums.get(hit.getId());
+            if (stadium != null) {
+                nearby.add(NearbyStadium.builder().stadium(stadium).distanceKm(hit.getDistanceKm()).build());
+            }
+        }
+        return nearby;
+    }
+
+    private double[] center(Double latitude, Double longitude, Integer addressId) {
+        if (latitude == null && longitude == null && addressId != null) {
+            Address address = addressMapper.getAddressById(addressId);
+            if (address == null) {
+                throw new BadRequestException(ADDRESS_NOT_EXIST);
+            }
+            if (address.getLatitude() == null || address.getLongitude() == null) {
+                throw new BadRequestException(ADDRESS_LOCATION_NOT_EXIST);
+            }
+            return new double[]{address.getLatitude(), address.getLongitude()};
+        }
+        if (latitude == null || longitude == null) {
+            throw new BadRequestException(NOT_PROPER_LOCATION);
+        }
+        validateLocation(latitude, longitude);
+        return new double[]{latitude, longitude};
+    }
+}
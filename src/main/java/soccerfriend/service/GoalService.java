@@ -3,7 +3,9 @@ package soccerfriend.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import soccerfriend.dto.Club;
 import soccerfriend.dto.Goal;
+import soccerfriend.dto.GoalStat;
 import soccerfriend.dto.SoccerMatch;
 import soccerfriend.dto.SoccerMatchMember;
 import soccerfriend.dto.SoccerMatchRecruitment;
@@ -21,9 +23,11 @@ public class GoalService {
     private final SoccerMatchMemberService soccerMatchMemberService;
     private final SoccerMatchService soccerMatchService;
     private final SoccerMatchRecruitmentService soccerMatchRecruitmentService;
+    private final ClubService clubService;
+    private final GoalStatService goalStatService;
 
     /**
-     * 경기에서 넣은 골에 대한 정보를 추가합니다. 이 때 soccerMatch의 득점 정보가 동시에 변경됩니다.
+     * 경기에서 넣은 골에 대한 정보를 추가합니다. 이 때 soccerMatch의 득점 정보와 득점 통계가 동시에 변경됩니다.
      *
      * @param goal 골의 정보
      */
@@ -52,6 +56,15 @@ public class GoalService {
         else {
             throw new BadRequestException(NOT_CLUB_OF_SOCCER_MATCH);
         }
+
+        Club club = clubService.getClubById(clubId);
+        goalStatService.increase(GoalStat.builder()
+                                         .season(soccerMatchRecruitment.getStartTime().getYear())
+                                         .memberId(soccerMatchMember.getMemberId())
+                                         .clubId(clubId)
+                                         .addressId(club.getAddressId())
+                                         .lastGoalId(goal.getId())
+                                         .build());
     }
 
     /**
@@ -0,0 +1,213 @@
+package soccerfriend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import soccerfriend.dto.GoalStat;
+import soccerfriend.dto.ScorerRank;
+import soccerfriend.mapper.GoalStatMapper;
+import soccerfriend.stats.ScorerRanking;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시즌별 득점 통계를 관리합니다.
+ * <p>
+ * 골이 추가되면 같은 transaction에서 goal_stat의 (시즌, member, club) row를 증가시키고, commit된 후 redis 순위를 증가시킵니다.
+ * 순위는 redis에서 조회하며, redis에 순위가 없다면 goal_stat에서 조회합니다.
+ * <p>
+ * redis 반영은 commit 후에 실패할 수 있으므로, 매일 goal 전체를 한 번 streaming으로 집계하여 goal_stat을 보정하고
+ * redis 순위를 새로 만듭니다.
+ */
+@Slf4j
+@Service
+public class GoalStatService {
+    public static final int MAX_SIZE = 100;
+    public static final String RECONCILE_LOCK_KEY_PREFIX = "soccerfriend:stats:reconcile:";
+    private static final int RECONCILE_BATCH_SIZE = 500;
+
+    private final GoalStatMapper mapper;
+    private final ScorerRanking scorerRanking;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TransactionTemplate readTransactionTemplate;
+    private final TransactionTemplate writeTransactionTemplate;
+
+    public GoalStatService(GoalStatMapper mapper,
+                           ScorerRanking scorerRanking,
+                           StringRedisTemplate stringRedisTemplate,
+                           PlatformTransactionManager transactionManager) {
+        this.mapper = mapper;
+        this.scorerRanking = scorerRanking;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.readTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readTransactionTemplate.setReadOnly(true);
+        this.writeTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.writeTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 골 하나를 통계에 반영합니다. 골을 추가하는 transaction 안에서 호출해야 합니다.
+     *
+     * @param goalStat 골을 넣은 시즌, member, club, 지역과 goal의 id(lastGoalId)
+     */
+    public void increase(GoalStat goalStat) {
+        mapper.increase(goalStat);
+
+        Runnable updateRanking = () -> {
+            try {
+                scorerRanking.increment(goalStat);
+            } catch (RuntimeException e) {
+                log.warn("failed to update scorer ranking of member {}", goalStat.getMemberId(), e);
+            }
+        };
+        runAfterCommit(updateRanking);
+    }
+
+    /**
+     * 한 경기에서 넣은 여러 골을 통계에 한 번에 반영합니다. 골을 추가하는 transaction 안에서 호출해야 합니다.
+     *
+     * @param goalStats member와 club마다 추가된 골 수(goals)와 그 중 가장 큰 goal의 id(lastGoalId)
+     */
+    public void increaseAll(List<GoalStat> goalStats) {
+        if (goalStats.isEmpty()) {
+            return;
+        }
+        mapper.increaseAll(goalStats);
+
+        Runnable updateRanking = () -> {
+            try {
+                scorerRanking.incrementAll(goalStats);
+            } catch (RuntimeException e) {
+                log.warn("failed to update scorer ranking of {} members", goalStats.size(), e);
+            }
+        };
+        runAfterCommit(updateRanking);
+    }
+
+    /**
+     * 시즌 전체의 득점 순위를 반환합니다.
+     *
+     * @param season 시즌(연도)
+     * @param size   최대 인원
+     * @return 골이 많은 순서의 순위
+     */
+    public List<ScorerRank> getTopScorers(int season, int size) {
+        int limit = Math.min(size, MAX_SIZE);
+        List<ScorerRank> ranks = scorerRanking.top(ScorerRanking.seasonKey(season), limit);
+        return ranks != null ? ranks : mapper.getTopScorers(season, limit);
+    }
+
+    /**
+     * club의 시즌 득점 순위를 반환합니다.
+     *
+     * @param season 시즌(연도)
+     * @param clubId club의 id
+     * @param size   최대 인원
+     * @return 골이 많은 순서의 순위
+     */
+    public List<ScorerRank> getTopScorersOfClub(int season, int clubId, int size) {
+        int limit = Math.min(size, MAX_SIZE);
+        List<ScorerRank> ranks = scorerRanking.top(ScorerRanking.clubKey(season, clubId), limit);
+        return ranks != null ? ranks : mapper.getTopScorersOfClub(season, clubId, limit);
+    }
+
+    /**
+     * 지역의 시즌 득점 순위를 반환합니다. 골은 골을 넣을 당시 소속 club의 지역으로 집계됩니다.
+     *
+     * @param season    시즌(연도)
+     * @param addressId 지역(address)의 id
+     * @param size      최대 인원
+     * @return 골이 많은 순서의 순위
+     */
+    public List<ScorerRank> getTopScorersOfRegion(int season, int addressId, int size) {
+        int limit = Math.min(size, MAX_SIZE);
+        List<ScorerRank> ranks = scorerRanking.top(ScorerRanking.regionKey(season, addressId), limit);
+        return ranks != null ? ranks : mapper.getTopScorersOfRegion(season, addressId, limit);
+    }
+
+    /**
+     * 매일 한 서버에서만 통계를 보정합니다.
+     */
+    @Scheduled(cron = "${soccerfriend.stats.reconcile-cron:0 30 3 * * *}")
+    public void reconcileDaily() {
+        Boolean locked = stringRedisTemplate.opsForValue()
+                                            .setIfAbsent(RECONCILE_LOCK_KEY_PREFIX + LocalDate.now(), "1", Duration.ofDays(2));
+        if (Boolean.TRUE.equals(locked)) {
+            reconcile();
+        }
+    }
+
+    /**
+     * 현재까지의 goal 전체를 한 번 읽어 (시즌, member, club)별로 다시 집계하고, goal_stat과 redis 순위를 보정합니다.
+     * 집계 결과는 streaming으로 읽어 batch마다 반영하므로 heap 사용량은 batch 크기로 제한됩니다.
+     * MySQL의 streaming 결과를 읽는 동안에는 그 connection으로 다른 query를 보낼 수 없으므로 goal_stat은 새 transaction에서 변경합니다.
+     * 보정하는 동안 추가된 골은 redis 순위를 교체할 때 빠질 수 있으며, 다음 보정에서 반영됩니다.
+     *
+     * @return 집계한 (시즌, member, club)의 수
+     */
+    public long reconcile() {
+        long startedAt = System.currentTimeMillis();
+        int maxGoalId = mapper.getMaxGoalId();
+        ScorerRanking.Rebuild rebuild = scorerRanking.startRebuild();
+
+        Long count = readTransactionTemplate.execute(status -> {
+            long reconciled = 0;
+            List<GoalStat> batch = new ArrayList<>(RECONCILE_BATCH_SIZE);
+            try (Cursor<GoalStat> goalStats = mapper.recompute(maxGoalId)) {
+                for (GoalStat goalStat : goalStats) {
+                    batch.add(goalStat);
+                    if (batch.size() == RECONCILE_BATCH_SIZE) {
+                        reconcile(batch, rebuild);
+                        reconciled += batch.size();
+                        batch.clear();
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (!batch.isEmpty()) {
+                reconcile(batch, rebuild);
+                reconciled += batch.size();
+            }
+            return reconciled;
+        });
+        int rankings = rebuild.finish();
+
+        log.info("reconciled {} goal stats and {} scorer rankings up to goal {} in {}ms",
+                count, rankings, maxGoalId, System.currentTimeMillis() - startedAt);
+        return count;
+    }
+
+    private void reconcile(List<GoalStat> batch, ScorerRanking.Rebuild rebuild) {
+        writeTransactionTemplate.executeWithoutResult(status -> mapper.reconcile(batch));
+        rebuild.addAll(batch);
+    }
+
+    /**
+     * transaction이 commit된 후 실행합니다. transaction 밖이라면 바로 실행합니다.
+     */
+    private void runAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,206 @@
+package soccerfriend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import soccerfriend.dto.*;
+import soccerfriend.exception.ExceptionInfo;
+import soccerfriend.exception.exception.BadRequestException;
+import soccerfriend.mapper.GoalMapper;
+import soccerfriend.mapper.SoccerMatchMapper;
+import soccerfriend.mapper.SoccerMatchMemberMapper;
+import soccerfriend.matchimport.ImportedGoal;
+import soccerfriend.matchimport.ImportedMatch;
+import soccerfriend.matchimport.MatchImportReader;
+import soccerfriend.matchimport.MatchImportReader.Format;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.*;
+
+import static soccerfriend.exception.ExceptionInfo.*;
+
+/**
+ * 오프라인으로 진행한 여러 경기의 결과를 한 번에 가져옵니다.
+ * <p>
+ * 파일을 읽은 뒤 참조하는 경기, 경기모집공고, 경기참가선수를 각각 한 번의 query로 가져와 모든 줄을 메모리에서 검증합니다.
+ * 검증을 통과한 경기는 경기마다 하나의 transaction에서 골을 한 번의 multi-row insert로 저장하고, 점수와 득점 통계를
+ * 한 번씩 갱신한 뒤 경기결과를 제출합니다. 한 경기가 실패해도 다른 경기는 반영되며, 실패한 경기는 줄 번호와 함께 알려줍니다.
+ */
+@Slf4j
+@Service
+public class MatchImportService {
+    public static final String IMPORT_FAILED = "IMPORT_FAILED";
+
+    private final MatchImportReader reader;
+    private final SoccerMatchMapper soccerMatchMapper;
+    private final SoccerMatchMemberMapper soccerMatchMemberMapper;
+    private final GoalMapper goalMapper;
+    private final SoccerMatchService soccerMatchService;
+    private final GoalStatService goalStatService;
+    private final ClubMemberService clubMemberService;
+    private final TransactionTemplate transactionTemplate;
+
+    public MatchImportService(ObjectMapper objectMapper,
+                              SoccerMatchMapper soccerMatchMapper,
+                              SoccerMatchMemberMapper soccerMatchMemberMapper,
+                              GoalMapper goalMapper,
+                              SoccerMatchService soccerMatchService,
+                              GoalStatService goalStatService,
+                              ClubMemberService clubMemberService,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${soccerfriend.match-import.max-matches:1000}") int maxMatches) {
+        this.reader = new MatchImportReader(objectMapper, maxMatches);
+        this.soccerMatchMapper = soccerMatchMapper;
+        this.soccerMatchMemberMapper = soccerMatchMemberMapper;
+        this.goalMapper = goalMapper;
+        this.soccerMatchService = soccerMatchService;
+        this.goalStatService = goalStatService;
+        this.clubMemberService = clubMemberService;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * 경기결과 파일을 읽어 반영합니다. member가 주최 club의 운영진인 경기만 반영할 수 있습니다.
+     *
+     * @param memberId 가져오는 member의 id
+     * @param in       경기결과 파일
+     * @param format   파일의 형식
+     * @return 반영된 경기들의 id와 줄 번호순의 오류들
+     */
+    public MatchImportResult importResults(int memberId, Reader in, Format format) throws IOException {
+        List<MatchImportError> errors = new ArrayList<>();
+        List<ImportedMatch> matches = reader.read(in, format, errors);
+        if (matches.isEmpty()) {
+            return new MatchImportResult(List.of(), errors);
+        }
+
+        List<Integer> soccerMatchIds = new ArrayList<>(matches.size());
+        for (ImportedMatch match : matches) {
+            soccerMatchIds.add(match.getSoccerMatchId());
+        }
+        Map<Integer, SoccerMatchImportTarget> targets = new HashMap<>();
+        for (SoccerMatchImportTarget target : soccerMatchMapper.getImportTargets(soccerMatchIds)) {
+            targets.put(target.getId(), target);
+        }
+        Map<Integer, Map<Integer, SoccerMatchMember>> soccerMatchMembers = new HashMap<>();
+        for (SoccerMatchMember soccerMatchMember : soccerMatchMemberMapper.getSoccerMatchMembersBySoccerMatchIds(soccerMatchIds)) {
+            soccerMatchMembers.computeIfAbsent(soccerMatchMember.getSoccerMatchId(), id -> new HashMap<>())
+                              .put(soccerMatchMember.getMemberId(), soccerMatchMember);
+        }
+        Map<Integer, Boolean> permissions = new HashMap<>();
+
+        List<Integer> imported = new ArrayList<>();
+        for (ImportedMatch match : matches) {
+            SoccerMatchImportTarget target = targets.get(match.getSoccerMatchId());
+            Map<Integer, SoccerMatchMember> members = soccerMatchMembers.getOrDefault(match.getSoccerMatchId(), Map.of());
+            MatchImportError error = validate(match, target, members, memberId, permissions);
+            if (error != null) {
+                errors.add(error);
+                continue;
+            }
+
+            List<SoccerMatchMember> scorers = new ArrayList<>(match.getGoals().size());
+            for (ImportedGoal goal : match.getGoals()) {
+                scorers.add(members.get(goal.getMemberId()));
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> write(target, match.getGoals(), scorers));
+                imported.add(match.getSoccerMatchId());
+            } catch (BadRequestException e) {
+                errors.add(error(match.getLine(), match.getSoccerMatchId(), e.getExceptionInfo()));
+            } catch (RuntimeException e) {
+                log.warn("failed to import result of soccer match {}", match.getSoccerMatchId(), e);
+                errors.add(new MatchImportError(match.getLine(), match.getSoccerMatchId(), IMPORT_FAILED, "경기결과를 저장하지 못했습니다."));
+            }
+        }
+
+        errors.sort(Comparator.comparingInt(MatchImportError::getLine));
+        return new MatchImportResult(imported, errors);
+    }
+
+    /**
+     * 경기와 골들을 검증합니다.
+     *
+     * @return 첫 번째 오류, 오류가 없다면 null
+     */
+    private MatchImportError validate(ImportedMatch match, SoccerMatchImportTarget target,
+                                      Map<Integer, SoccerMatchMember> members, int memberId,
+                                      Map<Integer, Boolean> permissions) {
+        int soccerMatchId = match.getSoccerMatchId();
+        if (target == null) {
+            return error(match.getLine(), soccerMatchId, SOCCER_MATCH_NOT_EXIST);
+        }
+        if (!permissions.computeIfAbsent(target.getHostClubId(), clubId -> clubMemberService.isClubLeaderOrStaff(clubId, memberId))) {
+            return error(match.getLine(), soccerMatchId, NO_CLUB_PERMISSION);
+        }
+        if (target.isSubmitted()) {
+            return error(match.getLine(), soccerMatchId, ALREADY_SUBMITTED_MATCH);
+        }
+        if (target.getParticipationClubId() == null) {
+            return error(match.getLine(), soccerMatchId, CLUB_NOT_EXIST_ON_SOCCER_MATCH);
+        }
+
+        for (ImportedGoal goal : match.getGoals()) {
+            SoccerMatchMember scorer = members.get(goal.getMemberId());
+            if (scorer == null) {
+                return error(goal.getLine(), soccerMatchId, SOCCER_MATCH_MEMBER_NOT_EXIST);
+            }
+            if (scorer.getClubId() != target.getHostClubId() && scorer.getClubId() != target.getParticipationClubId()) {
+                return error(goal.getLine(), soccerMatchId, NOT_CLUB_OF_SOCCER_MATCH);
+            }
+            if (goal.getNumSet() > target.getNumSet() || goal.getNumSet() < 1
+                    || goal.getTimeSet() > target.getTimeSet() || goal.getTimeSet() < 0) {
+                return error(goal.getLine(), soccerMatchId, NOT_PROPER_GOAL);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 한 경기의 골, 점수, 득점 통계를 저장하고 경기결과를 제출합니다.
+     */
+    private void write(SoccerMatchImportTarget target, List<ImportedGoal> importedGoals, List<SoccerMatchMember> scorers) {
+        int soccerMatchId = target.getId();
+        if (!importedGoals.isEmpty()) {
+            List<Goal> goals = new ArrayList<>(importedGoals.size());
+            for (int i = 0; i < importedGoals.size(); i++) {
+                ImportedGoal goal = importedGoals.get(i);
+                goals.add(Goal.builder()
+                              .soccerMatchMemberId(scorers.get(i).getId())
+                              .numSet(goal.getNumSet())
+                              .timeSet(goal.getTimeSet())
+                              .build());
+            }
+            goalMapper.insertAll(goals);
+
+            int hostClubScore = 0;
+            Map<Integer, GoalStat> goalStats = new LinkedHashMap<>();
+            for (int i = 0; i < goals.size(); i++) {
+                SoccerMatchMember scorer = scorers.get(i);
+                boolean host = scorer.getClubId() == target.getHostClubId();
+                if (host) {
+                    hostClubScore++;
+                }
+                GoalStat previous = goalStats.get(scorer.getId());
+                goalStats.put(scorer.getId(), GoalStat.builder()
+                                                      .season(target.getStartTime().getYear())
+                                                      .memberId(scorer.getMemberId())
+                                                      .clubId(scorer.getClubId())
+                                                      .addressId(host ? target.getHostClubAddressId() : target.getParticipationClubAddressId())
+                                                      .goals(previous == null ? 1 : previous.getGoals() + 1)
+                                                      .lastGoalId(Math.max(goals.get(i).getId(), previous == null ? 0 : previous.getLastGoalId()))
+                                                      .build());
+            }
+            soccerMatchMapper.addScores(soccerMatchId, hostClubScore, goals.size() - hostClubScore);
+            goalStatService.increaseAll(new ArrayList<>(goalStats.values()));
+        }
+        soccerMatchService.submit(soccerMatchId);
+    }
+
+    private static MatchImportError error(int line, int soccerMatchId, ExceptionInfo exceptionInfo) {
+        return new MatchImportError(line, soccerMatchId, exceptionInfo.name(), exceptionInfo.getExceptionMessage());
+    }
+}
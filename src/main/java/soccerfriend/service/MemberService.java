@@ -189,6 +189,16 @@ public class MemberService {
         mapper.updateNickname(id, nickname);
     }
 
+    /**
+     * member의 알림 email 요약 수신 여부를 변경합니다.
+     *
+     * @param id          member의 id
+     * @param emailDigest 하루 한 번 읽지 않은 알림을 email로 요약하여 받을지 여부
+     */
+    public void updateEmailDigest(int id, boolean emailDigest) {
+        mapper.updateEmailDigest(id, emailDigest);
+    }
+
     /**
      * member의 password를 PasswordRequest 의해 변경합니다.
      * PasswordRequest는 이전 비밀번호, 새로운 비밀번호를 포함합니다.
@@ -0,0 +1,99 @@
+package soccerfriend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import soccerfriend.dto.DigestNotification;
+import soccerfriend.mapper.NotificationMapper;
+import soccerfriend.notification.BatchMailSender;
+import soccerfriend.notification.NotificationDigest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * email 요약을 신청한 member에게 전날 읽지 않은 알림을 하루 한 통의 email로 요약하여 보냅니다.
+ * 알림은 member 순서로 streaming하여 member마다 요약을 만들고, email은 BatchMailSender로 모아서 보냅니다.
+ * 여러 서버 중 하나만 보내도록 날짜별 redis lock을 잡습니다.
+ */
+@Slf4j
+@Service
+public class NotificationDigestService {
+
+    public static final String LOCK_KEY_PREFIX = "soccerfriend:notification:digest:";
+
+    private final NotificationMapper mapper;
+    private final JavaMailSender mailSender;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String fromAddress;
+    private final int batchSize;
+
+    public NotificationDigestService(NotificationMapper mapper,
+                                     JavaMailSender mailSender,
+                                     StringRedisTemplate stringRedisTemplate,
+                                     TransactionTemplate transactionTemplate,
+                                     @Value("${spring.mail.username}") String fromAddress,
+                                     @Value("${soccerfriend.notification.digest-batch-size:50}") int batchSize) {
+        this.mapper = mapper;
+        this.mailSender = mailSender;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.fromAddress = fromAddress;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 전날의 알림 요약을 보냅니다.
+     */
+    @Scheduled(cron = "${soccerfriend.notification.digest-cron:0 0 8 * * *}")
+    public void sendDailyDigests() {
+        LocalDate date = LocalDate.now().minusDays(1);
+        Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY_PREFIX + date, "1", Duration.ofDays(2));
+        if (!Boolean.TRUE.equals(locked)) {
+            return;
+        }
+        sendDigests(date);
+    }
+
+    /**
+     * 특정 날짜의 알림 요약을 보냅니다.
+     *
+     * @param date 요약할 날짜
+     * @return 보낸 email 수
+     */
+    public int sendDigests(LocalDate date) {
+        BatchMailSender sender = new BatchMailSender(mailSender, batchSize);
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Cursor<DigestNotification> notifications =
+                         mapper.getDigestNotifications(date.atStartOfDay(), date.plusDays(1).atStartOfDay())) {
+                NotificationDigest digest = null;
+                for (DigestNotification notification : notifications) {
+                    if (digest == null || digest.getMemberId() != notification.getMemberId()) {
+                        if (digest != null) {
+                            sender.send(digest.toMessage(fromAddress, date));
+                        }
+                        digest = new NotificationDigest(notification.getMemberId(), notification.getEmail());
+                    }
+                    digest.add(notification);
+                }
+                if (digest != null) {
+                    sender.send(digest.toMessage(fromAddress, date));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        sender.flush();
+
+        log.info("sent {} notification digests of {}, {} failed", sender.getSent(), date, sender.getFailed());
+        return sender.getSent();
+    }
+}
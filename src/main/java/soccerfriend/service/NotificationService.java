@@ -0,0 +1,179 @@
+package soccerfriend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import soccerfriend.dto.FeedEvent;
+import soccerfriend.dto.Notification;
+import soccerfriend.dto.NotificationPage;
+import soccerfriend.event.ClubJoinRequestedEvent;
+import soccerfriend.event.SoccerMatchJoinRequestedEvent;
+import soccerfriend.mapper.NotificationMapper;
+import soccerfriend.notification.UnreadNotificationCounter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static soccerfriend.dto.FeedEvent.Type.MEMBER_APPROVED;
+import static soccerfriend.dto.Notification.Type.*;
+
+/**
+ * OutboxRelay가 전달한 domain event로 알림을 만들고 member의 알림함을 조회합니다.
+ * 같은 event가 다시 전달되어도 (eventId, memberId)가 unique하므로 알림은 한 번만 생성됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationService {
+    public static final int PAGE_SIZE = 20;
+    private static final int RETENTION_DAYS = 90;
+    private static final int DELETE_SIZE = 1000;
+
+    private final NotificationMapper mapper;
+    private final ClubMemberService clubMemberService;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+
+    /**
+     * club의 leader와 staff에게 가입신청을 알립니다.
+     *
+     * @param event 가입신청 event
+     */
+    @EventListener
+    public void notifyClubJoinRequested(ClubJoinRequestedEvent event) {
+        List<Integer> recipients = clubMemberService.getLeaderAndStaffIds(event.getClubId());
+        notify(event.getEventId(), recipients, CLUB_JOIN_REQUESTED, event.getClubId(), event.getMemberId());
+    }
+
+    /**
+     * club의 leader와 staff에게 축구경기 참가신청을 알립니다.
+     *
+     * @param event 참가신청 event
+     */
+    @EventListener
+    public void notifySoccerMatchJoinRequested(SoccerMatchJoinRequestedEvent event) {
+        List<Integer> recipients = clubMemberService.getLeaderAndStaffIds(event.getClubId());
+        notify(event.getEventId(), recipients, SOCCER_MATCH_JOIN_REQUESTED, event.getClubId(), event.getSoccerMatchId());
+    }
+
+    /**
+     * 가입이 승인된 member에게 승인을 알립니다.
+     *
+     * @param event feed event
+     */
+    @EventListener
+    public void notifyClubJoinApproved(FeedEvent event) {
+        if (event.getType() != MEMBER_APPROVED) {
+            return;
+        }
+        notify(event.getId(), List.of(event.getTargetId()), CLUB_JOIN_APPROVED, event.getClubId(), event.getTargetId());
+    }
+
+    /**
+     * member의 알림을 최신순으로 반환합니다.
+     *
+     * @param memberId member의 id
+     * @param cursor   이전 page의 nextCursor, 첫 page라면 null
+     * @return 알림 목록과 다음 page의 cursor
+     */
+    public NotificationPage getNotifications(int memberId, Long cursor) {
+        List<Notification> notifications = mapper.getNotifications(memberId, cursor, PAGE_SIZE + 1);
+        if (notifications.size() > PAGE_SIZE) {
+            notifications = notifications.subList(0, PAGE_SIZE);
+            return new NotificationPage(notifications, notifications.get(PAGE_SIZE - 1).getId());
+        }
+        return new NotificationPage(notifications, null);
+    }
+
+    /**
+     * member의 읽지 않은 알림 수를 반환합니다.
+     *
+     * @param memberId member의 id
+     * @return 읽지 않은 알림 수
+     */
+    public int getUnreadCount(int memberId) {
+        return unreadNotificationCounter.get(memberId, () -> mapper.getUnreadCount(memberId));
+    }
+
+    /**
+     * 알림을 읽음으로 표시합니다. 다른 member의 알림이거나 이미 읽은 알림이라면 아무것도 하지 않습니다.
+     *
+     * @param memberId member의 id
+     * @param id       알림의 id
+     */
+    public void markRead(int memberId, long id) {
+        if (mapper.markRead(id, memberId) > 0) {
+            unreadNotificationCounter.decrement(memberId);
+        }
+    }
+
+    /**
+     * member의 모든 알림을 읽음으로 표시합니다.
+     *
+     * @param memberId member의 id
+     */
+    public void markAllRead(int memberId) {
+        mapper.markAllRead(memberId);
+        unreadNotificationCounter.evict(List.of(memberId));
+    }
+
+    /**
+     * 생성된 지 90일이 지난 알림을 삭제합니다.
+     */
+    @Scheduled(cron = "${soccerfriend.notification.cleanup-cron:0 0 5 * * *}")
+    public void deleteExpired() {
+        LocalDateTime before = LocalDateTime.now().minusDays(RETENTION_DAYS);
+        int count;
+        do {
+            count = mapper.deleteCreatedBefore(before, DELETE_SIZE);
+        } while (count == DELETE_SIZE);
+    }
+
+    /**
+     * 알림을 저장하고 commit된 후 읽지 않은 알림 수를 증가시킵니다.
+     * 다시 전달된 event라서 일부만 저장되었다면 어느 member의 알림이 새로 생겼는지 알 수 없으므로 저장된 수를 삭제합니다.
+     */
+    private void notify(long eventId, List<Integer> recipients, Notification.Type type, int clubId, int targetId) {
+        if (recipients.isEmpty()) {
+            return;
+        }
+
+        List<Notification> notifications = new ArrayList<>(recipients.size());
+        for (int memberId : recipients) {
+            notifications.add(Notification.builder()
+                                          .memberId(memberId)
+                                          .eventId(eventId)
+                                          .type(type)
+                                          .clubId(clubId)
+                                          .targetId(targetId)
+                                          .build());
+        }
+        int inserted = mapper.insertAll(notifications);
+
+        Runnable updateCounter = () -> {
+            try {
+                if (inserted == recipients.size()) {
+                    unreadNotificationCounter.increment(recipients);
+                } else {
+                    unreadNotificationCounter.evict(recipients);
+                }
+            } catch (RuntimeException e) {
+                log.warn("failed to update unread notification count of {} members", recipients.size(), e);
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            updateCounter.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                updateCounter.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,114 @@
+package soccerfriend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import soccerfriend.dto.Bulletin;
+import soccerfriend.dto.Photo;
+import soccerfriend.exception.exception.BadRequestException;
+import soccerfriend.mapper.PhotoMapper;
+import soccerfriend.media.MediaStorage;
+import soccerfriend.media.MediaTooLargeException;
+import soccerfriend.media.ThumbnailWorker;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static soccerfriend.exception.ExceptionInfo.*;
+
+@Service
+@RequiredArgsConstructor
+public class PhotoService {
+    public static final long MAX_PHOTO_SIZE = 20 * 1024 * 1024;
+    public static final int PAGE_SIZE = 30;
+    private static final Set<String> CONTENT_TYPES = Set.of("image/jpeg", "image/png", "image/gif");
+
+    private final BulletinService bulletinService;
+    private final PhotoMapper mapper;
+    private final MediaStorage mediaStorage;
+    private final ThumbnailWorker thumbnailWorker;
+
+    /**
+     * 사진 게시판에 사진을 저장합니다. 내용은 stream에서 바로 저장소로 쓰이며 썸네일은 비동기로 만들어집니다.
+     *
+     * @param bulletinId  게시판의 id
+     * @param memberId    upload하는 member의 id
+     * @param contentType 사진의 Content-Type
+     * @param content     사진의 내용
+     * @return 저장된 사진의 id
+     */
+    public int upload(int bulletinId, int memberId, String contentType, InputStream content) {
+        Bulletin bulletin = bulletinService.getBulletinById(bulletinId);
+        if (bulletin.getCategory() != Bulletin.Category.PHOTO) {
+            throw new BadRequestException(NOT_PHOTO_BULLETIN);
+        }
+        if (contentType == null || !CONTENT_TYPES.contains(contentType.toLowerCase())) {
+            throw new BadRequestException(UNSUPPORTED_PHOTO_TYPE);
+        }
+
+        String key = "photos/" + bulletinId + "/" + UUID.randomUUID();
+        long size;
+        try {
+            size = mediaStorage.write(key, Channels.newChannel(content), MAX_PHOTO_SIZE);
+        } catch (MediaTooLargeException e) {
+            throw new BadRequestException(PHOTO_TOO_LARGE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        Photo photo = Photo.builder()
+                           .bulletinId(bulletinId)
+                           .memberId(memberId)
+                           .storageKey(key)
+                           .contentType(contentType.toLowerCase())
+                           .size(size)
+                           .build();
+        try {
+            mapper.insert(photo);
+        } catch (RuntimeException e) {
+            deleteQuietly(key);
+            throw e;
+        }
+
+        thumbnailWorker.submit(key, photo.getThumbnailKey(), () -> mapper.updateThumbnailReady(photo.getId()));
+        return photo.getId();
+    }
+
+    /**
+     * 게시판의 사진 목록을 최신순으로 반환합니다.
+     *
+     * @param bulletinId 게시판의 id
+     * @param cursor     이전 목록의 마지막 사진 id, 첫 목록이라면 null
+     * @return 사진 목록
+     */
+    public List<Photo> getPhotos(int bulletinId, Integer cursor) {
+        return mapper.getPhotosByBulletinId(bulletinId, cursor, PAGE_SIZE);
+    }
+
+    /**
+     * 게시판의 사진을 반환합니다.
+     *
+     * @param bulletinId 게시판의 id
+     * @param id         사진의 id
+     * @return 사진
+     */
+    public Photo getPhoto(int bulletinId, int id) {
+        Photo photo = mapper.getPhotoById(id);
+        if (photo == null || photo.getBulletinId() != bulletinId) {
+            throw new BadRequestException(PHOTO_NOT_EXIST);
+        }
+        return photo;
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            mediaStorage.delete(key);
+        } catch (IOException | RuntimeException e) {
+            // 정리하지 못한 파일은 DB에 없으므로 응답되지 않습니다.
+        }
+    }
+}
@@ -22,7 +22,7 @@ public class PositionsService {
      *
      * @return 모든 positions
      */
-    @Cacheable(value = "SIGNUP", key = "'POSITIONS'")
+    @Cacheable(value = "SIGNUP", key = "'POSITIONS'", sync = true)
     public List<Positions> getAll() {
         List<Positions> all = mapper.getAll();
         if (all.isEmpty()) {
@@ -0,0 +1,127 @@
+package soccerfriend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import soccerfriend.cache.ResponseCache;
+import soccerfriend.dto.Post;
+import soccerfriend.dto.PostPage;
+import soccerfriend.exception.exception.BadRequestException;
+import soccerfriend.exception.exception.NoPermissionException;
+import soccerfriend.mapper.PostMapper;
+
+import java.util.List;
+
+import static soccerfriend.exception.ExceptionInfo.NO_POST_PERMISSION;
+import static soccerfriend.exception.ExceptionInfo.POST_NOT_EXIST;
+
+@Service
+@RequiredArgsConstructor
+public class PostService {
+    public static final int PAGE_SIZE = 20;
+
+    private final BulletinService bulletinService;
+    private final PostMapper mapper;
+    private final PostViewCounter postViewCounter;
+    private final ResponseCache responseCache;
+    private final SearchService searchService;
+
+    /**
+     * 게시판에 게시글을 작성합니다.
+     *
+     * @param bulletinId 게시판의 id
+     * @param memberId   작성자의 id
+     * @param post       title, content를 가진 게시글
+     * @return 작성된 게시글의 id
+     */
+    public int create(int bulletinId, int memberId, Post post) {
+        bulletinService.getBulletinById(bulletinId);
+        Post newPost = Post.builder()
+                           .bulletinId(bulletinId)
+                           .memberId(memberId)
+                           .title(post.getTitle())
+                           .content(post.getContent())
+                           .build();
+
+        mapper.insert(newPost);
+        deleteCache(bulletinId);
+        searchService.indexPost(newPost.getId());
+        return newPost.getId();
+    }
+
+    /**
+     * 게시글의 제목과 내용을 수정합니다. 작성자만 수정할 수 있습니다.
+     *
+     * @param bulletinId 게시판의 id
+     * @param id         게시글의 id
+     * @param memberId   수정하는 member의 id
+     * @param post       새로운 title, content를 가진 게시글
+     */
+    public void update(int bulletinId, int id, int memberId, Post post) {
+        Post oldPost = getPost(bulletinId, id);
+        if (oldPost.getMemberId() != memberId) {
+            throw new NoPermissionException(NO_POST_PERMISSION);
+        }
+
+        mapper.update(id, post.getTitle(), post.getContent());
+        deleteCache(bulletinId);
+        searchService.indexPost(id);
+    }
+
+    /**
+     * 게시글을 반환하고 조회수를 1 증가시킵니다. 증가된 조회수는 주기적으로 반영됩니다.
+     *
+     * @param bulletinId 게시판의 id
+     * @param id         게시글의 id
+     * @return 게시글
+     */
+    public Post read(int bulletinId, int id) {
+        Post post = getPost(bulletinId, id);
+        postViewCounter.increase(id);
+        return post;
+    }
+
+    /**
+     * 게시판의 게시글 목록을 최신순으로 반환합니다.
+     * cursor보다 작은 id의 게시글을 (bulletin_id, id) index 순서대로 읽으므로 page 위치와 관계없이 조회 비용이 같습니다.
+     *
+     * @param bulletinId 게시판의 id
+     * @param cursor     이전 page의 nextCursor, 첫 page라면 null
+     * @return 게시글 목록과 다음 page의 cursor
+     */
+    public PostPage getPosts(int bulletinId, Integer cursor) {
+        List<Post> posts = mapper.getPostsByBulletinId(bulletinId, cursor, PAGE_SIZE + 1);
+        Integer nextCursor = null;
+        if (posts.size() > PAGE_SIZE) {
+            posts = posts.subList(0, PAGE_SIZE);
+            nextCursor = posts.get(PAGE_SIZE - 1).getId();
+        }
+        return new PostPage(posts, nextCursor);
+    }
+
+    /**
+     * 캐시에 저장되어 있는 게시판의 첫 page를 삭제합니다.
+     *
+     * @param bulletinId 게시판의 id
+     */
+    public void deleteCache(int bulletinId) {
+        responseCache.evict(firstPageCacheKey(bulletinId));
+    }
+
+    /**
+     * 게시판의 첫 page가 저장되는 캐시 key를 반환합니다.
+     *
+     * @param bulletinId 게시판의 id
+     * @return 캐시 key
+     */
+    public static String firstPageCacheKey(int bulletinId) {
+        return "POST BULLETIN" + bulletinId;
+    }
+
+    private Post getPost(int bulletinId, int id) {
+        Post post = mapper.getPostById(id);
+        if (post == null || post.getBulletinId() != bulletinId) {
+            throw new BadRequestException(POST_NOT_EXIST);
+        }
+        return post;
+    }
+}
@@ -0,0 +1,61 @@
+package soccerfriend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import soccerfriend.mapper.PostMapper;
+
+import javax.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 조회수를 서버 메모리에 모아두었다가 주기적으로 한 번의 UPDATE로 DB에 반영합니다.
+ * 조회마다 UPDATE하지 않으므로 인기 게시글의 row lock 경합이 없으며, 조회수는 flush 주기만큼 늦게 반영됩니다.
+ * 증가와 flush의 제거는 모두 ConcurrentHashMap의 같은 key에 대한 원자적 연산이므로 flush 중에 들어온 조회도 잃지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewCounter {
+
+    private final PostMapper mapper;
+    private final Map<Integer, Long> views = new ConcurrentHashMap<>();
+
+    /**
+     * 게시글의 조회수를 1 증가시킵니다.
+     *
+     * @param postId 게시글의 id
+     */
+    public void increase(int postId) {
+        views.merge(postId, 1L, Long::sum);
+    }
+
+    /**
+     * 모아둔 조회수를 DB에 반영합니다. 반영에 실패하면 다음 flush에서 다시 시도합니다.
+     * 게시글마다 map에서 제거한 값만 반영하므로, 제거 이후의 조회는 새 값으로 쌓여 다음 flush에 반영됩니다.
+     */
+    @Scheduled(fixedDelayString = "${soccerfriend.post.view-flush-interval:10000}")
+    @PreDestroy
+    public void flush() {
+        Map<Integer, Long> pending = new HashMap<>();
+        for (Integer postId : views.keySet()) {
+            Long count = views.remove(postId);
+            if (count != null) {
+                pending.put(postId, count);
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        try {
+            mapper.addViews(pending);
+        } catch (RuntimeException e) {
+            log.warn("failed to flush views of {} posts", pending.size(), e);
+            pending.forEach((postId, count) -> views.merge(postId, count, Long::sum));
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package soccerfriend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import soccerfriend.mapper.SearchMapper;
+import soccerfriend.search.ClubSearchCondition;
+import soccerfriend.search.ClubSearchDocument;
+import soccerfriend.search.ContentSearchDocument;
+import soccerfriend.search.SearchIndex;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 검색 index의 갱신과 조회를 담당합니다.
+ * index는 서버마다 local disk에 있으므로, 서비스의 쓰기 경로에서 호출되면 transaction 안이라면 commit된 후에
+ * DB에서 최신 값을 다시 읽어 색인하고 redis pub/sub으로 다른 서버에도 알립니다.
+ * 색인이나 전달에 실패해도 요청은 실패시키지 않으며, 시작할 때와 주기적으로 수행하는 전체 재색인에서 복구됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchService implements MessageListener {
+    public static final String INDEX_CHANNEL = "soccerfriend:search:index";
+    public static final int MAX_SIZE = 50;
+
+    private final SearchIndex searchIndex;
+    private final SearchMapper mapper;
+    private final TransactionTemplate transactionTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * club을 모든 서버의 index에 다시 색인합니다.
+     *
+     * @param id club의 id
+     */
+    public void indexClub(int id) {
+        afterCommit(Target.CLUB, id);
+    }
+
+    /**
+     * 게시판을 모든 서버의 index에 다시 색인합니다. 삭제된 게시판이라면 게시판과 게시글을 index에서 삭제합니다.
+     *
+     * @param id 게시판의 id
+     */
+    public void indexBulletin(int id) {
+        afterCommit(Target.BULLETIN, id);
+    }
+
+    /**
+     * 게시글을 모든 서버의 index에 다시 색인합니다.
+     *
+     * @param id 게시글의 id
+     */
+    public void indexPost(int id) {
+        afterCommit(Target.POST, id);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            int separator = body.indexOf(':');
+            reindex(Target.valueOf(body.substring(0, separator)), Integer.parseInt(body.substring(separator + 1)));
+        } catch (IOException | RuntimeException e) {
+            log.warn("failed to update search index from message {}", body, e);
+        }
+    }
+
+    private void reindex(Target target, int id) throws IOException {
+        switch (target) {
+            case CLUB:
+                ClubSearchDocument club = mapper.getClubById(id);
+                if (club == null) {
+                    searchIndex.deleteClub(id);
+                    return;
+                }
+                searchIndex.upsert(club);
+                return;
+            case BULLETIN:
+                ContentSearchDocument bulletin = mapper.getBulletinById(id);
+                if (bulletin == null) {
+                    searchIndex.deleteBulletin(id);
+                    return;
+                }
+                searchIndex.upsert(bulletin);
+                return;
+            default:
+                ContentSearchDocument post = mapper.getPostById(id);
+                if (post == null) {
+                    searchIndex.deleteContent(ContentSearchDocument.Type.POST, id);
+                    return;
+                }
+                searchIndex.upsert(post);
+        }
+    }
+
+    /**
+     * 조건에 맞는 club을 검색합니다.
+     *
+     * @param condition 검색 조건
+     * @param size      최대 결과 수
+     * @return 검색된 club
+     */
+    public List<ClubSearchDocument> searchClubs(ClubSearchCondition condition, int size) {
+        try {
+            return searchIndex.searchClubs(condition, Math.min(size, MAX_SIZE));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * club 안의 게시판과 게시글을 검색합니다.
+     *
+     * @param clubId club의 id
+     * @param query  검색어
+     * @param size   최대 결과 수
+     * @return 검색된 게시판과 게시글
+     */
+    public List<ContentSearchDocument> searchContents(int clubId, String query, int size) {
+        try {
+            return searchIndex.searchContents(clubId, query, Math.min(size, MAX_SIZE));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * MySQL에서 club, 게시판, 게시글을 streaming으로 읽어 전체를 다시 색인합니다.
+     * 읽은 row는 바로 index에 쓰므로 데이터 크기와 관계없이 heap 사용량이 일정합니다.
+     * MySQL은 connection당 하나의 streaming 결과만 열 수 있으므로 cursor를 차례로 엽니다.
+     *
+     * @return 색인한 문서 수
+     */
+    public long rebuild() {
+        long startedAt = System.currentTimeMillis();
+        long generation = searchIndex.startRebuild();
+        Long count = transactionTemplate.execute(status -> {
+            try {
+                long indexed = 0;
+                try (Cursor<ClubSearchDocument> clubs = mapper.getClubs()) {
+                    for (ClubSearchDocument club : clubs) {
+                        searchIndex.upsert(club);
+                        indexed++;
+                    }
+                }
+                try (Cursor<ContentSearchDocument> bulletins = mapper.getBulletins()) {
+                    for (ContentSearchDocument bulletin : bulletins) {
+                        searchIndex.upsert(bulletin);
+                        indexed++;
+                    }
+                }
+                try (Cursor<ContentSearchDocument> posts = mapper.getPosts()) {
+                    for (ContentSearchDocument post : posts) {
+                        searchIndex.upsert(post);
+                        indexed++;
+                    }
+                }
+                searchIndex.finishRebuild(generation);
+                return indexed;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        log.info("search index rebuilt, {} documents in {}ms", count, System.currentTimeMillis() - startedAt);
+        return count;
+    }
+
+    /**
+     * application이 시작된 후 전체를 색인합니다. 서버가 내려가 있는 동안 다른 서버에서 일어난 변경을 반영하기 위해
+     * disk에 index가 남아있더라도 다시 색인하며, 재색인 중에도 이전 index로 검색할 수 있습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStart() {
+        rebuild();
+    }
+
+    /**
+     * 누락된 변경을 복구하도록 주기적으로 전체를 다시 색인합니다.
+     */
+    @Scheduled(fixedDelayString = "${soccerfriend.search.rebuild-interval:3600000}",
+            initialDelayString = "${soccerfriend.search.rebuild-interval:3600000}")
+    public void rebuildPeriodically() {
+        rebuild();
+    }
+
+    private void afterCommit(Target target, int id) {
+        Runnable task = () -> {
+            try {
+                reindex(target, id);
+            } catch (IOException | RuntimeException e) {
+                log.warn("failed to update search index of {} {}", target, id, e);
+            }
+            try {
+                stringRedisTemplate.convertAndSend(INDEX_CHANNEL, target + ":" + id);
+            } catch (RuntimeException e) {
+                log.warn("failed to publish search index update of {} {}", target, id, e);
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private enum Target {
+        CLUB, BULLETIN, POST
+    }
+}
@@ -1,14 +1,18 @@
 package soccerfriend.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import soccerfriend.dto.Member;
 import soccerfriend.dto.StadiumOwner;
 import soccerfriend.exception.exception.NoPermissionException;
 import soccerfriend.exception.exception.NotExistException;
 import soccerfriend.exception.exception.NotMatchException;
+import soccerfriend.session.SessionLogin;
+import soccerfriend.session.SessionNearCache;
 import soccerfriend.utility.InputForm.LoginRequest;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpSession;
 import java.util.Optional;
 
@@ -19,9 +23,12 @@ import static soccerfriend.utility.SessionKey.SESSION_LOGIN_STADIUM_OWNER;
 
 @RequiredArgsConstructor
 @Service
+@ConditionalOnProperty(name = "soccerfriend.login.mode", havingValue = "session", matchIfMissing = true)
 public class SessionLoginService implements LoginService {
 
     private final HttpSession httpSession;
+    private final HttpServletRequest request;
+    private final SessionNearCache sessionNearCache;
     private final MemberService memberService;
     private final StadiumOwnerService stadiumOwnerService;
 
@@ -32,7 +39,7 @@ public class SessionLoginService implements LoginService {
      */
     @Override
     public int getMemberId() {
-        Integer id = (Integer) httpSession.getAttribute(SESSION_LOGIN_MEMBER);
+        Integer id = getSessionLogin().getMemberId();
         if (id == null) {
             throw new NotExistException(LOGIN_INFO_NOT_EXIST);
         }
@@ -46,7 +53,7 @@ public class SessionLoginService implements LoginService {
      */
     @Override
     public int getStadiumOwnerId() {
-        Integer id = (Integer) httpSession.getAttribute(SESSION_LOGIN_STADIUM_OWNER);
+        Integer id = getSessionLogin().getStadiumOwnerId();
         if (id == null) {
             throw new NotExistException(LOGIN_INFO_NOT_EXIST);
         }
@@ -72,6 +79,7 @@ public class SessionLoginService implements LoginService {
 
         httpSession.setAttribute(SESSION_LOGIN_MEMBER, member.get().getId());
         httpSession.setMaxInactiveInterval(30 * 60);
+        sessionNearCache.invalidate(httpSession.getId());
     }
 
     /**
@@ -90,6 +98,7 @@ public class SessionLoginService implements LoginService {
 
         httpSession.setAttribute(SESSION_LOGIN_STADIUM_OWNER, stadiumOwner.get().getId());
         httpSession.setMaxInactiveInterval(30 * 60);
+        sessionNearCache.invalidate(httpSession.getId());
     }
 
     /**
@@ -97,6 +106,24 @@ public class SessionLoginService implements LoginService {
      */
     @Override
     public void logout() {
+        sessionNearCache.invalidate(httpSession.getId());
         httpSession.invalidate();
     }
+
+    /**
+     * 현재 session의 로그인 정보를 near cache에서 찾고, 없다면 session에서 읽어 cache에 저장합니다.
+     *
+     * @return 현재 session의 로그인 정보
+     */
+    private SessionLogin getSessionLogin() {
+        SessionLogin sessionLogin = sessionNearCache.get(request);
+        if (sessionLogin != null) {
+            return sessionLogin;
+        }
+
+        sessionLogin = new SessionLogin((Integer) httpSession.getAttribute(SESSION_LOGIN_MEMBER),
+                (Integer) httpSession.getAttribute(SESSION_LOGIN_STADIUM_OWNER));
+        sessionNearCache.put(httpSession.getId(), sessionLogin);
+        return sessionLogin;
+    }
 }
@@ -2,7 +2,10 @@ package soccerfriend.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import soccerfriend.dto.SoccerMatchMember;
+import soccerfriend.event.DomainEventPublisher;
+import soccerfriend.event.SoccerMatchJoinRequestedEvent;
 import soccerfriend.exception.ExceptionInfo;
 import soccerfriend.exception.exception.BadRequestException;
 import soccerfriend.mapper.SoccerMatchMemberMapper;
@@ -18,6 +21,7 @@ public class SoccerMatchMemberService {
 
     private final SoccerMatchMemberMapper mapper;
     private final SoccerMatchService soccerMatchService;
+    private final DomainEventPublisher domainEventPublisher;
 
     /**
      * 회원들이 축구경기에 참여신청을 합니다.
@@ -26,6 +30,7 @@ public class SoccerMatchMemberService {
      * @param clubId        club의 id
      * @param memberId      member의 id
      */
+    @Transactional
     public void apply(int soccerMatchId, int clubId, int memberId) {
         if (isSoccerMatchMemberExist(soccerMatchId, memberId)) {
             throw new BadRequestException(ALREADY_JOINED_SOCCER_MATCH);
@@ -35,6 +40,7 @@ public class SoccerMatchMemberService {
         }
         SoccerMatchMember soccerMatchMember = new SoccerMatchMember(soccerMatchId, clubId, memberId, false);
         mapper.insert(soccerMatchMember);
+        domainEventPublisher.publish(new SoccerMatchJoinRequestedEvent(soccerMatchId, clubId, memberId));
     }
 
     /**
@@ -2,13 +2,17 @@ package soccerfriend.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import soccerfriend.dto.FeedEvent;
 import soccerfriend.dto.SoccerMatchRecruitment;
+import soccerfriend.event.DomainEventPublisher;
 import soccerfriend.exception.exception.BadRequestException;
 import soccerfriend.mapper.SoccerMatchRecruitmentMapper;
 import soccerfriend.utility.InputForm.UpdateSoccerMatchRecruitmentRequest;
 
 import java.util.List;
 
+import static soccerfriend.dto.FeedEvent.Type.RECRUITMENT_CREATED;
 import static soccerfriend.exception.ExceptionInfo.*;
 
 @Service
@@ -16,6 +20,8 @@ import static soccerfriend.exception.ExceptionInfo.*;
 public class SoccerMatchRecruitmentService {
 
     private final SoccerMatchRecruitmentMapper mapper;
+    private final DomainEventPublisher domainEventPublisher;
+    private final StadiumRevenueService stadiumRevenueService;
 
     /**
      * 축구경기 모집공고를 생성합니다.
@@ -23,6 +29,7 @@ public class SoccerMatchRecruitmentService {
      * @param clubId                 경기모집 공고를 생성한 club의 id
      * @param soccerMatchRecruitment 경기에 관한 기본정보
      */
+    @Transactional
     public void create(int clubId, SoccerMatchRecruitment soccerMatchRecruitment) {
         SoccerMatchRecruitment newSoccerMatchRecruitment =
                 SoccerMatchRecruitment.builder()
@@ -35,6 +42,8 @@ public class SoccerMatchRecruitmentService {
                                       .build();
 
         mapper.insert(newSoccerMatchRecruitment);
+        stadiumRevenueService.book(List.of(newSoccerMatchRecruitment));
+        domainEventPublisher.publish(FeedEvent.of(RECRUITMENT_CREATED, clubId, newSoccerMatchRecruitment.getId()));
     }
 
     /**
@@ -66,13 +75,26 @@ public class SoccerMatchRecruitmentService {
     }
 
     /**
-     * soccerMatchRecruitment의 정보를 수정합니다.
+     * soccerMatchRecruitment의 정보를 수정하고, 바뀐 시간과 stadium을 stadium 매출 집계에 반영합니다.
+     * 동시에 수정되더라도 수정 전 값을 두 번 빼지 않도록 row lock을 잡고 수정 전 값을 읽습니다.
      *
      * @param id      soccerMatchRecruitment의 id
      * @param request 수정하고자 하는 값들
      */
+    @Transactional
     public void update(int id, UpdateSoccerMatchRecruitmentRequest request) {
+        SoccerMatchRecruitment before = mapper.getSoccerMatchRecruitmentByIdForUpdate(id);
+        if (before == null) {
+            throw new BadRequestException(SOCCER_MATCH_RECRUITMENT_NOT_EXIST);
+        }
         mapper.update(id, request);
+
+        SoccerMatchRecruitment after = SoccerMatchRecruitment.builder()
+                                                             .startTime(request.getStartTime())
+                                                             .endTime(request.getEndTime())
+                                                             .stadiumId(request.getStadiumId())
+                                                             .build();
+        stadiumRevenueService.rebook(before, after);
     }
 
     /**
@@ -3,12 +3,16 @@ package soccerfriend.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import soccerfriend.dto.FeedEvent;
+import soccerfriend.dto.MatchResult;
 import soccerfriend.dto.SoccerMatch;
+import soccerfriend.event.DomainEventPublisher;
 import soccerfriend.exception.exception.BadRequestException;
 import soccerfriend.mapper.SoccerMatchMapper;
 
 import java.util.List;
 
+import static soccerfriend.dto.FeedEvent.Type.MATCH_SUBMITTED;
 import static soccerfriend.exception.ExceptionInfo.*;
 
 
@@ -18,6 +22,9 @@ public class SoccerMatchService {
 
     private final SoccerMatchMapper mapper;
     private final ClubSoccerMatchRecordService clubSoccerMatchRecordService;
+    private final ClubHistoryService clubHistoryService;
+    private final TournamentService tournamentService;
+    private final DomainEventPublisher domainEventPublisher;
 
     /**
      * soccerMatch를 생성합니다. 이 때 생성된 soccerMatch는 점수가 0대 0인 초기 상황의 상태입니다.
@@ -143,7 +150,7 @@ public class SoccerMatchService {
     }
 
     /**
-     * 경기결과 기입을 완료하여 이를 제출하고 전적에 반영합니다.
+     * 경기결과 기입을 완료하여 이를 제출하고 전적, 상대전적, 최근 경기결과와 대회 순위표에 반영합니다.
      *
      * @param id soccerMatch의 id
      */
@@ -158,20 +165,27 @@ public class SoccerMatchService {
         int hostClubId = getHostClubId(id);
         int participationClubId = getParticipationClubId(id);
 
-        if (hostClubScore > participationClubScore) {
-            clubSoccerMatchRecordService.increaseWin(hostClubId);
-            clubSoccerMatchRecordService.increaseLose(participationClubId);
-        }
-        else if (hostClubScore == participationClubScore) {
-            clubSoccerMatchRecordService.increaseDraw(hostClubId);
-            clubSoccerMatchRecordService.increaseDraw(participationClubId);
-        }
-        else {
-            clubSoccerMatchRecordService.increaseLose(hostClubId);
-            clubSoccerMatchRecordService.increaseWin(participationClubId);
+        switch (MatchResult.of(hostClubScore, participationClubScore)) {
+            case HOST_WIN:
+                clubSoccerMatchRecordService.increaseWin(hostClubId);
+                clubSoccerMatchRecordService.increaseLose(participationClubId);
+                break;
+            case DRAW:
+                clubSoccerMatchRecordService.increaseDraw(hostClubId);
+                clubSoccerMatchRecordService.increaseDraw(participationClubId);
+                break;
+            case PARTICIPATION_WIN:
+                clubSoccerMatchRecordService.increaseLose(hostClubId);
+                clubSoccerMatchRecordService.increaseWin(participationClubId);
+                break;
         }
 
+        clubHistoryService.record(hostClubId, participationClubId, hostClubScore, participationClubScore);
+        tournamentService.recordResult(id, hostClubId, participationClubId, hostClubScore, participationClubScore);
+
         setSubmittedTrue(id);
+        domainEventPublisher.publish(FeedEvent.of(MATCH_SUBMITTED, hostClubId, id));
+        domainEventPublisher.publish(FeedEvent.of(MATCH_SUBMITTED, participationClubId, id));
     }
 
     /**
@@ -0,0 +1,202 @@
+package soccerfriend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import soccerfriend.dto.SoccerMatchRecruitment;
+import soccerfriend.dto.Stadium;
+import soccerfriend.dto.StadiumRevenue;
+import soccerfriend.exception.exception.BadRequestException;
+import soccerfriend.mapper.StadiumMapper;
+import soccerfriend.mapper.StadiumRevenueMapper;
+import soccerfriend.stats.StadiumRevenueRollup;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+import static soccerfriend.exception.ExceptionInfo.NOT_PROPER_REVENUE_PERIOD;
+
+/**
+ * stadium별 예약 수, 예약된 시간, 가격대별 매출을 미리 집계하여 stadiumOwner의 dashboard에 제공합니다.
+ * <p>
+ * 경기모집공고가 만들어지거나 시간, stadium이 바뀌면 같은 transaction에서 시간별, 일별 집계 row에 변화량을 더하므로,
+ * dashboard는 경기모집공고를 다시 읽지 않고 stadium마다 기간 안의 집계 row만 읽습니다.
+ * 금액은 예약이 반영될 때의 stadium 가격으로 계산하며, 변경 전 예약은 변경할 때의 가격으로 뺍니다.
+ * <p>
+ * 매일 한 서버에서 보관 기간이 지난 시간별 집계는 지우고, 일별 집계는 월별 집계에 더한 뒤 지웁니다.
+ * 시간별 집계의 합은 일별 집계에 이미 있으므로 지워도 일별, 월별 매출은 바뀌지 않습니다.
+ */
+@Slf4j
+@Service
+public class StadiumRevenueService {
+    public static final int MAX_DAILY_PERIOD = 92;
+    public static final String COMPACT_LOCK_KEY_PREFIX = "soccerfriend:stadium-revenue:compact:";
+    private static final int INSERT_SIZE = 500;
+    private static final int DELETE_SIZE = 1000;
+
+    private final StadiumRevenueMapper mapper;
+    private final StadiumMapper stadiumMapper;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int hourlyRetentionDays;
+    private final int dailyRetentionDays;
+
+    public StadiumRevenueService(StadiumRevenueMapper mapper,
+                                 StadiumMapper stadiumMapper,
+                                 StringRedisTemplate stringRedisTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${soccerfriend.stadium-revenue.hourly-retention-days:35}") int hourlyRetentionDays,
+                                 @Value("${soccerfriend.stadium-revenue.daily-retention-days:400}") int dailyRetentionDays) {
+        this.mapper = mapper;
+        this.stadiumMapper = stadiumMapper;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.hourlyRetentionDays = hourlyRetentionDays;
+        this.dailyRetentionDays = dailyRetentionDays;
+    }
+
+    /**
+     * 새 경기모집공고들의 예약을 집계에 더합니다. 경기모집공고를 만드는 transaction 안에서 호출해야 합니다.
+     *
+     * @param recruitments 새 경기모집공고들
+     */
+    public void book(List<SoccerMatchRecruitment> recruitments) {
+        apply(Collections.emptyList(), recruitments);
+    }
+
+    /**
+     * 경기모집공고의 변경 전 예약을 집계에서 빼고 변경 후 예약을 더합니다. 경기모집공고를 변경하는 transaction 안에서 호출해야 합니다.
+     *
+     * @param before 변경 전 경기모집공고
+     * @param after  변경 후 경기모집공고
+     */
+    public void rebook(SoccerMatchRecruitment before, SoccerMatchRecruitment after) {
+        apply(List.of(before), List.of(after));
+    }
+
+    private void apply(List<SoccerMatchRecruitment> removed, List<SoccerMatchRecruitment> added) {
+        Set<Integer> stadiumIds = new HashSet<>();
+        removed.forEach(recruitment -> stadiumIds.add(recruitment.getStadiumId()));
+        added.forEach(recruitment -> stadiumIds.add(recruitment.getStadiumId()));
+        if (stadiumIds.isEmpty()) {
+            return;
+        }
+        Map<Integer, Stadium> stadiums = new HashMap<>();
+        stadiumMapper.getStadiumsByIds(stadiumIds).forEach(stadium -> stadiums.put(stadium.getId(), stadium));
+
+        StadiumRevenueRollup rollup = new StadiumRevenueRollup();
+        add(rollup, stadiums, removed, -1);
+        add(rollup, stadiums, added, 1);
+        if (rollup.isEmpty()) {
+            return;
+        }
+        for (List<StadiumRevenue> batch : batches(rollup.getHourly())) {
+            mapper.increaseHourly(batch);
+        }
+        for (List<StadiumRevenue> batch : batches(rollup.getDaily())) {
+            mapper.increaseDaily(batch);
+        }
+    }
+
+    private static void add(StadiumRevenueRollup rollup, Map<Integer, Stadium> stadiums,
+                            List<SoccerMatchRecruitment> recruitments, int sign) {
+        for (SoccerMatchRecruitment recruitment : recruitments) {
+            Stadium stadium = stadiums.get(recruitment.getStadiumId());
+            if (stadium != null) {
+                rollup.add(stadium, recruitment.getStartTime(), recruitment.getEndTime(), sign);
+            }
+        }
+    }
+
+    /**
+     * stadium의 하루 동안의 시간별 집계를 반환합니다. 시간별 집계는 보관 기간 동안만 남아 있습니다.
+     *
+     * @param stadiumId stadium의 id
+     * @param date      날짜
+     * @return 시간, 가격대 순서의 집계
+     */
+    public List<StadiumRevenue> getHourlyRevenues(int stadiumId, LocalDate date) {
+        return mapper.getHourlyRevenues(stadiumId, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+    }
+
+    /**
+     * stadiumOwner가 운영중인 stadium들의 일별 집계를 반환합니다. 월별 집계에 더해진 날은 반환하지 않습니다.
+     *
+     * @param stadiumOwnerId stadiumOwner의 id
+     * @param from           시작 날짜
+     * @param to             마지막 날짜(포함), 시작 날짜부터 MAX_DAILY_PERIOD일 이내
+     * @return stadium, 날짜, 가격대 순서의 집계
+     */
+    public List<StadiumRevenue> getDailyRevenues(int stadiumOwnerId, LocalDate from, LocalDate to) {
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= MAX_DAILY_PERIOD) {
+            throw new BadRequestException(NOT_PROPER_REVENUE_PERIOD);
+        }
+        return mapper.getDailyRevenues(stadiumOwnerId, from, to.plusDays(1));
+    }
+
+    /**
+     * stadiumOwner가 운영중인 stadium들의 한 해 동안의 월별 집계를 반환합니다.
+     *
+     * @param stadiumOwnerId stadiumOwner의 id
+     * @param year           연도
+     * @return stadium, 월, 가격대 순서의 집계
+     */
+    public List<StadiumRevenue> getMonthlyRevenues(int stadiumOwnerId, int year) {
+        LocalDate from = LocalDate.of(year, 1, 1);
+        return mapper.getMonthlyRevenues(stadiumOwnerId, from, from.plusYears(1));
+    }
+
+    /**
+     * 매일 한 서버에서만 집계를 정리합니다.
+     */
+    @Scheduled(cron = "${soccerfriend.stadium-revenue.compact-cron:0 0 4 * * *}")
+    public void compactDaily() {
+        LocalDate today = LocalDate.now();
+        Boolean locked = stringRedisTemplate.opsForValue()
+                                            .setIfAbsent(COMPACT_LOCK_KEY_PREFIX + today, "1", Duration.ofDays(2));
+        if (Boolean.TRUE.equals(locked)) {
+            compact(today);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 시간별 집계를 지우고, 보관 기간이 지난 일별 집계를 월별 집계에 더한 뒤 지웁니다.
+     * 월별 집계에 더하기와 지우기는 한 transaction에서 수행하므로 중간에 실패해도 두 번 더해지지 않습니다.
+     * 시간별 집계는 잠금을 짧게 유지하도록 DELETE_SIZE개씩 지웁니다.
+     *
+     * @param today 기준 날짜
+     */
+    public void compact(LocalDate today) {
+        long startedAt = System.currentTimeMillis();
+
+        LocalDate dailyBefore = today.minusDays(dailyRetentionDays);
+        Integer compacted = transactionTemplate.execute(status -> {
+            mapper.compactDailyBefore(dailyBefore);
+            return mapper.deleteDailyBefore(dailyBefore);
+        });
+
+        long deleted = 0;
+        int count;
+        do {
+            count = mapper.deleteHourlyBefore(today.minusDays(hourlyRetentionDays).atStartOfDay(), DELETE_SIZE);
+            deleted += count;
+        } while (count == DELETE_SIZE);
+
+        log.info("compacted {} daily stadium revenues before {} and deleted {} hourly stadium revenues in {}ms",
+                compacted, dailyBefore, deleted, System.currentTimeMillis() - startedAt);
+    }
+
+    private static <T> List<List<T>> batches(List<T> list) {
+        List<List<T>> batches = new ArrayList<>();
+        for (int from = 0; from < list.size(); from += INSERT_SIZE) {
+            batches.add(list.subList(from, Math.min(from + INSERT_SIZE, list.size())));
+        }
+        return batches;
+    }
+}
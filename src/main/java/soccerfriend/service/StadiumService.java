@@ -15,14 +15,16 @@ import static soccerfriend.exception.ExceptionInfo.*;
 public class StadiumService {
 
     private final StadiumMapper mapper;
+    private final GeoService geoService;
 
     /**
-     * stadiumOwner가 새로운 stadium을 생성합니다.
+     * stadiumOwner가 새로운 stadium을 생성하고, 위치가 있다면 위치 index에 추가합니다.
      *
      * @param stadiumOwnerId stadium을 생성하려는 stadiumOwner의 id
      * @param stadium        생성하려는 stadium의 정보
      */
     public void create(int stadiumOwnerId, Stadium stadium) {
+        GeoService.validateLocation(stadium.getLatitude(), stadium.getLongitude());
         Stadium newStadium = Stadium.builder()
                                     .name(stadium.getName())
                                     .stadiumOwnerId(stadiumOwnerId)
@@ -31,9 +33,12 @@ public class StadiumService {
                                     .priceDay(stadium.getPriceDay())
                                     .priceNight(stadium.getPriceNight())
                                     .priceWeekend(stadium.getPriceWeekend())
+                                    .latitude(stadium.getLatitude())
+                                    .longitude(stadium.getLongitude())
                                     .build();
 
         mapper.insert(newStadium);
+        geoService.indexStadium(newStadium.getId());
     }
 
     public boolean isStadiumOwner(int id, int stadiumOwnerId){
@@ -61,13 +66,15 @@ public class StadiumService {
     }
 
     /**
-     * stadium의 소유자를 제외한 모든 정보를 수정합니다.
+     * stadium의 소유자를 제외한 모든 정보를 수정하고, 바뀐 위치를 위치 index에 반영합니다.
      *
      * @param id 수정하려는 stadium의 id
      * @param updateStadiumRequest 수정내용을 포함한 stadium 객체
      */
     public void updateStadium(int id, UpdateStadiumRequest updateStadiumRequest){
+        GeoService.validateLocation(updateStadiumRequest.getLatitude(), updateStadiumRequest.getLongitude());
         mapper.updateStadium(id, updateStadiumRequest);
+        geoService.indexStadium(id);
     }
 
     /**
@@ -0,0 +1,247 @@
+package soccerfriend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import soccerfriend.dto.Member;
+import soccerfriend.dto.StadiumOwner;
+import soccerfriend.exception.exception.NoPermissionException;
+import soccerfriend.exception.exception.NotExistException;
+import soccerfriend.exception.exception.NotMatchException;
+import soccerfriend.token.*;
+import soccerfriend.utility.InputForm.LoginRequest;
+
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Optional;
+
+import static soccerfriend.exception.ExceptionInfo.*;
+import static soccerfriend.utility.PasswordWarning.NO_WARNING;
+
+/**
+ * 서명된 access 토큰으로 로그인 정보를 확인하는 LoginService입니다.
+ * 요청마다 서명, 만료시간, 폐기 목록을 서버 메모리에서만 확인하므로 redis를 조회하지 않습니다.
+ * 토큰은 HttpOnly cookie와 응답 header로 전달하며, 요청에서는 Authorization header(Bearer)를 cookie보다 우선합니다.
+ * refresh 토큰 cookie도 모든 경로로 전달되므로 로그아웃, 비밀번호 변경 요청에서 함께 폐기할 수 있습니다.
+ */
+@RequiredArgsConstructor
+@Service
+@ConditionalOnProperty(name = "soccerfriend.login.mode", havingValue = "token")
+public class TokenLoginService implements LoginService {
+
+    public static final String ACCESS_TOKEN = "ACCESS_TOKEN";
+    public static final String REFRESH_TOKEN = "REFRESH_TOKEN";
+    public static final String REFRESH_TOKEN_HEADER = "Refresh-Token";
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String BEARER = "Bearer ";
+    private static final String LEGACY_REFRESH_TOKEN_PATH = "/tokens";
+    private static final String ACCESS_CLAIMS_ATTRIBUTE = TokenLoginService.class.getName() + ".accessClaims";
+
+    private final HttpServletRequest request;
+    private final TokenSigner tokenSigner;
+    private final RevokedTokens revokedTokens;
+    private final MemberService memberService;
+    private final StadiumOwnerService stadiumOwnerService;
+
+    /**
+     * access 토큰의 Member id를 반환합니다.
+     *
+     * @return Member의 id
+     */
+    @Override
+    public int getMemberId() {
+        return getAccessClaims(TokenSubject.MEMBER).getSubjectId();
+    }
+
+    /**
+     * access 토큰의 StadiumOwner id를 반환합니다.
+     *
+     * @return StadiumOwner의 id
+     */
+    @Override
+    public int getStadiumOwnerId() {
+        return getAccessClaims(TokenSubject.STADIUM_OWNER).getSubjectId();
+    }
+
+    /**
+     * Member의 로그인을 수행하고 access, refresh 토큰을 발급합니다.
+     *
+     * @param loginRequest id, password를 포함하는 객체
+     */
+    @Override
+    public void memberLogin(LoginRequest loginRequest) {
+        Optional<Member> member = memberService.getMemberByMemberIdAndPassword(loginRequest.getId(), loginRequest.getPassword());
+
+        if (!member.isPresent()) {
+            throw new NotMatchException(LOGIN_FORM_INCORRECT);
+        }
+        if (memberService.getPasswordWarning(member.get().getId()) != NO_WARNING.getCode()) {
+            throw new NoPermissionException(CHANGE_PASSWORD_REQUIRED);
+        }
+
+        issueTokens(TokenSubject.MEMBER, member.get().getId());
+    }
+
+    /**
+     * StadiumOwner의 로그인을 수행하고 access, refresh 토큰을 발급합니다.
+     *
+     * @param loginRequest id, password를 포함하는 객체
+     */
+    @Override
+    public void stadiumOwnerLogin(LoginRequest loginRequest) {
+        Optional<StadiumOwner> stadiumOwner = stadiumOwnerService.getStadiumOwnerByStadiumOwnerIdAndPassword(loginRequest.getId(), loginRequest.getPassword());
+
+        if (!stadiumOwner.isPresent()) {
+            throw new NotMatchException(LOGIN_FORM_INCORRECT);
+        }
+
+        issueTokens(TokenSubject.STADIUM_OWNER, stadiumOwner.get().getId());
+    }
+
+    /**
+     * refresh 토큰으로 새로운 access, refresh 토큰을 발급합니다. 사용한 refresh 토큰은 폐기하며,
+     * 같은 refresh 토큰으로 동시에 요청하면 한 요청만 발급받습니다.
+     */
+    public void refresh() {
+        String refreshToken = Optional.ofNullable(request.getHeader(REFRESH_TOKEN_HEADER))
+                                      .orElseGet(() -> getCookieValue(REFRESH_TOKEN));
+        if (refreshToken == null) {
+            throw new NotExistException(LOGIN_INFO_NOT_EXIST);
+        }
+
+        TokenClaims claims = tokenSigner.verify(refreshToken);
+        if (claims.getType() != TokenType.REFRESH || !revokedTokens.claim(claims)) {
+            throw new NoPermissionException(TOKEN_INVALID);
+        }
+        validateSubject(claims.getSubject(), claims.getSubjectId());
+
+        issueTokens(claims.getSubject(), claims.getSubjectId());
+    }
+
+    /**
+     * 로그아웃을 수행합니다. 요청에 포함된 access, refresh 토큰의 사용자에게 지금까지 발급된 토큰을 모두 폐기하고 cookie를 삭제합니다.
+     * 비밀번호 변경, 탈퇴 후에도 호출되므로 다른 기기에 남아있는 refresh 토큰도 더 이상 사용할 수 없습니다.
+     */
+    @Override
+    public void logout() {
+        TokenClaims accessClaims = verifyQuietly(getAccessToken());
+        TokenClaims refreshClaims = verifyQuietly(Optional.ofNullable(request.getHeader(REFRESH_TOKEN_HEADER))
+                                                          .orElseGet(() -> getCookieValue(REFRESH_TOKEN)));
+        TokenClaims claims = accessClaims != null ? accessClaims : refreshClaims;
+        if (claims != null) {
+            revokedTokens.revokeSubject(claims.getSubject(), claims.getSubjectId());
+        }
+
+        HttpServletResponse response = getResponse();
+        response.addCookie(createCookie(ACCESS_TOKEN, "", "/", 0));
+        response.addCookie(createCookie(REFRESH_TOKEN, "", "/", 0));
+        response.addCookie(createCookie(REFRESH_TOKEN, "", LEGACY_REFRESH_TOKEN_PATH, 0));
+    }
+
+    /**
+     * 토큰을 재발급하기 전에 사용자가 여전히 로그인할 수 있는 상태인지 확인합니다.
+     * 탈퇴한 사용자는 조회시 예외가 발생하고, 비밀번호 변경이 필요한 member는 로그인과 같이 거부합니다.
+     *
+     * @param subject   사용자의 종류
+     * @param subjectId 사용자의 id
+     */
+    private void validateSubject(TokenSubject subject, int subjectId) {
+        if (subject == TokenSubject.STADIUM_OWNER) {
+            stadiumOwnerService.getStadiumOwnerById(subjectId);
+            return;
+        }
+        if (memberService.getPasswordWarning(subjectId) != NO_WARNING.getCode()) {
+            throw new NoPermissionException(CHANGE_PASSWORD_REQUIRED);
+        }
+    }
+
+    /**
+     * 현재 요청의 access 토큰을 검증합니다. 한 요청 안에서는 검증 결과를 재사용합니다.
+     *
+     * @param subject 요구하는 사용자의 종류
+     * @return access 토큰의 내용
+     */
+    private TokenClaims getAccessClaims(TokenSubject subject) {
+        TokenClaims claims = (TokenClaims) request.getAttribute(ACCESS_CLAIMS_ATTRIBUTE);
+        if (claims == null) {
+            String accessToken = getAccessToken();
+            if (accessToken == null) {
+                throw new NotExistException(LOGIN_INFO_NOT_EXIST);
+            }
+
+            claims = tokenSigner.verify(accessToken);
+            if (claims.getType() != TokenType.ACCESS || revokedTokens.isRevoked(claims)) {
+                throw new NoPermissionException(TOKEN_INVALID);
+            }
+            request.setAttribute(ACCESS_CLAIMS_ATTRIBUTE, claims);
+        }
+
+        if (claims.getSubject() != subject) {
+            throw new NotExistException(LOGIN_INFO_NOT_EXIST);
+        }
+        return claims;
+    }
+
+    private String getAccessToken() {
+        String authorization = request.getHeader(AUTHORIZATION_HEADER);
+        if (authorization != null && authorization.startsWith(BEARER)) {
+            return authorization.substring(BEARER.length());
+        }
+        return getCookieValue(ACCESS_TOKEN);
+    }
+
+    private String getCookieValue(String name) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (name.equals(cookie.getName())) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    private void issueTokens(TokenSubject subject, int subjectId) {
+        String accessToken = tokenSigner.sign(TokenType.ACCESS, subject, subjectId);
+        String refreshToken = tokenSigner.sign(TokenType.REFRESH, subject, subjectId);
+
+        HttpServletResponse response = getResponse();
+        response.setHeader(AUTHORIZATION_HEADER, BEARER + accessToken);
+        response.setHeader(REFRESH_TOKEN_HEADER, refreshToken);
+        response.addCookie(createCookie(ACCESS_TOKEN, accessToken, "/",
+                (int) tokenSigner.getTtl(TokenType.ACCESS).getSeconds()));
+        response.addCookie(createCookie(REFRESH_TOKEN, refreshToken, "/",
+                (int) tokenSigner.getTtl(TokenType.REFRESH).getSeconds()));
+        // 이전에 /tokens 경로로 발급된 cookie가 먼저 전달되지 않도록 삭제합니다.
+        response.addCookie(createCookie(REFRESH_TOKEN, "", LEGACY_REFRESH_TOKEN_PATH, 0));
+    }
+
+    private TokenClaims verifyQuietly(String token) {
+        if (token == null) {
+            return null;
+        }
+        try {
+            return tokenSigner.verify(token);
+        } catch (NoPermissionException e) {
+            // 이미 만료되었거나 유효하지 않은 토큰은 폐기할 필요가 없습니다.
+            return null;
+        }
+    }
+
+    private Cookie createCookie(String name, String value, String path, int maxAge) {
+        Cookie cookie = new Cookie(name, value);
+        cookie.setPath(path);
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge(maxAge);
+        return cookie;
+    }
+
+    private HttpServletResponse getResponse() {
+        return ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getResponse();
+    }
+}
@@ -0,0 +1,410 @@
+package soccerfriend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import soccerfriend.dto.*;
+import soccerfriend.exception.exception.BadRequestException;
+import soccerfriend.mapper.SoccerMatchMapper;
+import soccerfriend.mapper.SoccerMatchRecruitmentMapper;
+import soccerfriend.mapper.StadiumMapper;
+import soccerfriend.mapper.TournamentMapper;
+import soccerfriend.tournament.*;
+import soccerfriend.utility.InputForm.CreateTournamentRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static soccerfriend.dto.Tournament.Status.*;
+import static soccerfriend.dto.Tournament.Type.KNOCKOUT;
+import static soccerfriend.exception.ExceptionInfo.*;
+
+/**
+ * 리그와 토너먼트 대회를 관리합니다.
+ * <p>
+ * 대회를 만들 때 대진을 경기장 slot에 배정하고 다른 참가 club들을 초대합니다. 배정된 경기는 slot을 미리 차지합니다.
+ * 모든 club이 수락하면 경기장 시간을 다시 확인한 뒤 두 club이 정해진 경기의 경기모집공고와 soccerMatch를 batch insert로 한꺼번에 만듭니다.
+ * 대회 경기의 결과가 제출되면 같은 transaction에서 순위표의 두 row를 증가시키고, 토너먼트라면 승자를 다음 라운드 경기에 배정합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TournamentService {
+    private static final int INSERT_SIZE = 500;
+
+    private final TournamentMapper mapper;
+    private final SoccerMatchRecruitmentMapper soccerMatchRecruitmentMapper;
+    private final SoccerMatchMapper soccerMatchMapper;
+    private final StadiumMapper stadiumMapper;
+    private final ClubService clubService;
+    private final StadiumRevenueService stadiumRevenueService;
+
+    /**
+     * 대회를 만들고 모든 경기를 경기장 slot에 배정합니다. 주최 club은 참가 club이어야 하고 다른 참가 club들은 초대됩니다.
+     * 배정된 경기는 slot을 차지하지만, 경기모집공고와 soccerMatch는 모든 club이 수락한 뒤에 만들어집니다.
+     *
+     * @param request 대회의 정보
+     * @return 만들어진 대회의 id
+     */
+    @Transactional
+    public int create(CreateTournamentRequest request) {
+        validate(request);
+
+        List<Integer> clubIds = request.getClubIds();
+        List<List<Pairing>> rounds = request.getType() == KNOCKOUT ? Knockout.rounds(clubIds) : RoundRobin.rounds(clubIds);
+        List<StadiumSlot> slots = getFreeSlots(request);
+        List<List<StadiumSlot>> scheduled = new SlotScheduler(slots)
+                .schedule(rounds, Duration.ofHours(request.getMinRestHours()), request.getType() == KNOCKOUT);
+        if (scheduled == null) {
+            throw new BadRequestException(NOT_ENOUGH_STADIUM_SLOT);
+        }
+
+        Tournament tournament = Tournament.builder()
+                                          .name(request.getName())
+                                          .type(request.getType())
+                                          .hostClubId(request.getHostClubId())
+                                          .numSet(request.getNumSet())
+                                          .timeSet(request.getTimeSet())
+                                          .status(INVITING)
+                                          .build();
+        mapper.insert(tournament);
+
+        List<TournamentClub> clubs = new ArrayList<>(clubIds.size());
+        for (int i = 0; i < clubIds.size(); i++) {
+            clubs.add(TournamentClub.builder()
+                                    .tournamentId(tournament.getId())
+                                    .clubId(clubIds.get(i))
+                                    .seed(i + 1)
+                                    .accepted(clubIds.get(i) == request.getHostClubId())
+                                    .build());
+        }
+        mapper.insertClubs(clubs);
+
+        List<TournamentFixture> fixtures = new ArrayList<>();
+        for (int round = 0; round < rounds.size(); round++) {
+            for (int i = 0; i < rounds.get(round).size(); i++) {
+                Pairing pairing = rounds.get(round).get(i);
+                StadiumSlot slot = scheduled.get(round).get(i);
+                fixtures.add(TournamentFixture.builder()
+                                              .tournamentId(tournament.getId())
+                                              .round(pairing.getRound())
+                                              .position(pairing.getPosition())
+                                              .homeClubId(pairing.getHomeClubId())
+                                              .awayClubId(pairing.getAwayClubId())
+                                              .stadiumId(slot.getStadiumId())
+                                              .startTime(slot.getStartTime())
+                                              .endTime(slot.getEndTime())
+                                              .build());
+            }
+        }
+        for (List<TournamentFixture> batch : batches(fixtures)) {
+            mapper.insertFixtures(batch);
+        }
+        return tournament.getId();
+    }
+
+    /**
+     * 초대된 club이 대회 참가를 수락합니다. 마지막 club이 수락하면 대회 경기들의 경기모집공고와 soccerMatch를 만듭니다.
+     *
+     * @param tournamentId 대회의 id
+     * @param clubId       수락하는 club의 id
+     */
+    @Transactional
+    public void accept(int tournamentId, int clubId) {
+        Tournament tournament = getInvitingTournamentForUpdate(tournamentId);
+        TournamentClub club = mapper.getTournamentClub(tournamentId, clubId);
+        if (club == null || club.isAccepted()) {
+            throw new BadRequestException(NOT_INVITED_TO_TOURNAMENT);
+        }
+
+        mapper.acceptClub(tournamentId, clubId);
+        if (mapper.countNotAcceptedClubs(tournamentId) == 0) {
+            start(tournament);
+        }
+    }
+
+    /**
+     * 초대된 club이 대회 참가를 거절합니다. 대회는 취소되고 배정되었던 경기장 slot은 풀려납니다.
+     *
+     * @param tournamentId 대회의 id
+     * @param clubId       거절하는 club의 id
+     */
+    @Transactional
+    public void decline(int tournamentId, int clubId) {
+        getInvitingTournamentForUpdate(tournamentId);
+        TournamentClub club = mapper.getTournamentClub(tournamentId, clubId);
+        if (club == null || club.isAccepted()) {
+            throw new BadRequestException(NOT_INVITED_TO_TOURNAMENT);
+        }
+
+        mapper.setStatus(tournamentId, CANCELED);
+        mapper.deleteFixtures(tournamentId);
+    }
+
+    /**
+     * 특정 id의 대회를 반환합니다.
+     *
+     * @param id 대회의 id
+     * @return 대회
+     */
+    public Tournament getTournamentById(int id) {
+        Tournament tournament = mapper.getTournamentById(id);
+        if (tournament == null) {
+            throw new BadRequestException(TOURNAMENT_NOT_EXIST);
+        }
+        return tournament;
+    }
+
+    /**
+     * 대회의 순위표를 반환합니다. 승점, 득실차, 득점, 시드 순서로 정렬됩니다.
+     *
+     * @param id 대회의 id
+     * @return 순위표
+     */
+    public List<TournamentClub> getStandings(int id) {
+        return mapper.getStandings(id);
+    }
+
+    /**
+     * 대회의 경기들을 라운드 순서대로 반환합니다.
+     *
+     * @param id    대회의 id
+     * @param round 라운드, null이라면 모든 라운드
+     * @return 경기들
+     */
+    public List<TournamentFixture> getFixtures(int id, Integer round) {
+        return mapper.getFixtures(id, round);
+    }
+
+    /**
+     * 제출된 경기가 대회 경기라면 순위표에 반영하고, 토너먼트라면 승자를 다음 라운드에 배정합니다.
+     * 토너먼트에서 비긴 경우 시드가 높은 club이 진출합니다. 경기결과를 제출하는 transaction 안에서 호출해야 합니다.
+     *
+     * @param soccerMatchId          soccerMatch의 id
+     * @param hostClubId             주최 club의 id
+     * @param participationClubId    참가 club의 id
+     * @param hostClubScore          주최 club의 점수
+     * @param participationClubScore 참가 club의 점수
+     */
+    public void recordResult(int soccerMatchId, int hostClubId, int participationClubId, int hostClubScore, int participationClubScore) {
+        TournamentFixture fixture = mapper.getFixtureBySoccerMatchId(soccerMatchId);
+        if (fixture == null) {
+            return;
+        }
+
+        int tournamentId = fixture.getTournamentId();
+        mapper.addResult(result(tournamentId, hostClubId, hostClubScore, participationClubScore));
+        mapper.addResult(result(tournamentId, participationClubId, participationClubScore, hostClubScore));
+
+        Tournament tournament = getTournamentById(tournamentId);
+        if (tournament.getType() != KNOCKOUT) {
+            return;
+        }
+        int winnerClubId;
+        if (hostClubScore != participationClubScore) {
+            winnerClubId = hostClubScore > participationClubScore ? hostClubId : participationClubId;
+        } else {
+            winnerClubId = mapper.getSeed(tournamentId, hostClubId) < mapper.getSeed(tournamentId, participationClubId)
+                    ? hostClubId : participationClubId;
+        }
+        mapper.setFixtureWinner(fixture.getId(), winnerClubId);
+        advance(tournament, fixture, winnerClubId);
+    }
+
+    /**
+     * 승자를 다음 라운드 경기에 배정하고, 상대도 정해졌다면 경기를 만듭니다. 결승이었다면 대회의 우승 club을 기록합니다.
+     * 다음 라운드 경기 row를 잠그므로 두 준결승의 결과가 동시에 제출되어도 경기는 한 번만 만들어집니다.
+     */
+    private void advance(Tournament tournament, TournamentFixture fixture, int winnerClubId) {
+        TournamentFixture next = mapper.getFixtureForUpdate(tournament.getId(), fixture.getRound() + 1,
+                Knockout.nextPosition(fixture.getPosition()));
+        if (next == null) {
+            mapper.setWinner(tournament.getId(), winnerClubId);
+            return;
+        }
+
+        TournamentFixture.TournamentFixtureBuilder builder = next.toBuilder();
+        if (Knockout.advancesAsHome(fixture.getPosition())) {
+            builder.homeClubId(winnerClubId);
+        } else {
+            builder.awayClubId(winnerClubId);
+        }
+        next = builder.build();
+        mapper.setFixtureClubs(next.getId(), next.getHomeClubId(), next.getAwayClubId());
+        if (next.getHomeClubId() != null && next.getAwayClubId() != null) {
+            List<TournamentFixture> fixtures = new ArrayList<>(List.of(next));
+            createMatches(tournament, fixtures);
+            mapper.setFixtureMatch(next.getId(), fixtures.get(0).getSoccerMatchRecruitmentId(), fixtures.get(0).getSoccerMatchId());
+        }
+    }
+
+    /**
+     * 초대를 기다리는 대회 row를 잠급니다. 여러 club이 동시에 수락해도 경기는 한 번만 만들어집니다.
+     */
+    private Tournament getInvitingTournamentForUpdate(int tournamentId) {
+        Tournament tournament = mapper.getTournamentForUpdate(tournamentId);
+        if (tournament == null) {
+            throw new BadRequestException(TOURNAMENT_NOT_EXIST);
+        }
+        if (tournament.getStatus() != INVITING) {
+            throw new BadRequestException(TOURNAMENT_NOT_INVITING);
+        }
+        return tournament;
+    }
+
+    /**
+     * 초대 기간 동안 대회 경기의 slot에 다른 경기모집공고가 생기지 않았는지 확인하고, 경기모집공고와 soccerMatch를 만듭니다.
+     * 경기들에 생성된 id를 넣기 위해 대회 경기 row들을 지우고 batch insert로 다시 넣습니다.
+     */
+    private void start(Tournament tournament) {
+        List<TournamentFixture> fixtures = new ArrayList<>(mapper.getFixtures(tournament.getId(), null));
+        checkAvailable(tournament.getId(), fixtures);
+
+        createMatches(tournament, fixtures);
+        mapper.deleteFixtures(tournament.getId());
+        for (List<TournamentFixture> batch : batches(fixtures)) {
+            mapper.insertFixtures(batch);
+        }
+        mapper.setStatus(tournament.getId(), SCHEDULED);
+    }
+
+    private void checkAvailable(int tournamentId, List<TournamentFixture> fixtures) {
+        if (fixtures.isEmpty()) {
+            return;
+        }
+        Set<Integer> stadiumIds = new HashSet<>();
+        LocalDateTime from = fixtures.get(0).getStartTime();
+        LocalDateTime to = fixtures.get(0).getStartTime();
+        for (TournamentFixture fixture : fixtures) {
+            stadiumIds.add(fixture.getStadiumId());
+            from = from.isAfter(fixture.getStartTime()) ? fixture.getStartTime() : from;
+            to = to.isBefore(fixture.getStartTime()) ? fixture.getStartTime() : to;
+        }
+
+        List<StadiumSlot> booked = mapper.getBookedSlots(stadiumIds, from.minusDays(1), to.plusDays(1), tournamentId);
+        for (TournamentFixture fixture : fixtures) {
+            StadiumSlot slot = new StadiumSlot(fixture.getStadiumId(), fixture.getStartTime(), fixture.getEndTime());
+            if (booked.stream().anyMatch(slot::overlaps)) {
+                throw new BadRequestException(STADIUM_SLOT_ALREADY_BOOKED);
+            }
+        }
+    }
+
+    /**
+     * 두 club이 정해진 경기들의 경기모집공고와 soccerMatch를 batch insert로 만들고, fixtures의 해당 원소를 생성된 id로 교체합니다.
+     * 경기모집공고의 예약은 stadium 매출 집계에 더합니다.
+     */
+    private void createMatches(Tournament tournament, List<TournamentFixture> fixtures) {
+        List<Integer> indexes = new ArrayList<>();
+        List<SoccerMatchRecruitment> recruitments = new ArrayList<>();
+        for (int i = 0; i < fixtures.size(); i++) {
+            TournamentFixture fixture = fixtures.get(i);
+            if (fixture.getHomeClubId() == null || fixture.getAwayClubId() == null) {
+                continue;
+            }
+            indexes.add(i);
+            recruitments.add(SoccerMatchRecruitment.builder()
+                                                   .startTime(fixture.getStartTime())
+                                                   .endTime(fixture.getEndTime())
+                                                   .numSet(tournament.getNumSet())
+                                                   .timeSet(tournament.getTimeSet())
+                                                   .stadiumId(fixture.getStadiumId())
+                                                   .hostClubId(fixture.getHomeClubId())
+                                                   .participationClubId(fixture.getAwayClubId())
+                                                   .build());
+        }
+        if (recruitments.isEmpty()) {
+            return;
+        }
+        for (List<SoccerMatchRecruitment> batch : batches(recruitments)) {
+            soccerMatchRecruitmentMapper.insertAll(batch);
+        }
+        stadiumRevenueService.book(recruitments);
+
+        List<SoccerMatch> soccerMatches = new ArrayList<>(recruitments.size());
+        for (SoccerMatchRecruitment recruitment : recruitments) {
+            soccerMatches.add(SoccerMatch.builder().soccerMatchRecruitmentId(recruitment.getId()).build());
+        }
+        for (List<SoccerMatch> batch : batches(soccerMatches)) {
+            soccerMatchMapper.insertAll(batch);
+        }
+
+        for (int i = 0; i < indexes.size(); i++) {
+            int index = indexes.get(i);
+            fixtures.set(index, fixtures.get(index)
+                                        .toBuilder()
+                                        .soccerMatchRecruitmentId(recruitments.get(i).getId())
+                                        .soccerMatchId(soccerMatches.get(i).getId())
+                                        .build());
+        }
+    }
+
+    /**
+     * 기간 동안의 slot 중 이미 경기모집공고나 다른 대회 경기가 잡힌 slot을 제외합니다.
+     * 하루보다 긴 경기는 없으므로 기간 하루 전부터 시작한 경기까지만 확인합니다.
+     */
+    private List<StadiumSlot> getFreeSlots(CreateTournamentRequest request) {
+        List<StadiumSlot> slots = StadiumSlot.daily(new LinkedHashSet<>(request.getStadiumIds()), request.getStartDate(),
+                request.getEndDate(), request.getStartTimes(), request.getMatchMinutes());
+        Map<Integer, List<StadiumSlot>> booked = new HashMap<>();
+        for (StadiumSlot slot : mapper.getBookedSlots(request.getStadiumIds(), request.getStartDate().minusDays(1).atStartOfDay(),
+                request.getEndDate().plusDays(1).atStartOfDay(), 0)) {
+            booked.computeIfAbsent(slot.getStadiumId(), id -> new ArrayList<>()).add(slot);
+        }
+        if (booked.isEmpty()) {
+            return slots;
+        }
+
+        List<StadiumSlot> free = new ArrayList<>(slots.size());
+        for (StadiumSlot slot : slots) {
+            if (booked.getOrDefault(slot.getStadiumId(), List.of()).stream().noneMatch(slot::overlaps)) {
+                free.add(slot);
+            }
+        }
+        return free;
+    }
+
+    private void validate(CreateTournamentRequest request) {
+        List<Integer> clubIds = request.getClubIds();
+        if (clubIds.size() < 2 || new HashSet<>(clubIds).size() != clubIds.size()
+                || request.getNumSet() < 1 || request.getTimeSet() < 1
+                || request.getMatchMinutes() < 1 || request.getMinRestHours() < 0
+                || request.getEndDate().isBefore(request.getStartDate())) {
+            throw new BadRequestException(NOT_PROPER_TOURNAMENT);
+        }
+        if (!clubIds.contains(request.getHostClubId())) {
+            throw new BadRequestException(HOST_CLUB_NOT_IN_TOURNAMENT);
+        }
+        Set<Integer> stadiumIds = new HashSet<>(request.getStadiumIds());
+        if (stadiumMapper.getStadiumsByIds(stadiumIds).size() != stadiumIds.size()) {
+            throw new BadRequestException(STADIUM_NOT_EXIST);
+        }
+        for (int clubId : clubIds) {
+            if (!clubService.isIdExist(clubId)) {
+                throw new BadRequestException(CLUB_NOT_EXIST);
+            }
+        }
+    }
+
+    private static TournamentClub result(int tournamentId, int clubId, int goalsFor, int goalsAgainst) {
+        MatchResult result = MatchResult.of(goalsFor, goalsAgainst);
+        return TournamentClub.builder()
+                             .tournamentId(tournamentId)
+                             .clubId(clubId)
+                             .win(result == MatchResult.HOST_WIN ? 1 : 0)
+                             .draw(result == MatchResult.DRAW ? 1 : 0)
+                             .lose(result == MatchResult.PARTICIPATION_WIN ? 1 : 0)
+                             .goalsFor(goalsFor)
+                             .goalsAgainst(goalsAgainst)
+                             .points(result == MatchResult.HOST_WIN ? 3 : result == MatchResult.DRAW ? 1 : 0)
+                             .build();
+    }
+
+    private static <T> List<List<T>> batches(List<T> rows) {
+        List<List<T>> batches = new ArrayList<>();
+        for (int from = 0; from < rows.size(); from += INSERT_SIZE) {
+            batches.add(rows.subList(from, Math.min(from + INSERT_SIZE, rows.size())));
+        }
+        return batches;
+    }
+}
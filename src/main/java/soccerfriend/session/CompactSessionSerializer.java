@@ -0,0 +1,78 @@
+package soccerfriend.session;
+
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * session 속성값을 작게 저장하는 serializer입니다.
+ * session에 주로 저장되는 Integer, Long, String, Boolean은 1 byte type과 값만 저장하고,
+ * 그 외의 값은 JDK 직렬화를 사용합니다. JDK 직렬화는 항상 0xAC로 시작하므로 기존에 저장된 값도 읽을 수 있습니다.
+ */
+public class CompactSessionSerializer implements RedisSerializer<Object> {
+
+    private static final byte INTEGER = 1;
+    private static final byte LONG = 2;
+    private static final byte STRING = 3;
+    private static final byte TRUE = 4;
+    private static final byte FALSE = 5;
+    private static final byte JDK = 6;
+    private static final byte JDK_STREAM_MAGIC = (byte) 0xAC;
+
+    private final JdkSerializationRedisSerializer jdkSerializer = new JdkSerializationRedisSerializer();
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        if (value instanceof Integer) {
+            return ByteBuffer.allocate(5).put(INTEGER).putInt((Integer) value).array();
+        }
+        if (value instanceof Long) {
+            return ByteBuffer.allocate(9).put(LONG).putLong((Long) value).array();
+        }
+        if (value instanceof String) {
+            byte[] bytes = ((String) value).getBytes(StandardCharsets.UTF_8);
+            return ByteBuffer.allocate(bytes.length + 1).put(STRING).put(bytes).array();
+        }
+        if (value instanceof Boolean) {
+            return new byte[]{(Boolean) value ? TRUE : FALSE};
+        }
+
+        byte[] bytes = jdkSerializer.serialize(value);
+        return ByteBuffer.allocate(bytes.length + 1).put(JDK).put(bytes).array();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, bytes.length - 1);
+        switch (bytes[0]) {
+            case INTEGER:
+                return buffer.getInt();
+            case LONG:
+                return buffer.getLong();
+            case STRING:
+                return new String(bytes, 1, bytes.length - 1, StandardCharsets.UTF_8);
+            case TRUE:
+                return Boolean.TRUE;
+            case FALSE:
+                return Boolean.FALSE;
+            case JDK:
+                byte[] jdkBytes = new byte[bytes.length - 1];
+                buffer.get(jdkBytes);
+                return jdkSerializer.deserialize(jdkBytes);
+            case JDK_STREAM_MAGIC:
+                return jdkSerializer.deserialize(bytes);
+            default:
+                throw new SerializationException("unknown session value type " + bytes[0]);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package soccerfriend.session;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 하나의 session에 로그인한 member, stadiumOwner의 id입니다. 로그인하지 않았다면 null입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class SessionLogin {
+
+    private final Integer memberId;
+
+    private final Integer stadiumOwnerId;
+
+    public boolean isEmpty() {
+        return memberId == null && stadiumOwnerId == null;
+    }
+}
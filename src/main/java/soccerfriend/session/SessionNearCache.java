@@ -0,0 +1,101 @@
+package soccerfriend.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.session.events.AbstractSessionEvent;
+import org.springframework.session.web.http.CookieSerializer;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * session id별 로그인 정보를 서버 메모리에 보관하는 near cache입니다.
+ * cache에 있는 동안은 redis에서 session을 읽지 않으며 lastAccessedTime도 쓰지 않습니다.
+ * 항목은 refresh-interval이 지나면 만료되므로, 그 다음 요청이 session을 읽으면서 만료시간 갱신이 refresh-interval마다 한 번으로 모입니다.
+ * 로그인, 로그아웃시 redis pub/sub으로 모든 서버의 항목을 삭제합니다.
+ */
+@Slf4j
+@Component
+public class SessionNearCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "soccerfriend:session:invalidate";
+
+    private final Cache<String, SessionLogin> cache;
+    private final CookieSerializer cookieSerializer;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public SessionNearCache(CookieSerializer cookieSerializer,
+                            StringRedisTemplate stringRedisTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${soccerfriend.session.near-cache.refresh-interval:60s}") Duration refreshInterval,
+                            @Value("${soccerfriend.session.near-cache.maximum-size:100000}") long maximumSize) {
+        this.cookieSerializer = cookieSerializer;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.cache = Caffeine.newBuilder()
+                             .expireAfterWrite(refreshInterval)
+                             .maximumSize(maximumSize)
+                             .recordStats()
+                             .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "session.near-cache");
+    }
+
+    /**
+     * 요청의 session cookie에 해당하는 로그인 정보를 반환합니다.
+     *
+     * @param request 현재 요청
+     * @return cache에 있는 로그인 정보, 없다면 null
+     */
+    public SessionLogin get(HttpServletRequest request) {
+        List<String> sessionIds = cookieSerializer.readCookieValues(request);
+        if (sessionIds.size() != 1) {
+            return null;
+        }
+        return cache.getIfPresent(sessionIds.get(0));
+    }
+
+    /**
+     * session의 로그인 정보를 cache에 저장합니다. 로그인하지 않은 session은 저장하지 않습니다.
+     *
+     * @param sessionId    session의 id
+     * @param sessionLogin 로그인 정보
+     */
+    public void put(String sessionId, SessionLogin sessionLogin) {
+        if (!sessionLogin.isEmpty()) {
+            cache.put(sessionId, sessionLogin);
+        }
+    }
+
+    /**
+     * 모든 서버의 near cache에서 해당 session을 삭제합니다.
+     *
+     * @param sessionId session의 id
+     */
+    public void invalidate(String sessionId) {
+        cache.invalidate(sessionId);
+        stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, sessionId);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        cache.invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * session이 만료되거나 삭제되면 cache에서도 삭제합니다.
+     */
+    @EventListener
+    public void onSessionEvent(AbstractSessionEvent event) {
+        cache.invalidate(event.getSessionId());
+    }
+}
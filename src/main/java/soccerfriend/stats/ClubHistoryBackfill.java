@@ -0,0 +1,52 @@
+package soccerfriend.stats;
+
+import soccerfriend.dto.ClubForm;
+import soccerfriend.dto.HeadToHead;
+import soccerfriend.dto.SoccerMatchResult;
+
+import java.util.*;
+
+/**
+ * 제출된 경기들을 최신순으로 받아 club 쌍별 상대전적과 club별 최근 경기결과를 집계합니다.
+ * 상대전적은 경기한 적이 있는 club 쌍만, 최근 경기결과는 club마다 ClubForm.LENGTH개까지만 보관합니다.
+ */
+public class ClubHistoryBackfill {
+
+    private final Map<Long, HeadToHead> headToHeads = new HashMap<>();
+    private final Map<Integer, StringBuilder> forms = new HashMap<>();
+
+    /**
+     * 경기 하나를 집계합니다. 경기는 최신순으로 전달되어야 합니다.
+     *
+     * @param result 제출된 경기의 결과
+     */
+    public void add(SoccerMatchResult result) {
+        HeadToHead headToHead = HeadToHead.of(result.getHostClubId(), result.getParticipationClubId(),
+                result.getHostClubScore(), result.getParticipationClubScore());
+        headToHeads.merge(pair(headToHead.getClubId(), headToHead.getOpponentClubId()), headToHead, HeadToHead::plus);
+
+        appendForm(result.getHostClubId(), ClubForm.result(result.getHostClubScore(), result.getParticipationClubScore()));
+        appendForm(result.getParticipationClubId(), ClubForm.result(result.getParticipationClubScore(), result.getHostClubScore()));
+    }
+
+    public Collection<HeadToHead> getHeadToHeads() {
+        return headToHeads.values();
+    }
+
+    public List<ClubForm> getForms() {
+        List<ClubForm> clubForms = new ArrayList<>(forms.size());
+        forms.forEach((clubId, form) -> clubForms.add(new ClubForm(clubId, form.toString())));
+        return clubForms;
+    }
+
+    private void appendForm(int clubId, char result) {
+        StringBuilder form = forms.computeIfAbsent(clubId, id -> new StringBuilder(ClubForm.LENGTH));
+        if (form.length() < ClubForm.LENGTH) {
+            form.append(result);
+        }
+    }
+
+    private static long pair(int clubId, int opponentClubId) {
+        return ((long) clubId << 32) | (opponentClubId & 0xffffffffL);
+    }
+}
@@ -0,0 +1,176 @@
+package soccerfriend.stats;
+
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import soccerfriend.dto.GoalStat;
+import soccerfriend.dto.ScorerRank;
+
+import java.util.*;
+
+/**
+ * 시즌별 득점 순위를 redis sorted set으로 보관합니다.
+ * 시즌 전체, club별, 지역별 순위마다 member id를 값으로, 골 수를 score로 하는 sorted set을 둡니다.
+ * 골이 추가되면 세 순위를 하나의 pipeline으로 증가시키고, 보정 작업은 임시 key에 순위를 새로 만든 뒤 RENAME으로 교체합니다.
+ * 골 추가는 이미 있는 순위만 증가시킵니다. redis가 비워진 뒤 첫 골이 일부만 담긴 순위를 만들면 그 순위가 완전한 것처럼 조회되기 때문입니다.
+ * 없는 순위는 조회시 DB에서 읽고, 다음 보정 작업에서 다시 만들어집니다.
+ */
+public class ScorerRanking {
+
+    public static final String KEY_PREFIX = "soccerfriend:stats:scorers:";
+
+    private static final String REBUILD_SUFFIX = ":rebuild";
+    private static final String INCREMENT_IF_EXISTS =
+            "if redis.call('EXISTS', KEYS[1]) == 1 then redis.call('ZINCRBY', KEYS[1], ARGV[1], ARGV[2]) return 1 end return 0";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public ScorerRanking(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    /**
+     * 골 하나를 시즌 전체, club, 지역 순위 중 redis에 있는 순위에 반영합니다.
+     *
+     * @param goalStat 골을 넣은 member와 club의 정보
+     */
+    public void increment(GoalStat goalStat) {
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            String memberId = Integer.toString(goalStat.getMemberId());
+            for (String key : keys(goalStat)) {
+                redis.eval(INCREMENT_IF_EXISTS, ReturnType.INTEGER, 1, key, "1", memberId);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 여러 member의 골을 redis에 있는 순위에 반영합니다. 모든 증가는 하나의 pipeline으로 전송됩니다.
+     *
+     * @param goalStats member와 club마다 추가된 골 수(goals)
+     */
+    public void incrementAll(Collection<GoalStat> goalStats) {
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            for (GoalStat goalStat : goalStats) {
+                String memberId = Integer.toString(goalStat.getMemberId());
+                for (String key : keys(goalStat)) {
+                    redis.eval(INCREMENT_IF_EXISTS, ReturnType.INTEGER, 1, key, Integer.toString(goalStat.getGoals()), memberId);
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 순위의 상위 size명을 반환합니다.
+     *
+     * @param key  순위의 key
+     * @param size 최대 인원
+     * @return 골이 많은 순서의 순위, 순위가 redis에 없다면 null
+     */
+    public List<ScorerRank> top(String key, int size) {
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            redis.exists(key);
+            redis.zRevRangeWithScores(key, 0, size - 1);
+            return null;
+        });
+        if (!Boolean.TRUE.equals(results.get(0))) {
+            return null;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<TypedTuple<String>> tuples = (Set<TypedTuple<String>>) results.get(1);
+        List<ScorerRank> ranks = new ArrayList<>(tuples.size());
+        for (TypedTuple<String> tuple : tuples) {
+            ranks.add(new ScorerRank(Integer.parseInt(tuple.getValue()), tuple.getScore().intValue()));
+        }
+        return ranks;
+    }
+
+    /**
+     * 순위를 새로 만드는 작업을 시작합니다.
+     *
+     * @return 집계 결과를 받아 임시 key에 기록하는 작업
+     */
+    public Rebuild startRebuild() {
+        return new Rebuild();
+    }
+
+    public static String seasonKey(int season) {
+        return KEY_PREFIX + season;
+    }
+
+    public static String clubKey(int season, int clubId) {
+        return KEY_PREFIX + season + ":club:" + clubId;
+    }
+
+    public static String regionKey(int season, int addressId) {
+        return KEY_PREFIX + season + ":region:" + addressId;
+    }
+
+    private static List<String> keys(GoalStat goalStat) {
+        List<String> keys = new ArrayList<>(3);
+        keys.add(seasonKey(goalStat.getSeason()));
+        keys.add(clubKey(goalStat.getSeason(), goalStat.getClubId()));
+        if (goalStat.getAddressId() != 0) {
+            keys.add(regionKey(goalStat.getSeason(), goalStat.getAddressId()));
+        }
+        return keys;
+    }
+
+    /**
+     * 집계 결과를 임시 key에 더하고, 끝나면 임시 key로 기존 순위를 교체합니다.
+     * 처음 기록하는 임시 key는 이전에 중단된 작업이 남긴 값을 먼저 삭제합니다.
+     * 교체 전까지는 기존 순위가 그대로 조회됩니다.
+     */
+    public class Rebuild {
+
+        private final Set<String> keys = new HashSet<>();
+
+        private Rebuild() {
+        }
+
+        /**
+         * 집계 결과들을 임시 key에 더합니다. 하나의 pipeline으로 전송됩니다.
+         *
+         * @param goalStats (시즌, member, club)별 골 수
+         */
+        public void addAll(Collection<GoalStat> goalStats) {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                for (GoalStat goalStat : goalStats) {
+                    String memberId = Integer.toString(goalStat.getMemberId());
+                    for (String key : keys(goalStat)) {
+                        String rebuildKey = key + REBUILD_SUFFIX;
+                        if (keys.add(key)) {
+                            redis.del(rebuildKey);
+                        }
+                        redis.zIncrBy(rebuildKey, goalStat.getGoals(), memberId);
+                    }
+                }
+                return null;
+            });
+        }
+
+        /**
+         * 임시 key로 기존 순위를 교체합니다.
+         *
+         * @return 교체한 순위의 수
+         */
+        public int finish() {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                for (String key : keys) {
+                    redis.rename(key + REBUILD_SUFFIX, key);
+                }
+                return null;
+            });
+            return keys.size();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package soccerfriend.stats;
+
+import soccerfriend.dto.Stadium;
+import soccerfriend.dto.StadiumRevenue;
+import soccerfriend.dto.StadiumRevenue.PriceBand;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 예약들을 stadium의 시간별, 일별 예약 집계 변화량으로 나눕니다.
+ * <p>
+ * 예약은 정각마다 잘라 각 시간의 가격대로 금액을 계산하며, 예약 수는 예약이 시작한 시간과 날에 더합니다.
+ * 취소하거나 변경하기 전의 예약은 sign을 -1로 더해 같은 값을 빼므로, 집계 table에는 변화량을 그대로 더하면 됩니다.
+ * 결과는 (stadium, 기간, 가격대) 순서로 정렬되어 있어, 여러 transaction이 같은 row들을 같은 순서로 잠급니다.
+ */
+public class StadiumRevenueRollup {
+
+    private final Map<Key, long[]> hourly = new TreeMap<>();
+    private final Map<Key, long[]> daily = new TreeMap<>();
+
+    /**
+     * 예약 하나를 더합니다. 끝나는 시각이 시작 시각보다 이르거나 같다면 무시합니다.
+     *
+     * @param stadium   예약한 stadium
+     * @param startTime 예약이 시작하는 시각
+     * @param endTime   예약이 끝나는 시각
+     * @param sign      새 예약은 1, 없어지는 예약은 -1
+     */
+    public void add(Stadium stadium, LocalDateTime startTime, LocalDateTime endTime, int sign) {
+        if (startTime == null || endTime == null || !startTime.isBefore(endTime)) {
+            return;
+        }
+
+        int bookings = sign;
+        LocalDateTime time = startTime;
+        while (time.isBefore(endTime)) {
+            LocalDateTime hour = time.truncatedTo(ChronoUnit.HOURS);
+            LocalDateTime next = hour.plusHours(1).isBefore(endTime) ? hour.plusHours(1) : endTime;
+            PriceBand priceBand = PriceBand.of(hour);
+            long minutes = Duration.between(time, next).toMinutes();
+            long revenue = priceBand.price(stadium) * minutes / 60;
+
+            add(hourly, new Key(stadium.getId(), hour, priceBand), bookings, sign * minutes, sign * revenue);
+            add(daily, new Key(stadium.getId(), hour.truncatedTo(ChronoUnit.DAYS), priceBand), bookings, sign * minutes, sign * revenue);
+            bookings = 0;
+            time = next;
+        }
+    }
+
+    public List<StadiumRevenue> getHourly() {
+        return toRevenues(hourly);
+    }
+
+    public List<StadiumRevenue> getDaily() {
+        return toRevenues(daily);
+    }
+
+    public boolean isEmpty() {
+        return hourly.isEmpty();
+    }
+
+    private static void add(Map<Key, long[]> rollup, Key key, long bookings, long minutes, long revenue) {
+        long[] sums = rollup.computeIfAbsent(key, k -> new long[3]);
+        sums[0] += bookings;
+        sums[1] += minutes;
+        sums[2] += revenue;
+    }
+
+    private static List<StadiumRevenue> toRevenues(Map<Key, long[]> rollup) {
+        List<StadiumRevenue> revenues = new ArrayList<>(rollup.size());
+        rollup.forEach((key, sums) -> revenues.add(StadiumRevenue.builder()
+                                                                 .stadiumId(key.stadiumId)
+                                                                 .startedAt(key.startedAt)
+                                                                 .priceBand(key.priceBand)
+                                                                 .bookings((int) sums[0])
+                                                                 .minutes((int) sums[1])
+                                                                 .revenue(sums[2])
+                                                                 .build()));
+        return revenues;
+    }
+
+    private static class Key implements Comparable<Key> {
+        private final int stadiumId;
+        private final LocalDateTime startedAt;
+        private final PriceBand priceBand;
+
+        private Key(int stadiumId, LocalDateTime startedAt, PriceBand priceBand) {
+            this.stadiumId = stadiumId;
+            this.startedAt = startedAt;
+            this.priceBand = priceBand;
+        }
+
+        @Override
+        public int compareTo(Key other) {
+            int compared = Integer.compare(stadiumId, other.stadiumId);
+            if (compared == 0) {
+                compared = startedAt.compareTo(other.startedAt);
+            }
+            if (compared == 0) {
+                compared = priceBand.name().compareTo(other.priceBand.name());
+            }
+            return compared;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package soccerfriend.token;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 만료 전에 폐기된 토큰의 id 목록과, 사용자별로 그 시각 이전에 발급된 토큰을 모두 폐기하는 기준 시각입니다.
+ * 토큰 id의 원본은 redis sorted set(member: tokenId, score: 만료시간)이며, 서버는 이를 정렬된 long 배열로 복사해두고 이진 탐색으로 확인합니다.
+ * 사용자별 기준 시각의 원본은 redis sorted set(member: subject:subjectId, score: 기준 시각)이며, 서버는 이를 map으로 복사해둡니다.
+ * 폐기시 pub/sub으로 다른 서버에 즉시 전달하고, 전달이 누락되더라도 주기적인 동기화로 redis와 맞춥니다.
+ * 만료시간이 지난 토큰과, 가장 긴 유효기간보다 오래된 기준 시각은 목록에서 제거합니다.
+ */
+@Slf4j
+public class RevokedTokens implements MessageListener {
+
+    public static final String REVOKED_KEY = "soccerfriend:token:revoked";
+    public static final String REVOCATION_CHANNEL = "soccerfriend:token:revoke";
+    public static final String REVOKED_SUBJECT_KEY = "soccerfriend:token:revoked-subject";
+    public static final String SUBJECT_REVOCATION_CHANNEL = "soccerfriend:token:revoke-subject";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration maxTokenTtl;
+    private final Clock clock;
+    private volatile long[] revoked = new long[0];
+    private long[] revokedDuringSync = new long[0];
+    private volatile Map<Long, Long> revokedBefore = Map.of();
+    private Map<Long, Long> revokedBeforeDuringSync = new HashMap<>();
+
+    public RevokedTokens(StringRedisTemplate stringRedisTemplate, Duration maxTokenTtl, Clock clock) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.maxTokenTtl = maxTokenTtl;
+        this.clock = clock;
+    }
+
+    /**
+     * 토큰이 폐기되었는지 확인합니다.
+     *
+     * @param tokenId 토큰의 id
+     * @return 폐기 여부
+     */
+    public boolean isRevoked(long tokenId) {
+        return Arrays.binarySearch(revoked, tokenId) >= 0;
+    }
+
+    /**
+     * 토큰이 폐기되었거나, 사용자의 토큰이 모두 폐기된 시각 이전에 발급되었는지 확인합니다.
+     *
+     * @param claims 토큰의 내용
+     * @return 폐기 여부
+     */
+    public boolean isRevoked(TokenClaims claims) {
+        if (isRevoked(claims.getTokenId())) {
+            return true;
+        }
+        Map<Long, Long> watermarks = revokedBefore;
+        if (watermarks.isEmpty()) {
+            return false;
+        }
+        Long watermark = watermarks.get(subjectKey(claims.getSubject(), claims.getSubjectId()));
+        return watermark != null && claims.getIssuedAt() <= watermark;
+    }
+
+    /**
+     * 사용자에게 지금까지 발급된 토큰을 모두 폐기하고 모든 서버에 알립니다.
+     * 로그아웃, 비밀번호 변경, 탈퇴시 사용하며 이후에 발급된 토큰은 영향을 받지 않습니다.
+     *
+     * @param subject   사용자의 종류
+     * @param subjectId 사용자의 id
+     */
+    public void revokeSubject(TokenSubject subject, int subjectId) {
+        long now = clock.millis();
+        String member = subject.name() + ":" + subjectId;
+        stringRedisTemplate.opsForZSet().add(REVOKED_SUBJECT_KEY, member, now);
+        markSubjectRevoked(subject, subjectId, now);
+        stringRedisTemplate.convertAndSend(SUBJECT_REVOCATION_CHANNEL, member + ":" + now);
+    }
+
+    /**
+     * 아직 폐기되지 않은 토큰이라면 폐기하고 모든 서버에 알립니다.
+     * redis에 ZADD NX로 추가하므로 같은 토큰을 동시에 사용하더라도 한 요청만 성공합니다.
+     *
+     * @param claims 사용할 토큰의 내용
+     * @return 이번 요청이 토큰을 폐기했다면 true, 이미 폐기된 토큰이라면 false
+     */
+    public boolean claim(TokenClaims claims) {
+        if (isRevoked(claims)) {
+            return false;
+        }
+        String tokenId = Long.toString(claims.getTokenId());
+        Boolean added = stringRedisTemplate.opsForZSet().addIfAbsent(REVOKED_KEY, tokenId, claims.getExpiresAt());
+        markRevoked(claims.getTokenId());
+        if (!Boolean.TRUE.equals(added)) {
+            return false;
+        }
+        stringRedisTemplate.convertAndSend(REVOCATION_CHANNEL, tokenId);
+        return true;
+    }
+
+    /**
+     * 이 서버의 목록에 폐기된 토큰을 추가합니다.
+     *
+     * @param tokenId 토큰의 id
+     */
+    public synchronized void markRevoked(long tokenId) {
+        revoked = insert(revoked, tokenId);
+        revokedDuringSync = insert(revokedDuringSync, tokenId);
+    }
+
+    /**
+     * 이 서버의 목록에 사용자의 토큰을 모두 폐기한 시각을 추가합니다. 더 늦은 시각만 반영합니다.
+     *
+     * @param subject   사용자의 종류
+     * @param subjectId 사용자의 id
+     * @param before    이 시각(epoch millisecond)까지 발급된 토큰을 폐기합니다.
+     */
+    public synchronized void markSubjectRevoked(TokenSubject subject, int subjectId, long before) {
+        long key = subjectKey(subject, subjectId);
+        Map<Long, Long> watermarks = new HashMap<>(revokedBefore);
+        watermarks.merge(key, before, Math::max);
+        revokedBefore = watermarks;
+        revokedBeforeDuringSync.merge(key, before, Math::max);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            if (SUBJECT_REVOCATION_CHANNEL.equals(channel)) {
+                String[] values = body.split(":");
+                markSubjectRevoked(TokenSubject.valueOf(values[0]), Integer.parseInt(values[1]), Long.parseLong(values[2]));
+            } else {
+                markRevoked(Long.parseLong(body));
+            }
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            log.warn("invalid token revocation message: {}", body, e);
+        }
+    }
+
+    /**
+     * 만료된 토큰과 오래된 기준 시각을 redis에서 제거하고, 남은 목록으로 이 서버의 목록을 교체합니다.
+     * 동기화 도중 이 서버에 추가된 토큰과 기준 시각은 교체된 목록에도 유지합니다.
+     */
+    @Scheduled(fixedDelayString = "${soccerfriend.token.revocation-sync-interval:10000}")
+    public void sync() {
+        synchronized (this) {
+            revokedDuringSync = new long[0];
+            revokedBeforeDuringSync = new HashMap<>();
+        }
+
+        long now = clock.instant().getEpochSecond();
+        stringRedisTemplate.opsForZSet().removeRangeByScore(REVOKED_KEY, Double.NEGATIVE_INFINITY, now);
+        Set<String> tokenIds = stringRedisTemplate.opsForZSet().rangeByScore(REVOKED_KEY, now, Double.POSITIVE_INFINITY);
+        long[] synced = tokenIds == null ? new long[0] : tokenIds.stream().mapToLong(Long::parseLong).sorted().distinct().toArray();
+
+        long oldest = clock.millis() - maxTokenTtl.toMillis();
+        stringRedisTemplate.opsForZSet().removeRangeByScore(REVOKED_SUBJECT_KEY, Double.NEGATIVE_INFINITY, oldest);
+        Set<TypedTuple<String>> subjects =
+                stringRedisTemplate.opsForZSet().rangeByScoreWithScores(REVOKED_SUBJECT_KEY, oldest, Double.POSITIVE_INFINITY);
+        Map<Long, Long> syncedWatermarks = new HashMap<>();
+        if (subjects != null) {
+            for (TypedTuple<String> subject : subjects) {
+                String[] values = subject.getValue().split(":");
+                syncedWatermarks.put(subjectKey(TokenSubject.valueOf(values[0]), Integer.parseInt(values[1])),
+                        subject.getScore().longValue());
+            }
+        }
+
+        synchronized (this) {
+            for (long tokenId : revokedDuringSync) {
+                synced = insert(synced, tokenId);
+            }
+            revoked = synced;
+            revokedBeforeDuringSync.forEach((key, before) -> syncedWatermarks.merge(key, before, Math::max));
+            revokedBefore = syncedWatermarks;
+        }
+    }
+
+    private static long subjectKey(TokenSubject subject, int subjectId) {
+        return ((long) subject.ordinal() << Integer.SIZE) | (subjectId & 0xffffffffL);
+    }
+
+    private static long[] insert(long[] sorted, long tokenId) {
+        int index = Arrays.binarySearch(sorted, tokenId);
+        if (index >= 0) {
+            return sorted;
+        }
+        int insertion = -index - 1;
+        long[] inserted = new long[sorted.length + 1];
+        System.arraycopy(sorted, 0, inserted, 0, insertion);
+        inserted[insertion] = tokenId;
+        System.arraycopy(sorted, insertion, inserted, insertion + 1, sorted.length - insertion);
+        return inserted;
+    }
+}
@@ -0,0 +1,20 @@
+package soccerfriend.token;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 서명이 확인된 토큰의 내용입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class TokenClaims {
+
+    private TokenType type;
+    private TokenSubject subject;
+    private int subjectId;
+    private long tokenId;
+    // 발급시각(epoch millisecond)
+    private long issuedAt;
+    private long expiresAt;
+}
@@ -0,0 +1,136 @@
+package soccerfriend.token;
+
+import soccerfriend.exception.exception.NoPermissionException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static soccerfriend.exception.ExceptionInfo.TOKEN_EXPIRED;
+import static soccerfriend.exception.ExceptionInfo.TOKEN_INVALID;
+
+/**
+ * HMAC-SHA256으로 서명한 토큰을 발급하고 검증합니다.
+ * 토큰은 고정 길이 payload(version, type, subject, subjectId, tokenId, issuedAt, expiresAt)와 서명을 각각 base64url로 인코딩하여 '.'으로 이은 문자열입니다.
+ * issuedAt이 없는 version 1 토큰은 만료시간에서 유효기간을 빼서 발급시각을 계산합니다.
+ * 검증은 서버 메모리에서만 이루어지며 redis나 DB를 조회하지 않습니다.
+ */
+public class TokenSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final byte VERSION = 2;
+    private static final byte LEGACY_VERSION = 1;
+    private static final int PAYLOAD_LENGTH = 1 + 1 + 1 + Integer.BYTES + Long.BYTES + Long.BYTES + Long.BYTES;
+    private static final int LEGACY_PAYLOAD_LENGTH = PAYLOAD_LENGTH - Long.BYTES;
+    private static final int MINIMUM_SECRET_LENGTH = 32;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final ThreadLocal<Mac> mac;
+    private final Duration accessTokenTtl;
+    private final Duration refreshTokenTtl;
+    private final Clock clock;
+
+    public TokenSigner(String secret, Duration accessTokenTtl, Duration refreshTokenTtl, Clock clock) {
+        byte[] key = secret.getBytes(StandardCharsets.UTF_8);
+        if (key.length < MINIMUM_SECRET_LENGTH) {
+            throw new IllegalStateException("soccerfriend.token.secret must be at least " + MINIMUM_SECRET_LENGTH + " bytes");
+        }
+        SecretKeySpec keySpec = new SecretKeySpec(key, ALGORITHM);
+        this.mac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac instance = Mac.getInstance(ALGORITHM);
+                instance.init(keySpec);
+                return instance;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        this.accessTokenTtl = accessTokenTtl;
+        this.refreshTokenTtl = refreshTokenTtl;
+        this.clock = clock;
+    }
+
+    /**
+     * 새로운 토큰을 발급합니다.
+     *
+     * @param type      토큰의 용도
+     * @param subject   사용자의 종류
+     * @param subjectId 사용자의 id
+     * @return 서명된 토큰
+     */
+    public String sign(TokenType type, TokenSubject subject, int subjectId) {
+        Instant now = clock.instant();
+        byte[] payload = ByteBuffer.allocate(PAYLOAD_LENGTH)
+                                   .put(VERSION)
+                                   .put((byte) type.ordinal())
+                                   .put((byte) subject.ordinal())
+                                   .putInt(subjectId)
+                                   .putLong(ThreadLocalRandom.current().nextLong())
+                                   .putLong(now.toEpochMilli())
+                                   .putLong(now.plus(getTtl(type)).getEpochSecond())
+                                   .array();
+        return ENCODER.encodeToString(payload) + "." + ENCODER.encodeToString(mac.get().doFinal(payload));
+    }
+
+    /**
+     * 토큰의 서명과 만료시간을 확인하고 내용을 반환합니다.
+     *
+     * @param token 서명된 토큰
+     * @return 토큰의 내용
+     */
+    public TokenClaims verify(String token) {
+        int separator = token.indexOf('.');
+        if (separator < 0) {
+            throw new NoPermissionException(TOKEN_INVALID);
+        }
+
+        byte[] payload;
+        byte[] signature;
+        try {
+            payload = DECODER.decode(token.substring(0, separator));
+            signature = DECODER.decode(token.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            throw new NoPermissionException(TOKEN_INVALID);
+        }
+        boolean legacy = payload.length == LEGACY_PAYLOAD_LENGTH && payload[0] == LEGACY_VERSION;
+        if (!legacy && (payload.length != PAYLOAD_LENGTH || payload[0] != VERSION)
+                || !MessageDigest.isEqual(mac.get().doFinal(payload), signature)) {
+            throw new NoPermissionException(TOKEN_INVALID);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(payload, 1, payload.length - 1);
+        TokenType type = TokenType.values()[buffer.get()];
+        TokenSubject subject = TokenSubject.values()[buffer.get()];
+        int subjectId = buffer.getInt();
+        long tokenId = buffer.getLong();
+        long issuedAt = legacy ? 0 : buffer.getLong();
+        long expiresAt = buffer.getLong();
+        if (legacy) {
+            issuedAt = (expiresAt - getTtl(type).getSeconds()) * 1000;
+        }
+        TokenClaims claims = new TokenClaims(type, subject, subjectId, tokenId, issuedAt, expiresAt);
+        if (claims.getExpiresAt() <= clock.instant().getEpochSecond()) {
+            throw new NoPermissionException(TOKEN_EXPIRED);
+        }
+        return claims;
+    }
+
+    /**
+     * 토큰 용도별 유효기간을 반환합니다.
+     *
+     * @param type 토큰의 용도
+     * @return 유효기간
+     */
+    public Duration getTtl(TokenType type) {
+        return type == TokenType.ACCESS ? accessTokenTtl : refreshTokenTtl;
+    }
+}
@@ -0,0 +1,9 @@
+package soccerfriend.token;
+
+/**
+ * 토큰을 발급받은 사용자의 종류입니다.
+ */
+public enum TokenSubject {
+    MEMBER,
+    STADIUM_OWNER
+}
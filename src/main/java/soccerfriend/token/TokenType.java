@@ -0,0 +1,9 @@
+package soccerfriend.token;
+
+/**
+ * 토큰의 용도입니다. access 토큰은 요청 인증에, refresh 토큰은 토큰 재발급에만 사용합니다.
+ */
+public enum TokenType {
+    ACCESS,
+    REFRESH
+}
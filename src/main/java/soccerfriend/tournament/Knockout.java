@@ -0,0 +1,103 @@
+package soccerfriend.tournament;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 진 club이 탈락하는 토너먼트의 대진을 만듭니다.
+ * <p>
+ * club 수를 넘는 가장 작은 2의 거듭제곱을 대진표 크기로 하고, 표준 시드 배치(1번과 2번 시드가 결승에서 만나도록)를 사용합니다.
+ * 대진표 크기보다 club이 적으면 상위 시드가 1라운드를 부전승으로 통과하며, 부전승 경기는 만들지 않고 2라운드 자리에 바로 배정합니다.
+ * 라운드 r의 position p 경기의 승자는 라운드 r+1의 position p/2 경기에 p가 짝수라면 홈, 홀수라면 원정으로 진출합니다.
+ */
+public class Knockout {
+
+    private Knockout() {
+    }
+
+    /**
+     * 토너먼트의 모든 라운드 대진을 반환합니다. 2라운드 이후의 club은 부전승으로 정해진 경우에만 채워집니다.
+     *
+     * @param seededClubIds 시드 순서대로 정렬된 club의 id들
+     * @return 라운드별 대진
+     */
+    public static List<List<Pairing>> rounds(List<Integer> seededClubIds) {
+        int bracketSize = Integer.highestOneBit(seededClubIds.size() - 1) << 1;
+        int[] seeds = seedOrder(bracketSize);
+
+        List<List<Pairing>> rounds = new ArrayList<>();
+        Integer[][] slots = new Integer[bracketSize / 2][2];
+        List<Pairing> firstRound = new ArrayList<>();
+        for (int position = 0; position < bracketSize / 2; position++) {
+            Integer home = clubOfSeed(seededClubIds, seeds[position * 2]);
+            Integer away = clubOfSeed(seededClubIds, seeds[position * 2 + 1]);
+            if (home != null && away != null) {
+                firstRound.add(new Pairing(1, position, home, away));
+            }
+            slots[position][0] = home;
+            slots[position][1] = away;
+        }
+        rounds.add(firstRound);
+
+        int round = 2;
+        for (int size = bracketSize / 4; size >= 1; size /= 2, round++) {
+            List<Pairing> pairings = new ArrayList<>(size);
+            for (int position = 0; position < size; position++) {
+                Integer home = round == 2 ? byeWinner(slots[position * 2]) : null;
+                Integer away = round == 2 ? byeWinner(slots[position * 2 + 1]) : null;
+                pairings.add(new Pairing(round, position, home, away));
+            }
+            rounds.add(pairings);
+        }
+        return rounds;
+    }
+
+    /**
+     * 경기의 승자가 진출할 다음 라운드 경기의 position을 반환합니다.
+     *
+     * @param position 경기의 position
+     * @return 다음 라운드 경기의 position
+     */
+    public static int nextPosition(int position) {
+        return position / 2;
+    }
+
+    /**
+     * 경기의 승자가 다음 라운드 경기의 홈 자리로 진출하는지 여부를 반환합니다.
+     *
+     * @param position 경기의 position
+     * @return 홈 자리라면 true, 원정 자리라면 false
+     */
+    public static boolean advancesAsHome(int position) {
+        return position % 2 == 0;
+    }
+
+    /**
+     * 대진표의 자리마다 들어갈 시드 번호(1부터 시작)를 반환합니다.
+     * 크기를 두 배로 늘릴 때마다 시드 s의 옆에 새 크기 + 1 - s 시드를 배치합니다.
+     */
+    static int[] seedOrder(int bracketSize) {
+        int[] seeds = {1};
+        while (seeds.length < bracketSize) {
+            int size = seeds.length * 2;
+            int[] next = new int[size];
+            for (int i = 0; i < seeds.length; i++) {
+                next[i * 2] = seeds[i];
+                next[i * 2 + 1] = size + 1 - seeds[i];
+            }
+            seeds = next;
+        }
+        return seeds;
+    }
+
+    private static Integer clubOfSeed(List<Integer> seededClubIds, int seed) {
+        return seed <= seededClubIds.size() ? seededClubIds.get(seed - 1) : null;
+    }
+
+    private static Integer byeWinner(Integer[] firstRoundSlot) {
+        if (firstRoundSlot[0] != null && firstRoundSlot[1] != null) {
+            return null;
+        }
+        return firstRoundSlot[0] != null ? firstRoundSlot[0] : firstRoundSlot[1];
+    }
+}
@@ -0,0 +1,21 @@
+package soccerfriend.tournament;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 대회의 한 경기에 대한 대진입니다. round와 position은 1과 0부터 시작합니다.
+ * 토너먼트의 2라운드 이후 경기처럼 아직 club이 정해지지 않았다면 homeClubId, awayClubId는 null입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class Pairing {
+
+    private final int round;
+
+    private final int position;
+
+    private final Integer homeClubId;
+
+    private final Integer awayClubId;
+}
@@ -0,0 +1,44 @@
+package soccerfriend.tournament;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 모든 club이 서로 한 번씩 경기하는 리그의 대진을 circle method로 만듭니다.
+ * club 하나를 고정하고 나머지를 한 칸씩 회전시키면 n개 club(홀수라면 부전승 자리를 더한 n+1개)은 n-1라운드 동안
+ * 라운드마다 한 경기씩 모든 상대와 만납니다. 홈과 원정은 라운드마다 번갈아 정하여 club마다 거의 같은 수가 되게 합니다.
+ */
+public class RoundRobin {
+
+    private RoundRobin() {
+    }
+
+    /**
+     * 리그의 대진을 라운드 순서대로 반환합니다. 부전승인 club의 경기는 만들지 않습니다.
+     *
+     * @param clubIds 참가하는 club의 id들
+     * @return 라운드별 대진
+     */
+    public static List<List<Pairing>> rounds(List<Integer> clubIds) {
+        int size = clubIds.size() % 2 == 0 ? clubIds.size() : clubIds.size() + 1;
+        int rotating = size - 1;
+        List<List<Pairing>> rounds = new ArrayList<>(rotating);
+
+        for (int round = 0; round < rotating; round++) {
+            List<Pairing> pairings = new ArrayList<>(size / 2);
+            for (int i = 0; i < size / 2; i++) {
+                int first = i == 0 ? 0 : (i - 1 + round) % rotating + 1;
+                int second = (size - 2 - i + round) % rotating + 1;
+                if (first >= clubIds.size() || second >= clubIds.size()) {
+                    continue;
+                }
+                boolean swap = i == 0 ? round % 2 == 1 : (round + i) % 2 == 1;
+                Integer home = clubIds.get(swap ? second : first);
+                Integer away = clubIds.get(swap ? first : second);
+                pairings.add(new Pairing(round + 1, pairings.size(), home, away));
+            }
+            rounds.add(pairings);
+        }
+        return rounds;
+    }
+}
@@ -0,0 +1,123 @@
+package soccerfriend.tournament;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * 대진을 경기장 slot에 배정합니다.
+ * <p>
+ * 라운드 순서대로 경기마다 조건을 만족하는 가장 이른 빈 slot을 고릅니다(greedy earliest fit).
+ * 조건은 두 club 모두 직전 경기가 끝나고 최소 휴식시간이 지났을 것과, 라운드를 차례로 진행해야 한다면 이전 라운드의
+ * 모든 경기가 끝난 뒤일 것입니다. 시작시각의 하한은 정렬된 시작시각 배열에서 이분탐색으로 찾고, 이미 사용한 slot은
+ * "다음 빈 slot" union-find로 건너뛰므로 경기 F개, slot S개를 O(S log S + F log S)에 배정합니다.
+ */
+public class SlotScheduler {
+
+    private final List<StadiumSlot> slots;
+    private final long[] startTimes;
+    private final int[] nextFree;
+
+    /**
+     * @param slots 사용할 수 있는 slot들
+     */
+    public SlotScheduler(Collection<StadiumSlot> slots) {
+        this.slots = new ArrayList<>(slots);
+        this.slots.sort(Comparator.comparing(StadiumSlot::getStartTime).thenComparingInt(StadiumSlot::getStadiumId));
+        this.startTimes = new long[this.slots.size()];
+        for (int i = 0; i < startTimes.length; i++) {
+            startTimes[i] = epochSecond(this.slots.get(i).getStartTime());
+        }
+        this.nextFree = new int[this.slots.size() + 1];
+        for (int i = 0; i < nextFree.length; i++) {
+            nextFree[i] = i;
+        }
+    }
+
+    /**
+     * 모든 대진을 slot에 배정합니다.
+     *
+     * @param rounds           라운드별 대진
+     * @param rest             같은 club의 경기 사이 최소 휴식시간
+     * @param sequentialRounds 이전 라운드의 모든 경기가 끝난 뒤에 다음 라운드를 시작해야 하는지 여부
+     * @return 대진과 같은 순서로 배정된 slot들, slot이 부족하다면 null
+     */
+    public List<List<StadiumSlot>> schedule(List<List<Pairing>> rounds, Duration rest, boolean sequentialRounds) {
+        long restSeconds = rest.getSeconds();
+        Map<Integer, Long> availableAt = new HashMap<>();
+        long roundStart = Long.MIN_VALUE;
+
+        List<List<StadiumSlot>> scheduled = new ArrayList<>(rounds.size());
+        for (List<Pairing> round : rounds) {
+            List<StadiumSlot> roundSlots = new ArrayList<>(round.size());
+            long roundEnd = roundStart;
+            for (Pairing pairing : round) {
+                long earliest = Math.max(roundStart, Math.max(availableAt(availableAt, pairing.getHomeClubId()),
+                        availableAt(availableAt, pairing.getAwayClubId())));
+                int index = find(lowerBound(earliest));
+                if (index == slots.size()) {
+                    return null;
+                }
+                nextFree[index] = index + 1;
+
+                StadiumSlot slot = slots.get(index);
+                long end = epochSecond(slot.getEndTime());
+                if (pairing.getHomeClubId() != null) {
+                    availableAt.put(pairing.getHomeClubId(), end + restSeconds);
+                }
+                if (pairing.getAwayClubId() != null) {
+                    availableAt.put(pairing.getAwayClubId(), end + restSeconds);
+                }
+                roundEnd = Math.max(roundEnd, end + restSeconds);
+                roundSlots.add(slot);
+            }
+            if (sequentialRounds) {
+                roundStart = roundEnd;
+            }
+            scheduled.add(roundSlots);
+        }
+        return scheduled;
+    }
+
+    private static long availableAt(Map<Integer, Long> availableAt, Integer clubId) {
+        return clubId == null ? Long.MIN_VALUE : availableAt.getOrDefault(clubId, Long.MIN_VALUE);
+    }
+
+    /**
+     * 시작시각이 time 이상인 첫 slot의 index를 반환합니다.
+     */
+    private int lowerBound(long time) {
+        int low = 0;
+        int high = startTimes.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (startTimes[mid] < time) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * index 이후의 첫 빈 slot을 찾고 경로를 압축합니다. 빈 slot이 없다면 slot 수를 반환합니다.
+     */
+    private int find(int index) {
+        int root = index;
+        while (nextFree[root] != root) {
+            root = nextFree[root];
+        }
+        while (nextFree[index] != root) {
+            int next = nextFree[index];
+            nextFree[index] = root;
+            index = next;
+        }
+        return root;
+    }
+
+    private static long epochSecond(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,61 @@
+package soccerfriend.tournament;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 경기장 하나를 경기 하나에 사용할 수 있는 시간입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class StadiumSlot {
+
+    private final int stadiumId;
+
+    private final LocalDateTime startTime;
+
+    private final LocalDateTime endTime;
+
+    /**
+     * 다른 slot과 같은 경기장에서 시간이 겹치는지 확인합니다.
+     *
+     * @param other 다른 slot
+     * @return 겹치는지 여부
+     */
+    public boolean overlaps(StadiumSlot other) {
+        return stadiumId == other.stadiumId
+                && startTime.isBefore(other.endTime)
+                && other.startTime.isBefore(endTime);
+    }
+
+    /**
+     * 기간 동안 경기장마다 매일 같은 시각에 시작하는 slot들을 만듭니다.
+     *
+     * @param stadiumIds   경기장의 id들
+     * @param startDate    첫날
+     * @param endDate      마지막 날
+     * @param startTimes   하루 중 경기를 시작하는 시각들
+     * @param matchMinutes 경기 하나의 길이(분)
+     * @return slot들
+     */
+    public static List<StadiumSlot> daily(Collection<Integer> stadiumIds, LocalDate startDate, LocalDate endDate,
+                                          Collection<LocalTime> startTimes, int matchMinutes) {
+        List<StadiumSlot> slots = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            for (LocalTime time : startTimes) {
+                LocalDateTime startTime = date.atTime(time);
+                for (int stadiumId : stadiumIds) {
+                    slots.add(new StadiumSlot(stadiumId, startTime, startTime.plusMinutes(matchMinutes)));
+                }
+            }
+        }
+        return slots;
+    }
+}
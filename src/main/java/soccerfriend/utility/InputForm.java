@@ -4,9 +4,14 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 
+import soccerfriend.dto.Tournament;
+
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Size;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
 
 public class InputForm {
     /**
@@ -60,6 +65,8 @@ public class InputForm {
         int priceDay;
         int priceNight;
         int priceWeekend;
+        Double latitude;
+        Double longitude;
     }
 
     /**
@@ -76,4 +83,38 @@ public class InputForm {
         int setTime;
         int stadiumId;
     }
+
+    /**
+     * 대회를 만들기 위해 입력해야 하는 값들
+     * clubIds는 시드 순서이며, 경기는 기간 동안 매일 startTimes에 각 경기장에서 시작하는 slot에 배정됩니다.
+     */
+    @Getter
+    @NoArgsConstructor
+    public static class CreateTournamentRequest {
+        @NotNull
+        @Size(min = 1, max = 30)
+        String name;
+        @NotNull
+        Tournament.Type type;
+        int hostClubId;
+        @NotNull
+        @Size(min = 2, max = 128)
+        List<Integer> clubIds;
+        int numSet;
+        int timeSet;
+        @NotNull
+        @Size(min = 1)
+        List<Integer> stadiumIds;
+        @NotNull
+        @DateTimeFormat(pattern = "yyyy-MM-dd")
+        LocalDate startDate;
+        @NotNull
+        @DateTimeFormat(pattern = "yyyy-MM-dd")
+        LocalDate endDate;
+        @NotNull
+        @Size(min = 1)
+        List<LocalTime> startTimes;
+        int matchMinutes;
+        int minRestHours;
+    }
 }
@@ -0,0 +1,45 @@
+CREATE TABLE stadium_revenue_hourly
+(
+    stadium_id INT         NOT NULL,
+    hour       DATETIME    NOT NULL,
+    price_band VARCHAR(10) NOT NULL,
+    bookings   INT         NOT NULL DEFAULT 0,
+    minutes    INT         NOT NULL DEFAULT 0,
+    revenue    BIGINT      NOT NULL DEFAULT 0,
+    updated_at DATETIME    NOT NULL,
+    -- StadiumRevenueMapper.increaseHourly: upsert per (stadium, hour, price band); getHourlyRevenues
+    PRIMARY KEY (stadium_id, hour, price_band),
+    -- StadiumRevenueMapper.deleteHourlyBefore
+    KEY idx_stadium_revenue_hourly_hour (hour)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE stadium_revenue_daily
+(
+    stadium_id INT         NOT NULL,
+    day        DATE        NOT NULL,
+    price_band VARCHAR(10) NOT NULL,
+    bookings   INT         NOT NULL DEFAULT 0,
+    minutes    INT         NOT NULL DEFAULT 0,
+    revenue    BIGINT      NOT NULL DEFAULT 0,
+    updated_at DATETIME    NOT NULL,
+    -- StadiumRevenueMapper.increaseDaily: upsert per (stadium, day, price band); getDailyRevenues, getMonthlyRevenues
+    PRIMARY KEY (stadium_id, day, price_band),
+    -- StadiumRevenueMapper.compactDailyBefore, deleteDailyBefore
+    KEY idx_stadium_revenue_daily_day (day)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE stadium_revenue_monthly
+(
+    stadium_id INT         NOT NULL,
+    month      DATE        NOT NULL,
+    price_band VARCHAR(10) NOT NULL,
+    bookings   INT         NOT NULL DEFAULT 0,
+    minutes    INT         NOT NULL DEFAULT 0,
+    revenue    BIGINT      NOT NULL DEFAULT 0,
+    updated_at DATETIME    NOT NULL,
+    -- StadiumRevenueMapper.compactDailyBefore: upsert per (stadium, month, price band); getMonthlyRevenues
+    PRIMARY KEY (stadium_id, month, price_band)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,8 @@
+ALTER TABLE stadium
+    ADD COLUMN latitude  DOUBLE NULL AFTER price_weekend,
+    ADD COLUMN longitude DOUBLE NULL AFTER latitude;
+
+-- town centroid, loaded together with the address data
+ALTER TABLE address
+    ADD COLUMN latitude  DOUBLE NULL AFTER town,
+    ADD COLUMN longitude DOUBLE NULL AFTER latitude;
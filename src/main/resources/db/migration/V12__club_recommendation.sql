@@ -0,0 +1,3 @@
+-- ClubRecommendationMapper.getCandidatesByAddressId, getAddressIdsOfClubs (covering)
+ALTER TABLE club
+    ADD KEY idx_club_address_id (address_id);
@@ -0,0 +1,7 @@
+-- INVITING until every invited club accepts; tournaments created before invitations are already SCHEDULED
+ALTER TABLE tournament
+    ADD COLUMN status VARCHAR(10) NOT NULL DEFAULT 'SCHEDULED' AFTER time_set;
+
+-- TournamentMapper.acceptClub, countNotAcceptedClubs (primary key prefix)
+ALTER TABLE tournament_club
+    ADD COLUMN accepted TINYINT(1) NOT NULL DEFAULT 1 AFTER seed;
@@ -0,0 +1,3 @@
+-- OutboxMapper.getPendingEvents: NOT EXISTS on an earlier unpublished event of the same aggregate waiting for retry
+ALTER TABLE outbox_event
+    ADD KEY idx_outbox_event_aggregate (aggregate_type, aggregate_id, published_at, id);
@@ -0,0 +1,60 @@
+-- 각 index 위의 주석은 해당 index를 사용하는 mapper statement입니다.
+
+-- AddressMapper.getAddressByCity (covering)
+ALTER TABLE address
+    ADD KEY idx_address_city (city, town);
+
+-- MemberMapper.isMemberIdExist (covering), getMemberByMemberId
+ALTER TABLE member
+    ADD KEY idx_member_member_id_deleted (member_id, deleted),
+    -- MemberMapper.isNicknameExist (covering)
+    ADD KEY idx_member_nickname_deleted (nickname, deleted),
+    -- MemberMapper.isEmailExist (covering), getMemberByEmail
+    ADD KEY idx_member_email_deleted (email, deleted),
+    -- MemberMapper.deletePermanentlyDaysBefore
+    ADD KEY idx_member_deleted_updated_at (deleted, updated_at);
+
+-- StadiumMapper.getStadiumByStadiumOwnerId
+ALTER TABLE stadium
+    ADD KEY idx_stadium_stadium_owner_id (stadium_owner_id);
+
+-- ClubMapper.isNameExist (covering), getClubByName
+ALTER TABLE club
+    ADD KEY idx_club_name (name);
+
+-- ClubMemberMapper.isClubLeader, isClubStaffOrLeader, isClubMember, bulletinReadable, isApplied (covering),
+-- getClubMemberByClubIdAndMemberId, delete
+ALTER TABLE club_member
+    ADD KEY idx_club_member_club_id_member_id (club_id, member_id, grade, approved),
+    -- ClubMemberMapper.getClubMembers, getNotApprovedClubMembers, getPaidClubMembers, getNotPaidClubMembers
+    ADD KEY idx_club_member_club_id_approved (club_id, approved),
+    -- ClubMemberMapper.getClubIdOfMember (covering)
+    ADD KEY idx_club_member_member_id (member_id, club_id);
+
+-- ClubMonthlyFeeMapper.isClubMonthlyFeeExist (covering)
+ALTER TABLE club_monthly_fee
+    ADD KEY idx_club_monthly_fee_club_id_club_member_id (club_id, club_member_id, year, month),
+    -- ClubMemberMapper.getPaidClubMembers, getNotPaidClubMembers (join on club_member_id)
+    ADD KEY idx_club_monthly_fee_club_member_id (club_member_id, year, month);
+
+-- SoccerMatchRecruitmentMapper.getSoccerMatchRecruitmentByClubId, SoccerMatchMapper.getSoccerMatchByClubId
+ALTER TABLE soccer_match_recruitment
+    ADD KEY idx_soccer_match_recruitment_host_club_id (host_club_id),
+    -- SoccerMatchMapper.getSoccerMatchByClubId
+    ADD KEY idx_soccer_match_recruitment_participation_club_id (participation_club_id);
+
+-- SoccerMatchMemberMapper.getApprovedSoccerMatchMember, getNotApprovedSoccerMatchMember
+ALTER TABLE soccer_match_member
+    ADD KEY idx_soccer_match_member_soccer_match_id_club_id (soccer_match_id, club_id, approved),
+    -- SoccerMatchMemberMapper.isSoccerMatchMemberExist (covering)
+    ADD KEY idx_soccer_match_member_soccer_match_id_member_id (soccer_match_id, member_id),
+    -- GoalMapper.getGoalByMemberId (join from member_id)
+    ADD KEY idx_soccer_match_member_member_id (member_id);
+
+-- GoalMapper.getGoalByMemberId
+ALTER TABLE goal
+    ADD KEY idx_goal_soccer_match_member_id (soccer_match_member_id);
+
+-- BulletinMapper.isNameExist (covering), getBulletinsByClubId
+ALTER TABLE bulletin
+    ADD KEY idx_bulletin_club_id_deleted_name (club_id, deleted, name);
@@ -0,0 +1,201 @@
+CREATE TABLE address
+(
+    id   INT AUTO_INCREMENT PRIMARY KEY,
+    city VARCHAR(20) NOT NULL,
+    town VARCHAR(20) NOT NULL
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE positions
+(
+    id        INT AUTO_INCREMENT PRIMARY KEY,
+    formation VARCHAR(20) NOT NULL,
+    detail    VARCHAR(20) NOT NULL
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE member
+(
+    id               INT AUTO_INCREMENT PRIMARY KEY,
+    member_id        VARCHAR(18)  NOT NULL,
+    password         VARCHAR(100) NOT NULL,
+    email            VARCHAR(100) NOT NULL,
+    nickname         VARCHAR(8)   NOT NULL,
+    point            INT          NOT NULL DEFAULT 0,
+    positions_id     INT,
+    address_id       INT,
+    email_approved   TINYINT(1)   NOT NULL DEFAULT 0,
+    deleted          TINYINT(1)   NOT NULL DEFAULT 0,
+    password_warning INT          NOT NULL DEFAULT 0,
+    created_at       DATETIME     NOT NULL,
+    updated_at       DATETIME     NOT NULL
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE stadium_owner
+(
+    id               INT AUTO_INCREMENT PRIMARY KEY,
+    stadium_owner_id VARCHAR(18)  NOT NULL,
+    password         VARCHAR(100) NOT NULL,
+    representative   VARCHAR(20),
+    company_name     VARCHAR(50),
+    address          VARCHAR(100),
+    taxpayer_id      VARCHAR(20),
+    account_bank_id  INT,
+    account_number   VARCHAR(30),
+    point            INT          NOT NULL DEFAULT 0,
+    created_at       DATETIME     NOT NULL,
+    updated_at       DATETIME     NOT NULL,
+    -- StadiumOwnerMapper.isStadiumOwnerIdExist (covering), getStadiumOwnerByStadiumOwnerId
+    UNIQUE KEY uk_stadium_owner_stadium_owner_id (stadium_owner_id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE stadium
+(
+    id               INT AUTO_INCREMENT PRIMARY KEY,
+    name             VARCHAR(50) NOT NULL,
+    stadium_owner_id INT         NOT NULL,
+    address          VARCHAR(100),
+    phone_number     VARCHAR(20),
+    price_day        INT         NOT NULL DEFAULT 0,
+    price_night      INT         NOT NULL DEFAULT 0,
+    price_weekend    INT         NOT NULL DEFAULT 0,
+    created_at       DATETIME    NOT NULL,
+    updated_at       DATETIME    NOT NULL
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE club
+(
+    id           INT AUTO_INCREMENT PRIMARY KEY,
+    name         VARCHAR(30) NOT NULL,
+    leader       INT         NOT NULL,
+    address_id   INT,
+    point        INT         NOT NULL DEFAULT 0,
+    monthly_fee  INT         NOT NULL DEFAULT 0,
+    payment_day  INT         NOT NULL DEFAULT 1,
+    bulletin_num INT         NOT NULL DEFAULT 0,
+    created_at   DATETIME    NOT NULL,
+    updated_at   DATETIME    NOT NULL
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE club_member
+(
+    id         INT AUTO_INCREMENT PRIMARY KEY,
+    club_id    INT         NOT NULL,
+    member_id  INT         NOT NULL,
+    grade      VARCHAR(10) NOT NULL,
+    approved   TINYINT(1)  NOT NULL DEFAULT 0,
+    created_at DATETIME    NOT NULL,
+    updated_at DATETIME    NOT NULL
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE club_monthly_fee
+(
+    id             INT AUTO_INCREMENT PRIMARY KEY,
+    club_id        INT      NOT NULL,
+    club_member_id INT      NOT NULL,
+    price          INT      NOT NULL,
+    year           INT      NOT NULL,
+    month          INT      NOT NULL,
+    paid_at        DATETIME NOT NULL,
+    created_at     DATETIME NOT NULL,
+    updated_at     DATETIME NOT NULL
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE club_soccer_match_record
+(
+    id         INT AUTO_INCREMENT PRIMARY KEY,
+    club_id    INT      NOT NULL,
+    win        INT      NOT NULL DEFAULT 0,
+    draw       INT      NOT NULL DEFAULT 0,
+    lose       INT      NOT NULL DEFAULT 0,
+    created_at DATETIME NOT NULL,
+    updated_at DATETIME NOT NULL,
+    -- ClubSoccerMatchRecordMapper.increaseWin, increaseDraw, increaseLose, isClubIdExist (covering)
+    UNIQUE KEY uk_club_soccer_match_record_club_id (club_id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE soccer_match_recruitment
+(
+    id                    INT AUTO_INCREMENT PRIMARY KEY,
+    start_time            DATETIME NOT NULL,
+    end_time              DATETIME NOT NULL,
+    num_set               INT      NOT NULL,
+    time_set              INT      NOT NULL,
+    stadium_id            INT      NOT NULL,
+    host_club_id          INT      NOT NULL,
+    participation_club_id INT,
+    created_at            DATETIME NOT NULL,
+    updated_at            DATETIME NOT NULL
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE soccer_match
+(
+    id                          INT AUTO_INCREMENT PRIMARY KEY,
+    host_club_score             INT        NOT NULL DEFAULT 0,
+    participation_club_score    INT        NOT NULL DEFAULT 0,
+    soccer_match_recruitment_id INT        NOT NULL,
+    submitted                   TINYINT(1) NOT NULL DEFAULT 0,
+    created_at                  DATETIME   NOT NULL,
+    updated_at                  DATETIME   NOT NULL,
+    -- SoccerMatchMapper.getSoccerMatchBySoccerMatchRecruitmentId, join from soccer_match_recruitment
+    UNIQUE KEY uk_soccer_match_soccer_match_recruitment_id (soccer_match_recruitment_id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE soccer_match_member
+(
+    id              INT AUTO_INCREMENT PRIMARY KEY,
+    soccer_match_id INT        NOT NULL,
+    member_id       INT        NOT NULL,
+    club_id         INT        NOT NULL,
+    approved        TINYINT(1) NOT NULL DEFAULT 0,
+    created_at      DATETIME   NOT NULL,
+    updated_at      DATETIME   NOT NULL
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE goal
+(
+    id                     INT AUTO_INCREMENT PRIMARY KEY,
+    soccer_match_member_id INT      NOT NULL,
+    num_set                INT      NOT NULL,
+    time_set               INT      NOT NULL,
+    created_at             DATETIME NOT NULL,
+    updated_at             DATETIME NOT NULL
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE bulletin
+(
+    id         INT AUTO_INCREMENT PRIMARY KEY,
+    club_id    INT         NOT NULL,
+    name       VARCHAR(16) NOT NULL,
+    category   VARCHAR(10) NOT NULL,
+    deleted    TINYINT(1)  NOT NULL DEFAULT 0,
+    created_at DATETIME    NOT NULL,
+    updated_at DATETIME    NOT NULL
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE order_info
+(
+    id         INT AUTO_INCREMENT PRIMARY KEY,
+    member_id  INT         NOT NULL,
+    amount     INT         NOT NULL,
+    order_id   VARCHAR(64) NOT NULL,
+    order_name VARCHAR(100),
+    confirmed  TINYINT(1)  NOT NULL DEFAULT 0,
+    created_at DATETIME    NOT NULL,
+    updated_at DATETIME    NOT NULL,
+    -- OrderInfoMapper.isOrderIdExist (covering), getOrderInfoByOrderId
+    UNIQUE KEY uk_order_info_order_id (order_id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
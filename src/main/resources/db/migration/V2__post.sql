@@ -0,0 +1,14 @@
+CREATE TABLE post
+(
+    id          INT AUTO_INCREMENT PRIMARY KEY,
+    bulletin_id INT          NOT NULL,
+    member_id   INT          NOT NULL,
+    title       VARCHAR(50)  NOT NULL,
+    content     TEXT         NOT NULL,
+    views       BIGINT       NOT NULL DEFAULT 0,
+    created_at  DATETIME     NOT NULL,
+    updated_at  DATETIME     NOT NULL,
+    -- PostMapper.getPostsByBulletinId: keyset pagination (bulletin_id = ? AND id < cursor ORDER BY id DESC)
+    KEY idx_post_bulletin_id_id (bulletin_id, id DESC)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
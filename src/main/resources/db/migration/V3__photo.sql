@@ -0,0 +1,14 @@
+CREATE TABLE photo
+(
+    id              INT AUTO_INCREMENT PRIMARY KEY,
+    bulletin_id     INT          NOT NULL,
+    member_id       INT          NOT NULL,
+    storage_key     VARCHAR(100) NOT NULL,
+    content_type    VARCHAR(30)  NOT NULL,
+    size            BIGINT       NOT NULL,
+    thumbnail_ready TINYINT(1)   NOT NULL DEFAULT 0,
+    created_at      DATETIME     NOT NULL,
+    -- PhotoMapper.getPhotosByBulletinId: keyset pagination (bulletin_id = ? AND id < cursor ORDER BY id DESC)
+    KEY idx_photo_bulletin_id_id (bulletin_id, id DESC)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
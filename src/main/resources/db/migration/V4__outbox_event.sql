@@ -0,0 +1,28 @@
+CREATE TABLE outbox_event
+(
+    id              BIGINT AUTO_INCREMENT PRIMARY KEY,
+    partition_no    INT           NOT NULL,
+    aggregate_type  VARCHAR(30)   NOT NULL,
+    aggregate_id    INT           NOT NULL,
+    event_type      VARCHAR(100)  NOT NULL,
+    payload         VARCHAR(4000) NOT NULL,
+    attempts        INT           NOT NULL DEFAULT 0,
+    last_error      VARCHAR(500),
+    next_attempt_at DATETIME,
+    created_at      DATETIME      NOT NULL,
+    published_at    DATETIME,
+    -- OutboxMapper.getPendingPartitions, getPendingEvents (published_at IS NULL AND partition_no = ? ORDER BY id)
+    -- OutboxMapper.deletePublished (published_at < ?)
+    KEY idx_outbox_event_published_at_partition_no (published_at, partition_no, id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+-- OutboxMapper.lockPartition: SELECT ... FOR UPDATE SKIP LOCKED, one relay per partition at a time
+CREATE TABLE outbox_partition
+(
+    partition_no INT PRIMARY KEY
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+INSERT INTO outbox_partition(partition_no)
+VALUES (0), (1), (2), (3), (4), (5), (6), (7), (8), (9), (10), (11), (12), (13), (14), (15);
@@ -0,0 +1,23 @@
+CREATE TABLE notification
+(
+    id         BIGINT AUTO_INCREMENT PRIMARY KEY,
+    member_id  INT         NOT NULL,
+    event_id   BIGINT      NOT NULL,
+    type       VARCHAR(30) NOT NULL,
+    club_id    INT         NOT NULL,
+    target_id  INT         NOT NULL,
+    is_read    TINYINT(1)  NOT NULL DEFAULT 0,
+    created_at DATETIME    NOT NULL,
+    -- NotificationMapper.insertAll: INSERT IGNORE, the same outbox event notifies a member once
+    UNIQUE KEY uk_notification_event_id_member_id (event_id, member_id),
+    -- NotificationMapper.getNotifications: keyset pagination (member_id = ? AND id < cursor ORDER BY id DESC)
+    KEY idx_notification_member_id_id (member_id, id DESC),
+    -- NotificationMapper.getUnreadCount (covering), markAllRead
+    KEY idx_notification_member_id_is_read (member_id, is_read),
+    -- NotificationMapper.getDigestNotifications, deleteCreatedBefore
+    KEY idx_notification_created_at (created_at)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+ALTER TABLE member
+    ADD COLUMN email_digest TINYINT(1) NOT NULL DEFAULT 0 AFTER email_approved;
@@ -0,0 +1,17 @@
+CREATE TABLE goal_stat
+(
+    season       SMALLINT NOT NULL,
+    member_id    INT      NOT NULL,
+    club_id      INT      NOT NULL,
+    address_id   INT      NOT NULL DEFAULT 0,
+    goals        INT      NOT NULL DEFAULT 0,
+    last_goal_id INT      NOT NULL DEFAULT 0,
+    updated_at   DATETIME NOT NULL,
+    -- GoalStatMapper.increase, reconcile: upsert per (season, member, club); getTopScorers
+    PRIMARY KEY (season, member_id, club_id),
+    -- GoalStatMapper.getTopScorersOfClub (covering, ORDER BY goals DESC without filesort)
+    KEY idx_goal_stat_season_club_id_goals (season, club_id, goals, member_id),
+    -- GoalStatMapper.getTopScorersOfRegion (covering)
+    KEY idx_goal_stat_season_address_id (season, address_id, member_id, goals)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
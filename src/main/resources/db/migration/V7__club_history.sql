@@ -0,0 +1,26 @@
+-- one row per club pair, club_id < opponent_club_id; win/lose and goals are from club_id's side
+CREATE TABLE club_head_to_head
+(
+    club_id          INT      NOT NULL,
+    opponent_club_id INT      NOT NULL,
+    win              INT      NOT NULL DEFAULT 0,
+    draw             INT      NOT NULL DEFAULT 0,
+    lose             INT      NOT NULL DEFAULT 0,
+    goals_for        INT      NOT NULL DEFAULT 0,
+    goals_against    INT      NOT NULL DEFAULT 0,
+    updated_at       DATETIME NOT NULL,
+    -- ClubHistoryMapper.getHeadToHead, addHeadToHead, saveHeadToHeads
+    PRIMARY KEY (club_id, opponent_club_id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+-- last results of a club, newest first: W(win), D(draw), L(lose)
+CREATE TABLE club_form
+(
+    club_id    INT         NOT NULL,
+    form       VARCHAR(10) NOT NULL DEFAULT '',
+    updated_at DATETIME    NOT NULL,
+    -- ClubHistoryMapper.getForm, addForm, saveForms
+    PRIMARY KEY (club_id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
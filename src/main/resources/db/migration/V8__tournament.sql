@@ -0,0 +1,61 @@
+CREATE TABLE tournament
+(
+    id             INT AUTO_INCREMENT PRIMARY KEY,
+    name           VARCHAR(30) NOT NULL,
+    type           VARCHAR(10) NOT NULL,
+    host_club_id   INT         NOT NULL,
+    num_set        INT         NOT NULL,
+    time_set       INT         NOT NULL,
+    winner_club_id INT,
+    created_at     DATETIME    NOT NULL,
+    updated_at     DATETIME    NOT NULL
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+-- participating clubs and their standings
+CREATE TABLE tournament_club
+(
+    tournament_id INT      NOT NULL,
+    club_id       INT      NOT NULL,
+    seed          INT      NOT NULL,
+    played        INT      NOT NULL DEFAULT 0,
+    win           INT      NOT NULL DEFAULT 0,
+    draw          INT      NOT NULL DEFAULT 0,
+    lose          INT      NOT NULL DEFAULT 0,
+    goals_for     INT      NOT NULL DEFAULT 0,
+    goals_against INT      NOT NULL DEFAULT 0,
+    points        INT      NOT NULL DEFAULT 0,
+    updated_at    DATETIME NOT NULL,
+    -- TournamentMapper.getStandings, addResult, getSeed
+    PRIMARY KEY (tournament_id, club_id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE tournament_fixture
+(
+    id                          INT AUTO_INCREMENT PRIMARY KEY,
+    tournament_id               INT      NOT NULL,
+    round                       INT      NOT NULL,
+    position                    INT      NOT NULL,
+    home_club_id                INT,
+    away_club_id                INT,
+    stadium_id                  INT      NOT NULL,
+    start_time                  DATETIME NOT NULL,
+    end_time                    DATETIME NOT NULL,
+    soccer_match_recruitment_id INT,
+    soccer_match_id             INT,
+    winner_club_id              INT,
+    created_at                  DATETIME NOT NULL,
+    updated_at                  DATETIME NOT NULL,
+    -- TournamentMapper.getFixtures, getFixtureForUpdate (knockout advancement)
+    UNIQUE KEY uk_tournament_fixture_tournament_id_round_position (tournament_id, round, position),
+    -- TournamentMapper.getFixtureBySoccerMatchId: standings update on submit
+    UNIQUE KEY uk_tournament_fixture_soccer_match_id (soccer_match_id),
+    -- TournamentMapper.getBookedSlots: reserved slots of knockout rounds not created yet
+    KEY idx_tournament_fixture_stadium_id_start_time (stadium_id, start_time)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+-- TournamentMapper.getBookedSlots: recruitments already booked at the stadiums
+ALTER TABLE soccer_match_recruitment
+    ADD KEY idx_soccer_match_recruitment_stadium_id_start_time (stadium_id, start_time);
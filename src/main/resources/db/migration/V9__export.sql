@@ -0,0 +1,3 @@
+-- ClubMonthlyFeeMapper.getDues: one club's ledger in (year, month, id) order without a filesort
+ALTER TABLE club_monthly_fee
+    ADD KEY idx_club_monthly_fee_club_id_year_month (club_id, year, month);
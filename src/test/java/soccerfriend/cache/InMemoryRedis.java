@@ -0,0 +1,48 @@
+package soccerfriend.cache;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 값 연산만 사용하는 cache를 redis 없이 시험하기 위한 map 기반 RedisTemplate입니다. TTL은 무시합니다.
+ */
+public class InMemoryRedis {
+
+    private final Map<String, Object> values = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public RedisTemplate<String, byte[]> byteTemplate() {
+        RedisTemplate<String, byte[]> template = mock(RedisTemplate.class);
+        ValueOperations<String, byte[]> operations = mock(ValueOperations.class);
+        when(template.opsForValue()).thenReturn(operations);
+        when(operations.get(anyString())).thenAnswer(invocation -> values.get(invocation.<String>getArgument(0)));
+        doAnswer(invocation -> values.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(operations).set(anyString(), any(byte[].class), any(Duration.class));
+        when(template.delete(anyString())).thenAnswer(invocation -> values.remove(invocation.<String>getArgument(0)) != null);
+        return template;
+    }
+
+    @SuppressWarnings("unchecked")
+    public StringRedisTemplate stringTemplate() {
+        StringRedisTemplate template = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> operations = mock(ValueOperations.class);
+        when(template.opsForValue()).thenReturn(operations);
+        when(operations.get(anyString())).thenAnswer(invocation -> values.get(invocation.<String>getArgument(0)));
+        doAnswer(invocation -> values.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(operations).set(anyString(), anyString(), any(Duration.class));
+        when(template.delete(anyString())).thenAnswer(invocation -> values.remove(invocation.<String>getArgument(0)) != null);
+        return template;
+    }
+
+    public boolean contains(String key) {
+        return values.containsKey(key);
+    }
+}
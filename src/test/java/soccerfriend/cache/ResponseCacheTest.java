@@ -0,0 +1,134 @@
+package soccerfriend.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import soccerfriend.controller.AddressController;
+import soccerfriend.controller.BulletinController;
+import soccerfriend.controller.PositionsController;
+import soccerfriend.dto.Bulletin;
+import soccerfriend.dto.Club;
+import soccerfriend.event.DomainEventPublisher;
+import soccerfriend.mapper.BulletinMapper;
+import soccerfriend.service.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ResponseCacheTest {
+
+    private static final String BULLETINS = "/bulletins/club/1";
+
+    private final InMemoryRedis redis = new InMemoryRedis();
+    private final RedisTemplate<String, byte[]> byteRedisTemplate = redis.byteTemplate();
+    private final StringRedisTemplate stringRedisTemplate = redis.stringTemplate();
+    private final ResponseCache responseCache = new ResponseCache(byteRedisTemplate, stringRedisTemplate, new ObjectMapper());
+    private final BulletinMapper bulletinMapper = mock(BulletinMapper.class);
+    private final ClubService clubService = mock(ClubService.class);
+    private final AddressService addressService = mock(AddressService.class);
+    private final PositionsService positionsService = mock(PositionsService.class);
+    private BulletinService bulletinService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        bulletinService = new BulletinService(clubService, bulletinMapper, mock(RedisTemplate.class), responseCache,
+                mock(SearchService.class), mock(DomainEventPublisher.class));
+        mockMvc = MockMvcBuilders.standaloneSetup(new BulletinController(bulletinService, responseCache),
+                new AddressController(addressService, responseCache),
+                new PositionsController(positionsService, responseCache)).build();
+
+        List<Bulletin> bulletins = new ArrayList<>();
+        for (int i = 1; i <= 8; i++) {
+            bulletins.add(new Bulletin(i, 1, "bulletin" + i, Bulletin.Category.GENERAL));
+        }
+        when(bulletinMapper.getBulletinsByClubId(1)).thenReturn(bulletins);
+    }
+
+    @Test
+    void respondsWithBodyAndETag() throws Exception {
+        MvcResult result = mockMvc.perform(get(BULLETINS))
+                                  .andExpect(status().isOk())
+                                  .andExpect(header().exists("ETag"))
+                                  .andReturn();
+
+        assertThat(result.getResponse().getContentAsString()).contains("bulletin8");
+        verify(bulletinMapper, times(1)).getBulletinsByClubId(1);
+    }
+
+    @Test
+    void respondsNotModifiedWithoutReadingPayloadOrDatabase() throws Exception {
+        String eTag = eTagOf(BULLETINS);
+        clearInvocations(bulletinMapper, byteRedisTemplate.opsForValue());
+
+        MvcResult result = mockMvc.perform(get(BULLETINS).header("If-None-Match", eTag))
+                                  .andExpect(status().isNotModified())
+                                  .andReturn();
+
+        assertThat(result.getResponse().getContentAsByteArray()).isEmpty();
+        verify(byteRedisTemplate.opsForValue(), never()).get(anyString());
+        verifyNoInteractions(bulletinMapper);
+    }
+
+    @Test
+    void servesAddressesAndPositionsFromCache() throws Exception {
+        when(addressService.getAddressByCity("seoul")).thenReturn(List.of());
+        when(positionsService.getAll()).thenReturn(List.of());
+
+        for (String path : List.of("/addresses/seoul", "/positions")) {
+            String eTag = eTagOf(path);
+            mockMvc.perform(get(path)).andExpect(status().isOk()).andExpect(header().string("ETag", eTag));
+            mockMvc.perform(get(path).header("If-None-Match", eTag)).andExpect(status().isNotModified());
+        }
+        verify(addressService, times(1)).getAddressByCity("seoul");
+        verify(positionsService, times(1)).getAll();
+    }
+
+    @Test
+    void bulletinChangesEvictCachedList() throws Exception {
+        String eTag = eTagOf(BULLETINS);
+        when(bulletinMapper.getBulletinsByClubId(1)).thenReturn(List.of(new Bulletin(3, 1, "renamed", Bulletin.Category.GENERAL)));
+        bulletinService.deleteCache(3, 1);
+        String renamedETag = mockMvc.perform(get(BULLETINS).header("If-None-Match", eTag))
+                                    .andExpect(status().isOk())
+                                    .andReturn().getResponse().getHeader("ETag");
+        verify(bulletinMapper, times(2)).getBulletinsByClubId(1);
+
+        when(clubService.getClubById(1)).thenReturn(mock(Club.class));
+        when(clubService.isIdExist(1)).thenReturn(true);
+        bulletinService.create(1, new Bulletin("notice", Bulletin.Category.GENERAL));
+        assertThat(redis.contains("ETAG::BULLETIN CLUB1")).isFalse();
+        when(bulletinMapper.getBulletinsByClubId(1)).thenReturn(List.of(new Bulletin(3, 1, "renamed", Bulletin.Category.GENERAL),
+                new Bulletin(9, 1, "notice", Bulletin.Category.GENERAL)));
+        mockMvc.perform(get(BULLETINS).header("If-None-Match", renamedETag)).andExpect(status().isOk());
+        verify(bulletinMapper, times(3)).getBulletinsByClubId(1);
+    }
+
+    @Test
+    void notModifiedTransfersNoBody() throws Exception {
+        MvcResult full = mockMvc.perform(get(BULLETINS)).andReturn();
+        String eTag = full.getResponse().getHeader("ETag");
+        MvcResult notModified = mockMvc.perform(get(BULLETINS).header("If-None-Match", eTag)).andReturn();
+
+        int fullBytes = full.getResponse().getContentAsByteArray().length;
+        int notModifiedBytes = notModified.getResponse().getContentAsByteArray().length;
+        assertThat(fullBytes).isGreaterThan(300);
+        assertThat(notModifiedBytes).isZero();
+    }
+
+    private String eTagOf(String path) throws Exception {
+        return mockMvc.perform(get(path)).andReturn().getResponse().getHeader("ETag");
+    }
+}
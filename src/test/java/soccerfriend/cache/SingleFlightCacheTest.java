@@ -0,0 +1,144 @@
+package soccerfriend.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.interceptor.CacheOperationInvoker;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import soccerfriend.exception.exception.BadRequestException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static soccerfriend.exception.ExceptionInfo.BULLETIN_NOT_EXIST;
+import static soccerfriend.exception.ExceptionInfo.NOT_CLUB_MEMBER;
+
+class SingleFlightCacheTest {
+
+    private final Map<String, Object> redis = new ConcurrentHashMap<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlightCache cache =
+            new SingleFlightCache("BULLETIN", redisTemplate(), Duration.ofDays(1), Duration.ofSeconds(30), 1.0, meterRegistry);
+
+    @Test
+    void coalescesConcurrentLoads() throws Exception {
+        int threads = 8;
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        Callable<String> loader = () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            release.await();
+            return "bulletins";
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> cache.get("BULLETIN CLUB1", loader)));
+        started.await();
+        for (int i = 1; i < threads; i++) {
+            results.add(executor.submit(() -> cache.get("BULLETIN CLUB1", loader)));
+        }
+        while (count("coalesced") < threads - 1) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("bulletins");
+        }
+        executor.shutdown();
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(count("loaded")).isEqualTo(1);
+        assertThat(cache.get("BULLETIN CLUB1", loader)).isEqualTo("bulletins");
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void cachesNotFoundResult() {
+        AtomicInteger calls = new AtomicInteger();
+        Callable<Object> loader = () -> {
+            calls.incrementAndGet();
+            throw new CacheOperationInvoker.ThrowableWrapper(new BadRequestException(BULLETIN_NOT_EXIST));
+        };
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> cache.get("BULLETIN CLUB2", loader))
+                    .isInstanceOf(Cache.ValueRetrievalException.class)
+                    .getCause()
+                    .isInstanceOfSatisfying(BadRequestException.class,
+                            e -> assertThat(e.getExceptionInfo()).isEqualTo(BULLETIN_NOT_EXIST));
+        }
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(count("not-found-hit")).isEqualTo(2);
+        assertThat(cache.get("BULLETIN CLUB2")).isNull();
+
+        cache.evict("BULLETIN CLUB2");
+        assertThat(cache.get("BULLETIN CLUB2", () -> "created")).isEqualTo("created");
+    }
+
+    @Test
+    void doesNotCacheOtherErrors() {
+        AtomicInteger calls = new AtomicInteger();
+        Callable<Object> loader = () -> {
+            calls.incrementAndGet();
+            throw new CacheOperationInvoker.ThrowableWrapper(new BadRequestException(NOT_CLUB_MEMBER));
+        };
+
+        assertThatThrownBy(() -> cache.get("BULLETIN CLUB3", loader)).isInstanceOf(Cache.ValueRetrievalException.class);
+        assertThatThrownBy(() -> cache.get("BULLETIN CLUB3", loader)).isInstanceOf(Cache.ValueRetrievalException.class);
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(redis).isEmpty();
+    }
+
+    @Test
+    void refreshesEarlyOnlyNearExpiry() {
+        long now = System.currentTimeMillis();
+        CachedValue fresh = CachedValue.of("value", 50, now + Duration.ofHours(1).toMillis());
+        CachedValue expiring = CachedValue.of("value", 50, now + 1);
+
+        int freshRefreshes = 0;
+        int expiringRefreshes = 0;
+        for (int i = 0; i < 1000; i++) {
+            freshRefreshes += cache.shouldRefreshEarly(fresh, now) ? 1 : 0;
+            expiringRefreshes += cache.shouldRefreshEarly(expiring, now) ? 1 : 0;
+        }
+        assertThat(freshRefreshes).isZero();
+        assertThat(expiringRefreshes).isGreaterThan(950);
+    }
+
+    @Test
+    void refreshesExpiringValueEarly() {
+        redis.put("BULLETIN::BULLETIN CLUB4", CachedValue.of("old", 10_000, System.currentTimeMillis()));
+
+        assertThat(cache.get("BULLETIN CLUB4", () -> "new")).isEqualTo("new");
+        assertThat(count("refreshed-early")).isEqualTo(1);
+        assertThat(cache.get("BULLETIN CLUB4", () -> "newer")).isEqualTo("new");
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("cache.loads", "cache", "BULLETIN", "result", result).count();
+    }
+
+    @SuppressWarnings("unchecked")
+    private RedisTemplate<String, Object> redisTemplate() {
+        RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, Object> operations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(operations);
+        when(operations.get(anyString())).thenAnswer(invocation -> redis.get(invocation.<String>getArgument(0)));
+        doAnswer(invocation -> redis.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(operations).set(anyString(), any(), any(Duration.class));
+        when(redisTemplate.delete(anyString())).thenAnswer(invocation -> redis.remove(invocation.<String>getArgument(0)) != null);
+        return redisTemplate;
+    }
+}
@@ -0,0 +1,115 @@
+package soccerfriend.datasource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.Cookie;
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static soccerfriend.datasource.DataSourceType.PRIMARY;
+import static soccerfriend.datasource.DataSourceType.REPLICA;
+
+class RoutingDataSourceTest {
+
+    private ReplicaLagMonitor replicaLagMonitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = h2("primary");
+        DataSource replica = h2("replica");
+        replicaLagMonitor = new ReplicaLagMonitor(replica, 3);
+
+        Map<Object, Object> dataSources = new HashMap<>();
+        dataSources.put(PRIMARY, primary);
+        dataSources.put(REPLICA, replica);
+        RoutingDataSource routingDataSource = new RoutingDataSource(replicaLagMonitor);
+        routingDataSource.setTargetDataSources(dataSources);
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readOnlyTransaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        DataSourceRoutingContext.setReplicaRead(false);
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplica() {
+        assertThat(whoAmIInReadOnlyTransaction()).isEqualTo("replica");
+        assertThat(whoAmI()).isEqualTo("primary");
+    }
+
+    @Test
+    void replicaReadHintGoesToReplica() {
+        DataSourceRoutingContext.setReplicaRead(true);
+
+        assertThat(whoAmI()).isEqualTo("replica");
+    }
+
+    @Test
+    void clientWithRecentWriteStaysOnPrimary() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+
+        DataSourceRoutingContext.markWrite(Duration.ofSeconds(5));
+        assertThat(whoAmIInReadOnlyTransaction()).isEqualTo("primary");
+
+        Cookie sticky = response.getCookie(DataSourceRoutingContext.PRIMARY_STICKY);
+        assertThat(sticky).isNotNull();
+
+        MockHttpServletRequest nextRequest = new MockHttpServletRequest();
+        nextRequest.setCookies(sticky);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(nextRequest));
+        assertThat(whoAmIInReadOnlyTransaction()).isEqualTo("primary");
+    }
+
+    @Test
+    void unavailableReplicaFallsBackToPrimary() {
+        // H2 stand-in은 SHOW REPLICA STATUS를 지원하지 않으므로 복제 상태를 확인할 수 없는 replica가 됩니다.
+        replicaLagMonitor.check();
+
+        assertThat(replicaLagMonitor.isReplicaAvailable()).isFalse();
+        assertThat(whoAmIInReadOnlyTransaction()).isEqualTo("primary");
+    }
+
+    private String whoAmIInReadOnlyTransaction() {
+        return readOnlyTransaction.execute(status -> whoAmI());
+    }
+
+    private String whoAmI() {
+        return jdbcTemplate.queryForObject("SELECT name FROM whoami", String.class);
+    }
+
+    private static DataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS whoami(name VARCHAR(16))");
+        jdbcTemplate.execute("DELETE FROM whoami");
+        jdbcTemplate.update("INSERT INTO whoami(name) VALUES (?)", name);
+        return dataSource;
+    }
+}
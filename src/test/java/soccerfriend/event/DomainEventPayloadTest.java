@@ -0,0 +1,48 @@
+package soccerfriend.event;
+
+import com.fasterxml.jackson.databind.InjectableValues;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import soccerfriend.dto.FeedEvent;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static soccerfriend.dto.FeedEvent.Type.RECRUITMENT_CREATED;
+
+class DomainEventPayloadTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    void injectsOutboxIdIntoPayload() throws Exception {
+        FeedEvent event = FeedEvent.builder()
+                                   .type(RECRUITMENT_CREATED)
+                                   .clubId(3)
+                                   .targetId(17)
+                                   .createdAt(LocalDateTime.of(2022, 10, 1, 12, 30))
+                                   .build();
+
+        String payload = objectMapper.writeValueAsString(event);
+        FeedEvent delivered = objectMapper.readerFor(FeedEvent.class)
+                                          .with(new InjectableValues.Std().addValue(DomainEvent.EVENT_ID, 42L))
+                                          .readValue(payload);
+
+        assertThat(payload).doesNotContain("aggregate");
+        assertThat(delivered.getId()).isEqualTo(42);
+        assertThat(delivered.getType()).isEqualTo(RECRUITMENT_CREATED);
+        assertThat(delivered.getClubId()).isEqualTo(3);
+        assertThat(delivered.getTargetId()).isEqualTo(17);
+        assertThat(delivered.getCreatedAt()).isEqualTo(event.getCreatedAt());
+    }
+
+    @Test
+    void keepsAggregateInOnePartition() {
+        int partition = DomainEventPublisher.partitionOf("club", 7);
+
+        assertThat(DomainEventPublisher.partitionOf("club", 7)).isEqualTo(partition);
+        assertThat(partition).isBetween(0, DomainEventPublisher.PARTITIONS - 1);
+        assertThat(DomainEventPublisher.partitionOf("club", -7)).isBetween(0, DomainEventPublisher.PARTITIONS - 1);
+    }
+}
@@ -0,0 +1,140 @@
+package soccerfriend.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import soccerfriend.dto.FeedEvent;
+import soccerfriend.dto.OutboxEvent;
+import soccerfriend.mapper.OutboxMapper;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static soccerfriend.dto.FeedEvent.Type.RECRUITMENT_CREATED;
+
+class OutboxRelayTest {
+
+    private static final int PARTITION = 3;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final List<Long> delivered = new ArrayList<>();
+    private JdbcTemplate jdbcTemplate;
+    private SqlSession session;
+    private OutboxMapper mapper;
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:outbox;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute(migration("db/migration/V4__outbox_event.sql"));
+        jdbcTemplate.execute(migration("db/migration/V14__outbox_aggregate_index.sql"));
+
+        Configuration configuration = new Configuration(new Environment("test", new JdbcTransactionFactory(), dataSource));
+        configuration.setMapUnderscoreToCamelCase(true);
+        try (InputStream xml = new ClassPathResource("mapper/OutboxMapper.xml").getInputStream()) {
+            new XMLMapperBuilder(xml, configuration, "mapper/OutboxMapper.xml", configuration.getSqlFragments()).parse();
+        }
+        session = new SqlSessionFactoryBuilder().build(configuration).openSession(true);
+        // H2는 SKIP LOCKED를 지원하지 않으므로 partition은 항상 잠근 것으로 둡니다.
+        mapper = mock(OutboxMapper.class, delegatesTo(session.getMapper(OutboxMapper.class)));
+        doReturn(PARTITION).when(mapper).lockPartition(PARTITION);
+
+        ApplicationEventPublisher eventPublisher = event -> delivered.add(((FeedEvent) event).getId());
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Object>>getArgument(0).doInTransaction(null));
+        outboxRelay = new OutboxRelay(mapper, eventPublisher, objectMapper, transactionTemplate,
+                mock(ObjectProvider.class), 2, 15, Duration.ofDays(7));
+    }
+
+    @AfterEach
+    void tearDown() {
+        session.close();
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void deliversOtherAggregatesWhileOneIsBackingOff() throws Exception {
+        long failed = insert(1);
+        long second = insert(1);
+        long third = insert(1);
+        long other = insert(2);
+        backOff(failed, LocalDateTime.now().plusMinutes(5));
+
+        outboxRelay.relay();
+
+        assertThat(delivered).containsExactly(other);
+        assertThat(unpublished()).containsExactly(failed, second, third);
+    }
+
+    @Test
+    void deliversAggregateInOrderAfterBackoff() throws Exception {
+        long failed = insert(1);
+        long second = insert(1);
+        long other = insert(2);
+        backOff(failed, LocalDateTime.now().minusSeconds(1));
+
+        outboxRelay.relay();
+
+        assertThat(delivered).containsExactly(failed, second, other);
+        assertThat(unpublished()).isEmpty();
+    }
+
+    private long insert(int aggregateId) throws Exception {
+        FeedEvent event = FeedEvent.builder()
+                                   .type(RECRUITMENT_CREATED)
+                                   .clubId(aggregateId)
+                                   .targetId(1)
+                                   .createdAt(LocalDateTime.now())
+                                   .build();
+        OutboxEvent outboxEvent = OutboxEvent.builder()
+                                             .partitionNo(PARTITION)
+                                             .aggregateType("club")
+                                             .aggregateId(aggregateId)
+                                             .eventType(FeedEvent.class.getName())
+                                             .payload(objectMapper.writeValueAsString(event))
+                                             .build();
+        mapper.insert(outboxEvent);
+        return outboxEvent.getId();
+    }
+
+    private void backOff(long id, LocalDateTime nextAttemptAt) {
+        mapper.recordFailure(id, "listener failed", nextAttemptAt, false);
+    }
+
+    private List<Long> unpublished() {
+        return jdbcTemplate.queryForList("SELECT id FROM outbox_event WHERE published_at IS NULL ORDER BY id", Long.class);
+    }
+
+    private static String migration(String path) throws Exception {
+        try (InputStream sql = new ClassPathResource(path).getInputStream()) {
+            return new String(sql.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
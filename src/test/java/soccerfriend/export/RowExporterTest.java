@@ -0,0 +1,69 @@
+package soccerfriend.export;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RowExporterTest {
+
+    private final RowExporter<Object[]> exporter = new RowExporter<Object[]>()
+            .column("id", row -> row[0])
+            .column("nickname", row -> row[1])
+            .column("paidAt", row -> row[2]);
+
+    private final List<Object[]> rows = Arrays.asList(
+            new Object[]{1, "kim", LocalDateTime.of(2023, 1, 3, 10, 0)},
+            new Object[]{2, "a,\"b\"", null},
+            new Object[]{3, "=SUM(A1)", null});
+
+    @Test
+    void writesCsvWithHeaderAndQuoting() throws IOException {
+        StringWriter out = new StringWriter();
+
+        long count = exporter.write(rows, ExportFormat.CSV, out);
+
+        assertThat(count).isEqualTo(3);
+        assertThat(out.toString()).isEqualTo("id,nickname,paidAt\n"
+                + "1,kim,2023-01-03T10:00:00\n"
+                + "2,\"a,\"\"b\"\"\",\n"
+                + "3,'=SUM(A1),\n");
+    }
+
+    @Test
+    void writesNdjsonWithEscaping() throws IOException {
+        StringWriter out = new StringWriter();
+
+        exporter.write(rows.subList(0, 2), ExportFormat.NDJSON, out);
+
+        assertThat(out.toString()).isEqualTo("{\"id\":1,\"nickname\":\"kim\",\"paidAt\":\"2023-01-03T10:00:00\"}\n"
+                + "{\"id\":2,\"nickname\":\"a,\\\"b\\\"\",\"paidAt\":null}\n");
+    }
+
+    @Test
+    void prefixesFormulaTriggersInCsv() throws IOException {
+        String[] values = {"+1", "-1", "@SUM(A1)", "\t=1", "\r=1", "a=1"};
+        StringBuilder written = new StringBuilder();
+        for (String value : values) {
+            StringWriter out = new StringWriter();
+            RowExporter.writeCsvString(value, out);
+            written.append(out).append('|');
+        }
+
+        assertThat(written.toString()).isEqualTo("'+1|'-1|'@SUM(A1)|'\t=1|\"'\r=1\"|a=1|");
+    }
+
+    @Test
+    void escapesControlCharactersInJson() throws IOException {
+        StringWriter out = new StringWriter();
+
+        RowExporter.writeJsonString("a\\b\n\u0001", out);
+
+        assertThat(out.toString()).isEqualTo("\"a\\\\b\\n\\u0001\"");
+    }
+}
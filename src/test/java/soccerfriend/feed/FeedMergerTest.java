@@ -0,0 +1,79 @@
+package soccerfriend.feed;
+
+import org.junit.jupiter.api.Test;
+import soccerfriend.dto.FeedEvent;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static soccerfriend.dto.FeedEvent.Type.BULLETIN_CREATED;
+import static soccerfriend.dto.FeedEvent.Type.MATCH_SUBMITTED;
+
+class FeedMergerTest {
+
+    @Test
+    void mergesTimelinesLatestFirst() {
+        List<List<FeedEvent>> timelines = List.of(timeline(1, 9, 6, 2), timeline(2, 8, 7, 3), timeline(3, 5, 4, 1));
+
+        List<FeedEvent> merged = FeedMerger.merge(timelines, Set.of(1, 2, 3), null, 5);
+
+        assertThat(ids(merged)).containsExactly(9L, 8L, 7L, 6L, 5L);
+    }
+
+    @Test
+    void continuesAfterCursor() {
+        List<List<FeedEvent>> timelines = List.of(timeline(1, 9, 6, 2), timeline(2, 8, 7, 3));
+
+        List<FeedEvent> merged = FeedMerger.merge(timelines, Set.of(1, 2), 7L, 10);
+
+        assertThat(ids(merged)).containsExactly(6L, 3L, 2L);
+    }
+
+    @Test
+    void skipsDuplicatesAndOtherClubs() {
+        List<List<FeedEvent>> timelines = List.of(timeline(1, 9, 5), timeline(1, 9, 5), timeline(4, 8, 7));
+
+        List<FeedEvent> merged = FeedMerger.merge(timelines, Set.of(1), null, 10);
+
+        assertThat(ids(merged)).containsExactly(9L, 5L);
+    }
+
+    @Test
+    void encodesEventCompactly() {
+        FeedEvent event = FeedEvent.builder()
+                                   .id(42)
+                                   .type(MATCH_SUBMITTED)
+                                   .clubId(3)
+                                   .targetId(17)
+                                   .createdAt(LocalDateTime.of(2022, 10, 1, 12, 30, 15))
+                                   .build();
+
+        FeedEvent decoded = FeedTimeline.decode(FeedTimeline.encode(event));
+
+        assertThat(decoded.getId()).isEqualTo(42);
+        assertThat(decoded.getType()).isEqualTo(MATCH_SUBMITTED);
+        assertThat(decoded.getClubId()).isEqualTo(3);
+        assertThat(decoded.getTargetId()).isEqualTo(17);
+        assertThat(decoded.getCreatedAt()).isEqualTo(event.getCreatedAt());
+    }
+
+    private List<FeedEvent> timeline(int clubId, long... ids) {
+        return Arrays.stream(ids)
+                     .mapToObj(id -> FeedEvent.builder()
+                                              .id(id)
+                                              .type(BULLETIN_CREATED)
+                                              .clubId(clubId)
+                                              .targetId(1)
+                                              .createdAt(LocalDateTime.now())
+                                              .build())
+                     .collect(Collectors.toList());
+    }
+
+    private List<Long> ids(List<FeedEvent> events) {
+        return events.stream().map(FeedEvent::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,86 @@
+package soccerfriend.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeoIndexTest {
+
+    @Test
+    void findsSameStadiumsAsFullScan() {
+        Random random = new Random(1);
+        GeoIndex index = new GeoIndex(0.02);
+        Map<Integer, double[]> locations = new HashMap<>();
+        GeoIndex.Rebuild rebuild = index.startRebuild();
+        for (int id = 1; id <= 5000; id++) {
+            double[] location = {37.0 + random.nextDouble(), 126.5 + random.nextDouble()};
+            locations.put(id, location);
+            rebuild.add(id, location[0], location[1]);
+        }
+        assertThat(rebuild.finish()).isEqualTo(5000);
+
+        for (int i = 0; i < 20; i++) {
+            double latitude = 36.9 + random.nextDouble() * 1.2;
+            double longitude = 126.4 + random.nextDouble() * 1.2;
+
+            List<Integer> expected = scan(locations, latitude, longitude);
+            assertThat(ids(index.nearest(latitude, longitude, 15))).isEqualTo(expected.subList(0, 15));
+
+            List<Integer> within = expected.stream()
+                                           .filter(id -> distance(locations, id, latitude, longitude) <= 3)
+                                           .collect(Collectors.toList());
+            assertThat(ids(index.within(latitude, longitude, 3, 10000))).isEqualTo(within);
+        }
+    }
+
+    @Test
+    void movesAndRemovesStadium() {
+        GeoIndex index = new GeoIndex(0.02);
+        index.put(1, 37.5, 127.0);
+        index.put(2, 37.51, 127.0);
+        index.put(1, 35.1, 129.0);
+
+        assertThat(ids(index.within(37.5, 127.0, 5, 10))).containsExactly(2);
+        assertThat(ids(index.nearest(35.0, 129.0, 1))).containsExactly(1);
+
+        index.remove(1);
+        assertThat(ids(index.nearest(35.0, 129.0, 5))).containsExactly(2);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsChangesMadeDuringRebuild() {
+        GeoIndex index = new GeoIndex(0.02);
+        index.put(1, 37.5, 127.0);
+        index.put(2, 37.6, 127.0);
+
+        GeoIndex.Rebuild rebuild = index.startRebuild();
+        rebuild.add(1, 37.5, 127.0);
+        rebuild.add(2, 37.6, 127.0);
+        index.put(3, 37.7, 127.0);
+        index.remove(2);
+        rebuild.finish();
+
+        assertThat(ids(index.nearest(37.5, 127.0, 10))).containsExactly(1, 3);
+    }
+
+    private static List<Integer> scan(Map<Integer, double[]> locations, double latitude, double longitude) {
+        return locations.keySet()
+                        .stream()
+                        .sorted(Comparator.comparingDouble((Integer id) -> distance(locations, id, latitude, longitude))
+                                          .thenComparingInt(id -> id))
+                        .collect(Collectors.toList());
+    }
+
+    private static double distance(Map<Integer, double[]> locations, int id, double latitude, double longitude) {
+        double[] location = locations.get(id);
+        return GeoIndex.distanceKm(latitude, longitude, location[0], location[1]);
+    }
+
+    private static List<Integer> ids(List<GeoHit> hits) {
+        return hits.stream().map(GeoHit::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,124 @@
+package soccerfriend.matchimport;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import soccerfriend.dto.MatchImportError;
+import soccerfriend.exception.exception.BadRequestException;
+import soccerfriend.matchimport.MatchImportReader.Format;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static soccerfriend.exception.ExceptionInfo.NOT_PROPER_IMPORT_FILE;
+import static soccerfriend.exception.ExceptionInfo.TOO_MANY_IMPORT_MATCHES;
+
+class MatchImportReaderTest {
+
+    private final MatchImportReader reader = new MatchImportReader(new ObjectMapper(), 3);
+
+    @Test
+    void groupsCsvGoalsByMatch() throws IOException {
+        String csv = "soccerMatchId,memberId,numSet,timeSet\n"
+                + "1,100,1,10\n"
+                + "2,,,\n"
+                + "\n"
+                + "1,200,2,40\n";
+        List<MatchImportError> errors = new ArrayList<>();
+
+        List<ImportedMatch> matches = reader.read(new StringReader(csv), Format.CSV, errors);
+
+        assertThat(errors).isEmpty();
+        assertThat(matches).extracting(ImportedMatch::getSoccerMatchId).containsExactly(1, 2);
+        assertThat(matches.get(0).getGoals()).extracting(ImportedGoal::getMemberId).containsExactly(100, 200);
+        assertThat(matches.get(0).getGoals()).extracting(ImportedGoal::getLine).containsExactly(2, 5);
+        assertThat(matches.get(1).getGoals()).isEmpty();
+    }
+
+    @Test
+    void readsNdjson() throws IOException {
+        String ndjson = "{\"soccerMatchId\":1,\"goals\":[{\"memberId\":100,\"numSet\":1,\"timeSet\":10}]}\n"
+                + "{\"soccerMatchId\":2}\n";
+        List<MatchImportError> errors = new ArrayList<>();
+
+        List<ImportedMatch> matches = reader.read(new StringReader(ndjson), Format.NDJSON, errors);
+
+        assertThat(errors).isEmpty();
+        assertThat(matches).extracting(ImportedMatch::getSoccerMatchId).containsExactly(1, 2);
+        assertThat(matches.get(0).getGoals().get(0).getTimeSet()).isEqualTo(10);
+    }
+
+    @Test
+    void dropsWholeMatchOfInvalidRow() throws IOException {
+        String csv = "soccerMatchId,memberId,numSet,timeSet\n"
+                + "1,100,1,10\n"
+                + "1,abc,1,20\n"
+                + "1,100,2,30\n"
+                + "x,1,1,1\n"
+                + "2,100,1,5\n";
+        List<MatchImportError> errors = new ArrayList<>();
+
+        List<ImportedMatch> matches = reader.read(new StringReader(csv), Format.CSV, errors);
+
+        assertThat(matches).extracting(ImportedMatch::getSoccerMatchId).containsExactly(2);
+        assertThat(errors).extracting(MatchImportError::getLine).containsExactly(3, 5);
+        assertThat(errors).extracting(MatchImportError::getSoccerMatchId).containsExactly(1, null);
+        assertThat(errors).extracting(MatchImportError::getCode).containsOnly(MatchImportReader.INVALID_ROW);
+    }
+
+    @Test
+    void rejectsMissingHeaderAndTooManyMatches() {
+        assertThatThrownBy(() -> reader.read(new StringReader("1,100,1,10\n"), Format.CSV, new ArrayList<>()))
+                .isInstanceOfSatisfying(BadRequestException.class,
+                        e -> assertThat(e.getExceptionInfo()).isEqualTo(NOT_PROPER_IMPORT_FILE));
+
+        String ndjson = "{\"soccerMatchId\":1}\n{\"soccerMatchId\":2}\n{\"soccerMatchId\":3}\n{\"soccerMatchId\":4}\n";
+        assertThatThrownBy(() -> reader.read(new StringReader(ndjson), Format.NDJSON, new ArrayList<>()))
+                .isInstanceOfSatisfying(BadRequestException.class,
+                        e -> assertThat(e.getExceptionInfo()).isEqualTo(TOO_MANY_IMPORT_MATCHES));
+    }
+
+    @Test
+    void rejectsTooLongLineTooManyGoalsAndTooManyErrors() {
+        String longLine = "soccerMatchId,memberId,numSet,timeSet\n1,100,1," + "1".repeat(MatchImportReader.MAX_LINE_LENGTH) + "\n";
+        assertNotProperImportFile(longLine, Format.CSV);
+
+        StringBuilder csv = new StringBuilder("soccerMatchId,memberId,numSet,timeSet\r\n");
+        for (int i = 0; i <= MatchImportReader.MAX_GOALS_PER_MATCH; i++) {
+            csv.append("1,100,1,").append(i).append("\r\n");
+        }
+        assertNotProperImportFile(csv.toString(), Format.CSV);
+
+        StringBuilder goals = new StringBuilder();
+        for (int i = 0; i <= MatchImportReader.MAX_GOALS_PER_MATCH; i++) {
+            goals.append(i == 0 ? "" : ",").append("{\"memberId\":100,\"numSet\":1,\"timeSet\":").append(i).append('}');
+        }
+        assertNotProperImportFile("{\"soccerMatchId\":1,\"goals\":[" + goals + "]}\n", Format.NDJSON);
+
+        assertNotProperImportFile("x\n".repeat(MatchImportReader.MAX_ERRORS + 1), Format.NDJSON);
+    }
+
+    @Test
+    void acceptsLimitsExactly() throws IOException {
+        StringBuilder csv = new StringBuilder("soccerMatchId,memberId,numSet,timeSet\r");
+        for (int i = 0; i < MatchImportReader.MAX_GOALS_PER_MATCH; i++) {
+            csv.append("1,100,1,").append(i).append('\r');
+        }
+        csv.append("x,1,1,1");
+        List<MatchImportError> errors = new ArrayList<>();
+
+        List<ImportedMatch> matches = reader.read(new StringReader(csv.toString()), Format.CSV, errors);
+
+        assertThat(matches.get(0).getGoals()).hasSize(MatchImportReader.MAX_GOALS_PER_MATCH);
+        assertThat(errors).extracting(MatchImportError::getLine).containsExactly(MatchImportReader.MAX_GOALS_PER_MATCH + 2);
+    }
+
+    private void assertNotProperImportFile(String file, Format format) {
+        assertThatThrownBy(() -> reader.read(new StringReader(file), format, new ArrayList<>()))
+                .isInstanceOfSatisfying(BadRequestException.class,
+                        e -> assertThat(e.getExceptionInfo()).isEqualTo(NOT_PROPER_IMPORT_FILE));
+    }
+}
@@ -0,0 +1,76 @@
+package soccerfriend.media;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalMediaStorageTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void writesAndTransfersRange() throws IOException {
+        LocalMediaStorage storage = new LocalMediaStorage(root);
+        byte[] content = "0123456789".getBytes(StandardCharsets.US_ASCII);
+
+        assertThat(storage.write("photos/1/a", channel(content), 100)).isEqualTo(10);
+        assertThat(storage.size("photos/1/a")).isEqualTo(10);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertThat(storage.transferTo("photos/1/a", 3, 4, Channels.newChannel(out))).isEqualTo(4);
+        assertThat(out.toString(StandardCharsets.US_ASCII)).isEqualTo("3456");
+    }
+
+    @Test
+    void rejectsTooLargeContentWithoutLeavingFiles() throws IOException {
+        LocalMediaStorage storage = new LocalMediaStorage(root);
+
+        assertThatThrownBy(() -> storage.write("photos/1/a", channel(new byte[200_000]), 100_000))
+                .isInstanceOf(MediaTooLargeException.class);
+        assertThat(storage.exists("photos/1/a")).isFalse();
+        try (var files = Files.list(root.resolve("photos/1"))) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void rejectsKeyOutsideRoot() throws IOException {
+        LocalMediaStorage storage = new LocalMediaStorage(root);
+
+        assertThatThrownBy(() -> storage.exists("../secret")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void generatesThumbnail() throws IOException {
+        LocalMediaStorage storage = new LocalMediaStorage(root);
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(1600, 800, BufferedImage.TYPE_INT_RGB), "png", png);
+        storage.write("photos/1/a", channel(png.toByteArray()), Long.MAX_VALUE);
+
+        assertThat(new ThumbnailGenerator(320).generate(storage, "photos/1/a", "photos/1/a.thumbnail.jpg")).isTrue();
+        try (InputStream in = storage.read("photos/1/a.thumbnail.jpg")) {
+            BufferedImage thumbnail = ImageIO.read(in);
+            assertThat(thumbnail.getWidth()).isEqualTo(320);
+            assertThat(thumbnail.getHeight()).isEqualTo(160);
+        }
+    }
+
+    private static ReadableByteChannel channel(byte[] content) {
+        return Channels.newChannel(new ByteArrayInputStream(content));
+    }
+}
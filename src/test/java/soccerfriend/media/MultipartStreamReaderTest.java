@@ -0,0 +1,70 @@
+package soccerfriend.media;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MultipartStreamReaderTest {
+
+    private static final String BODY = "preamble\r\n"
+            + "--XyZ\r\n"
+            + "Content-Disposition: form-data; name=\"title\"\r\n"
+            + "\r\n"
+            + "hello\r\n"
+            + "--XyZ\r\n"
+            + "Content-Disposition: form-data; name=\"photo\"; filename=\"a.jpg\"\r\n"
+            + "Content-Type: image/jpeg\r\n"
+            + "\r\n"
+            + "line1\r\n--Xy line2\r\n"
+            + "--XyZ--\r\n";
+
+    @Test
+    void readsPartsInOrder() throws IOException {
+        MultipartStreamReader reader = new MultipartStreamReader(trickle(BODY), "XyZ");
+
+        MultipartStreamReader.Part title = reader.next();
+        assertThat(title.getName()).isEqualTo("title");
+        assertThat(title.getFilename()).isNull();
+
+        MultipartStreamReader.Part photo = reader.next();
+        assertThat(photo.getFilename()).isEqualTo("a.jpg");
+        assertThat(photo.getContentType()).isEqualTo("image/jpeg");
+        assertThat(new String(photo.getBody().readAllBytes(), StandardCharsets.US_ASCII)).isEqualTo("line1\r\n--Xy line2");
+
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void failsOnTruncatedBody() throws IOException {
+        MultipartStreamReader reader = new MultipartStreamReader(trickle(BODY.substring(0, BODY.indexOf("line2"))), "XyZ");
+        reader.next();
+        MultipartStreamReader.Part photo = reader.next();
+
+        assertThatThrownBy(() -> photo.getBody().readAllBytes()).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void parsesBoundaryFromContentType() {
+        assertThat(MultipartStreamReader.getBoundary("multipart/form-data; boundary=\"abc\"")).isEqualTo("abc");
+        assertThat(MultipartStreamReader.getBoundary("application/json")).isNull();
+    }
+
+    /**
+     * 한 번에 최대 3 byte씩만 읽히게 하여 delimiter가 읽기 경계에 걸리는 경우를 만듭니다.
+     */
+    private static InputStream trickle(String body) {
+        return new FilterInputStream(new ByteArrayInputStream(body.getBytes(StandardCharsets.US_ASCII))) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return super.read(b, off, Math.min(len, 3));
+            }
+        };
+    }
+}
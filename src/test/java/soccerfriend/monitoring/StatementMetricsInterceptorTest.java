@@ -0,0 +1,63 @@
+package soccerfriend.monitoring;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.ibatis.builder.StaticSqlSource;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.SQLTimeoutException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StatementMetricsInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StatementMetricsInterceptor interceptor = new StatementMetricsInterceptor(meterRegistry, Duration.ofSeconds(10));
+
+    @Test
+    void recordsSuccessWithRows() throws Throwable {
+        assertThat(interceptor.intercept(invocation((mappedStatement, parameter) -> List.of(1, 2, 3)))).isEqualTo(List.of(1, 2, 3));
+
+        StatementStats stats = interceptor.getStatementStats().iterator().next();
+        assertThat(stats.getCount()).isEqualTo(1);
+        assertThat(stats.getErrors()).isZero();
+        assertThat(stats.getTotalRows()).isEqualTo(3);
+        assertThat(meterRegistry.get("mybatis.statement").tag("outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void recordsFailedStatementAndRethrows() {
+        SQLTimeoutException timeout = new SQLTimeoutException("lock wait timeout");
+
+        assertThatThrownBy(() -> interceptor.intercept(invocation((mappedStatement, parameter) -> {
+            throw timeout;
+        }))).isInstanceOf(InvocationTargetException.class).hasCause(timeout);
+
+        StatementStats stats = interceptor.getStatementStats().iterator().next();
+        assertThat(stats.getCount()).isEqualTo(1);
+        assertThat(stats.getErrors()).isEqualTo(1);
+        assertThat(meterRegistry.get("mybatis.statement").tag("outcome", "error").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("mybatis.statement").tag("outcome", "success").timer().count()).isZero();
+    }
+
+    private static Invocation invocation(Statement statement) throws Exception {
+        Configuration configuration = new Configuration();
+        MappedStatement mappedStatement = new MappedStatement.Builder(configuration, "soccerfriend.mapper.PostMapper.getPostById",
+                new StaticSqlSource(configuration, "SELECT 1"), SqlCommandType.SELECT).build();
+
+        Method run = Statement.class.getMethod("run", MappedStatement.class, Object.class);
+        return new Invocation(statement, run, new Object[]{mappedStatement, null});
+    }
+
+    public interface Statement {
+        Object run(MappedStatement mappedStatement, Object parameter) throws Exception;
+    }
+}
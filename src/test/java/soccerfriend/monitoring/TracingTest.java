@@ -0,0 +1,164 @@
+package soccerfriend.monitoring;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * 요청 filter, RestTemplate interceptor, redis connection이 남기는 span을 InMemorySpanExporter로 확인합니다.
+ */
+class TracingTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String TRACEPARENT = "00-" + TRACE_ID + "-00f067aa0ba902b7-01";
+
+    private final InMemorySpanExporter exporter = new InMemorySpanExporter();
+    private final SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
+                                                                      .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                                                                      .build();
+    private final OpenTelemetry openTelemetry = OpenTelemetrySdk.builder()
+                                                                .setTracerProvider(tracerProvider)
+                                                                .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+                                                                .build();
+    private final Tracer tracer = openTelemetry.getTracer("soccerfriend");
+
+    @AfterEach
+    void tearDown() {
+        tracerProvider.close();
+    }
+
+    @Test
+    void filterContinuesIncomingTraceAndNamesSpanByRoute() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/posts/3");
+        request.addHeader("traceparent", TRACEPARENT);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        HttpServlet servlet = new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/posts/{id}");
+                resp.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            }
+        };
+
+        new TracingFilter(openTelemetry, tracer).doFilter(request, response, new MockFilterChain(servlet));
+
+        SpanData span = onlySpan();
+        assertThat(span.getName()).isEqualTo("GET /posts/{id}");
+        assertThat(span.getKind()).isEqualTo(SpanKind.SERVER);
+        assertThat(span.getTraceId()).isEqualTo(TRACE_ID);
+        assertThat(span.getParentSpanId()).isEqualTo("00f067aa0ba902b7");
+        assertThat(span.getAttributes().asMap().toString()).contains("http.route=/posts/{id}", "http.status_code=503");
+        assertThat(span.getStatus().getStatusCode()).isEqualTo(StatusCode.ERROR);
+    }
+
+    @Test
+    void filterRecordsExceptionAndRethrows() {
+        IllegalStateException failure = new IllegalStateException("boom");
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/posts");
+
+        assertThatThrownBy(() -> new TracingFilter(openTelemetry, tracer)
+                .doFilter(request, new MockHttpServletResponse(), (req, resp) -> {
+                    throw failure;
+                })).isSameAs(failure);
+
+        SpanData span = onlySpan();
+        assertThat(span.getName()).isEqualTo("POST");
+        assertThat(span.getStatus().getStatusCode()).isEqualTo(StatusCode.ERROR);
+        assertThat(span.getEvents()).extracting(EventData::getName).containsExactly("exception");
+    }
+
+    @Test
+    void restTemplatePropagatesClientSpan() {
+        List<String> traceparents = new ArrayList<>();
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.setInterceptors(List.of(new TracingClientHttpRequestInterceptor(openTelemetry, tracer)));
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        server.expect(requestTo("https://pay.example.com/payments"))
+              .andExpect(request -> traceparents.add(request.getHeaders().getFirst("traceparent")))
+              .andRespond(withSuccess("{}", MediaType.APPLICATION_JSON));
+        server.expect(requestTo("https://pay.example.com/payments"))
+              .andRespond(withServerError());
+
+        restTemplate.getForObject("https://pay.example.com/payments", String.class);
+        assertThatThrownBy(() -> restTemplate.getForObject("https://pay.example.com/payments", String.class))
+                .isInstanceOf(HttpServerErrorException.class);
+        server.verify();
+
+        List<SpanData> spans = exporter.getFinishedSpans();
+        assertThat(spans).extracting(SpanData::getName).containsExactly("GET pay.example.com", "GET pay.example.com");
+        assertThat(spans).extracting(SpanData::getKind).containsOnly(SpanKind.CLIENT);
+        assertThat(spans).extracting(span -> span.getAttributes().asMap().toString())
+                         .allMatch(attributes -> attributes.contains("http.url=https://pay.example.com/payments"))
+                         .anyMatch(attributes -> attributes.contains("http.status_code=200"))
+                         .anyMatch(attributes -> attributes.contains("http.status_code=500"));
+        assertThat(traceparents).containsExactly("00-" + spans.get(0).getTraceId() + "-" + spans.get(0).getSpanId() + "-01");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void redisCommandsAreRecordedPerCall() {
+        RedisConnection connection = mock(RedisConnection.class);
+        byte[] key = "POST VIEW".getBytes(StandardCharsets.UTF_8);
+        when(connection.get(key)).thenReturn(new byte[]{1});
+        when(connection.del(key)).thenThrow(new IllegalStateException("connection reset"));
+        RedisConnectionFactory connectionFactory = mock(RedisConnectionFactory.class);
+        when(connectionFactory.getConnection()).thenReturn(connection);
+        ObjectProvider<Tracer> tracers = mock(ObjectProvider.class);
+        when(tracers.getObject()).thenReturn(tracer);
+
+        RedisConnectionFactory traced = (RedisConnectionFactory) new RedisTracingPostProcessor(tracers)
+                .postProcessAfterInitialization(connectionFactory, "redisConnectionFactory");
+        RedisConnection tracedConnection = traced.getConnection();
+        assertThat(tracedConnection.get(key)).containsExactly(1);
+        assertThatThrownBy(() -> tracedConnection.del(key)).isInstanceOf(IllegalStateException.class);
+        tracedConnection.close();
+
+        List<SpanData> spans = exporter.getFinishedSpans();
+        assertThat(spans).extracting(SpanData::getName).containsExactly("redis get", "redis del");
+        assertThat(spans).extracting(SpanData::getKind).containsOnly(SpanKind.CLIENT);
+        assertThat(spans).extracting(span -> span.getStatus().getStatusCode()).containsExactly(StatusCode.UNSET, StatusCode.ERROR);
+        verify(connection).close();
+    }
+
+    private SpanData onlySpan() {
+        List<SpanData> spans = exporter.getFinishedSpans();
+        assertThat(spans).hasSize(1);
+        return spans.get(0);
+    }
+}
@@ -0,0 +1,78 @@
+package soccerfriend.notification;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import soccerfriend.dto.DigestNotification;
+import soccerfriend.dto.Notification;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+import static soccerfriend.dto.Notification.Type.CLUB_JOIN_REQUESTED;
+import static soccerfriend.dto.Notification.Type.SOCCER_MATCH_JOIN_REQUESTED;
+
+class NotificationDigestTest {
+
+    @Test
+    void summarizesNotificationsByClubAndType() {
+        NotificationDigest digest = new NotificationDigest(1, "leader@soccerfriend.com");
+        for (int i = 0; i < 120; i++) {
+            digest.add(notification("FC Seoul", CLUB_JOIN_REQUESTED));
+        }
+        digest.add(notification("FC Seoul", SOCCER_MATCH_JOIN_REQUESTED));
+        digest.add(notification("FC Busan", CLUB_JOIN_REQUESTED));
+
+        SimpleMailMessage message = digest.toMessage("noreply@soccerfriend.com", LocalDate.of(2022, 9, 1));
+
+        assertThat(digest.getTotal()).isEqualTo(122);
+        assertThat(message.getTo()).containsExactly("leader@soccerfriend.com");
+        assertThat(message.getText()).contains("122건", "[FC Seoul] 가입 신청 120건", "[FC Seoul] 경기 참가 신청 1건", "[FC Busan] 가입 신청 1건");
+    }
+
+    @Test
+    void sendsMessagesInBatches() {
+        JavaMailSender mailSender = mock(JavaMailSender.class);
+        BatchMailSender sender = new BatchMailSender(mailSender, 50);
+
+        for (int i = 0; i < 120; i++) {
+            sender.send(new SimpleMailMessage());
+        }
+        sender.flush();
+
+        verify(mailSender, times(3)).send(ArgumentMatchers.<SimpleMailMessage[]>any());
+        assertThat(sender.getSent()).isEqualTo(120);
+        assertThat(sender.getFailed()).isZero();
+    }
+
+    @Test
+    void countsFailedMessagesAndContinues() {
+        JavaMailSender mailSender = mock(JavaMailSender.class);
+        SimpleMailMessage failedMessage = new SimpleMailMessage();
+        doThrow(new MailSendException(Map.of(failedMessage, new RuntimeException())))
+                .doNothing()
+                .when(mailSender).send(ArgumentMatchers.<SimpleMailMessage[]>any());
+        BatchMailSender sender = new BatchMailSender(mailSender, 2);
+
+        sender.send(failedMessage);
+        sender.send(new SimpleMailMessage());
+        sender.send(new SimpleMailMessage());
+        sender.flush();
+
+        assertThat(sender.getSent()).isEqualTo(2);
+        assertThat(sender.getFailed()).isEqualTo(1);
+    }
+
+    private DigestNotification notification(String clubName, Notification.Type type) {
+        return DigestNotification.builder()
+                                 .memberId(1)
+                                 .email("leader@soccerfriend.com")
+                                 .type(type)
+                                 .clubName(clubName)
+                                 .build();
+    }
+}
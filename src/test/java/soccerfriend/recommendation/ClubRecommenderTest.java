@@ -0,0 +1,103 @@
+package soccerfriend.recommendation;
+
+import org.junit.jupiter.api.Test;
+import soccerfriend.dto.ClubCandidate;
+import soccerfriend.dto.ClubRecommendation;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ClubRecommenderTest {
+
+    private static final int STRIKER = 4;
+
+    @Test
+    void prefersClubsMissingMemberPosition() {
+        ClubCandidate full = candidate(1, 0, 11, 4, Map.of(STRIKER, 3));
+        ClubCandidate missing = candidate(2, 0, 11, 4, Map.of(1, 3));
+
+        List<ClubRecommendation> recommendations = ClubRecommender.recommend(List.of(full, missing), STRIKER, 0, Set.of(), 10);
+
+        assertThat(ids(recommendations)).containsExactly(2, 1);
+        assertThat(recommendations.get(0).getSamePositionMembers()).isZero();
+        assertThat(recommendations.get(1).getSamePositionMembers()).isEqualTo(3);
+    }
+
+    @Test
+    void scoresFeeAgainstPoint() {
+        assertThat(ClubRecommender.feeScore(0, 0)).isEqualTo(1);
+        assertThat(ClubRecommender.feeScore(10000, 5000)).isZero();
+        assertThat(ClubRecommender.feeScore(10000, 10000)).isEqualTo(0.5);
+        assertThat(ClubRecommender.feeScore(10000, 100000)).isCloseTo(0.95, within(1e-9));
+    }
+
+    @Test
+    void scoresActivityUpToFullSquadAndActiveMatches() {
+        assertThat(ClubRecommender.activity(0, 0)).isZero();
+        assertThat(ClubRecommender.activity(22, 8)).isCloseTo(1, within(1e-9));
+        assertThat(ClubRecommender.activity(44, 30)).isCloseTo(1, within(1e-9));
+        assertThat(ClubRecommender.activity(11, 8)).isGreaterThan(ClubRecommender.activity(22, 4));
+    }
+
+    @Test
+    void returnsSameTopAsFullSortExcludingJoinedClubs() {
+        Random random = new Random(3);
+        List<ClubCandidate> candidates = new ArrayList<>();
+        for (int id = 1; id <= 500; id++) {
+            Map<Integer, Integer> positions = Map.of(STRIKER, random.nextInt(4), 1, random.nextInt(4));
+            candidates.add(candidate(id, random.nextInt(5) * 10000, random.nextInt(30), random.nextInt(12), positions));
+        }
+        Set<Integer> joined = Set.of(3, 50, 77);
+
+        List<ClubRecommendation> top = ClubRecommender.recommend(candidates, STRIKER, 30000, joined, 20);
+
+        List<Integer> expected = candidates.stream()
+                                           .filter(candidate -> !joined.contains(candidate.getClubId()))
+                                           .map(candidate -> ClubRecommender.score(candidate, STRIKER, 30000))
+                                           .sorted(Comparator.comparingDouble(ClubRecommendation::getScore).reversed()
+                                                             .thenComparingInt(ClubRecommendation::getClubId))
+                                           .limit(20)
+                                           .map(ClubRecommendation::getClubId)
+                                           .collect(Collectors.toList());
+        assertThat(ids(top)).isEqualTo(expected);
+    }
+
+    @Test
+    void encodesCandidateWithCommaInName() {
+        ClubCandidate candidate = ClubCandidate.builder()
+                                               .clubId(7)
+                                               .name("FC 서울,강남")
+                                               .addressId(3)
+                                               .monthlyFee(20000)
+                                               .members(15)
+                                               .recentMatches(6)
+                                               .positions(Map.of(1, 2, STRIKER, 3))
+                                               .build();
+
+        ClubCandidate decoded = ClubCandidateCache.decode(7, 3, ClubCandidateCache.encode(candidate));
+
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(candidate);
+        ClubCandidate noPositions = candidate.toBuilder().positions(Map.of()).build();
+        assertThat(ClubCandidateCache.decode(7, 3, ClubCandidateCache.encode(noPositions)).getPositions()).isEmpty();
+    }
+
+    private static ClubCandidate candidate(int id, int monthlyFee, int members, int recentMatches,
+                                           Map<Integer, Integer> positions) {
+        return ClubCandidate.builder()
+                            .clubId(id)
+                            .name("club" + id)
+                            .addressId(1)
+                            .monthlyFee(monthlyFee)
+                            .members(members)
+                            .recentMatches(recentMatches)
+                            .positions(positions)
+                            .build();
+    }
+
+    private static List<Integer> ids(List<ClubRecommendation> recommendations) {
+        return recommendations.stream().map(ClubRecommendation::getClubId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,85 @@
+package soccerfriend.search;
+
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchIndexTest {
+
+    private SearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        searchIndex = new SearchIndex(new ByteBuffersDirectory());
+        searchIndex.upsert(club(1, "Seoul Dragons", "서울", "강남구", 10000, 30));
+        searchIndex.upsert(club(2, "Busan Dolphins", "부산", "해운대구", 20000, 50));
+        searchIndex.upsert(club(3, "Seoul Tigers", "서울", "마포구", 30000, 10));
+        searchIndex.finishRebuild(0);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        searchIndex.close();
+    }
+
+    @Test
+    void searchesClubsByPrefixAndTypo() throws IOException {
+        assertThat(ids(searchIndex.searchClubs(ClubSearchCondition.builder().query("drag").build(), 10))).containsExactly(1);
+        assertThat(ids(searchIndex.searchClubs(ClubSearchCondition.builder().query("dolphims").build(), 10))).containsExactly(2);
+    }
+
+    @Test
+    void filtersClubs() throws IOException {
+        ClubSearchCondition condition = ClubSearchCondition.builder()
+                                                           .city("서울")
+                                                           .maxMonthlyFee(20000)
+                                                           .build();
+        assertThat(ids(searchIndex.searchClubs(condition, 10))).containsExactly(1);
+        assertThat(ids(searchIndex.searchClubs(ClubSearchCondition.builder().query("seoul").minPoint(20).build(), 10)))
+                .containsExactly(1);
+        assertThat(ids(searchIndex.searchClubs(ClubSearchCondition.builder().build(), 10))).containsExactly(2, 1, 3);
+    }
+
+    @Test
+    void removesDocumentsNotReindexedByRebuild() throws IOException {
+        long generation = searchIndex.startRebuild();
+        searchIndex.upsert(club(1, "Seoul Dragons", "서울", "강남구", 10000, 30));
+        searchIndex.finishRebuild(generation);
+
+        assertThat(ids(searchIndex.searchClubs(ClubSearchCondition.builder().build(), 10))).containsExactly(1);
+    }
+
+    @Test
+    void searchesContentsOfClubOnly() throws IOException {
+        searchIndex.upsert(content(ContentSearchDocument.Type.POST, 10, 1, 5, "Sunday match recap", "great goals"));
+        searchIndex.upsert(content(ContentSearchDocument.Type.POST, 11, 2, 6, "Sunday training", "goals"));
+        searchIndex.finishRebuild(0);
+
+        List<ContentSearchDocument> contents = searchIndex.searchContents(1, "goal", 10);
+        assertThat(contents).extracting(ContentSearchDocument::getId).containsExactly(10);
+
+        searchIndex.deleteBulletin(5);
+        searchIndex.finishRebuild(0);
+        assertThat(searchIndex.searchContents(1, "sunday", 10)).isEmpty();
+    }
+
+    private static ClubSearchDocument club(int id, String name, String city, String town, int monthlyFee, int point) {
+        return new ClubSearchDocument(id, name, city, town, monthlyFee, point);
+    }
+
+    private static ContentSearchDocument content(ContentSearchDocument.Type type, int id, int clubId, int bulletinId,
+                                                 String title, String content) {
+        return new ContentSearchDocument(type, id, clubId, bulletinId, title, content);
+    }
+
+    private static List<Integer> ids(List<ClubSearchDocument> clubs) {
+        return clubs.stream().map(ClubSearchDocument::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,122 @@
+package soccerfriend.service;
+
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import soccerfriend.dto.NearbySoccerMatchRecruitment;
+import soccerfriend.geo.GeoIndex;
+import soccerfriend.mapper.AddressMapper;
+import soccerfriend.mapper.SoccerMatchRecruitmentMapper;
+import soccerfriend.mapper.StadiumMapper;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class GeoServiceTest {
+
+    private static final double LATITUDE = 37.5;
+    private static final double LONGITUDE = 127.0;
+
+    private JdbcTemplate jdbcTemplate;
+    private SqlSession session;
+    private SoccerMatchRecruitmentMapper mapper;
+    private GeoService geoService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:geo;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute(createTable(migration("db/migration/V1__init_schema.sql"), "soccer_match_recruitment"));
+
+        Configuration configuration = new Configuration(new Environment("test", new JdbcTransactionFactory(), dataSource));
+        configuration.setMapUnderscoreToCamelCase(true);
+        try (InputStream xml = new ClassPathResource("mapper/SoccerMatchRecruitmentMapper.xml").getInputStream()) {
+            new XMLMapperBuilder(xml, configuration, "mapper/SoccerMatchRecruitmentMapper.xml", configuration.getSqlFragments()).parse();
+        }
+        session = new SqlSessionFactoryBuilder().build(configuration).openSession(true);
+        mapper = mock(SoccerMatchRecruitmentMapper.class, delegatesTo(session.getMapper(SoccerMatchRecruitmentMapper.class)));
+
+        // stadium 1은 중심에, stadium 2는 약 1.1km 북쪽에 있습니다.
+        GeoIndex stadiumIndex = new GeoIndex(0.02);
+        GeoIndex.Rebuild rebuild = stadiumIndex.startRebuild();
+        rebuild.add(1, LATITUDE, LONGITUDE);
+        rebuild.add(2, LATITUDE + 0.01, LONGITUDE);
+        rebuild.finish();
+        geoService = new GeoService(stadiumIndex, mock(StadiumMapper.class), mapper, mock(AddressMapper.class),
+                mock(StringRedisTemplate.class), mock(PlatformTransactionManager.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        session.close();
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void limitsRecruitmentsWithinRadiusInQuery() {
+        int first = insert(2, 1);
+        int second = insert(2, 2);
+        insert(1, 3);
+        insert(1, 4);
+
+        List<NearbySoccerMatchRecruitment> recruitments = geoService.getOpenRecruitmentsWithin(LATITUDE, LONGITUDE, null, 5, 2);
+
+        assertThat(recruitments).extracting(recruitment -> recruitment.getSoccerMatchRecruitment().getId())
+                                .containsExactly(first, second);
+        verify(mapper).getOpenRecruitmentsByStadiumIds(anyCollection(), any(LocalDateTime.class), eq(2));
+    }
+
+    @Test
+    void nearestRecruitmentsAreNotCutByStartTime() {
+        insert(2, 1);
+        int nearest = insert(1, 5);
+
+        List<NearbySoccerMatchRecruitment> recruitments = geoService.getNearestOpenRecruitments(LATITUDE, LONGITUDE, null, 1);
+
+        assertThat(recruitments).extracting(recruitment -> recruitment.getSoccerMatchRecruitment().getId())
+                                .containsExactly(nearest);
+        verify(mapper).getOpenRecruitmentsByStadiumIds(anyCollection(), any(LocalDateTime.class), isNull());
+    }
+
+    private int insert(int stadiumId, int hoursLater) {
+        LocalDateTime startTime = LocalDateTime.now().plusHours(hoursLater);
+        jdbcTemplate.update("INSERT INTO soccer_match_recruitment(start_time, end_time, num_set, time_set, stadium_id, "
+                        + "host_club_id, created_at, updated_at) VALUES (?, ?, 2, 45, ?, 1, now(), now())",
+                startTime, startTime.plusHours(2), stadiumId);
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM soccer_match_recruitment", Integer.class);
+    }
+
+    private static String createTable(String migration, String table) {
+        for (String statement : migration.split(";")) {
+            if (statement.contains("CREATE TABLE " + table + "\n")) {
+                return statement;
+            }
+        }
+        throw new IllegalArgumentException(table);
+    }
+
+    private static String migration(String path) throws Exception {
+        try (InputStream sql = new ClassPathResource(path).getInputStream()) {
+            return new String(sql.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package soccerfriend.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import soccerfriend.dto.ScorerRank;
+import soccerfriend.mapper.GoalStatMapper;
+import soccerfriend.stats.ScorerRanking;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class GoalStatServiceTest {
+
+    private final GoalStatMapper mapper = mock(GoalStatMapper.class);
+    private final ScorerRanking scorerRanking = mock(ScorerRanking.class);
+    private final GoalStatService goalStatService =
+            new GoalStatService(mapper, scorerRanking, mock(StringRedisTemplate.class), mock(PlatformTransactionManager.class));
+
+    @Test
+    void readsRankingFromRedis() {
+        List<ScorerRank> ranks = List.of(new ScorerRank(10, 3), new ScorerRank(11, 1));
+        when(scorerRanking.top(ScorerRanking.clubKey(2022, 1), 10)).thenReturn(ranks);
+
+        assertThat(goalStatService.getTopScorersOfClub(2022, 1, 10)).isSameAs(ranks);
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    void fallsBackToSummaryTableWhenRankingIsMissing() {
+        List<ScorerRank> ranks = List.of(new ScorerRank(20, 5));
+        when(scorerRanking.top(ScorerRanking.regionKey(2022, 7), GoalStatService.MAX_SIZE)).thenReturn(null);
+        when(mapper.getTopScorersOfRegion(2022, 7, GoalStatService.MAX_SIZE)).thenReturn(ranks);
+
+        assertThat(goalStatService.getTopScorersOfRegion(2022, 7, 1000)).isSameAs(ranks);
+    }
+}
@@ -0,0 +1,128 @@
+package soccerfriend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import soccerfriend.cache.InMemoryRedis;
+import soccerfriend.cache.ResponseCache;
+import soccerfriend.controller.PostController;
+import soccerfriend.dto.Post;
+import soccerfriend.dto.PostPage;
+import soccerfriend.mapper.PostMapper;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.Mockito.*;
+
+class PostServiceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private SqlSession session;
+    private PostMapper mapper;
+    private PostService postService;
+    private PostController postController;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:post;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute(migration("db/migration/V2__post.sql"));
+
+        Configuration configuration = new Configuration(new Environment("test", new JdbcTransactionFactory(), dataSource));
+        configuration.setMapUnderscoreToCamelCase(true);
+        try (InputStream xml = new ClassPathResource("mapper/PostMapper.xml").getInputStream()) {
+            new XMLMapperBuilder(xml, configuration, "mapper/PostMapper.xml", configuration.getSqlFragments()).parse();
+        }
+        session = new SqlSessionFactoryBuilder().build(configuration).openSession(true);
+        mapper = mock(PostMapper.class, delegatesTo(session.getMapper(PostMapper.class)));
+
+        InMemoryRedis redis = new InMemoryRedis();
+        ResponseCache responseCache = new ResponseCache(redis.byteTemplate(), redis.stringTemplate(),
+                new ObjectMapper().findAndRegisterModules());
+        postService = new PostService(mock(BulletinService.class), mapper, mock(PostViewCounter.class), responseCache,
+                mock(SearchService.class));
+        postController = new PostController(postService, mock(LoginService.class), responseCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        session.close();
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void pagesByIdDescendingWithinBulletin() {
+        for (int i = 0; i < 45; i++) {
+            write(1);
+            write(2);
+        }
+
+        List<Integer> ids = new ArrayList<>();
+        Integer cursor = null;
+        int pages = 0;
+        do {
+            PostPage page = postService.getPosts(1, cursor);
+            page.getPosts().forEach(post -> assertThat(post.getBulletinId()).isEqualTo(1));
+            page.getPosts().forEach(post -> ids.add(post.getId()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(ids).hasSize(45).doesNotHaveDuplicates().isSortedAccordingTo((a, b) -> b - a);
+    }
+
+    @Test
+    void servesFirstPageFromCacheUntilPostIsWritten() {
+        write(1);
+
+        ResponseEntity<?> first = firstPage(null);
+        ResponseEntity<?> cached = firstPage(null);
+        verify(mapper, times(1)).getPostsByBulletinId(1, null, PostService.PAGE_SIZE + 1);
+        assertThat(cached.getBody()).isEqualTo(first.getBody());
+        assertThat(firstPage(first.getHeaders().getETag())).isNull();
+
+        postService.create(1, 1, Post.builder().title("new").content("content").build());
+        ResponseEntity<?> reloaded = firstPage(first.getHeaders().getETag());
+        verify(mapper, times(2)).getPostsByBulletinId(1, null, PostService.PAGE_SIZE + 1);
+        assertThat(reloaded.getHeaders().getETag()).isNotEqualTo(first.getHeaders().getETag());
+    }
+
+    private ResponseEntity<?> firstPage(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/bulletins/1/posts");
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return postController.getPosts(1, null, new ServletWebRequest(request, new MockHttpServletResponse()));
+    }
+
+    private void write(int bulletinId) {
+        mapper.insert(Post.builder().bulletinId(bulletinId).memberId(1).title("title").content("content").build());
+    }
+
+    private static String migration(String path) throws Exception {
+        try (InputStream sql = new ClassPathResource(path).getInputStream()) {
+            return new String(sql.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package soccerfriend.service;
+
+import org.junit.jupiter.api.Test;
+import soccerfriend.mapper.PostMapper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+class PostViewCounterTest {
+
+    private static final int THREADS = 8;
+    private static final int VIEWS_PER_THREAD = 20_000;
+
+    private final Map<Integer, Long> flushed = new HashMap<>();
+    private final PostMapper mapper = mock(PostMapper.class);
+    private final PostViewCounter postViewCounter = new PostViewCounter(mapper);
+
+    @Test
+    void keepsViewsThatArriveDuringFlush() throws Exception {
+        recordFlushes();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> readers = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            readers.add(executor.submit(() -> {
+                start.await();
+                for (int view = 0; view < VIEWS_PER_THREAD; view++) {
+                    postViewCounter.increase(view % 2 + 1);
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        while (readers.stream().anyMatch(reader -> !reader.isDone())) {
+            postViewCounter.flush();
+        }
+        for (Future<?> reader : readers) {
+            reader.get();
+        }
+        postViewCounter.flush();
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        assertThat(flushed).containsEntry(1, (long) THREADS * VIEWS_PER_THREAD / 2)
+                           .containsEntry(2, (long) THREADS * VIEWS_PER_THREAD / 2);
+    }
+
+    @Test
+    void retriesViewsOfFailedFlush() {
+        postViewCounter.increase(1);
+        postViewCounter.increase(1);
+        doThrow(new IllegalStateException("db down")).when(mapper).addViews(anyMap());
+        postViewCounter.flush();
+
+        reset(mapper);
+        recordFlushes();
+        postViewCounter.increase(1);
+        postViewCounter.flush();
+
+        assertThat(flushed).containsExactly(Map.entry(1, 3L));
+    }
+
+    @Test
+    void skipsUpdateWithoutViews() {
+        postViewCounter.flush();
+
+        verifyNoInteractions(mapper);
+    }
+
+    private void recordFlushes() {
+        doAnswer(invocation -> {
+            Map<Integer, Long> views = invocation.getArgument(0);
+            views.forEach((postId, count) -> flushed.merge(postId, count, Long::sum));
+            return null;
+        }).when(mapper).addViews(anyMap());
+    }
+}
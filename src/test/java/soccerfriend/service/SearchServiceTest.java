@@ -0,0 +1,63 @@
+package soccerfriend.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import soccerfriend.mapper.SearchMapper;
+import soccerfriend.search.ClubSearchDocument;
+import soccerfriend.search.ContentSearchDocument;
+import soccerfriend.search.SearchIndex;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.Mockito.*;
+
+class SearchServiceTest {
+
+    private final SearchIndex searchIndex = mock(SearchIndex.class);
+    private final SearchMapper mapper = mock(SearchMapper.class);
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    private final SearchService searchService = new SearchService(searchIndex, mapper, null, stringRedisTemplate);
+
+    @Test
+    void indexesLocallyAndPublishesToOtherServers() throws Exception {
+        ClubSearchDocument club = new ClubSearchDocument(1, "Seoul Dragons", "서울", "강남구", 10000, 30);
+        when(mapper.getClubById(1)).thenReturn(club);
+
+        searchService.indexClub(1);
+        searchService.indexPost(5);
+
+        verify(searchIndex).upsert(club);
+        verify(searchIndex).deleteContent(ContentSearchDocument.Type.POST, 5);
+        verify(stringRedisTemplate).convertAndSend(SearchService.INDEX_CHANNEL, "CLUB:1");
+        verify(stringRedisTemplate).convertAndSend(SearchService.INDEX_CHANNEL, "POST:5");
+    }
+
+    @Test
+    void publishesEvenIfLocalIndexFails() throws Exception {
+        doThrow(new IllegalStateException("closed")).when(searchIndex).deleteBulletin(3);
+
+        searchService.indexBulletin(3);
+
+        verify(stringRedisTemplate).convertAndSend(SearchService.INDEX_CHANNEL, "BULLETIN:3");
+    }
+
+    @Test
+    void reindexesChangesPublishedByOtherServers() throws Exception {
+        ClubSearchDocument club = new ClubSearchDocument(2, "Busan Dolphins", "부산", "해운대구", 20000, 50);
+        when(mapper.getClubById(2)).thenReturn(club);
+
+        searchService.onMessage(message("CLUB:2"), null);
+        searchService.onMessage(message("BULLETIN:3"), null);
+        searchService.onMessage(message("UNKNOWN"), null);
+
+        verify(searchIndex).upsert(club);
+        verify(searchIndex).deleteBulletin(3);
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(SearchService.INDEX_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,173 @@
+package soccerfriend.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import soccerfriend.dto.Member;
+import soccerfriend.exception.exception.BadRequestException;
+import soccerfriend.exception.exception.NoPermissionException;
+import soccerfriend.token.RevokedTokens;
+import soccerfriend.token.TokenSigner;
+import soccerfriend.token.TokenSubject;
+import soccerfriend.token.TokenType;
+import soccerfriend.utility.InputForm.LoginRequest;
+
+import javax.servlet.http.Cookie;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static soccerfriend.exception.ExceptionInfo.*;
+import static soccerfriend.utility.PasswordWarning.NO_WARNING;
+
+class TokenLoginServiceTest {
+
+    private final Map<String, Double> revoked = new ConcurrentHashMap<>();
+    private final TokenSigner tokenSigner =
+            new TokenSigner("0123456789abcdef0123456789abcdef", Duration.ofMinutes(15), Duration.ofDays(14), Clock.systemUTC());
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+    private final RevokedTokens revokedTokens = new RevokedTokens(redisTemplate(), Duration.ofDays(14), Clock.systemUTC());
+    private final MemberService memberService = mock(MemberService.class);
+    private final StadiumOwnerService stadiumOwnerService = mock(StadiumOwnerService.class);
+    private final TokenLoginService tokenLoginService = service(request);
+
+    @Test
+    void issuesTokensOnceForConcurrentRefreshes() throws Exception {
+        request.addHeader(TokenLoginService.REFRESH_TOKEN_HEADER, tokenSigner.sign(TokenType.REFRESH, TokenSubject.MEMBER, 7));
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        List<Future<MockHttpServletResponse>> results = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            results.add(executor.submit(() -> {
+                MockHttpServletResponse response = new MockHttpServletResponse();
+                RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+                barrier.await();
+                try {
+                    tokenLoginService.refresh();
+                    return response;
+                } catch (NoPermissionException e) {
+                    return null;
+                } finally {
+                    RequestContextHolder.resetRequestAttributes();
+                }
+            }));
+        }
+
+        int issued = 0;
+        for (Future<MockHttpServletResponse> result : results) {
+            MockHttpServletResponse response = result.get(5, TimeUnit.SECONDS);
+            if (response != null) {
+                assertThat(response.getHeader(TokenLoginService.REFRESH_TOKEN_HEADER)).isNotNull();
+                issued++;
+            }
+        }
+        executor.shutdown();
+        assertThat(issued).isEqualTo(1);
+        assertThat(revoked).hasSize(1);
+    }
+
+    @Test
+    void rejectsReusedRefreshToken() {
+        request.addHeader(TokenLoginService.REFRESH_TOKEN_HEADER, tokenSigner.sign(TokenType.REFRESH, TokenSubject.MEMBER, 7));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, new MockHttpServletResponse()));
+        try {
+            tokenLoginService.refresh();
+            assertThatThrownBy(tokenLoginService::refresh).isInstanceOf(NoPermissionException.class);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @Test
+    void cookieOnlyLogoutRevokesEveryRefreshTokenOfMember() {
+        Member member = mock(Member.class);
+        when(member.getId()).thenReturn(7);
+        when(memberService.getMemberByMemberIdAndPassword("player", "password")).thenReturn(Optional.of(member));
+        LoginRequest loginRequest = mock(LoginRequest.class);
+        when(loginRequest.getId()).thenReturn("player");
+        when(loginRequest.getPassword()).thenReturn("password");
+        String otherDevice = tokenSigner.sign(TokenType.REFRESH, TokenSubject.MEMBER, 7);
+
+        MockHttpServletResponse login = perform(new MockHttpServletRequest("POST", "/members/login"),
+                service -> service.memberLogin(loginRequest));
+        Cookie refreshCookie = login.getCookie(TokenLoginService.REFRESH_TOKEN);
+        assertThat(refreshCookie.getPath()).isEqualTo("/");
+
+        // access cookie가 만료된 뒤 refresh cookie만 가진 브라우저가 로그아웃합니다.
+        MockHttpServletRequest logout = new MockHttpServletRequest("GET", "/members/logout");
+        logout.setCookies(refreshCookie);
+        perform(logout, TokenLoginService::logout);
+
+        for (String refreshToken : List.of(refreshCookie.getValue(), otherDevice)) {
+            MockHttpServletRequest refresh = new MockHttpServletRequest("POST", "/tokens/refresh");
+            refresh.setCookies(new Cookie(TokenLoginService.REFRESH_TOKEN, refreshToken));
+            assertThatThrownBy(() -> perform(refresh, TokenLoginService::refresh))
+                    .isInstanceOfSatisfying(NoPermissionException.class,
+                            e -> assertThat(e.getExceptionInfo()).isEqualTo(TOKEN_INVALID));
+        }
+    }
+
+    @Test
+    void refreshRevalidatesSubject() {
+        when(memberService.getPasswordWarning(7)).thenReturn(NO_WARNING.getCode() + 1);
+        when(memberService.getPasswordWarning(8)).thenThrow(new BadRequestException(MEMBER_NOT_EXIST));
+        when(stadiumOwnerService.getStadiumOwnerById(9)).thenThrow(new BadRequestException(STADIUM_OWNER_NOT_EXIST));
+
+        assertThatThrownBy(() -> refresh(TokenSubject.MEMBER, 7))
+                .isInstanceOfSatisfying(NoPermissionException.class,
+                        e -> assertThat(e.getExceptionInfo()).isEqualTo(CHANGE_PASSWORD_REQUIRED));
+        assertThatThrownBy(() -> refresh(TokenSubject.MEMBER, 8))
+                .isInstanceOf(BadRequestException.class).extracting("exceptionInfo").isEqualTo(MEMBER_NOT_EXIST);
+        assertThatThrownBy(() -> refresh(TokenSubject.STADIUM_OWNER, 9))
+                .isInstanceOf(BadRequestException.class).extracting("exceptionInfo").isEqualTo(STADIUM_OWNER_NOT_EXIST);
+    }
+
+    private void refresh(TokenSubject subject, int subjectId) {
+        MockHttpServletRequest refresh = new MockHttpServletRequest("POST", "/tokens/refresh");
+        refresh.addHeader(TokenLoginService.REFRESH_TOKEN_HEADER, tokenSigner.sign(TokenType.REFRESH, subject, subjectId));
+        perform(refresh, TokenLoginService::refresh);
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request, Consumer<TokenLoginService> action) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        try {
+            action.accept(service(request));
+            return response;
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    private TokenLoginService service(MockHttpServletRequest request) {
+        return new TokenLoginService(request, tokenSigner, revokedTokens, memberService, stadiumOwnerService);
+    }
+
+    /**
+     * ZADD NX를 ConcurrentHashMap.putIfAbsent로 흉내냅니다. 두 요청이 모두 메모리 확인을 통과하더라도 redis에는 한 요청만 추가됩니다.
+     */
+    @SuppressWarnings("unchecked")
+    private StringRedisTemplate redisTemplate() {
+        StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+        ZSetOperations<String, String> operations = mock(ZSetOperations.class);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(operations);
+        when(operations.addIfAbsent(eq(RevokedTokens.REVOKED_KEY), anyString(), anyDouble()))
+                .thenAnswer(invocation -> revoked.putIfAbsent(invocation.getArgument(1), invocation.getArgument(2)) == null);
+        return stringRedisTemplate;
+    }
+}
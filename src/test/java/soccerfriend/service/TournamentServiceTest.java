@@ -0,0 +1,113 @@
+package soccerfriend.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import soccerfriend.dto.Stadium;
+import soccerfriend.dto.Tournament;
+import soccerfriend.dto.TournamentClub;
+import soccerfriend.dto.TournamentFixture;
+import soccerfriend.exception.exception.BadRequestException;
+import soccerfriend.mapper.SoccerMatchMapper;
+import soccerfriend.mapper.SoccerMatchRecruitmentMapper;
+import soccerfriend.mapper.StadiumMapper;
+import soccerfriend.mapper.TournamentMapper;
+import soccerfriend.tournament.StadiumSlot;
+import soccerfriend.utility.InputForm.CreateTournamentRequest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static soccerfriend.dto.Tournament.Status.INVITING;
+import static soccerfriend.dto.Tournament.Status.SCHEDULED;
+import static soccerfriend.exception.ExceptionInfo.HOST_CLUB_NOT_IN_TOURNAMENT;
+import static soccerfriend.exception.ExceptionInfo.STADIUM_SLOT_ALREADY_BOOKED;
+
+class TournamentServiceTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2022, 10, 1, 10, 0);
+
+    private final TournamentMapper mapper = mock(TournamentMapper.class);
+    private final SoccerMatchRecruitmentMapper soccerMatchRecruitmentMapper = mock(SoccerMatchRecruitmentMapper.class);
+    private final SoccerMatchMapper soccerMatchMapper = mock(SoccerMatchMapper.class);
+    private final StadiumMapper stadiumMapper = mock(StadiumMapper.class);
+    private final ClubService clubService = mock(ClubService.class);
+    private final TournamentService tournamentService = new TournamentService(mapper, soccerMatchRecruitmentMapper,
+            soccerMatchMapper, stadiumMapper, clubService, mock(StadiumRevenueService.class));
+
+    @Test
+    void rejectsHostThatDoesNotParticipate() {
+        CreateTournamentRequest request = request(9, List.of(1, 2));
+
+        assertThatThrownBy(() -> tournamentService.create(request))
+                .isInstanceOf(BadRequestException.class)
+                .extracting("exceptionInfo").isEqualTo(HOST_CLUB_NOT_IN_TOURNAMENT);
+        verify(mapper, never()).insert(any());
+    }
+
+    @Test
+    void createsNoMatchUntilInvitedClubsAccept() {
+        CreateTournamentRequest request = request(1, List.of(1, 2));
+        when(clubService.isIdExist(anyInt())).thenReturn(true);
+        when(stadiumMapper.getStadiumsByIds(any())).thenReturn(List.of(mock(Stadium.class)));
+
+        tournamentService.create(request);
+
+        verify(mapper).insertClubs(argThat(clubs -> clubs.get(0).isAccepted() && !clubs.get(1).isAccepted()));
+        verify(mapper).insertFixtures(anyList());
+        verifyNoInteractions(soccerMatchRecruitmentMapper, soccerMatchMapper);
+    }
+
+    @Test
+    void lastAcceptanceCreatesMatches() {
+        invite(List.of());
+
+        tournamentService.accept(7, 2);
+
+        verify(soccerMatchRecruitmentMapper).insertAll(argThat(recruitments -> recruitments.size() == 1));
+        verify(mapper).deleteFixtures(7);
+        verify(mapper).insertFixtures(anyList());
+        verify(mapper).setStatus(7, SCHEDULED);
+    }
+
+    @Test
+    void lastAcceptanceFailsWhenSlotWasBookedMeanwhile() {
+        invite(List.of(new StadiumSlot(3, START.plusMinutes(30), START.plusHours(2))));
+
+        assertThatThrownBy(() -> tournamentService.accept(7, 2))
+                .isInstanceOf(BadRequestException.class)
+                .extracting("exceptionInfo").isEqualTo(STADIUM_SLOT_ALREADY_BOOKED);
+        verifyNoInteractions(soccerMatchRecruitmentMapper, soccerMatchMapper);
+    }
+
+    private void invite(List<StadiumSlot> booked) {
+        when(mapper.getTournamentForUpdate(7)).thenReturn(Tournament.builder().id(7).numSet(2).timeSet(45).status(INVITING).build());
+        when(mapper.getTournamentClub(7, 2)).thenReturn(TournamentClub.builder().tournamentId(7).clubId(2).build());
+        when(mapper.countNotAcceptedClubs(7)).thenReturn(0);
+        when(mapper.getFixtures(7, null)).thenReturn(List.of(
+                TournamentFixture.builder().tournamentId(7).round(1).position(1).homeClubId(1).awayClubId(2)
+                                 .stadiumId(3).startTime(START).endTime(START.plusHours(2)).build()));
+        when(mapper.getBookedSlots(anyCollection(), any(), any(), eq(7))).thenReturn(booked);
+    }
+
+    private static CreateTournamentRequest request(int hostClubId, List<Integer> clubIds) {
+        CreateTournamentRequest request = new CreateTournamentRequest();
+        ReflectionTestUtils.setField(request, "name", "cup");
+        ReflectionTestUtils.setField(request, "type", Tournament.Type.LEAGUE);
+        ReflectionTestUtils.setField(request, "hostClubId", hostClubId);
+        ReflectionTestUtils.setField(request, "clubIds", clubIds);
+        ReflectionTestUtils.setField(request, "numSet", 2);
+        ReflectionTestUtils.setField(request, "timeSet", 45);
+        ReflectionTestUtils.setField(request, "stadiumIds", List.of(3));
+        ReflectionTestUtils.setField(request, "startDate", LocalDate.of(2022, 10, 1));
+        ReflectionTestUtils.setField(request, "endDate", LocalDate.of(2022, 10, 2));
+        ReflectionTestUtils.setField(request, "startTimes", List.of(LocalTime.of(10, 0)));
+        ReflectionTestUtils.setField(request, "matchMinutes", 120);
+        ReflectionTestUtils.setField(request, "minRestHours", 0);
+        return request;
+    }
+}
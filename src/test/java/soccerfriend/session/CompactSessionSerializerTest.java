@@ -0,0 +1,37 @@
+package soccerfriend.session;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactSessionSerializerTest {
+
+    private final CompactSessionSerializer serializer = new CompactSessionSerializer();
+
+    @Test
+    void roundTripsSessionValues() {
+        Map<String, Object> delta = new HashMap<>();
+        delta.put("sessionAttr:loginMember", 1);
+
+        for (Object value : new Object[]{42, 1666000000000L, "회원", true, false, delta}) {
+            assertThat(serializer.deserialize(serializer.serialize(value))).isEqualTo(value);
+        }
+    }
+
+    @Test
+    void storesIntegerInFiveBytes() {
+        assertThat(serializer.serialize(42)).hasSize(5);
+        assertThat(new JdkSerializationRedisSerializer().serialize(42).length).isGreaterThan(50);
+    }
+
+    @Test
+    void readsValuesWrittenByJdkSerializer() {
+        byte[] legacy = new JdkSerializationRedisSerializer().serialize(42);
+
+        assertThat(serializer.deserialize(legacy)).isEqualTo(42);
+    }
+}
@@ -0,0 +1,60 @@
+package soccerfriend.stats;
+
+import org.junit.jupiter.api.Test;
+import soccerfriend.dto.ClubForm;
+import soccerfriend.dto.HeadToHead;
+import soccerfriend.dto.SoccerMatchResult;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClubHistoryBackfillTest {
+
+    @Test
+    void sumsHeadToHeadOfBothDirections() {
+        ClubHistoryBackfill backfill = new ClubHistoryBackfill();
+        backfill.add(result(2, 1, 0, 0));
+        backfill.add(result(1, 2, 2, 1));
+        backfill.add(result(2, 1, 3, 0));
+
+        assertThat(backfill.getHeadToHeads()).hasSize(1);
+        HeadToHead headToHead = backfill.getHeadToHeads().iterator().next();
+        assertThat(headToHead.getClubId()).isEqualTo(1);
+        assertThat(headToHead.getOpponentClubId()).isEqualTo(2);
+        assertThat(headToHead.getWin()).isEqualTo(1);
+        assertThat(headToHead.getDraw()).isEqualTo(1);
+        assertThat(headToHead.getLose()).isEqualTo(1);
+        assertThat(headToHead.getGoalsFor()).isEqualTo(2);
+        assertThat(headToHead.getGoalsAgainst()).isEqualTo(4);
+        assertThat(headToHead.reversed().getWin()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsLatestResultsOfEachClub() {
+        ClubHistoryBackfill backfill = new ClubHistoryBackfill();
+        backfill.add(result(1, 2, 1, 0));
+        backfill.add(result(3, 1, 1, 1));
+        for (int i = 0; i < 20; i++) {
+            backfill.add(result(1, 4, 0, 2));
+        }
+
+        Map<Integer, String> forms = backfill.getForms()
+                                             .stream()
+                                             .collect(Collectors.toMap(ClubForm::getClubId, ClubForm::getForm));
+        assertThat(forms.get(1)).isEqualTo("WDLLLLLLLL");
+        assertThat(forms.get(2)).isEqualTo("L");
+        assertThat(forms.get(3)).isEqualTo("D");
+        assertThat(forms.get(4)).hasSize(ClubForm.LENGTH);
+    }
+
+    private SoccerMatchResult result(int hostClubId, int participationClubId, int hostClubScore, int participationClubScore) {
+        return SoccerMatchResult.builder()
+                                .hostClubId(hostClubId)
+                                .participationClubId(participationClubId)
+                                .hostClubScore(hostClubScore)
+                                .participationClubScore(participationClubScore)
+                                .build();
+    }
+}
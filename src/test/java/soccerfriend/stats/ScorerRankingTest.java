@@ -0,0 +1,129 @@
+package soccerfriend.stats;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.transaction.PlatformTransactionManager;
+import soccerfriend.dto.GoalStat;
+import soccerfriend.dto.ScorerRank;
+import soccerfriend.mapper.GoalStatMapper;
+import soccerfriend.service.GoalStatService;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 실제 ScorerRanking과 GoalStatService를 map 기반 sorted set 위에서 실행합니다.
+ * eval은 INCREMENT_IF_EXISTS script의 의미(순위가 있을 때만 ZINCRBY)대로 동작합니다.
+ */
+class ScorerRankingTest {
+
+    private final Map<String, Map<String, Double>> sortedSets = new HashMap<>();
+    private final List<Object> pipelineResults = new ArrayList<>();
+    private final GoalStatMapper mapper = mock(GoalStatMapper.class);
+    private ScorerRanking scorerRanking;
+    private GoalStatService goalStatService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StringRedisConnection connection = mock(StringRedisConnection.class);
+        when(connection.eval(anyString(), eq(ReturnType.INTEGER), eq(1), (String[]) any())).thenAnswer(invocation -> {
+            String script = invocation.getArgument(0);
+            assertThat(script).contains("EXISTS").contains("ZINCRBY");
+            String key = invocation.getArgument(3);
+            double increment = Double.parseDouble(invocation.getArgument(4));
+            String member = invocation.getArgument(5);
+            Map<String, Double> sortedSet = sortedSets.get(key);
+            if (sortedSet != null) {
+                sortedSet.merge(member, increment, Double::sum);
+            }
+            pipelineResults.add(sortedSet != null ? 1L : 0L);
+            return null;
+        });
+        when(connection.zIncrBy(anyString(), anyDouble(), anyString())).thenAnswer(invocation -> {
+            sortedSets.computeIfAbsent(invocation.getArgument(0), key -> new HashMap<>())
+                      .merge(invocation.getArgument(2), invocation.<Double>getArgument(1), Double::sum);
+            return null;
+        });
+        when(connection.exists(anyString())).thenAnswer(invocation -> {
+            pipelineResults.add(sortedSets.containsKey(invocation.<String>getArgument(0)));
+            return null;
+        });
+        when(connection.zRevRangeWithScores(anyString(), anyLong(), anyLong())).thenAnswer(invocation -> {
+            pipelineResults.add(revRange(invocation.getArgument(0), invocation.getArgument(2)));
+            return null;
+        });
+        when(connection.del((String[]) any())).thenAnswer(invocation -> {
+            sortedSets.remove(invocation.<String>getArgument(0));
+            return null;
+        });
+        doAnswer(invocation -> {
+            sortedSets.put(invocation.getArgument(1), sortedSets.remove(invocation.<String>getArgument(0)));
+            return null;
+        }).when(connection).rename(anyString(), anyString());
+
+        StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            pipelineResults.clear();
+            invocation.<RedisCallback<Object>>getArgument(0).doInRedis(connection);
+            return new ArrayList<>(pipelineResults);
+        });
+        scorerRanking = new ScorerRanking(stringRedisTemplate);
+        goalStatService = new GoalStatService(mapper, scorerRanking, stringRedisTemplate, mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    void goalAfterFlushDoesNotCreatePartialRanking() {
+        rebuild(goal(10, 5), goal(11, 3));
+        sortedSets.clear();
+
+        goalStatService.increase(goal(12, 1));
+
+        assertThat(sortedSets).isEmpty();
+        List<ScorerRank> fromTable = List.of(new ScorerRank(10, 5), new ScorerRank(11, 3), new ScorerRank(12, 1));
+        when(mapper.getTopScorers(2022, 10)).thenReturn(fromTable);
+        assertThat(goalStatService.getTopScorers(2022, 10)).isSameAs(fromTable);
+    }
+
+    @Test
+    void goalIsAddedToExistingRanking() {
+        rebuild(goal(10, 5), goal(11, 3));
+
+        goalStatService.increase(goal(11, 1));
+        goalStatService.increaseAll(List.of(goal(11, 2)));
+
+        assertThat(goalStatService.getTopScorers(2022, 10))
+                .extracting(ScorerRank::getMemberId, ScorerRank::getGoals)
+                .containsExactly(tuple(11, 6), tuple(10, 5));
+        verify(mapper, never()).getTopScorers(anyInt(), anyInt());
+    }
+
+    private void rebuild(GoalStat... goalStats) {
+        ScorerRanking.Rebuild rebuild = scorerRanking.startRebuild();
+        rebuild.addAll(List.of(goalStats));
+        rebuild.finish();
+    }
+
+    private Set<TypedTuple<String>> revRange(String key, long end) {
+        Set<TypedTuple<String>> tuples = new LinkedHashSet<>();
+        sortedSets.getOrDefault(key, Map.of()).entrySet().stream()
+                  .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
+                  .limit(end + 1)
+                  .forEach(entry -> tuples.add(new DefaultTypedTuple<>(entry.getKey(), entry.getValue())));
+        return tuples;
+    }
+
+    private static GoalStat goal(int memberId, int goals) {
+        return GoalStat.builder().season(2022).memberId(memberId).clubId(1).addressId(7).goals(goals).build();
+    }
+}
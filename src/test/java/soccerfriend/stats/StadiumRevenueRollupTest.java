@@ -0,0 +1,47 @@
+package soccerfriend.stats;
+
+import org.junit.jupiter.api.Test;
+import soccerfriend.dto.Stadium;
+import soccerfriend.dto.StadiumRevenue;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static soccerfriend.dto.StadiumRevenue.PriceBand.*;
+
+class StadiumRevenueRollupTest {
+
+    private final Stadium stadium = Stadium.builder().id(1).priceDay(10000).priceNight(20000).priceWeekend(30000).build();
+
+    @Test
+    void splitsBookingByHourAndPriceBand() {
+        StadiumRevenueRollup rollup = new StadiumRevenueRollup();
+        rollup.add(stadium, LocalDateTime.of(2023, 3, 3, 17, 30), LocalDateTime.of(2023, 3, 4, 0, 30), 1);
+
+        assertThat(rollup.getHourly()).hasSize(8);
+        assertThat(rollup.getHourly().get(0))
+                .extracting(StadiumRevenue::getPriceBand, StadiumRevenue::getBookings, StadiumRevenue::getMinutes, StadiumRevenue::getRevenue)
+                .containsExactly(DAY, 1, 30, 5000L);
+        assertThat(rollup.getDaily())
+                .extracting(StadiumRevenue::getStartedAt, StadiumRevenue::getPriceBand, StadiumRevenue::getBookings,
+                        StadiumRevenue::getMinutes, StadiumRevenue::getRevenue)
+                .containsExactly(
+                        tuple(LocalDateTime.of(2023, 3, 3, 0, 0), DAY, 1, 30, 5000L),
+                        tuple(LocalDateTime.of(2023, 3, 3, 0, 0), NIGHT, 0, 360, 120000L),
+                        tuple(LocalDateTime.of(2023, 3, 4, 0, 0), WEEKEND, 0, 30, 15000L));
+    }
+
+    @Test
+    void cancelsRemovedBooking() {
+        StadiumRevenueRollup rollup = new StadiumRevenueRollup();
+        rollup.add(stadium, LocalDateTime.of(2023, 3, 2, 10, 0), LocalDateTime.of(2023, 3, 2, 12, 0), 1);
+        rollup.add(stadium, LocalDateTime.of(2023, 3, 2, 10, 0), LocalDateTime.of(2023, 3, 2, 12, 0), -1);
+        rollup.add(stadium, LocalDateTime.of(2023, 3, 2, 12, 0), LocalDateTime.of(2023, 3, 2, 12, 0), 1);
+
+        assertThat(rollup.getDaily()).hasSize(1);
+        assertThat(rollup.getDaily().get(0))
+                .extracting(StadiumRevenue::getBookings, StadiumRevenue::getMinutes, StadiumRevenue::getRevenue)
+                .containsExactly(0, 0, 0L);
+    }
+}
@@ -0,0 +1,86 @@
+package soccerfriend.token;
+
+import org.junit.jupiter.api.Test;
+import soccerfriend.exception.exception.NoPermissionException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static soccerfriend.exception.ExceptionInfo.TOKEN_EXPIRED;
+import static soccerfriend.exception.ExceptionInfo.TOKEN_INVALID;
+
+class TokenSignerTest {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+    private static final Instant NOW = Instant.parse("2022-10-01T00:00:00Z");
+
+    private final TokenSigner tokenSigner = signerAt(NOW);
+
+    @Test
+    void verifiesSignedToken() {
+        TokenClaims claims = tokenSigner.verify(tokenSigner.sign(TokenType.ACCESS, TokenSubject.MEMBER, 7));
+
+        assertThat(claims.getType()).isEqualTo(TokenType.ACCESS);
+        assertThat(claims.getSubject()).isEqualTo(TokenSubject.MEMBER);
+        assertThat(claims.getSubjectId()).isEqualTo(7);
+        assertThat(claims.getIssuedAt()).isEqualTo(NOW.toEpochMilli());
+        assertThat(claims.getExpiresAt()).isEqualTo(NOW.plus(Duration.ofMinutes(15)).getEpochSecond());
+    }
+
+    @Test
+    void verifiesTokenIssuedBeforeIssuedAtWasAdded() throws Exception {
+        byte[] payload = ByteBuffer.allocate(1 + 1 + 1 + Integer.BYTES + Long.BYTES + Long.BYTES)
+                                   .put((byte) 1)
+                                   .put((byte) TokenType.REFRESH.ordinal())
+                                   .put((byte) TokenSubject.MEMBER.ordinal())
+                                   .putInt(7)
+                                   .putLong(42)
+                                   .putLong(NOW.plus(Duration.ofDays(14)).getEpochSecond())
+                                   .array();
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String token = encoder.encodeToString(payload) + "." + encoder.encodeToString(mac.doFinal(payload));
+
+        TokenClaims claims = tokenSigner.verify(token);
+
+        assertThat(claims.getTokenId()).isEqualTo(42);
+        assertThat(claims.getIssuedAt()).isEqualTo(NOW.toEpochMilli());
+    }
+
+    @Test
+    void rejectsTamperedToken() {
+        String token = tokenSigner.sign(TokenType.ACCESS, TokenSubject.MEMBER, 7);
+        String other = tokenSigner.sign(TokenType.ACCESS, TokenSubject.MEMBER, 8);
+        String tampered = other.substring(0, other.indexOf('.')) + token.substring(token.indexOf('.'));
+
+        assertThatThrownBy(() -> tokenSigner.verify(tampered))
+                .isInstanceOfSatisfying(NoPermissionException.class,
+                        e -> assertThat(e.getExceptionInfo()).isEqualTo(TOKEN_INVALID));
+        assertThatThrownBy(() -> new TokenSigner("another-secret-another-secret-123", Duration.ofMinutes(15),
+                Duration.ofDays(14), Clock.fixed(NOW, ZoneOffset.UTC)).verify(token))
+                .isInstanceOf(NoPermissionException.class);
+    }
+
+    @Test
+    void rejectsExpiredToken() {
+        String token = tokenSigner.sign(TokenType.ACCESS, TokenSubject.MEMBER, 7);
+
+        assertThatThrownBy(() -> signerAt(NOW.plus(Duration.ofMinutes(15))).verify(token))
+                .isInstanceOfSatisfying(NoPermissionException.class,
+                        e -> assertThat(e.getExceptionInfo()).isEqualTo(TOKEN_EXPIRED));
+    }
+
+    private static TokenSigner signerAt(Instant now) {
+        return new TokenSigner(SECRET, Duration.ofMinutes(15), Duration.ofDays(14), Clock.fixed(now, ZoneOffset.UTC));
+    }
+}
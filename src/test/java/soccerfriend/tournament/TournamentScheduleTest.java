@@ -0,0 +1,83 @@
+package soccerfriend.tournament;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TournamentScheduleTest {
+
+    @Test
+    void roundRobinPairsEveryClubOnce() {
+        List<Integer> clubIds = IntStream.rangeClosed(1, 7).boxed().collect(Collectors.toList());
+
+        List<List<Pairing>> rounds = RoundRobin.rounds(clubIds);
+
+        Set<String> pairs = new HashSet<>();
+        for (List<Pairing> round : rounds) {
+            Set<Integer> playing = new HashSet<>();
+            for (Pairing pairing : round) {
+                assertThat(playing.add(pairing.getHomeClubId())).isTrue();
+                assertThat(playing.add(pairing.getAwayClubId())).isTrue();
+                int low = Math.min(pairing.getHomeClubId(), pairing.getAwayClubId());
+                int high = Math.max(pairing.getHomeClubId(), pairing.getAwayClubId());
+                assertThat(pairs.add(low + "-" + high)).isTrue();
+            }
+        }
+        assertThat(rounds).hasSize(7);
+        assertThat(pairs).hasSize(21);
+    }
+
+    @Test
+    void knockoutGivesByesToTopSeeds() {
+        List<List<Pairing>> rounds = Knockout.rounds(List.of(101, 102, 103, 104, 105, 106));
+
+        assertThat(rounds).hasSize(3);
+        assertThat(rounds.get(0)).extracting(Pairing::getPosition).containsExactly(1, 3);
+        assertThat(rounds.get(0)).extracting(Pairing::getHomeClubId).containsExactly(104, 103);
+        assertThat(rounds.get(0)).extracting(Pairing::getAwayClubId).containsExactly(105, 106);
+        assertThat(rounds.get(1)).extracting(Pairing::getHomeClubId).containsExactly(101, 102);
+        assertThat(rounds.get(1)).extracting(Pairing::getAwayClubId).containsExactly(null, null);
+        assertThat(rounds.get(2).get(0).getHomeClubId()).isNull();
+    }
+
+    @Test
+    void schedulesWithRestAndWithoutSharingSlots() {
+        List<List<Pairing>> rounds = RoundRobin.rounds(List.of(1, 2, 3, 4, 5, 6));
+        List<StadiumSlot> slots = StadiumSlot.daily(List.of(1, 2), LocalDate.of(2023, 3, 1), LocalDate.of(2023, 3, 31),
+                List.of(LocalTime.of(10, 0), LocalTime.of(14, 0)), 120);
+
+        List<List<StadiumSlot>> scheduled = new SlotScheduler(slots).schedule(rounds, Duration.ofHours(24), false);
+
+        Set<StadiumSlot> used = Collections.newSetFromMap(new IdentityHashMap<>());
+        Map<Integer, StadiumSlot> lastSlot = new HashMap<>();
+        for (int r = 0; r < rounds.size(); r++) {
+            for (int i = 0; i < rounds.get(r).size(); i++) {
+                Pairing pairing = rounds.get(r).get(i);
+                StadiumSlot slot = scheduled.get(r).get(i);
+                assertThat(used.add(slot)).isTrue();
+                for (int clubId : List.of(pairing.getHomeClubId(), pairing.getAwayClubId())) {
+                    StadiumSlot previous = lastSlot.put(clubId, slot);
+                    if (previous != null) {
+                        assertThat(slot.getStartTime()).isAfterOrEqualTo(previous.getEndTime().plusHours(24));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void returnsNullWhenSlotsRunOut() {
+        List<List<Pairing>> rounds = RoundRobin.rounds(List.of(1, 2, 3, 4));
+        List<StadiumSlot> slots = StadiumSlot.daily(List.of(1), LocalDate.of(2023, 3, 1), LocalDate.of(2023, 3, 2),
+                List.of(LocalTime.of(10, 0)), 120);
+
+        assertThat(new SlotScheduler(slots).schedule(rounds, Duration.ZERO, false)).isNull();
+    }
+}